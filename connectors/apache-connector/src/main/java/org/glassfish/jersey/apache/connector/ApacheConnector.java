@@ -50,6 +50,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -73,8 +75,10 @@ import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.client.monitoring.ConnectionPoolStatistics;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.PooledConnector;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.message.internal.HeaderUtils;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
@@ -122,6 +126,7 @@ import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.io.ChunkedOutputStream;
 import org.apache.http.io.SessionOutputBuffer;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.TextUtils;
 import org.apache.http.util.VersionInfo;
 
@@ -184,7 +189,7 @@ import org.apache.http.util.VersionInfo;
  * @see ApacheClientProperties#CONNECTION_MANAGER
  */
 @SuppressWarnings("deprecation")
-class ApacheConnector implements Connector {
+class ApacheConnector implements PooledConnector {
 
     private static final Logger LOGGER = Logger.getLogger(ApacheConnector.class.getName());
 
@@ -197,6 +202,7 @@ class ApacheConnector implements Connector {
     }
 
     private final CloseableHttpClient client;
+    private final HttpClientConnectionManager clientConnectionManager;
     private final CookieStore cookieStore;
     private final boolean preemptiveBasicAuth;
     private final RequestConfig requestConfig;
@@ -238,7 +244,8 @@ class ApacheConnector implements Connector {
         final SSLContext sslContext = client.getSslContext();
         final HttpClientBuilder clientBuilder = HttpClientBuilder.create();
 
-        clientBuilder.setConnectionManager(getConnectionManager(client, config, sslContext));
+        clientConnectionManager = getConnectionManager(client, config, sslContext);
+        clientBuilder.setConnectionManager(clientConnectionManager);
         clientBuilder.setConnectionManagerShared(
                 PropertiesHelper.getValue(config.getProperties(), ApacheClientProperties.CONNECTION_MANAGER_SHARED, false, null));
         clientBuilder.setSslcontext(sslContext);
@@ -516,6 +523,29 @@ class ApacheConnector implements Connector {
         return "Apache HttpClient " + release;
     }
 
+    @Override
+    public Map<String, ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        if (!(clientConnectionManager instanceof PoolingHttpClientConnectionManager)) {
+            return Collections.emptyMap();
+        }
+
+        final PoolingHttpClientConnectionManager pool = (PoolingHttpClientConnectionManager) clientConnectionManager;
+        final Map<String, ConnectionPoolStatistics> statistics = new HashMap<>();
+        for (final HttpRoute route : pool.getRoutes()) {
+            final HttpHost host = route.getTargetHost();
+            final int port = host.getPort() != -1 ? host.getPort() : "https".equalsIgnoreCase(host.getSchemeName()) ? 443 : 80;
+            final PoolStats stats = pool.getStats(route);
+            // routes to the same host via different proxies or local addresses are summed up
+            statistics.merge(host.getSchemeName() + "://" + host.getHostName() + ":" + port,
+                    new ConnectionPoolStatistics(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax()),
+                    (a, b) -> new ConnectionPoolStatistics(a.getLeasedConnections() + b.getLeasedConnections(),
+                            a.getIdleConnections() + b.getIdleConnections(),
+                            a.getPendingRequests() + b.getPendingRequests(),
+                            a.getMaxConnections() + b.getMaxConnections()));
+        }
+        return statistics;
+    }
+
     @Override
     public void close() {
         try {
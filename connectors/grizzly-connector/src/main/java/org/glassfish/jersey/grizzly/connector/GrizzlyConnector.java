@@ -65,7 +65,7 @@ import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
-import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
 import org.glassfish.jersey.internal.Version;
 import org.glassfish.jersey.internal.util.collection.ByteBufferInputStream;
 import org.glassfish.jersey.internal.util.collection.NonBlockingInputStream;
@@ -90,11 +90,15 @@ import com.ning.http.util.ProxyUtils;
 
 /**
  * The transport using the AsyncHttpClient.
+ * <p>
+ * In the {@link NonBlockingConnector non-blocking mode} the response is handed over to the callback once the whole
+ * response entity has been received.
+ * </p>
  *
  * @author Stepan Kopriva
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
-class GrizzlyConnector implements Connector {
+class GrizzlyConnector implements NonBlockingConnector {
 
     private final AsyncHttpClient grizzlyClient;
 
@@ -265,6 +269,15 @@ class GrizzlyConnector implements Connector {
 
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, false);
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, true);
+    }
+
+    private Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback, final boolean buffered) {
         final Request connectorRequest = translate(request);
         final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(request.getHeaders(), connectorRequest);
         final ByteBufferInputStream entityStream = new ByteBufferInputStream();
@@ -274,6 +287,7 @@ class GrizzlyConnector implements Connector {
         try {
             return grizzlyClient.executeRequest(connectorRequest, new AsyncHandler<Void>() {
                 private volatile HttpResponseStatus status = null;
+                private volatile ClientResponse bufferedResponse = null;
 
                 @Override
                 public STATE onStatusReceived(final HttpResponseStatus responseStatus) throws Exception {
@@ -289,13 +303,13 @@ class GrizzlyConnector implements Connector {
 
                     HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, request.getHeaders(),
                             GrizzlyConnector.this.getClass().getName());
-                    // hand-off to grizzly's application thread pool for response processing
-                    processResponse(new Runnable() {
-                        @Override
-                        public void run() {
-                            callback.response(translate(request, status, headers, entityStream));
-                        }
-                    });
+                    final ClientResponse response = translate(request, status, headers, entityStream);
+                    if (buffered) {
+                        // the response is handed over once the whole entity is received
+                        bufferedResponse = response;
+                    } else {
+                        respond(response);
+                    }
                     return STATE.CONTINUE;
                 }
 
@@ -308,6 +322,11 @@ class GrizzlyConnector implements Connector {
                 @Override
                 public Void onCompleted() throws Exception {
                     entityStream.closeQueue();
+                    final ClientResponse response = bufferedResponse;
+                    if (response != null) {
+                        bufferedResponse = null;
+                        respond(response);
+                    }
                     return null;
                 }
 
@@ -315,11 +334,24 @@ class GrizzlyConnector implements Connector {
                 public void onThrowable(Throwable t) {
                     entityStream.closeQueue(t);
 
-                    if (callbackInvoked.compareAndSet(false, true)) {
+                    if (bufferedResponse != null) {
+                        bufferedResponse = null;
+                        callback.failure(t instanceof IOException ? new ProcessingException(t.getMessage(), t) : t);
+                    } else if (callbackInvoked.compareAndSet(false, true)) {
                         t = t instanceof IOException ? new ProcessingException(t.getMessage(), t) : t;
                         callback.failure(t);
                     }
                 }
+
+                private void respond(final ClientResponse response) {
+                    // hand-off to grizzly's application thread pool for response processing
+                    processResponse(new Runnable() {
+                        @Override
+                        public void run() {
+                            callback.response(response);
+                        }
+                    });
+                }
             });
         } catch (Throwable t) {
             failure = t;
@@ -44,15 +44,27 @@ import java.io.IOException;
 import java.net.CookieManager;
 import java.net.URI;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.jersey.client.monitoring.ConnectionPoolStatistics;
 
 /**
+ * Pool of connections to a single destination.
+ * <p>
+ * The pool does not use any lock on the request path. Pending requests are kept in a non-blocking queue, the number
+ * of open connections is maintained with compare-and-set and the requests are dispatched by {@link #dispatch()}.
+ * Both the threads submitting requests and the threads returning idle connections first publish their request or
+ * connection and only then try to match pending requests with idle connections, so a pending request cannot be
+ * missed by both of them.
+ * </p>
+ *
  * @author Petr Janouch (petr.janouch at oracle.com)
  */
 class DestinationConnectionPool {
@@ -60,16 +72,15 @@ class DestinationConnectionPool {
     private final ConnectorConfiguration configuration;
     private final Queue<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
     private final Set<HttpConnection> connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedDeque<>();
-    private final Map<HttpConnection, RequestRecord> requestsInProgress = new HashMap<>();
+    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedQueue<>();
+    private final Map<HttpConnection, RequestRecord> requestsInProgress = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCounter = new AtomicInteger();
     private final CookieManager cookieManager;
     private final ScheduledExecutorService scheduler;
     private final ConnectionStateListener connectionStateListener;
 
     private volatile ConnectionCloseListener connectionCloseListener;
-
-    private int connectionCounter = 0;
-    private boolean closed = false;
+    private volatile boolean closed = false;
 
     DestinationConnectionPool(ConnectorConfiguration configuration,
                               CookieManager cookieManager,
@@ -86,82 +97,74 @@ class DestinationConnectionPool {
 
     void send(HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler) {
         pendingRequests.add(new RequestRecord(httpRequest, completionHandler));
-        processPendingRequests();
+        dispatch();
     }
 
-    private void processPendingRequests(HttpConnection connection) {
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-        /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-           while we investigate if we can execute it. */
-            RequestRecord pendingHead = pendingRequests.poll();
-            if (pendingHead == null) {
+    ConnectionPoolStatistics getStatistics() {
+        return new ConnectionPoolStatistics(requestsInProgress.size(), idleConnections.size(), pendingRequests.size(),
+                configuration.getMaxConnectionsPerDestination());
+    }
 
-                idleConnections.add(connection);
+    private void releaseConnection(HttpConnection connection) {
+        idleConnections.add(connection);
+        dispatch();
+    }
 
-                // no pending requests
+    /**
+     * Match pending requests with idle connections and open a new connection if there is a pending request, but
+     * no idle connection and the connection limit has not been reached yet.
+     */
+    private void dispatch() {
+        while (!pendingRequests.isEmpty()) {
+            HttpConnection connection = idleConnections.poll();
+            if (connection == null) {
+                openConnection();
                 return;
             }
 
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
-        }
-
-        // if there was a connection available just use it
-        requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-        connection.send(httpRequest);
-    }
-
-    private void processPendingRequests() {
-        HttpConnection connection;
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-            /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-            while we investigate if we can execute it. */
-            RequestRecord pendingHead = pendingRequests.peek();
-            if (pendingHead == null) {
-                // no pending requests
-                return;
+            RequestRecord request = pendingRequests.poll();
+            if (request == null) {
+                // the request has been taken by another thread, return the connection and check the queue again
+                idleConnections.add(connection);
+                continue;
             }
 
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
+            requestsInProgress.put(connection, request);
+            connection.send(request.request);
+        }
+    }
 
-            connection = idleConnections.poll();
-            if (connection != null) {
-                pendingRequests.poll();
-            }
+    private void openConnection() {
+        if (!reserveConnection()) {
+            // we are at the limit for this destination, just wait for a connection to become idle or close
+            return;
         }
 
-        if (connection != null) {
-            // if there was a connection available just use it
-            requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-            connection.send(httpRequest);
+        RequestRecord pendingHead = pendingRequests.peek();
+        if (pendingHead == null) {
+            // the pending requests have been dispatched in the meantime
+            connectionCounter.decrementAndGet();
             return;
         }
 
-        // if there was not a connection available keep this requests in pending list and try to create a connection
-        synchronized (this) {
-            // synchronized because other thread might open/close connections, so we have to make sure we get the limits right.
+        HttpConnection connection = new HttpConnection(pendingHead.request.getUri(), cookieManager, configuration, scheduler,
+                connectionStateListener);
+        connections.add(connection);
+        connection.connect();
+    }
 
-            if (configuration.getMaxConnectionsPerDestination() == connectionCounter) {
-                // we are at the limit for this destination, just wait for a connection to become idle or close
-                return;
+    private boolean reserveConnection() {
+        int maxConnections = configuration.getMaxConnectionsPerDestination();
+        while (true) {
+            int count = connectionCounter.get();
+            if (count >= maxConnections) {
+                return false;
             }
 
-            // create a connection
-            connection = new HttpConnection(httpRequest.getUri(), cookieManager, configuration, scheduler,
-                    connectionStateListener);
-            connections.add(connection);
-            connectionCounter++;
+            if (connectionCounter.compareAndSet(count, count + 1)) {
+                return true;
+            }
         }
-
-        // we don't want to connect inside the synchronized block
-        connection.connect();
     }
 
     synchronized void close() {
@@ -184,7 +187,7 @@ class DestinationConnectionPool {
     }
 
     private RequestRecord removeRequest(HttpConnection connection) {
-        RequestRecord requestRecord = requestsInProgress.get(connection);
+        RequestRecord requestRecord = requestsInProgress.remove(connection);
         if (requestRecord == null) {
             throw new IllegalStateException("Request not found");
         }
@@ -197,34 +200,32 @@ class DestinationConnectionPool {
             return;
         }
 
-        RequestRecord pendingRequest;
-        synchronized (this) {
-            idleConnections.remove(connection);
-            connections.remove(connection);
-            connectionCounter--;
+        idleConnections.remove(connection);
+        if (!connections.remove(connection)) {
+            // already cleaned
+            return;
+        }
 
-            pendingRequest = pendingRequests.peek();
-            if (pendingRequest == null) {
-                if (connectionCounter == 0) {
-                    connectionCloseListener.onLastConnectionClosed();
-                }
-                return;
+        int connectionCount = connectionCounter.decrementAndGet();
+        if (pendingRequests.isEmpty()) {
+            if (connectionCount == 0) {
+                connectionCloseListener.onLastConnectionClosed();
             }
+            return;
         }
 
-        processPendingRequests();
+        dispatch();
     }
 
     private void handleIllegalStateTransition(HttpConnection.State oldState, HttpConnection.State newState) {
         throw new IllegalStateException("Illegal state transition, old state: " + oldState + " new state: " + newState);
     }
 
-    private synchronized void removeAllPendingWithError(Throwable t) {
-        for (RequestRecord requestRecord : pendingRequests) {
+    private void removeAllPendingWithError(Throwable t) {
+        RequestRecord requestRecord;
+        while ((requestRecord = pendingRequests.poll()) != null) {
             requestRecord.completionHandler.failed(t);
         }
-
-        pendingRequests.clear();
     }
 
     private class ConnectionStateListener implements HttpConnection.StateChangeListener {
@@ -237,7 +238,7 @@ class DestinationConnectionPool {
                     switch (oldState) {
                         case RECEIVED:
                         case CONNECTING: {
-                            processPendingRequests(connection);
+                            releaseConnection(connection);
                             return;
                         }
 
@@ -466,6 +467,11 @@ class DestinationConnectionPool {
             result = 31 * result + (secure ? 1 : 0);
             return result;
         }
+
+        @Override
+        public String toString() {
+            return (secure ? Constants.HTTPS : "http") + "://" + host + ":" + port;
+        }
     }
 
     interface ConnectionCloseListener {
@@ -41,11 +41,14 @@
 package org.glassfish.jersey.jdk.connector.internal;
 
 import java.net.CookieManager;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.glassfish.jersey.client.monitoring.ConnectionPoolStatistics;
+
 /**
  * @author Petr Janouch (petr.janouch at oracle.com)
  */
@@ -98,6 +101,12 @@ class HttpConnectionPool {
         destinationConnectionPool.send(httpRequest, completionHandler);
     }
 
+    Map<String, ConnectionPoolStatistics> getStatistics() {
+        final Map<String, ConnectionPoolStatistics> statistics = new HashMap<>();
+        destinationPools.forEach((key, pool) -> statistics.put(key.toString(), pool.getStatistics()));
+        return statistics;
+    }
+
     synchronized void close() {
         destinationPools.values().forEach(DestinationConnectionPool::close);
     }
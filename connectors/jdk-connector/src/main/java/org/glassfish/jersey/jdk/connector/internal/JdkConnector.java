@@ -40,6 +40,8 @@
 
 package org.glassfish.jersey.jdk.connector.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.CookieManager;
 import java.net.URI;
@@ -59,13 +61,21 @@ import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.client.monitoring.ConnectionPoolStatistics;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
-import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
+import org.glassfish.jersey.client.spi.PooledConnector;
 
 /**
+ * Connector based on the JDK NIO.
+ * <p>
+ * In the {@link NonBlockingConnector non-blocking mode} the response entity is read asynchronously and the response
+ * is handed over to the callback only after the whole entity has been received.
+ * </p>
+ *
  * @author Petr Janouch (petr.janouch at oracle.com)
  */
-public class JdkConnector implements Connector {
+public class JdkConnector implements NonBlockingConnector, PooledConnector {
 
     private final HttpConnectionPool httpConnectionPool;
     private final ConnectorConfiguration connectorConfiguration;
@@ -105,6 +115,15 @@ public class JdkConnector implements Connector {
 
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, false);
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, true);
+    }
+
+    private Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback, final boolean buffered) {
         final CompletableFuture<ClientResponse> responseFuture = new CompletableFuture<>();
         // just so we don't have to drag around both the future and callback
         final AsyncConnectorCallback internalCallback = new AsyncConnectorCallback() {
@@ -130,7 +149,7 @@ public class JdkConnector implements Connector {
 
         if (httpRequest.getBodyMode() == HttpRequest.BodyMode.BUFFERED
                 || httpRequest.getBodyMode() == HttpRequest.BodyMode.NONE) {
-            send(request, httpRequest, internalCallback);
+            send(request, httpRequest, internalCallback, buffered);
         }
 
         if (httpRequest.getBodyMode() == HttpRequest.BodyMode.CHUNKED) {
@@ -145,7 +164,7 @@ public class JdkConnector implements Connector {
               */
             final InterceptingOutputStream bodyStream = new InterceptingOutputStream(httpRequest.getBodyStream(),
                     // send the prepared request when the stream is touched for the first time
-                    () -> send(request, httpRequest, internalCallback));
+                    () -> send(request, httpRequest, internalCallback, buffered));
 
             request.setStreamProvider(contentLength -> bodyStream);
             try {
@@ -167,7 +186,10 @@ public class JdkConnector implements Connector {
         }
     }
 
-    private void send(final ClientRequest request, final HttpRequest httpRequest, final AsyncConnectorCallback callback) {
+    private void send(final ClientRequest request,
+                      final HttpRequest httpRequest,
+                      final AsyncConnectorCallback callback,
+                      final boolean buffered) {
         translateHeaders(request, httpRequest);
         final RedirectHandler redirectHandler = new RedirectHandler(httpConnectionPool, httpRequest, connectorConfiguration);
         httpConnectionPool.send(httpRequest, new CompletionHandler<HttpResponse>() {
@@ -189,13 +211,61 @@ public class JdkConnector implements Connector {
                     @Override
                     public void completed(HttpResponse result) {
                         ClientResponse response = translateResponse(request, result, redirectHandler.getLastRequestUri());
-                        callback.response(response);
+                        if (buffered) {
+                            bufferEntity(response, result.getBodyStream(), callback);
+                        } else {
+                            callback.response(response);
+                        }
                     }
                 });
             }
         });
     }
 
+    /**
+     * Read the response entity without blocking and hand the response over to the callback once the entity
+     * has been received.
+     */
+    private static void bufferEntity(final ClientResponse response,
+                                     final BodyInputStream bodyStream,
+                                     final AsyncConnectorCallback callback) {
+        final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+        bodyStream.setReadListener(new ReadListener() {
+
+            private final byte[] buffer = new byte[8192];
+            private boolean done = false;
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (bodyStream.isReady()) {
+                    final int read = bodyStream.read(buffer);
+                    if (read > 0) {
+                        entity.write(buffer, 0, read);
+                    }
+                }
+            }
+
+            @Override
+            public void onAllDataRead() throws IOException {
+                if (done) {
+                    return;
+                }
+                done = true;
+                response.setEntityStream(new ByteArrayInputStream(entity.toByteArray()));
+                callback.response(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                callback.failure(t);
+            }
+        });
+    }
+
     private HttpRequest createHttpRequest(ClientRequest request) {
         Object entity = request.getEntity();
 
@@ -265,6 +335,11 @@ public class JdkConnector implements Connector {
         return "JDK connector";
     }
 
+    @Override
+    public Map<String, ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        return httpConnectionPool.getStatistics();
+    }
+
     @Override
     public void close() {
         httpConnectionPool.close();
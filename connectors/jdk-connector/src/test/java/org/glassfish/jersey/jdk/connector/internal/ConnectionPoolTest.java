@@ -90,6 +90,30 @@ public class ConnectionPoolTest extends JerseyTest {
         assertTrue(latch.await(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    public void testConcurrentRequests() throws InterruptedException {
+        final int threads = 8;
+        final int requestsPerThread = 25;
+        final CountDownLatch latch = new CountDownLatch(threads * requestsPerThread);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                final int thread = i;
+                executor.execute(() -> {
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        sendMessageToJersey("message " + thread + "-" + j, latch);
+                    }
+                });
+            }
+
+            // all the requests share a single connection, none of them may get lost in the pending queue
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void sendMessageToJersey(String message, final CountDownLatch latch) {
         target("echo").request().async().post(Entity.entity(message, MediaType.TEXT_PLAIN), new InvocationCallback<String>() {
             @Override
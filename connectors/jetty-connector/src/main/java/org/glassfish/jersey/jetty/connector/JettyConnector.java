@@ -50,6 +50,7 @@ import java.net.CookieStore;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
@@ -71,20 +72,26 @@ import javax.net.ssl.SSLContext;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.monitoring.ConnectionPoolStatistics;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.PooledConnector;
 import org.glassfish.jersey.internal.util.collection.ByteBufferInputStream;
 import org.glassfish.jersey.internal.util.collection.NonBlockingInputStream;
 import org.glassfish.jersey.message.internal.HeaderUtils;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
 import org.glassfish.jersey.message.internal.Statuses;
 
+import org.eclipse.jetty.client.ConnectionPool;
+import org.eclipse.jetty.client.DuplexConnectionPool;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpDestination;
 import org.eclipse.jetty.client.HttpProxy;
 import org.eclipse.jetty.client.ProxyConfiguration;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.ContentProvider;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.client.api.Destination;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
@@ -146,7 +153,7 @@ import org.eclipse.jetty.util.thread.QueuedThreadPool;
  * @author Arul Dhesiaseelan (aruld at acm.org)
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
-class JettyConnector implements Connector {
+class JettyConnector implements PooledConnector {
 
     private static final Logger LOGGER = Logger.getLogger(JettyConnector.class.getName());
 
@@ -482,6 +489,24 @@ class JettyConnector implements Connector {
         return "Jetty HttpClient " + Jetty.VERSION;
     }
 
+    @Override
+    public Map<String, ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        final Map<String, ConnectionPoolStatistics> statistics = new HashMap<>();
+        for (final Destination destination : client.getDestinations()) {
+            if (destination instanceof HttpDestination) {
+                final HttpDestination httpDestination = (HttpDestination) destination;
+                final ConnectionPool connectionPool = httpDestination.getConnectionPool();
+                if (connectionPool instanceof DuplexConnectionPool) {
+                    final DuplexConnectionPool pool = (DuplexConnectionPool) connectionPool;
+                    statistics.put(destination.getScheme() + "://" + destination.getHost() + ":" + destination.getPort(),
+                            new ConnectionPoolStatistics(pool.getActiveConnectionCount(), pool.getIdleConnectionCount(),
+                                    httpDestination.getHttpExchanges().size(), pool.getMaxConnectionCount()));
+                }
+            }
+        }
+        return statistics;
+    }
+
     @Override
     public void close() {
         try {
@@ -0,0 +1,469 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.message.internal.Statuses;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DelegatingDecompressorFrameListener;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2ConnectionAdapter;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandler;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandlerBuilder;
+import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapterBuilder;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Single HTTP/2 connection multiplexing concurrent requests as HTTP/2 streams.
+ * <p>
+ * Streams are reserved by the {@link NettyHttp2Connector.Destination destination} before a request is
+ * {@link #send(Exchange) sent}, the number of reserved streams never exceeds the configured limit or the
+ * {@code SETTINGS_MAX_CONCURRENT_STREAMS} value announced by the server. The connection is ready to send requests once
+ * the server settings have been received. All the state except for the stream reservations is accessed from the event
+ * loop of the connection only.
+ * </p>
+ */
+class Http2ClientConnection {
+
+    private static final String STREAM_ID = HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text().toString();
+
+    private final NettyHttp2Connector connector;
+    private final NettyHttp2Connector.Destination destination;
+    private final URI uri;
+    private final int configuredMaxStreams;
+
+    private final AtomicInteger reservedStreams = new AtomicInteger();
+    private final CompletableFuture<Channel> ready = new CompletableFuture<>();
+
+    // accessed from the event loop only
+    private final Map<Integer, Exchange> exchanges = new HashMap<>();
+    private final Queue<Exchange> waiting = new ArrayDeque<>();
+    private HttpToHttp2ConnectionHandler connectionHandler;
+    private boolean released = false;
+
+    private volatile int maxStreams;
+    private volatile boolean closed = false;
+    private volatile Channel channel;
+
+    Http2ClientConnection(final NettyHttp2Connector connector,
+                          final NettyHttp2Connector.Destination destination,
+                          final URI uri,
+                          final int maxStreams) {
+        this.connector = connector;
+        this.destination = destination;
+        this.uri = uri;
+        this.configuredMaxStreams = maxStreams;
+        this.maxStreams = maxStreams;
+    }
+
+    /**
+     * Reserve a stream for a request.
+     *
+     * @return {@code true} if the stream has been reserved, {@code false} if the connection cannot open more streams.
+     */
+    boolean reserveStream() {
+        while (!closed) {
+            final int reserved = reservedStreams.get();
+            if (reserved >= maxStreams) {
+                return false;
+            }
+            if (reservedStreams.compareAndSet(reserved, reserved + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Open the connection.
+     */
+    void connect() {
+        final boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        final String host = uri.getHost();
+        final int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+
+        final Bootstrap b = new Bootstrap();
+        b.group(connector.group)
+         .channel(NioSocketChannel.class)
+         .handler(new ChannelInitializer<SocketChannel>() {
+             @Override
+             protected void initChannel(SocketChannel ch) throws Exception {
+                 final ChannelPipeline p = ch.pipeline();
+
+                 final Http2Connection connection = new DefaultHttp2Connection(false);
+                 connection.addListener(new StreamListener());
+                 connectionHandler = new HttpToHttp2ConnectionHandlerBuilder()
+                         .frameListener(new DelegatingDecompressorFrameListener(connection,
+                                 new InboundHttp2ToHttpAdapterBuilder(connection)
+                                         .maxContentLength(Integer.MAX_VALUE)
+                                         .propagateSettings(true)
+                                         .build()))
+                         .connection(connection)
+                         .build();
+
+                 if (secure) {
+                     final JdkSslContext sslContext = new JdkSslContext(connector.client.getSslContext(), true,
+                             Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE,
+                             new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                                     ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                                     ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                                     ApplicationProtocolNames.HTTP_2),
+                             ClientAuth.NONE);
+                     p.addLast(sslContext.newHandler(ch.alloc(), host, port));
+                     p.addLast(new ApplicationProtocolNegotiationHandler("") {
+                         @Override
+                         protected void configurePipeline(ChannelHandlerContext ctx, String protocol) throws Exception {
+                             if (!ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                                 throw new IllegalStateException(
+                                         LocalizationMessages.ALPN_PROTOCOL_NOT_NEGOTIATED(protocol));
+                             }
+                             ctx.pipeline().addLast(connectionHandler, new ResponseHandler());
+                         }
+                     });
+                 } else {
+                     // prior knowledge h2c
+                     p.addLast(connectionHandler, new ResponseHandler());
+                 }
+             }
+         });
+
+        final Integer connectTimeout = ClientProperties.getValue(connector.client.getConfiguration().getProperties(),
+                                                                 ClientProperties.CONNECT_TIMEOUT, 0);
+        if (connectTimeout > 0) {
+            b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+        }
+
+        b.connect(host, port).addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (!future.isSuccess()) {
+                    connectionClosed(future.cause());
+                    return;
+                }
+
+                channel = future.channel();
+                channel.closeFuture().addListener(new ChannelFutureListener() {
+                    @Override
+                    public void operationComplete(ChannelFuture future) throws Exception {
+                        connectionClosed(null);
+                    }
+                });
+
+                if (closed) {
+                    channel.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * Send a request over a stream reserved by {@link #reserveStream()}.
+     *
+     * @param exchange request to be sent.
+     */
+    void send(final Exchange exchange) {
+        ready.whenComplete((ch, failure) -> {
+            if (failure != null) {
+                exchange.fail(failure instanceof ProcessingException
+                                      ? failure : new ProcessingException(failure.getMessage(), failure),
+                              connector.executorService);
+                return;
+            }
+
+            try {
+                ch.eventLoop().execute(() -> write(exchange));
+            } catch (RejectedExecutionException e) {
+                exchange.fail(new ProcessingException(LocalizationMessages.CONNECTION_CLOSED(), e), connector.executorService);
+            }
+        });
+    }
+
+    /**
+     * Close the connection, the requests in progress are failed.
+     */
+    void close() {
+        closed = true;
+        final Channel ch = channel;
+        if (ch != null) {
+            ch.close();
+        }
+        ready.completeExceptionally(new ProcessingException(LocalizationMessages.CONNECTION_CLOSED()));
+    }
+
+    private void write(final Exchange exchange) {
+        if (closed) {
+            exchange.fail(new ProcessingException(LocalizationMessages.CONNECTION_CLOSED()), connector.executorService);
+            return;
+        }
+
+        if (!connectionHandler.connection().local().canOpenStream()) {
+            // the server limit is lower than the number of reserved streams, wait for a stream to be closed
+            waiting.add(exchange);
+            return;
+        }
+
+        final int streamId = connectionHandler.connection().local().incrementAndGetNextStreamId();
+        exchange.nettyRequest.headers().setInt(STREAM_ID, streamId);
+        exchanges.put(streamId, exchange);
+
+        channel.writeAndFlush(exchange.nettyRequest).addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (!future.isSuccess() && exchanges.remove(streamId) != null) {
+                    streamClosed();
+                    exchange.fail(future.cause(), connector.executorService);
+                }
+            }
+        });
+    }
+
+    private void streamClosed() {
+        reservedStreams.decrementAndGet();
+
+        final Exchange next = waiting.poll();
+        if (next != null) {
+            // the stream reserved for the waiting exchange is still reserved
+            write(next);
+        } else {
+            destination.streamReleased(this, false);
+        }
+    }
+
+    private void connectionClosed(final Throwable cause) {
+        if (released) {
+            return;
+        }
+        released = true;
+        closed = true;
+
+        final ProcessingException failure = new ProcessingException(LocalizationMessages.CONNECTION_CLOSED(), cause);
+        ready.completeExceptionally(failure);
+
+        final List<Exchange> failed = new ArrayList<>(exchanges.values());
+        failed.addAll(waiting);
+        exchanges.clear();
+        waiting.clear();
+        failed.forEach(exchange -> exchange.fail(failure, connector.executorService));
+
+        destination.streamReleased(this, true);
+    }
+
+    private void settingsReceived(final Channel ch, final Http2Settings settings) {
+        final Long serverMaxStreams = settings.maxConcurrentStreams();
+        if (serverMaxStreams != null) {
+            maxStreams = (int) Math.min(configuredMaxStreams, serverMaxStreams);
+        }
+
+        if (ready.complete(ch)) {
+            return;
+        }
+
+        // limit raised by the server, the destination may dispatch waiting requests
+        destination.streamReleased(this, false);
+    }
+
+    private void responseReceived(final FullHttpResponse response) {
+        final Integer streamId = response.headers().getInt(STREAM_ID);
+        final Exchange exchange = streamId == null ? null : exchanges.remove(streamId);
+        if (exchange == null) {
+            return;
+        }
+
+        for (HttpConversionUtil.ExtensionHeaderNames name : HttpConversionUtil.ExtensionHeaderNames.values()) {
+            response.headers().remove(name.text());
+        }
+
+        final ClientResponse jerseyResponse = new ClientResponse(
+                Statuses.from(response.status().code(), response.status().reasonPhrase()), exchange.request);
+        for (Map.Entry<String, String> entry : response.headers().entries()) {
+            jerseyResponse.getHeaders().add(entry.getKey(), entry.getValue());
+        }
+
+        final ByteBuf content = response.content();
+        final byte[] entity = new byte[content.readableBytes()];
+        content.readBytes(entity);
+        jerseyResponse.setEntityStream(new ByteArrayInputStream(entity));
+
+        streamClosed();
+        exchange.complete(jerseyResponse, connector.executorService);
+    }
+
+    /**
+     * Fails requests whose streams have been closed without a response, e.g. when the server refused the stream
+     * or the connection is going away.
+     */
+    private class StreamListener extends Http2ConnectionAdapter {
+
+        @Override
+        public void onStreamRemoved(Http2Stream stream) {
+            final Exchange exchange = exchanges.remove(stream.id());
+            if (exchange != null) {
+                streamClosed();
+                exchange.fail(new ProcessingException(new IOException(LocalizationMessages.CONNECTION_CLOSED())),
+                              connector.executorService);
+            }
+        }
+    }
+
+    /**
+     * Dispatches the aggregated HTTP/2 responses to the request exchanges.
+     */
+    private class ResponseHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            try {
+                if (msg instanceof Http2Settings) {
+                    settingsReceived(ctx.channel(), (Http2Settings) msg);
+                } else if (msg instanceof FullHttpResponse) {
+                    responseReceived((FullHttpResponse) msg);
+                }
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            if (cause instanceof Http2Exception.StreamException) {
+                final Exchange exchange = exchanges.remove(((Http2Exception.StreamException) cause).streamId());
+                if (exchange != null) {
+                    streamClosed();
+                    exchange.fail(new ProcessingException(cause.getMessage(), cause), connector.executorService);
+                }
+            } else {
+                ctx.close();
+            }
+        }
+    }
+
+    /**
+     * Single request-response exchange.
+     */
+    static final class Exchange {
+
+        final ClientRequest request;
+        final FullHttpRequest nettyRequest;
+        final CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+
+        private final AsyncConnectorCallback callback;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Exchange(final ClientRequest request, final FullHttpRequest nettyRequest, final AsyncConnectorCallback callback) {
+            this.request = request;
+            this.nettyRequest = nettyRequest;
+            this.callback = callback;
+        }
+
+        void complete(final ClientResponse response, final Executor executor) {
+            if (done.compareAndSet(false, true)) {
+                execute(executor, () -> {
+                    callback.response(response);
+                    future.complete(response);
+                });
+            }
+        }
+
+        void fail(final Throwable failure, final Executor executor) {
+            if (done.compareAndSet(false, true)) {
+                execute(executor, () -> {
+                    callback.failure(failure);
+                    future.completeExceptionally(failure);
+                });
+            }
+        }
+
+        private static void execute(final Executor executor, final Runnable task) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the connector has been closed
+                task.run();
+            }
+        }
+    }
+}
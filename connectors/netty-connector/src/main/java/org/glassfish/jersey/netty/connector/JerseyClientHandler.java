@@ -40,12 +40,10 @@
 
 package org.glassfish.jersey.netty.connector;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingDeque;
 
 import javax.ws.rs.core.Response;
 
@@ -63,29 +61,40 @@ import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
-import io.netty.util.concurrent.Future;
-import io.netty.util.concurrent.GenericFutureListener;
 
 /**
  * Jersey implementation of Netty channel handler.
+ * <p>
+ * If the handler {@code buffers} the response entity, the response is passed to the connector callback only once
+ * the whole entity has been received so that reading the entity never blocks.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
 class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
 
     private final NettyConnector connector;
-    private final LinkedBlockingDeque<InputStream> isList = new LinkedBlockingDeque<>();
+    private NettyInputStream entityStream;
 
     private final AsyncConnectorCallback asyncConnectorCallback;
     private final ClientRequest jerseyRequest;
     private final CompletableFuture future;
+    private final boolean buffered;
+
+    private ClientResponse pendingResponse;
 
     JerseyClientHandler(NettyConnector nettyConnector, ClientRequest request,
                         AsyncConnectorCallback callback, CompletableFuture future) {
+        this(nettyConnector, request, callback, future, false);
+    }
+
+    JerseyClientHandler(NettyConnector nettyConnector, ClientRequest request,
+                        AsyncConnectorCallback callback, CompletableFuture future, boolean buffered) {
         this.connector = nettyConnector;
         this.asyncConnectorCallback = callback;
         this.jerseyRequest = request;
         this.future = future;
+        this.buffered = buffered;
     }
 
     @Override
@@ -118,14 +127,13 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             if ((response.headers().contains(HttpHeaderNames.CONTENT_LENGTH) && HttpUtil.getContentLength(response) > 0)
                     || HttpUtil.isTransferEncodingChunked(response)) {
 
-                ctx.channel().closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
-                    @Override
-                    public void operationComplete(Future<? super Void> future) throws Exception {
-                        isList.add(NettyInputStream.END_OF_INPUT_ERROR);
-                    }
-                });
+                entityStream = new NettyInputStream(ctx.channel(), !buffered);
+                jerseyResponse.setEntityStream(entityStream);
 
-                jerseyResponse.setEntityStream(new NettyInputStream(isList));
+                if (buffered) {
+                    // the response is dispatched once the whole entity is received.
+                    pendingResponse = jerseyResponse;
+                }
             } else {
                 jerseyResponse.setEntityStream(new InputStream() {
                     @Override
@@ -135,16 +143,9 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
                 });
             }
 
-            if (asyncConnectorCallback != null) {
-                connector.executorService.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        asyncConnectorCallback.response(jerseyResponse);
-                        future.complete(jerseyResponse);
-                    }
-                });
+            if (pendingResponse == null) {
+                dispatch(jerseyResponse);
             }
-
         }
         if (msg instanceof HttpContent) {
 
@@ -152,22 +153,51 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
 
             ByteBuf content = httpContent.content();
 
-            if (content.isReadable()) {
-                // copy bytes - when netty reads last chunk, it automatically closes the channel, which invalidates all
-                // relates ByteBuffs.
-                byte[] bytes = new byte[content.readableBytes()];
-                content.getBytes(content.readerIndex(), bytes);
-                isList.add(new ByteArrayInputStream(bytes));
-            }
+            if (entityStream != null) {
+                // the message is released once this method returns, the stream releases the retained content.
+                entityStream.publish(content.retain());
+
+                if (msg instanceof LastHttpContent) {
+                    entityStream.complete();
 
-            if (msg instanceof LastHttpContent) {
-                isList.add(NettyInputStream.END_OF_INPUT);
+                    if (pendingResponse != null) {
+                        final ClientResponse jerseyResponse = pendingResponse;
+                        pendingResponse = null;
+                        dispatch(jerseyResponse);
+                    }
+                }
             }
         }
     }
 
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (entityStream != null) {
+            // has no effect if the whole entity has been received.
+            entityStream.fail();
+        }
+        if (pendingResponse != null) {
+            pendingResponse = null;
+            exceptionCaught(ctx, new IOException("Connection was closed prematurely."));
+        }
+        super.channelInactive(ctx);
+    }
+
+    private void dispatch(final ClientResponse jerseyResponse) {
+        if (asyncConnectorCallback != null) {
+            connector.executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    asyncConnectorCallback.response(jerseyResponse);
+                    future.complete(jerseyResponse);
+                }
+            });
+        }
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, final Throwable cause) {
+        pendingResponse = null;
         if (asyncConnectorCallback != null) {
             connector.executorService.execute(new Runnable() {
                 @Override
@@ -177,6 +207,8 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             });
         }
         future.completeExceptionally(cause);
-        isList.add(NettyInputStream.END_OF_INPUT_ERROR);
+        if (entityStream != null) {
+            entityStream.fail();
+        }
     }
 }
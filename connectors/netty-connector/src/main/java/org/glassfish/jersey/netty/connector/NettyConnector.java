@@ -60,6 +60,8 @@ import javax.ws.rs.core.Configuration;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -86,16 +88,20 @@ import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
-import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
 import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
 
 /**
  * Netty connector implementation.
+ * <p>
+ * The connector is a {@link NonBlockingConnector}; in the non-blocking mode the connection is established
+ * asynchronously and the response is passed to the callback once the whole entity has been received.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
-class NettyConnector implements Connector {
+class NettyConnector implements NonBlockingConnector {
 
     final ExecutorService executorService;
     final EventLoopGroup group;
@@ -159,6 +165,16 @@ class NettyConnector implements Connector {
 
     @Override
     public Future<?> apply(final ClientRequest jerseyRequest, final AsyncConnectorCallback jerseyCallback) {
+        return apply(jerseyRequest, jerseyCallback, false);
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(final ClientRequest jerseyRequest, final AsyncConnectorCallback jerseyCallback) {
+        return apply(jerseyRequest, jerseyCallback, true);
+    }
+
+    private Future<?> apply(final ClientRequest jerseyRequest, final AsyncConnectorCallback jerseyCallback,
+                            final boolean nonBlocking) {
 
         final CompletableFuture<Object> settableFuture = new CompletableFuture<>();
 
@@ -201,7 +217,8 @@ class NettyConnector implements Connector {
                      p.addLast(new HttpClientCodec());
                      p.addLast(new ChunkedWriteHandler());
                      p.addLast(new HttpContentDecompressor());
-                     p.addLast(new JerseyClientHandler(NettyConnector.this, jerseyRequest, jerseyCallback, settableFuture));
+                     p.addLast(new JerseyClientHandler(NettyConnector.this, jerseyRequest, jerseyCallback, settableFuture,
+                                                       nonBlocking));
                  }
              });
 
@@ -213,97 +230,116 @@ class NettyConnector implements Connector {
             }
 
             // Make the connection attempt.
-            final Channel ch = b.connect(host, port).sync().channel();
-
-            // guard against prematurely closed channel
-            final GenericFutureListener<io.netty.util.concurrent.Future<? super Void>> closeListener =
-                    new GenericFutureListener<io.netty.util.concurrent.Future<? super Void>>() {
-                        @Override
-                        public void operationComplete(io.netty.util.concurrent.Future<? super Void> future) throws Exception {
-                            if (!settableFuture.isDone()) {
-                                settableFuture.completeExceptionally(new IOException("Channel closed."));
-                            }
+            if (nonBlocking) {
+                b.connect(host, port).addListener(new ChannelFutureListener() {
+                    @Override
+                    public void operationComplete(ChannelFuture future) throws Exception {
+                        if (future.isSuccess()) {
+                            send(future.channel(), jerseyRequest, jerseyCallback, settableFuture);
+                        } else {
+                            jerseyCallback.failure(future.cause());
+                            settableFuture.completeExceptionally(future.cause());
                         }
-                    };
+                    }
+                });
+            } else {
+                send(b.connect(host, port).sync().channel(), jerseyRequest, jerseyCallback, settableFuture);
+            }
+        } catch (InterruptedException e) {
+            settableFuture.completeExceptionally(e);
+            return settableFuture;
+        }
 
-            ch.closeFuture().addListener(closeListener);
+        return settableFuture;
+    }
+
+    private void send(final Channel ch, final ClientRequest jerseyRequest, final AsyncConnectorCallback jerseyCallback,
+                      final CompletableFuture<Object> settableFuture) {
+
+        final URI requestUri = jerseyRequest.getUri();
+
+        // guard against prematurely closed channel
+        final GenericFutureListener<io.netty.util.concurrent.Future<? super Void>> closeListener =
+                new GenericFutureListener<io.netty.util.concurrent.Future<? super Void>>() {
+                    @Override
+                    public void operationComplete(io.netty.util.concurrent.Future<? super Void> future) throws Exception {
+                        if (!settableFuture.isDone()) {
+                            settableFuture.completeExceptionally(new IOException("Channel closed."));
+                        }
+                    }
+                };
+
+        ch.closeFuture().addListener(closeListener);
 
-            HttpRequest nettyRequest;
+        HttpRequest nettyRequest;
 
-            if (jerseyRequest.hasEntity()) {
-                nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+        if (jerseyRequest.hasEntity()) {
+            nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                                                  HttpMethod.valueOf(jerseyRequest.getMethod()),
+                                                  requestUri.getRawPath());
+        } else {
+            nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1,
                                                       HttpMethod.valueOf(jerseyRequest.getMethod()),
                                                       requestUri.getRawPath());
-            } else {
-                nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1,
-                                                          HttpMethod.valueOf(jerseyRequest.getMethod()),
-                                                          requestUri.getRawPath());
-            }
+        }
 
-            // headers
-            for (final Map.Entry<String, List<String>> e : jerseyRequest.getStringHeaders().entrySet()) {
-                nettyRequest.headers().add(e.getKey(), e.getValue());
-            }
+        // headers
+        for (final Map.Entry<String, List<String>> e : jerseyRequest.getStringHeaders().entrySet()) {
+            nettyRequest.headers().add(e.getKey(), e.getValue());
+        }
 
-            // host header - http 1.1
-            nettyRequest.headers().add(HttpHeaderNames.HOST, jerseyRequest.getUri().getHost());
+        // host header - http 1.1
+        nettyRequest.headers().add(HttpHeaderNames.HOST, jerseyRequest.getUri().getHost());
 
-            if (jerseyRequest.hasEntity()) {
-                if (jerseyRequest.getLengthLong() == -1) {
-                    HttpUtil.setTransferEncodingChunked(nettyRequest, true);
-                } else {
-                    nettyRequest.headers().add(HttpHeaderNames.CONTENT_LENGTH, jerseyRequest.getLengthLong());
-                }
+        if (jerseyRequest.hasEntity()) {
+            if (jerseyRequest.getLengthLong() == -1) {
+                HttpUtil.setTransferEncodingChunked(nettyRequest, true);
+            } else {
+                nettyRequest.headers().add(HttpHeaderNames.CONTENT_LENGTH, jerseyRequest.getLengthLong());
             }
+        }
 
-            if (jerseyRequest.hasEntity()) {
-                // Send the HTTP request.
-                ch.writeAndFlush(nettyRequest);
-
-                final JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ch);
-                jerseyRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
-                    @Override
-                    public OutputStream getOutputStream(int contentLength) throws IOException {
-                        return jerseyChunkedInput;
-                    }
-                });
+        if (jerseyRequest.hasEntity()) {
+            // Send the HTTP request.
+            ch.writeAndFlush(nettyRequest);
 
-                if (HttpUtil.isTransferEncodingChunked(nettyRequest)) {
-                    ch.write(new HttpChunkedInput(jerseyChunkedInput));
-                } else {
-                    ch.write(jerseyChunkedInput);
+            final JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ch);
+            jerseyRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
+                @Override
+                public OutputStream getOutputStream(int contentLength) throws IOException {
+                    return jerseyChunkedInput;
                 }
+            });
 
-                executorService.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        // close listener is not needed any more.
-                        ch.closeFuture().removeListener(closeListener);
-
-                        try {
-                            jerseyRequest.writeEntity();
-                        } catch (IOException e) {
-                            jerseyCallback.failure(e);
-                            settableFuture.completeExceptionally(e);
-                        }
-                    }
-                });
-
-                ch.flush();
+            if (HttpUtil.isTransferEncodingChunked(nettyRequest)) {
+                ch.write(new HttpChunkedInput(jerseyChunkedInput));
             } else {
-                // close listener is not needed any more.
-                ch.closeFuture().removeListener(closeListener);
-
-                // Send the HTTP request.
-                ch.writeAndFlush(nettyRequest);
+                ch.write(jerseyChunkedInput);
             }
 
-        } catch (InterruptedException e) {
-            settableFuture.completeExceptionally(e);
-            return settableFuture;
-        }
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    // close listener is not needed any more.
+                    ch.closeFuture().removeListener(closeListener);
+
+                    try {
+                        jerseyRequest.writeEntity();
+                    } catch (IOException e) {
+                        jerseyCallback.failure(e);
+                        settableFuture.completeExceptionally(e);
+                    }
+                }
+            });
 
-        return settableFuture;
+            ch.flush();
+        } else {
+            // close listener is not needed any more.
+            ch.closeFuture().removeListener(closeListener);
+
+            // Send the HTTP request.
+            ch.writeAndFlush(nettyRequest);
+        }
     }
 
     @Override
@@ -0,0 +1,369 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
+import org.glassfish.jersey.message.internal.OutboundMessageContext;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+
+/**
+ * Netty HTTP/2 connector implementation.
+ * <p>
+ * The connector keeps a pool of {@link Http2ClientConnection HTTP/2 connections} per destination. A request is sent
+ * over the first connection to the destination which is able to open a new stream. If there is no such connection,
+ * a new connection is opened unless the {@link NettyHttp2ConnectorProvider#MAX_CONNECTIONS_PER_DESTINATION connection
+ * limit} has been reached, in which case the request waits until a stream is closed.
+ * </p>
+ *
+ * @see NettyHttp2ConnectorProvider
+ */
+class NettyHttp2Connector implements NonBlockingConnector {
+
+    final ExecutorService executorService;
+    final EventLoopGroup group;
+    final Client client;
+
+    private final int maxConnections;
+    private final int maxStreams;
+    private final Map<DestinationKey, Destination> destinations = new ConcurrentHashMap<>();
+
+    NettyHttp2Connector(Client client, Configuration config) {
+        final Map<String, Object> properties = config.getProperties();
+
+        final Object threadPoolSize = properties.get(ClientProperties.ASYNC_THREADPOOL_SIZE);
+        if (threadPoolSize != null && threadPoolSize instanceof Integer && (Integer) threadPoolSize > 0) {
+            executorService = Executors.newFixedThreadPool((Integer) threadPoolSize);
+        } else {
+            executorService = Executors.newCachedThreadPool();
+        }
+
+        this.maxConnections = Math.max(1, ClientProperties.getValue(properties,
+                NettyHttp2ConnectorProvider.MAX_CONNECTIONS_PER_DESTINATION,
+                NettyHttp2ConnectorProvider.DEFAULT_MAX_CONNECTIONS_PER_DESTINATION, Integer.class));
+        this.maxStreams = Math.max(1, ClientProperties.getValue(properties,
+                NettyHttp2ConnectorProvider.MAX_CONCURRENT_STREAMS,
+                NettyHttp2ConnectorProvider.DEFAULT_MAX_CONCURRENT_STREAMS, Integer.class));
+
+        this.group = new NioEventLoopGroup();
+        this.client = client;
+    }
+
+    @Override
+    public ClientResponse apply(ClientRequest jerseyRequest) {
+        final Future<?> future = apply(jerseyRequest, new AsyncConnectorCallback() {
+            @Override
+            public void response(ClientResponse response) {
+            }
+
+            @Override
+            public void failure(Throwable failure) {
+            }
+        });
+
+        try {
+            final Integer timeout = ClientProperties.getValue(jerseyRequest.getConfiguration().getProperties(),
+                                                              ClientProperties.READ_TIMEOUT, 0);
+            if (timeout != null && timeout > 0) {
+                return (ClientResponse) future.get(timeout, TimeUnit.MILLISECONDS);
+            } else {
+                return (ClientResponse) future.get();
+            }
+        } catch (ExecutionException ex) {
+            final Throwable e = ex.getCause() == null ? ex : ex.getCause();
+            throw new ProcessingException(e.getMessage(), e);
+        } catch (Exception ex) {
+            throw new ProcessingException(ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public Future<?> apply(ClientRequest jerseyRequest, AsyncConnectorCallback jerseyCallback) {
+        final Http2ClientConnection.Exchange exchange;
+        try {
+            exchange = new Http2ClientConnection.Exchange(jerseyRequest, translate(jerseyRequest), jerseyCallback);
+        } catch (Throwable t) {
+            jerseyCallback.failure(t);
+            final CompletableFuture<ClientResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+
+        final URI uri = jerseyRequest.getUri();
+        destinations.computeIfAbsent(new DestinationKey(uri), key -> new Destination(uri)).submit(exchange);
+        return exchange.future;
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(ClientRequest jerseyRequest, AsyncConnectorCallback jerseyCallback) {
+        // connections are opened asynchronously and the response entities are always received completely
+        return apply(jerseyRequest, jerseyCallback);
+    }
+
+    @Override
+    public String getName() {
+        return "Netty 4.1.x HTTP/2";
+    }
+
+    @Override
+    public void close() {
+        destinations.values().forEach(Destination::close);
+        destinations.clear();
+        group.shutdownGracefully();
+        executorService.shutdown();
+    }
+
+    /**
+     * Translate Jersey request into a Netty HTTP request understood by the HTTP/2 codec. The request entity, if any,
+     * is buffered.
+     */
+    private static FullHttpRequest translate(final ClientRequest jerseyRequest) throws IOException {
+        final URI uri = jerseyRequest.getUri();
+
+        final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+        if (jerseyRequest.hasEntity()) {
+            jerseyRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
+                @Override
+                public OutputStream getOutputStream(int contentLength) throws IOException {
+                    return entity;
+                }
+            });
+            jerseyRequest.writeEntity();
+        }
+
+        final String path = (uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath())
+                + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+        final FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1,
+                                                                   HttpMethod.valueOf(jerseyRequest.getMethod()),
+                                                                   path,
+                                                                   Unpooled.wrappedBuffer(entity.toByteArray()));
+
+        // headers, the entity provider might have modified them
+        for (final Map.Entry<String, List<String>> e : jerseyRequest.getStringHeaders().entrySet()) {
+            request.headers().add(e.getKey(), e.getValue());
+        }
+
+        final int port = uri.getPort();
+        request.headers().set(HttpHeaderNames.HOST, port == -1 ? uri.getHost() : uri.getHost() + ":" + port);
+        request.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), uri.getScheme());
+        if (jerseyRequest.hasEntity()) {
+            request.headers().set(HttpHeaderNames.CONTENT_LENGTH, entity.size());
+        }
+
+        return request;
+    }
+
+    /**
+     * Connections to a single destination and requests waiting for a stream.
+     */
+    class Destination {
+
+        private final URI uri;
+        private final List<Http2ClientConnection> connections = new ArrayList<>();
+        private final Queue<Http2ClientConnection.Exchange> pending = new ArrayDeque<>();
+
+        private boolean closed = false;
+
+        Destination(URI uri) {
+            this.uri = uri;
+        }
+
+        void submit(final Http2ClientConnection.Exchange exchange) {
+            final Http2ClientConnection connection;
+            synchronized (this) {
+                if (closed) {
+                    connection = null;
+                } else {
+                    connection = reserveStream();
+                    if (connection == null) {
+                        pending.add(exchange);
+                        return;
+                    }
+                }
+            }
+
+            if (connection == null) {
+                exchange.fail(new ProcessingException(LocalizationMessages.CONNECTION_CLOSED()), executorService);
+            } else {
+                connection.send(exchange);
+            }
+        }
+
+        /**
+         * Reserve a stream on an existing or a new connection.
+         *
+         * @return connection with the reserved stream or {@code null} if no stream can be reserved at the moment.
+         */
+        private Http2ClientConnection reserveStream() {
+            for (final Http2ClientConnection connection : connections) {
+                if (connection.reserveStream()) {
+                    return connection;
+                }
+            }
+
+            if (connections.size() < maxConnections) {
+                final Http2ClientConnection connection = new Http2ClientConnection(NettyHttp2Connector.this, this, uri,
+                                                                                    maxStreams);
+                connections.add(connection);
+                connection.reserveStream();
+                connection.connect();
+                return connection;
+            }
+
+            return null;
+        }
+
+        /**
+         * Invoked by a connection once a stream has been closed or the connection has been closed.
+         *
+         * @param connection       connection which released a stream.
+         * @param connectionClosed {@code true} if the connection has been closed.
+         */
+        void streamReleased(final Http2ClientConnection connection, final boolean connectionClosed) {
+            final List<Http2ClientConnection> reserved = new ArrayList<>();
+            final List<Http2ClientConnection.Exchange> dispatched = new ArrayList<>();
+
+            synchronized (this) {
+                if (connectionClosed) {
+                    connections.remove(connection);
+                }
+
+                while (!pending.isEmpty() && !closed) {
+                    final Http2ClientConnection next = reserveStream();
+                    if (next == null) {
+                        break;
+                    }
+                    reserved.add(next);
+                    dispatched.add(pending.poll());
+                }
+            }
+
+            for (int i = 0; i < reserved.size(); i++) {
+                reserved.get(i).send(dispatched.get(i));
+            }
+        }
+
+        void close() {
+            final List<Http2ClientConnection> toClose;
+            final List<Http2ClientConnection.Exchange> toFail;
+            synchronized (this) {
+                closed = true;
+                toClose = new ArrayList<>(connections);
+                toFail = new ArrayList<>(pending);
+                connections.clear();
+                pending.clear();
+            }
+
+            toClose.forEach(Http2ClientConnection::close);
+            toFail.forEach(exchange -> exchange.fail(new ProcessingException(LocalizationMessages.CONNECTION_CLOSED()),
+                                                     executorService));
+        }
+    }
+
+    /**
+     * Destination key - scheme, host and port.
+     */
+    static final class DestinationKey {
+
+        private final String scheme;
+        private final String host;
+        private final int port;
+
+        DestinationKey(URI uri) {
+            this.scheme = uri.getScheme();
+            this.host = uri.getHost();
+            this.port = uri.getPort();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DestinationKey)) {
+                return false;
+            }
+            final DestinationKey that = (DestinationKey) o;
+            return port == that.port && scheme.equalsIgnoreCase(that.scheme) && host.equalsIgnoreCase(that.host);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = scheme.toLowerCase().hashCode();
+            result = 31 * result + host.toLowerCase().hashCode();
+            result = 31 * result + port;
+            return result;
+        }
+    }
+}
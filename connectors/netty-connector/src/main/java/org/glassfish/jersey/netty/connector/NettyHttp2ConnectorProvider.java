@@ -0,0 +1,124 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.Beta;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+/**
+ * Netty provider for Jersey HTTP/2 {@link Connector connectors}.
+ * <p>
+ * The connector multiplexes concurrent requests to the same destination (scheme, host and port) as HTTP/2 streams over
+ * a small number of connections. A new connection is opened only if all the connections to the destination carry
+ * the maximal number of concurrent streams, and the requests are queued if also the maximal number of connections
+ * has been reached. Flow control is performed by the Netty HTTP/2 codec.
+ * </p>
+ * <p>
+ * {@code https} destinations negotiate the {@code h2} protocol via ALPN (which requires an ALPN capable SSL provider),
+ * {@code http} destinations use HTTP/2 over cleartext with prior knowledge ({@code h2c} without the HTTP/1.1 upgrade),
+ * i.e. the server must accept HTTP/2 connections directly.
+ * </p>
+ * <p>
+ * Request entities are buffered before the request is sent and response entities are received completely before the
+ * response is passed to the client runtime. The connector is therefore not suitable for very large or streamed
+ * entities, on the other hand it supports the {@link org.glassfish.jersey.client.ClientProperties#ASYNC_NON_BLOCKING
+ * non-blocking} asynchronous processing.
+ * </p>
+ * <p>
+ * The following connector configuration properties are supported:
+ * <ul>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#CONNECT_TIMEOUT}</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#READ_TIMEOUT}</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#ASYNC_THREADPOOL_SIZE}</li>
+ * <li>{@link #MAX_CONNECTIONS_PER_DESTINATION}</li>
+ * <li>{@link #MAX_CONCURRENT_STREAMS}</li>
+ * </ul>
+ * </p>
+ *
+ * @since 2.28
+ */
+@Beta
+public class NettyHttp2ConnectorProvider implements ConnectorProvider {
+
+    /**
+     * Maximal number of HTTP/2 connections opened to a single destination.
+     * <p>
+     * The value MUST be a positive {@link Integer}. The default value is {@value #DEFAULT_MAX_CONNECTIONS_PER_DESTINATION}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String MAX_CONNECTIONS_PER_DESTINATION = "jersey.config.netty.client.http2.maxConnectionsPerDestination";
+
+    /**
+     * Default value of {@link #MAX_CONNECTIONS_PER_DESTINATION}.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_DESTINATION = 2;
+
+    /**
+     * Maximal number of concurrent streams (requests) opened on a single HTTP/2 connection.
+     * <p>
+     * A lower limit announced by the server in its {@code SETTINGS_MAX_CONCURRENT_STREAMS} setting takes precedence.
+     * </p>
+     * <p>
+     * The value MUST be a positive {@link Integer}. The default value is {@value #DEFAULT_MAX_CONCURRENT_STREAMS}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String MAX_CONCURRENT_STREAMS = "jersey.config.netty.client.http2.maxConcurrentStreams";
+
+    /**
+     * Default value of {@link #MAX_CONCURRENT_STREAMS}.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+
+    @Override
+    public Connector getConnector(Client client, Configuration runtimeConfig) {
+        return new NettyHttp2Connector(client, runtimeConfig);
+    }
+}
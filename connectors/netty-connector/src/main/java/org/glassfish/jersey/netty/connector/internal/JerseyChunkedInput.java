@@ -43,11 +43,15 @@ package org.glassfish.jersey.netty.connector.internal;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
 import javax.inject.Provider;
 
+import org.glassfish.jersey.message.ZeroCopyOutput;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
@@ -60,10 +64,16 @@ import io.netty.handler.stream.ChunkedInput;
 /**
  * Netty {@link ChunkedInput} implementation which also serves as an output
  * stream to Jersey {@link javax.ws.rs.container.ContainerResponseContext}.
+ * <p>
+ * File regions written through the {@link ZeroCopyOutput} interface are mapped into memory and the mapped buffers are
+ * passed to Netty as wrapped buffers without copying. Byte buffers are copied, as they are owned by the application and
+ * are written asynchronously.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
-public class JerseyChunkedInput extends OutputStream implements ChunkedInput<ByteBuf>, ChannelFutureListener {
+public class JerseyChunkedInput extends OutputStream
+        implements ChunkedInput<ByteBuf>, ChannelFutureListener, ZeroCopyOutput {
 
     private static final ByteBuffer VOID = ByteBuffer.allocate(0);
     private static final int CAPACITY = 8;
@@ -144,6 +154,13 @@ public class JerseyChunkedInput extends OutputStream implements ChunkedInput<Byt
         }
 
         int topRemaining = top.remaining();
+
+        if (top.isDirect()) {
+            // direct buffers are only the file regions mapped by writeFileRegion, they can be passed as they are
+            offset += topRemaining;
+            return Unpooled.wrappedBuffer(top);
+        }
+
         ByteBuf buffer = allocator.buffer(topRemaining);
 
         buffer.setBytes(0, top);
@@ -221,6 +238,44 @@ public class JerseyChunkedInput extends OutputStream implements ChunkedInput<Byt
         });
     }
 
+    @Override
+    public boolean writeFileRegion(final FileChannel channel, final long position, final long count) throws IOException {
+        // the mapped regions are created here and not shared with anyone else, they can be queued without copying
+        return ReaderWriter.writeMapped(channel, position, count, new ZeroCopyOutput() {
+            @Override
+            public boolean writeFileRegion(final FileChannel fileChannel, final long regionPosition, final long regionCount) {
+                return false;
+            }
+
+            @Override
+            public boolean writeByteBuffer(final ByteBuffer region) throws IOException {
+                write(new Provider<ByteBuffer>() {
+                    @Override
+                    public ByteBuffer get() {
+                        return region;
+                    }
+                });
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public boolean writeByteBuffer(final ByteBuffer buffer) throws IOException {
+        // the buffer is written asynchronously and the application may reuse it once the entity has been written
+        final ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+        copy.put(buffer.duplicate());
+        copy.flip();
+
+        write(new Provider<ByteBuffer>() {
+            @Override
+            public ByteBuffer get() {
+                return copy;
+            }
+        });
+        return true;
+    }
+
     @Override
     public void flush() throws IOException {
         ctx.flush();
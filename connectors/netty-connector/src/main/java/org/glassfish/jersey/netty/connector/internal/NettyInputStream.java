@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2016-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016-2018 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -42,127 +42,203 @@ package org.glassfish.jersey.netty.connector.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.concurrent.LinkedBlockingDeque;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.Channel;
 
 /**
  * Input stream which servers as Request entity input.
  * <p>
- * Converts Netty NIO buffers to an input streams and stores them in the queue,
- * waiting for Jersey to process it.
+ * Netty buffers {@link #publish(ByteBuf) published} by the channel handler are added as components of a single
+ * {@link CompositeByteBuf} without being copied or wrapped, and they are released as soon as their content has been
+ * read (or when the stream is closed). If the amount of received but not yet read bytes exceeds a high watermark,
+ * the {@link io.netty.channel.ChannelConfig#setAutoRead(boolean) auto read} of the channel is turned off until the
+ * reader consumes the buffered data below a low watermark, so a slow reader does not cause unbounded buffering.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
 public class NettyInputStream extends InputStream {
 
-    private volatile boolean end = false;
+    private static final int HIGH_WATERMARK = 256 * 1024;
+    private static final int LOW_WATERMARK = 64 * 1024;
+
+    private final Channel channel;
+    private final CompositeByteBuf buffer;
+    private final boolean backpressure;
+
+    private boolean end = false;
+    private boolean failed = false;
+    private boolean closed = false;
+    private boolean readSuspended = false;
 
     /**
-     * End of input.
+     * Create new input stream fed by buffers read from a channel.
+     *
+     * @param channel channel the entity is read from.
      */
-    public static final InputStream END_OF_INPUT = new InputStream() {
-        @Override
-        public int read() throws IOException {
-            return 0;
-        }
+    public NettyInputStream(Channel channel) {
+        this(channel, true);
+    }
 
-        @Override
-        public String toString() {
-            return "END_OF_INPUT " + super.toString();
-        }
-    };
+    /**
+     * Create new input stream fed by buffers read from a channel.
+     * <p>
+     * If the backpressure is disabled the whole entity is buffered regardless of its size, which is required
+     * if the entity is read only after it has been fully received.
+     * </p>
+     *
+     * @param channel      channel the entity is read from.
+     * @param backpressure if {@code true}, the auto read of the channel is suspended while too much data is buffered.
+     */
+    public NettyInputStream(Channel channel, boolean backpressure) {
+        this.channel = channel;
+        this.buffer = channel.alloc().compositeBuffer(Integer.MAX_VALUE);
+        this.backpressure = backpressure;
+    }
 
     /**
-     * Unexpected end of input.
+     * Add a chunk of the entity to the stream.
+     * <p>
+     * The stream takes over the ownership of the buffer, i.e. the buffer will be released by the stream.
+     * </p>
+     *
+     * @param content chunk of the entity.
      */
-    public static final InputStream END_OF_INPUT_ERROR = new InputStream() {
-        @Override
-        public int read() throws IOException {
-            return 0;
+    public void publish(ByteBuf content) {
+        boolean suspend = false;
+        synchronized (this) {
+            if (closed || end || !content.isReadable()) {
+                content.release();
+                return;
+            }
+            buffer.addComponent(true, content);
+            if (backpressure && !readSuspended && buffer.readableBytes() > HIGH_WATERMARK) {
+                readSuspended = true;
+                suspend = true;
+            }
+            notifyAll();
         }
-
-        @Override
-        public String toString() {
-            return "END_OF_INPUT_ERROR " + super.toString();
+        if (suspend) {
+            channel.config().setAutoRead(false);
         }
-    };
+    }
 
-    private final LinkedBlockingDeque<InputStream> isList;
+    /**
+     * Signal the end of the entity.
+     */
+    public synchronized void complete() {
+        end = true;
+        notifyAll();
+    }
 
-    public NettyInputStream(LinkedBlockingDeque<InputStream> isList) {
-        this.isList = isList;
+    /**
+     * Signal an unexpected end of the entity (e.g. the connection has been closed prematurely).
+     * <p>
+     * Has no effect if the entity has already been {@link #complete() completed}.
+     * </p>
+     */
+    public synchronized void fail() {
+        if (!end) {
+            end = true;
+            failed = true;
+            notifyAll();
+        }
     }
 
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
-
-        if (end) {
-            return -1;
+        if (len == 0) {
+            return 0;
         }
 
-        InputStream take;
-        try {
-            take = isList.take();
-
-            if (checkEndOfInput(take)) {
+        final int read;
+        synchronized (this) {
+            if (!awaitData()) {
                 return -1;
             }
-
-            int read = take.read(b, off, len);
-
-            if (take.available() > 0) {
-                isList.addFirst(take);
-            }
-
-            return read;
-        } catch (InterruptedException e) {
-            throw new IOException("Interrupted.", e);
+            read = Math.min(len, buffer.readableBytes());
+            buffer.readBytes(b, off, read);
+            buffer.discardReadComponents();
         }
+        resumeIfDrained();
+        return read;
     }
 
     @Override
     public int read() throws IOException {
-
-        if (end) {
-            return -1;
-        }
-
-        try {
-            InputStream take = isList.take();
-
-            if (checkEndOfInput(take)) {
+        final int read;
+        synchronized (this) {
+            if (!awaitData()) {
                 return -1;
             }
+            read = buffer.readByte() & 0xFF;
+            buffer.discardReadComponents();
+        }
+        resumeIfDrained();
+        return read;
+    }
 
-            int read = take.read();
+    @Override
+    public synchronized int available() throws IOException {
+        return closed ? 0 : buffer.readableBytes();
+    }
 
-            if (take.available() > 0) {
-                isList.addFirst(take);
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
             }
-
-            return read;
-        } catch (InterruptedException e) {
-            throw new IOException("Interrupted.", e);
+            closed = true;
+            buffer.release();
+            notifyAll();
         }
+        resume();
     }
 
-    @Override
-    public int available() throws IOException {
-        InputStream peek = isList.peek();
-        if (peek != null) {
-            return peek.available();
+    /**
+     * Wait until there are data to be read or the end of the entity is reached.
+     *
+     * @return {@code true} if there are data to be read, {@code false} at the end of the entity.
+     * @throws IOException if the entity ended prematurely or the waiting thread has been interrupted.
+     */
+    private boolean awaitData() throws IOException {
+        while (!closed && !buffer.isReadable()) {
+            if (end) {
+                if (failed) {
+                    throw new IOException("Connection was closed prematurely.");
+                }
+                return false;
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted.", e);
+            }
         }
+        return !closed;
+    }
 
-        return 0;
+    private void resumeIfDrained() {
+        final boolean resume;
+        synchronized (this) {
+            resume = readSuspended && buffer.readableBytes() < LOW_WATERMARK;
+        }
+        if (resume) {
+            resume();
+        }
     }
 
-    private boolean checkEndOfInput(InputStream take) throws IOException {
-        if (take == END_OF_INPUT) {
-            end = true;
-            return true;
-        } else if (take == END_OF_INPUT_ERROR) {
-            end = true;
-            throw new IOException("Connection was closed prematurely.");
+    private void resume() {
+        synchronized (this) {
+            if (!readSuspended) {
+                return;
+            }
+            readSuspended = false;
         }
-        return false;
+        channel.config().setAutoRead(true);
     }
 }
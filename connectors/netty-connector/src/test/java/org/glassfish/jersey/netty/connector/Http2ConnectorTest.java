@@ -0,0 +1,185 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandlerBuilder;
+import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapterBuilder;
+
+/**
+ * Tests the {@link NettyHttp2ConnectorProvider HTTP/2 connector} against a prior knowledge h2c echo server.
+ */
+public class Http2ConnectorTest {
+
+    private static final String STREAM_ID = HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text().toString();
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private EventLoopGroup group;
+    private Channel server;
+    private Client client;
+
+    @Before
+    public void setUp() throws Exception {
+        group = new NioEventLoopGroup();
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) throws Exception {
+                        connections.incrementAndGet();
+
+                        final Http2Connection connection = new DefaultHttp2Connection(true);
+                        ch.pipeline().addLast(new HttpToHttp2ConnectionHandlerBuilder()
+                                                      .frameListener(new InboundHttp2ToHttpAdapterBuilder(connection)
+                                                                             .maxContentLength(1024 * 1024)
+                                                                             .build())
+                                                      .connection(connection)
+                                                      .build(),
+                                              new EchoHandler());
+                    }
+                })
+                .bind(0).sync().channel();
+
+        client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new NettyHttp2ConnectorProvider())
+                .property(NettyHttp2ConnectorProvider.MAX_CONNECTIONS_PER_DESTINATION, 1)
+                .property(NettyHttp2ConnectorProvider.MAX_CONCURRENT_STREAMS, 10));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        server.close().sync();
+        group.shutdownGracefully();
+    }
+
+    private String uri(String path) {
+        return "http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort() + path;
+    }
+
+    @Test
+    public void testGet() {
+        final Response response = client.target(uri("/get")).queryParam("q", "1").request().get();
+
+        assertEquals(200, response.getStatus());
+        assertEquals("GET /get?q=1 ", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testPost() {
+        final String response = client.target(uri("/post")).request().post(Entity.text("hello"), String.class);
+
+        assertEquals("POST /post hello", response);
+    }
+
+    @Test
+    public void testConcurrentRequestsShareConnection() throws Exception {
+        final List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(client.target(uri("/async/" + i)).request().async().get(String.class));
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals("GET /async/" + i + " ", responses.get(i).get(10, TimeUnit.SECONDS));
+        }
+        // more requests than the stream limit, all of them multiplexed over the single allowed connection
+        assertEquals(1, connections.get());
+    }
+
+    /**
+     * Responds with the request method, URI and entity.
+     */
+    private static class EchoHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) throws Exception {
+            final String entity = request.method() + " " + request.uri() + " "
+                    + request.content().toString(StandardCharsets.UTF_8);
+            final FullHttpResponse response = new DefaultFullHttpResponse(
+                    HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.copiedBuffer(entity, StandardCharsets.UTF_8));
+
+            response.headers().set(STREAM_ID, request.headers().get(STREAM_ID));
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.connector.internal;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link NettyInputStream}.
+ */
+public class NettyInputStreamTest {
+
+    private static ByteBuf chunk(final int length, final int value) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) value;
+        }
+        return Unpooled.wrappedBuffer(bytes);
+    }
+
+    @Test
+    public void testReadAndRelease() throws IOException {
+        final NettyInputStream stream = new NettyInputStream(new EmbeddedChannel());
+        final ByteBuf first = chunk(3, 1);
+        final ByteBuf second = chunk(2, 2);
+
+        stream.publish(first);
+        stream.publish(second);
+        stream.complete();
+
+        assertEquals(5, stream.available());
+        final byte[] bytes = new byte[4];
+        assertEquals(4, stream.read(bytes, 0, 4));
+        assertArrayEquals(new byte[] {1, 1, 1, 2}, bytes);
+        assertEquals(0, first.refCnt());
+
+        assertEquals(2, stream.read());
+        assertEquals(-1, stream.read());
+        assertEquals(0, second.refCnt());
+    }
+
+    @Test(expected = IOException.class)
+    public void testPrematureEnd() throws IOException {
+        final NettyInputStream stream = new NettyInputStream(new EmbeddedChannel());
+        stream.publish(chunk(1, 1));
+        stream.fail();
+
+        assertEquals(1, stream.read());
+        stream.read();
+    }
+
+    @Test
+    public void testBackpressure() throws IOException {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final NettyInputStream stream = new NettyInputStream(channel);
+
+        for (int i = 0; i < 5; i++) {
+            stream.publish(chunk(64 * 1024, i));
+        }
+        assertFalse(channel.config().isAutoRead());
+
+        final byte[] bytes = new byte[64 * 1024];
+        int read = 0;
+        while (read < 5 * 64 * 1024) {
+            read += stream.read(bytes, 0, bytes.length);
+        }
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    @Test
+    public void testCloseReleasesBuffers() throws IOException {
+        final NettyInputStream stream = new NettyInputStream(new EmbeddedChannel());
+        final ByteBuf content = chunk(10, 1);
+        stream.publish(content);
+        stream.close();
+
+        assertEquals(0, content.refCnt());
+        assertEquals(-1, stream.read());
+
+        final ByteBuf late = chunk(10, 1);
+        stream.publish(late);
+        assertEquals(0, late.refCnt());
+    }
+}
@@ -271,7 +271,7 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
                     }
                 }
 
-                return grizzlyResponse.getOutputStream();
+                return new GrizzlyZeroCopyOutputStream(grizzlyResponse.getOutputStream(), grizzlyResponse.getOutputBuffer());
             } finally {
                 logger.debugLog("{0} - writeResponseStatusAndHeaders() called", name);
             }
@@ -49,19 +49,16 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingDeque;
 
 import javax.ws.rs.core.SecurityContext;
 
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http2.Http2DataFrame;
 import io.netty.handler.codec.http2.Http2HeadersFrame;
-import io.netty.util.concurrent.Future;
-import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.AttributeKey;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerRequest;
@@ -77,8 +74,13 @@ import org.glassfish.jersey.server.internal.ContainerUtils;
 @ChannelHandler.Sharable
 class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
 
+    /**
+     * Entity stream of the request received on the HTTP/2 stream (child) channel; the handler is shared by all streams.
+     */
+    private static final AttributeKey<NettyInputStream> ENTITY_STREAM =
+            AttributeKey.valueOf(JerseyHttp2ServerHandler.class, "entityStream");
+
     private final URI baseUri;
-    private final LinkedBlockingDeque<InputStream> isList = new LinkedBlockingDeque<>();
     private final NettyHttpContainer container;
 
     /**
@@ -112,9 +114,14 @@ class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
      * Process incoming data.
      */
     private void onDataRead(ChannelHandlerContext ctx, Http2DataFrame data) throws Exception {
-        isList.add(new ByteBufInputStream(data.content()));
+        final NettyInputStream stream = ctx.channel().attr(ENTITY_STREAM).get();
+        if (stream == null) {
+            data.release();
+            return;
+        }
+        stream.publish(data.content());
         if (data.isEndStream()) {
-            isList.add(NettyInputStream.END_OF_INPUT);
+            stream.complete();
         }
     }
 
@@ -125,7 +132,7 @@ class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
 
         final ContainerRequest requestContext = createContainerRequest(ctx, headers);
 
-        requestContext.setWriter(new NettyHttp2ResponseWriter(ctx, headers, container));
+        requestContext.setWriter(new NettyHttp2ResponseWriter(ctx, headers, container, ctx.channel().attr(ENTITY_STREAM).get()));
 
         // must be like this, since there is a blocking read from Jersey
         container.getExecutorService().execute(new Runnable() {
@@ -180,15 +187,13 @@ class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
         // request entity handling.
         if (!http2Headers.isEndStream()) {
 
-            ctx.channel().closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
-                @Override
-                public void operationComplete(Future<? super Void> future) throws Exception {
-                    isList.add(NettyInputStream.END_OF_INPUT_ERROR);
-                }
-            });
+            final NettyInputStream stream = new NettyInputStream(ctx.channel());
+            ctx.channel().closeFuture().addListener(future -> stream.fail());
 
-            requestContext.setEntityStream(new NettyInputStream(isList));
+            ctx.channel().attr(ENTITY_STREAM).set(stream);
+            requestContext.setEntityStream(stream);
         } else {
+            ctx.channel().attr(ENTITY_STREAM).set(null);
             requestContext.setEntityStream(new InputStream() {
                 @Override
                 public int read() throws IOException {
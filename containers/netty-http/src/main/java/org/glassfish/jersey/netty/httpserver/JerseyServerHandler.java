@@ -47,12 +47,10 @@ import java.security.Principal;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingDeque;
 
 import javax.ws.rs.core.SecurityContext;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -63,8 +61,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
-import io.netty.util.concurrent.Future;
-import io.netty.util.concurrent.GenericFutureListener;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerRequest;
@@ -79,9 +75,14 @@ import org.glassfish.jersey.server.internal.ContainerUtils;
 class JerseyServerHandler extends ChannelInboundHandlerAdapter {
 
     private final URI baseUri;
-    private final LinkedBlockingDeque<InputStream> isList = new LinkedBlockingDeque<>();
     private final NettyHttpContainer container;
 
+    /**
+     * Entity stream of the request being currently received, {@code null} if the request has no entity.
+     * Accessed from the channel event loop only.
+     */
+    private NettyInputStream entityStream;
+
     /**
      * Constructor.
      *
@@ -103,10 +104,13 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
                 ctx.write(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE));
             }
 
-            isList.clear(); // clearing the content - possible leftover from previous request processing.
+            if (entityStream != null) {
+                // possible leftover from previous request processing.
+                entityStream.fail();
+            }
             final ContainerRequest requestContext = createContainerRequest(ctx, req);
 
-            requestContext.setWriter(new NettyResponseWriter(ctx, req, container));
+            requestContext.setWriter(new NettyResponseWriter(ctx, req, container, entityStream));
 
             // must be like this, since there is a blocking read from Jersey
             container.getExecutorService().execute(new Runnable() {
@@ -122,16 +126,31 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
 
             ByteBuf content = httpContent.content();
 
-            if (content.isReadable()) {
-                isList.add(new ByteBufInputStream(content));
+            if (entityStream != null) {
+                entityStream.publish(content);
+            } else {
+                content.release();
             }
 
             if (msg instanceof LastHttpContent) {
-                isList.add(NettyInputStream.END_OF_INPUT);
+                if (entityStream != null) {
+                    entityStream.complete();
+                    entityStream = null;
+                }
             }
         }
     }
 
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (entityStream != null) {
+            // connection was closed before the whole entity has been received.
+            entityStream.fail();
+            entityStream = null;
+        }
+        super.channelInactive(ctx);
+    }
+
     /**
      * Create Jersey {@link ContainerRequest} based on Netty {@link HttpRequest}.
      *
@@ -175,15 +194,10 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
         if ((req.headers().contains(HttpHeaderNames.CONTENT_LENGTH) && HttpUtil.getContentLength(req) > 0)
                 || HttpUtil.isTransferEncodingChunked(req)) {
 
-            ctx.channel().closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
-                @Override
-                public void operationComplete(Future<? super Void> future) throws Exception {
-                    isList.add(NettyInputStream.END_OF_INPUT_ERROR);
-                }
-            });
-
-            requestContext.setEntityStream(new NettyInputStream(isList));
+            entityStream = new NettyInputStream(ctx.channel());
+            requestContext.setEntityStream(entityStream);
         } else {
+            entityStream = null;
             requestContext.setEntityStream(new InputStream() {
                 @Override
                 public int read() throws IOException {
@@ -46,7 +46,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerException;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
@@ -70,17 +73,22 @@ import io.netty.handler.codec.http2.Http2HeadersFrame;
  */
 class NettyHttp2ResponseWriter implements ContainerResponseWriter {
 
+    private static final Logger LOGGER = Logger.getLogger(NettyHttp2ResponseWriter.class.getName());
+
     private final ChannelHandlerContext ctx;
     private final Http2HeadersFrame headersFrame;
     private final NettyHttpContainer container;
+    private final NettyInputStream entityStream;
 
     private volatile ScheduledFuture<?> suspendTimeoutFuture;
     private volatile Runnable suspendTimeoutHandler;
 
-    NettyHttp2ResponseWriter(ChannelHandlerContext ctx, Http2HeadersFrame headersFrame, NettyHttpContainer container) {
+    NettyHttp2ResponseWriter(ChannelHandlerContext ctx, Http2HeadersFrame headersFrame, NettyHttpContainer container,
+                             NettyInputStream entityStream) {
         this.ctx = ctx;
         this.headersFrame = headersFrame;
         this.container = container;
+        this.entityStream = entityStream;
     }
 
     @Override
@@ -185,12 +193,28 @@ class NettyHttp2ResponseWriter implements ContainerResponseWriter {
     @Override
     public void commit() {
         ctx.flush();
+        closeEntityStream();
     }
 
     @Override
     public void failure(Throwable error) {
         ctx.writeAndFlush(new DefaultHttp2Headers().status(HttpResponseStatus.INTERNAL_SERVER_ERROR.codeAsText()))
            .addListener(ChannelFutureListener.CLOSE);
+        closeEntityStream();
+    }
+
+    /**
+     * Release the not consumed part of the request entity and make sure the reading from the stream channel is not
+     * suspended.
+     */
+    private void closeEntityStream() {
+        if (entityStream != null) {
+            try {
+                entityStream.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Unable to close the request entity stream.", e);
+            }
+        }
     }
 
     @Override
@@ -40,6 +40,7 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +50,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
+import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerException;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
@@ -86,16 +88,19 @@ class NettyResponseWriter implements ContainerResponseWriter {
     private final ChannelHandlerContext ctx;
     private final HttpRequest req;
     private final NettyHttpContainer container;
+    private final NettyInputStream entityStream;
 
     private volatile ScheduledFuture<?> suspendTimeoutFuture;
     private volatile Runnable suspendTimeoutHandler;
 
     private boolean responseWritten = false;
 
-    NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container) {
+    NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container,
+                        NettyInputStream entityStream) {
         this.ctx = ctx;
         this.req = req;
         this.container = container;
+        this.entityStream = entityStream;
     }
 
     @Override
@@ -196,12 +201,28 @@ class NettyResponseWriter implements ContainerResponseWriter {
     @Override
     public void commit() {
         ctx.flush();
+        closeEntityStream();
     }
 
     @Override
     public void failure(Throwable error) {
         ctx.writeAndFlush(new DefaultFullHttpResponse(req.protocolVersion(), HttpResponseStatus.INTERNAL_SERVER_ERROR))
            .addListener(ChannelFutureListener.CLOSE);
+        closeEntityStream();
+    }
+
+    /**
+     * Release the not consumed part of the request entity and make sure the reading from the channel is not suspended,
+     * so that the next request on the connection can be received.
+     */
+    private void closeEntityStream() {
+        if (entityStream != null) {
+            try {
+                entityStream.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Unable to close the request entity stream.", e);
+            }
+        }
     }
 
     @Override
@@ -47,11 +47,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -63,6 +65,7 @@ import javax.ws.rs.ext.ReaderInterceptor;
 
 import org.glassfish.jersey.client.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.PropertiesDelegate;
+import org.glassfish.jersey.internal.jsr166.Flow;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 
 /**
@@ -80,7 +83,7 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
     private static final Logger LOGGER = Logger.getLogger(ChunkedInput.class.getName());
 
     private final AtomicBoolean closed = new AtomicBoolean(false);
-    private ChunkParser parser = createParser("\r\n");
+    private ChunkParser parser = createBufferedParser("\r\n");
     private MediaType mediaType;
 
     private final InputStream inputStream;
@@ -111,6 +114,40 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         return new FixedBoundaryParser(boundary);
     }
 
+    /**
+     * Create new chunk parser that will split the response entity input stream
+     * based on a fixed boundary string.
+     * <p>
+     * Unlike the parser created by {@link #createParser(String)}, the returned parser reads the input stream
+     * in large blocks and scans the read data for the boundary. Data read past the end of a chunk are kept
+     * for the next chunk, the parser is therefore stateful and must not be shared by multiple chunked inputs.
+     * </p>
+     *
+     * @param boundary chunk boundary.
+     * @return new buffered fixed boundary string-based chunk parser.
+     * @since 2.28
+     */
+    public static ChunkParser createBufferedParser(final String boundary) {
+        return new BufferedBoundaryParser(boundary.getBytes());
+    }
+
+    /**
+     * Create new chunk parser that will split the response entity input stream
+     * based on a fixed boundary sequence of bytes.
+     * <p>
+     * Unlike the parser created by {@link #createParser(byte[])}, the returned parser reads the input stream
+     * in large blocks and scans the read data for the boundary. Data read past the end of a chunk are kept
+     * for the next chunk, the parser is therefore stateful and must not be shared by multiple chunked inputs.
+     * </p>
+     *
+     * @param boundary chunk boundary.
+     * @return new buffered fixed boundary sequence-based chunk parser.
+     * @since 2.28
+     */
+    public static ChunkParser createBufferedParser(final byte[] boundary) {
+        return new BufferedBoundaryParser(boundary);
+    }
+
     /**
      * Create a new chunk multi-parser that will split the response entity input stream
      * based on multiple fixed boundary strings.
@@ -278,6 +315,126 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    /**
+     * Fixed boundary parser reading the input stream into a window buffer and scanning the buffered data
+     * for the boundary.
+     */
+    static final class BufferedBoundaryParser implements ChunkParser {
+
+        private static final int INITIAL_WINDOW_SIZE = 8192;
+
+        private final byte[] delimiter;
+
+        private byte[] window = new byte[INITIAL_WINDOW_SIZE];
+        // beginning of the data not returned yet
+        private int start;
+        // end of the buffered data
+        private int end;
+        // position the boundary search continues from
+        private int scanned;
+        private InputStream source;
+
+        BufferedBoundaryParser(final byte[] boundary) {
+            if (boundary.length == 0) {
+                throw new IllegalArgumentException(LocalizationMessages.CHUNKED_INPUT_BOUNDARY_EMPTY());
+            }
+            delimiter = Arrays.copyOf(boundary, boundary.length);
+        }
+
+        @Override
+        public byte[] readChunk(final InputStream in) throws IOException {
+            final ByteBuffer chunk = readChunkBuffer(in);
+            return chunk == null ? null : Arrays.copyOfRange(chunk.array(), chunk.position(), chunk.limit());
+        }
+
+        /**
+         * Read next chunk without copying it out of the window buffer.
+         * <p>
+         * The returned buffer is backed by the window buffer of the parser and its content is valid only until
+         * the next chunk is read.
+         * </p>
+         *
+         * @param in response entity input stream.
+         * @return next chunk data or {@code null} if no more chunks are available.
+         * @throws IOException in case reading from the response entity fails.
+         */
+        ByteBuffer readChunkBuffer(final InputStream in) throws IOException {
+            if (in != source) {
+                source = in;
+                start = 0;
+                end = 0;
+                scanned = 0;
+            }
+
+            while (true) {
+                final int found = indexOf(Math.max(start, scanned), end);
+                if (found >= 0) {
+                    final int chunkStart = start;
+                    start = found + delimiter.length;
+                    scanned = start;
+                    if (found > chunkStart) {
+                        return ByteBuffer.wrap(window, chunkStart, found - chunkStart);
+                    }
+                    // skip an empty chunk
+                    continue;
+                }
+
+                // the boundary may start in the last bytes of the buffered data
+                scanned = Math.max(start, end - delimiter.length + 1);
+                if (!fill(in)) {
+                    if (end > start) {
+                        final ByteBuffer chunk = ByteBuffer.wrap(window, start, end - start);
+                        start = end;
+                        scanned = end;
+                        return chunk;
+                    }
+                    return null;
+                }
+            }
+        }
+
+        private int indexOf(final int from, final int to) {
+            final byte first = delimiter[0];
+            final int last = to - delimiter.length;
+
+            outer:
+            for (int i = from; i <= last; i++) {
+                if (window[i] != first) {
+                    continue;
+                }
+                for (int j = 1; j < delimiter.length; j++) {
+                    if (window[i + j] != delimiter[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+
+        private boolean fill(final InputStream in) throws IOException {
+            if (end == window.length) {
+                final int length = end - start;
+                if (start == 0) {
+                    // the chunk does not fit into the window
+                    window = Arrays.copyOf(window, window.length * 2);
+                } else {
+                    System.arraycopy(window, start, window, 0, length);
+                    scanned -= start;
+                    start = 0;
+                    end = length;
+                }
+            }
+
+            final int read = in.read(window, end, window.length - end);
+            if (read < 0) {
+                return false;
+            }
+            end += read;
+            return true;
+        }
+    }
+
     private static class FixedMultiBoundaryParser extends AbstractBoundaryParser {
 
         private final List<byte[]> delimiters = new ArrayList<byte[]>();
@@ -492,11 +649,10 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         }
 
         try {
-            final byte[] chunk = parser.readChunk(inputStream);
-            if (chunk == null) {
+            final InputStream chunkStream = readChunk();
+            if (chunkStream == null) {
                 close();
             } else {
-                final ByteArrayInputStream chunkStream = new ByteArrayInputStream(chunk);
                 // TODO: add interceptors: interceptors are used in ChunkedOutput, so the stream should
                 // be intercepted in the ChunkedInput too. Interceptors cannot be easily added to the readFrom
                 // method as they should wrap the stream before it is processed by ChunkParser. Also please check todo
@@ -519,4 +675,55 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         }
         return null;
     }
+
+    private InputStream readChunk() throws IOException {
+        if (parser instanceof BufferedBoundaryParser && isReadEagerly(getRawType(), mediaType)) {
+            // the chunk is read before the next one is parsed, no need to copy it out of the parser buffer
+            final ByteBuffer chunk = ((BufferedBoundaryParser) parser).readChunkBuffer(inputStream);
+            return chunk == null ? null : new ByteArrayInputStream(chunk.array(), chunk.position(), chunk.remaining());
+        }
+
+        final byte[] chunk = parser.readChunk(inputStream);
+        return chunk == null ? null : new ByteArrayInputStream(chunk);
+    }
+
+    /**
+     * Check whether the chunks of given type are known to be fully read by the entity provider before the chunk
+     * instance is returned, i.e. whether the chunk stream may be backed by the reusable buffer of the chunk parser.
+     * <p>
+     * Only {@link String} and {@code byte[]} chunks and beans (non-JDK types) of a JSON or XML media type are read
+     * directly from the parser buffer, any other chunks (e.g. streams, readers, XML sources or files) are copied
+     * out of the buffer. Custom entity providers reading JSON or XML beans must consume the chunk stream eagerly.
+     * </p>
+     *
+     * @param rawType   raw chunk type.
+     * @param mediaType chunk media type.
+     * @return {@code true} if the chunk stream may be backed by the parser buffer, {@code false} otherwise.
+     */
+    private static boolean isReadEagerly(final Class<?> rawType, final MediaType mediaType) {
+        if (rawType == String.class || rawType == byte[].class) {
+            return true;
+        }
+        if (mediaType == null || rawType.isPrimitive() || rawType.isArray() || rawType.getName().startsWith("java")) {
+            return false;
+        }
+        final String subtype = mediaType.getSubtype();
+        return subtype.equals("json") || subtype.endsWith("+json") || subtype.equals("xml") || subtype.endsWith("+xml");
+    }
+
+    /**
+     * Get a reactive publisher of the chunks read from this chunked input.
+     * <p>
+     * The chunks are read in the given executor as the subscriber requests them, no chunk is read ahead of the
+     * subscriber demand. The publisher completes once the underlying entity input stream is fully consumed or closed.
+     * Cancelling the subscription closes this chunked input. The publisher supports only a single subscriber.
+     * </p>
+     *
+     * @param executor executor used to read the chunks and to signal the subscriber.
+     * @return publisher of the chunks.
+     * @since 2.28
+     */
+    public Flow.Publisher<T> toPublisher(final Executor executor) {
+        return new ChunkedInputPublisher<>(this, executor);
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+/**
+ * {@link Flow.Publisher} of the chunks read from a {@link ChunkedInput}.
+ * <p>
+ * Chunks are read only when demanded by the subscriber. The reading task is submitted to the executor when
+ * the demand becomes positive and runs until the demand is satisfied, so the subscriber is always signalled
+ * serially.
+ * </p>
+ *
+ * @param <T> chunk type.
+ */
+final class ChunkedInputPublisher<T> implements Flow.Publisher<T> {
+
+    private static final Flow.Subscription NO_OP_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(final long n) {
+            // do nothing
+        }
+
+        @Override
+        public void cancel() {
+            // do nothing
+        }
+    };
+
+    private final ChunkedInput<T> input;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * Create new chunked input publisher.
+     *
+     * @param input    chunked input to read the chunks from.
+     * @param executor executor used to read the chunks.
+     */
+    ChunkedInputPublisher(final ChunkedInput<T> input, final Executor executor) {
+        this.input = input;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(NO_OP_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException(LocalizationMessages.CHUNKED_INPUT_PUBLISHER_SUBSCRIBED()));
+            return;
+        }
+        subscriber.onSubscribe(new ChunkSubscription(subscriber));
+    }
+
+    /**
+     * Add two non-negative demands, capping the result at {@link Long#MAX_VALUE} ("unbounded" demand).
+     */
+    private static long addCapped(final long current, final long value) {
+        final long sum = current + value;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private final class ChunkSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        private ChunkSubscription(final Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            long requested = n;
+            if (requested <= 0) {
+                // reported by the reading task to keep the signals serial
+                invalidRequest = new IllegalArgumentException(LocalizationMessages.CHUNKED_INPUT_PUBLISHER_REQUEST_INVALID(n));
+                requested = 1;
+            }
+
+            if (demand.getAndAccumulate(requested, ChunkedInputPublisher::addCapped) == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                input.close();
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                if (cancelled) {
+                    return;
+                }
+
+                final Throwable failure = invalidRequest;
+                if (failure != null) {
+                    cancel();
+                    subscriber.onError(failure);
+                    return;
+                }
+
+                final T chunk;
+                try {
+                    chunk = input.isClosed() ? null : input.read();
+                } catch (final Throwable t) {
+                    if (!cancelled) {
+                        cancel();
+                        subscriber.onError(t);
+                    }
+                    return;
+                }
+
+                if (chunk == null) {
+                    if (!cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                subscriber.onNext(chunk);
+            } while (demand.decrementAndGet() > 0);
+        }
+    }
+}
@@ -149,6 +149,67 @@ public final class ClientProperties {
      */
     public static final String ASYNC_THREADPOOL_SIZE = "jersey.config.client.async.threadPoolSize";
 
+    /**
+     * If {@code true}, asynchronous and reactive ({@link javax.ws.rs.client.CompletionStageRxInvoker}) requests are
+     * processed without occupying a thread while waiting for the response, provided that the configured connector is
+     * a {@link org.glassfish.jersey.client.spi.NonBlockingConnector}.
+     * <p>
+     * In the non-blocking mode the request filters are executed and the request is handed over to the connector in
+     * the calling thread instead of the asynchronous client thread pool. The connector completes the request
+     * once the whole response entity has been received, so the response filters, interceptors and entity readers
+     * never wait for network I/O. Response entities are therefore fully buffered in memory, the mode is not suitable
+     * for large or infinite (streamed) response entities. The response is processed and the callbacks are invoked in
+     * the asynchronous client thread pool, never in the connector I/O threads. The property is ignored by connectors
+     * that do not support non-blocking processing.
+     * </p>
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Boolean}. The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String ASYNC_NON_BLOCKING = "jersey.config.client.async.nonBlocking";
+
+    /**
+     * If {@code true}, identical concurrent {@code GET} and {@code HEAD} requests are coalesced into a single request
+     * sent by the connector.
+     * <p>
+     * Requests are identical if they have the same method, URI and headers and no entity. While a request is in flight,
+     * any identical request (synchronous or asynchronous) waits for its response instead of being sent. The response entity
+     * is buffered in memory and every waiting request receives its own copy of the response. Responses with a streamed
+     * ({@code text/event-stream}), chunked or larger than 1 MiB entity are not shared, the waiting requests are then sent
+     * on their own. Request and response filters are executed for every request.
+     * </p>
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Boolean}. The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String REQUEST_COALESCING = "jersey.config.client.requestCoalescing";
+
+    /**
+     * If {@code true}, the {@link org.glassfish.jersey.client.monitoring.ClientMonitoringFeature} exposes the client
+     * monitoring statistics as {@link org.glassfish.jersey.client.monitoring.EndpointMXBean MXBeans}. The property
+     * overrides the {@link org.glassfish.jersey.client.monitoring.ClientMonitoringFeature#setmBeansEnabled(boolean)}
+     * setting and has no effect unless the feature is registered.
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Boolean}. The default value is not set.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String MONITORING_STATISTICS_MBEANS_ENABLED = "jersey.config.client.monitoring.statistics.mbeans.enabled";
+
     /**
      * Scheduler thread pool size.
      * <p>
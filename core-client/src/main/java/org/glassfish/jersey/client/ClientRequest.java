@@ -49,6 +49,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -105,6 +106,8 @@ public class ClientRequest extends OutboundMessageContext implements ClientReque
     private Iterable<ReaderInterceptor> readerInterceptors;
     // do not add user-agent header (if not directly set) to the request.
     private boolean ignoreUserAgent;
+    // URI template of the web target the request has been created from, resolved only if requested.
+    private Supplier<String> targetTemplate;
 
     private static final Logger LOGGER = Logger.getLogger(ClientRequest.class.getName());
 
@@ -140,6 +143,7 @@ public class ClientRequest extends OutboundMessageContext implements ClientReque
         this.writerInterceptors = original.writerInterceptors;
         this.propertiesDelegate = new MapPropertiesDelegate(original.propertiesDelegate);
         this.ignoreUserAgent = original.ignoreUserAgent;
+        this.targetTemplate = original.targetTemplate;
     }
 
     /**
@@ -639,4 +643,22 @@ public class ClientRequest extends OutboundMessageContext implements ClientReque
     public void ignoreUserAgent(final boolean ignore) {
         this.ignoreUserAgent = ignore;
     }
+
+    /**
+     * Set the supplier of the URI template of the web target this request has been created from.
+     *
+     * @param targetTemplate target URI template supplier.
+     */
+    void setTargetTemplate(final Supplier<String> targetTemplate) {
+        this.targetTemplate = targetTemplate;
+    }
+
+    /**
+     * Get the URI template of the web target this request has been created from.
+     *
+     * @return target URI template or {@code null} if the request has not been created from a web target.
+     */
+    String getTargetTemplate() {
+        return targetTemplate == null ? null : targetTemplate.get();
+    }
 }
@@ -59,8 +59,15 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.inject.Provider;
 
 import org.glassfish.jersey.client.internal.LocalizationMessages;
+import org.glassfish.jersey.client.internal.limiter.ConcurrencyLimiter;
+import org.glassfish.jersey.client.internal.limiter.ConcurrencyLimitingConnector;
+import org.glassfish.jersey.client.internal.loadbalancing.LoadBalancer;
+import org.glassfish.jersey.client.internal.loadbalancing.LoadBalancingConnector;
+import org.glassfish.jersey.client.internal.monitoring.ClientStatisticsImpl;
+import org.glassfish.jersey.client.internal.monitoring.MonitoringConnector;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
 import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.Version;
 import org.glassfish.jersey.internal.inject.InjectionManager;
@@ -90,6 +97,9 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     private final Stage<ClientResponse> responseProcessingRoot;
 
     private final Connector connector;
+    private final Connector transport;
+    private final boolean monitored;
+    private final NonBlockingConnector nonBlockingConnector;
     private final ClientConfig config;
 
     private final RequestScope requestScope;
@@ -129,6 +139,22 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
         this.managedObjectsFinalizer = bootstrapBag.getManagedObjectsFinalizer();
         this.config = config;
         this.connector = connector;
+        final Object statistics = config.getProperty(ClientStatisticsImpl.PROPERTY);
+        this.monitored = statistics instanceof ClientStatisticsImpl;
+        final Connector monitoredConnector = monitored
+                ? new MonitoringConnector(connector, (ClientStatisticsImpl) statistics) : connector;
+        final Object concurrencyLimiter = config.getProperty(ConcurrencyLimiter.PROPERTY);
+        final Connector limitedConnector = concurrencyLimiter instanceof ConcurrencyLimiter
+                ? new ConcurrencyLimitingConnector(monitoredConnector, (ConcurrencyLimiter) concurrencyLimiter, this)
+                : monitoredConnector;
+        final Object loadBalancer = config.getProperty(LoadBalancer.PROPERTY);
+        final Connector balancedConnector = loadBalancer instanceof LoadBalancer
+                ? new LoadBalancingConnector(limitedConnector, (LoadBalancer) loadBalancer, this) : limitedConnector;
+        this.transport = ClientProperties.getValue(config.getProperties(), ClientProperties.REQUEST_COALESCING, false,
+                Boolean.class) ? new CoalescingConnector(balancedConnector, this::submit) : balancedConnector;
+        this.nonBlockingConnector = connector instanceof NonBlockingConnector
+                && ClientProperties.getValue(config.getProperties(), ClientProperties.ASYNC_NON_BLOCKING, false, Boolean.class)
+                ? (NonBlockingConnector) transport : null;
         this.requestScope = bootstrapBag.getRequestScope();
         this.asyncRequestExecutor = Values.lazy((Value<ExecutorService>) () ->
                 config.getExecutorService() == null
@@ -175,22 +201,87 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
 
                     @Override
                     public void response(final ClientResponse response) {
-                        requestScope.runInScope(() -> processResponse(response, callback));
+                        complete(() -> processResponse(response, callback));
                     }
 
                     @Override
                     public void failure(final Throwable failure) {
-                        requestScope.runInScope(() -> processFailure(failure, callback));
+                        complete(() -> processFailure(failure, callback));
                     }
                 };
 
-                connector.apply(processedRequest, connectorCallback);
+                if (nonBlockingConnector != null) {
+                    nonBlockingConnector.applyNonBlocking(processedRequest, connectorCallback);
+                } else {
+                    transport.apply(processedRequest, connectorCallback);
+                }
             } catch (final Throwable throwable) {
                 processFailure(throwable, callback);
             }
         });
     }
 
+    /**
+     * Run the response processing task. In the {@link #isNonBlocking() non-blocking mode} the connector invokes the callbacks
+     * from its I/O threads, the response filters, readers and user callbacks are therefore run in the asynchronous client
+     * thread pool instead, so that they cannot block the connector.
+     *
+     * @param task response processing task.
+     */
+    private void complete(final Runnable task) {
+        if (nonBlockingConnector != null) {
+            submit(asyncRequestExecutor.get(), task);
+        } else {
+            requestScope.runInScope(task);
+        }
+    }
+
+    /**
+     * Attach the submission time and the URI template of the originating web target to a monitored request.
+     *
+     * @param request client request to be sent.
+     */
+    private static void markSubmitted(final ClientRequest request) {
+        request.setProperty(MonitoringConnector.SUBMITTED, System.nanoTime());
+        final String template = request.getTargetTemplate();
+        if (template != null) {
+            request.setProperty(MonitoringConnector.TARGET_TEMPLATE, template);
+        }
+    }
+
+    /**
+     * Submit a {@link ClientRequest client request} for asynchronous processing.
+     * <p>
+     * The request is processed in the asynchronous client thread pool unless the runtime works in the
+     * {@link #isNonBlocking() non-blocking mode}, in which case the request is processed and handed over to the connector
+     * in the calling thread.
+     * </p>
+     *
+     * @param request  client request to be sent.
+     * @param callback asynchronous response callback.
+     */
+    void submit(final ClientRequest request, final ResponseCallback callback) {
+        if (monitored) {
+            markSubmitted(request);
+        }
+        final Runnable task = createRunnableForAsyncProcessing(request, callback);
+        if (nonBlockingConnector != null) {
+            task.run();
+        } else {
+            submit(task);
+        }
+    }
+
+    /**
+     * Check whether the asynchronous requests are processed by a {@link NonBlockingConnector non-blocking connector}
+     * without occupying any thread while waiting for the response (see {@link ClientProperties#ASYNC_NON_BLOCKING}).
+     *
+     * @return {@code true} if the asynchronous requests are processed in the non-blocking mode.
+     */
+    boolean isNonBlocking() {
+        return nonBlockingConnector != null;
+    }
+
     @Override
     public <T> Future<T> submit(Callable<T> task) {
         return asyncRequestExecutor.get().submit(task);
@@ -272,10 +363,13 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
      * @throws javax.ws.rs.ProcessingException in case of an invocation failure.
      */
     public ClientResponse invoke(final ClientRequest request) {
+        if (monitored) {
+            markSubmitted(request);
+        }
         ClientResponse response;
         try {
             try {
-                response = connector.apply(addUserAgent(Stages.process(request, requestProcessingRoot), connector.getName()));
+                response = transport.apply(addUserAgent(Stages.process(request, requestProcessingRoot), connector.getName()));
             } catch (final AbortException aborted) {
                 response = aborted.getAbortResponse();
             }
@@ -340,7 +434,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
                 }
             } finally {
                 try {
-                    connector.close();
+                    transport.close();
                 } finally {
                     managedObjectsFinalizer.preDestroy();
                     injectionManager.shutdown();
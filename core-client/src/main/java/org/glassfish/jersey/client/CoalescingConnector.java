@@ -0,0 +1,322 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
+import org.glassfish.jersey.internal.util.collection.StringKeyIgnoreCaseMultivaluedMap;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
+/**
+ * Connector wrapper sending only one of the identical concurrent safe requests and sharing its buffered response
+ * with the others (see {@link ClientProperties#REQUEST_COALESCING}).
+ * <p>
+ * The wrapper implements {@link NonBlockingConnector}, the {@link #applyNonBlocking(ClientRequest, AsyncConnectorCallback)}
+ * method must be used only if the wrapped connector is a non-blocking connector too.
+ * </p>
+ */
+class CoalescingConnector implements NonBlockingConnector {
+
+    private final Connector connector;
+    private final Executor executor;
+    private final ConcurrentHashMap<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Create new coalescing connector.
+     *
+     * @param connector wrapped connector.
+     * @param executor  executor used to notify the callbacks of the coalesced asynchronous requests.
+     */
+    CoalescingConnector(final Connector connector, final Executor executor) {
+        this.connector = connector;
+        this.executor = executor;
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final String key = key(request);
+        if (key == null) {
+            return connector.apply(request);
+        }
+
+        final CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        final CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            final SharedResponse shared;
+            try {
+                shared = existing.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(e);
+            } catch (final ExecutionException e) {
+                throw processingException(e.getCause());
+            }
+            return shared == SharedResponse.NOT_SHARED ? connector.apply(request) : shared.toResponse(request);
+        }
+
+        final ClientResponse response;
+        final SharedResponse shared;
+        try {
+            response = connector.apply(request);
+            shared = SharedResponse.share(request, response);
+        } catch (final Throwable t) {
+            complete(key, flight, null, t);
+            throw processingException(t);
+        }
+        complete(key, flight, shared, null);
+        return shared == SharedResponse.NOT_SHARED ? response : shared.toResponse(request);
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, connector::apply);
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, ((NonBlockingConnector) connector)::applyNonBlocking);
+    }
+
+    private Future<?> apply(final ClientRequest request,
+                            final AsyncConnectorCallback callback,
+                            final BiFunction<ClientRequest, AsyncConnectorCallback, Future<?>> send) {
+        final String key = key(request);
+        if (key == null) {
+            return send.apply(request, callback);
+        }
+
+        final CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        final CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            // do not run the callbacks on the thread completing the shared request
+            return existing.whenCompleteAsync((shared, failure) -> {
+                if (failure != null) {
+                    callback.failure(failure instanceof CompletionException ? failure.getCause() : failure);
+                } else if (shared == SharedResponse.NOT_SHARED) {
+                    try {
+                        send.apply(request, callback);
+                    } catch (final Throwable t) {
+                        callback.failure(t);
+                    }
+                } else {
+                    callback.response(shared.toResponse(request));
+                }
+            }, executor);
+        }
+
+        try {
+            return send.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    // the response entity is buffered and the callback is invoked off the connector thread
+                    executor.execute(() -> {
+                        final SharedResponse shared;
+                        try {
+                            shared = SharedResponse.share(request, response);
+                        } catch (final Throwable t) {
+                            complete(key, flight, null, t);
+                            callback.failure(t);
+                            return;
+                        }
+                        complete(key, flight, shared, null);
+                        callback.response(shared == SharedResponse.NOT_SHARED ? response : shared.toResponse(request));
+                    });
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    complete(key, flight, null, failure);
+                    executor.execute(() -> callback.failure(failure));
+                }
+            });
+        } catch (final Throwable t) {
+            complete(key, flight, null, t);
+            throw t;
+        }
+    }
+
+    private void complete(final String key,
+                          final CompletableFuture<SharedResponse> flight,
+                          final SharedResponse shared,
+                          final Throwable failure) {
+        // identical requests arriving from now on are sent again
+        inFlight.remove(key, flight);
+        if (failure != null) {
+            flight.completeExceptionally(failure);
+        } else {
+            flight.complete(shared);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+
+    /**
+     * Get the coalescing key of the request.
+     *
+     * @param request client request.
+     * @return request key or {@code null} if the request must not be coalesced.
+     */
+    private static String key(final ClientRequest request) {
+        final String method = request.getMethod();
+        if (!(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) || request.hasEntity()) {
+            return null;
+        }
+
+        final StringBuilder key = new StringBuilder(method).append(' ').append(request.getUri());
+        final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.getStringHeaders());
+        for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+            key.append('\n').append(header.getKey().toLowerCase(Locale.ROOT)).append(':').append(header.getValue());
+        }
+        return key.toString();
+    }
+
+    private static ProcessingException processingException(final Throwable t) {
+        return t instanceof ProcessingException ? (ProcessingException) t : new ProcessingException(t.getMessage(), t);
+    }
+
+    /**
+     * Buffered response shared by the coalesced requests.
+     */
+    private static final class SharedResponse {
+
+        /**
+         * Maximum size of the response entity shared by the coalesced requests.
+         */
+        private static final int MAX_SHARED_ENTITY_SIZE = 1024 * 1024;
+
+        /**
+         * Marker of a response that has not been shared, the waiting requests have to be sent on their own.
+         */
+        private static final SharedResponse NOT_SHARED = new SharedResponse(null, null, null, null);
+
+        private final Response.StatusType status;
+        private final URI resolvedRequestUri;
+        private final MultivaluedMap<String, String> headers;
+        private final byte[] entity;
+
+        private SharedResponse(final Response.StatusType status,
+                               final URI resolvedRequestUri,
+                               final MultivaluedMap<String, String> headers,
+                               final byte[] entity) {
+            this.status = status;
+            this.resolvedRequestUri = resolvedRequestUri;
+            this.headers = headers;
+            this.entity = entity;
+        }
+
+        /**
+         * Buffer the response to be shared by the coalesced requests.
+         * <p>
+         * Responses with a streamed ({@code text/event-stream}), unknown (chunked) or too large entity are not buffered,
+         * they are returned to the request that has been sent only and the waiting requests are sent on their own.
+         * </p>
+         *
+         * @param request  sent request.
+         * @param response received response.
+         * @return shared response or {@link #NOT_SHARED} if the response must not be shared.
+         * @throws IOException in case the response entity cannot be read.
+         */
+        private static SharedResponse share(final ClientRequest request, final ClientResponse response) throws IOException {
+            final boolean head = HttpMethod.HEAD.equals(request.getMethod());
+            final int length = response.getLength();
+            if (!head && (length < 0 || length > MAX_SHARED_ENTITY_SIZE
+                    || MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(response.getMediaType()))) {
+                return NOT_SHARED;
+            }
+
+            final ByteArrayOutputStream entity = new ByteArrayOutputStream(head ? 0 : length);
+            if (!head && response.hasEntity()) {
+                try (InputStream entityStream = response.getEntityStream()) {
+                    ReaderWriter.writeTo(entityStream, entity);
+                }
+            } else {
+                response.close();
+            }
+
+            final MultivaluedMap<String, String> headers = new StringKeyIgnoreCaseMultivaluedMap<>();
+            headers.putAll(response.getHeaders());
+            return new SharedResponse(response.getStatusInfo(), response.getResolvedRequestUri(), headers,
+                                      entity.toByteArray());
+        }
+
+        private ClientResponse toResponse(final ClientRequest request) {
+            final ClientResponse response = new ClientResponse(status, request, resolvedRequestUri);
+            for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+                response.getHeaders().addAll(header.getKey(), header.getValue());
+            }
+            response.setEntityStream(new ByteArrayInputStream(entity));
+            return response;
+        }
+    }
+}
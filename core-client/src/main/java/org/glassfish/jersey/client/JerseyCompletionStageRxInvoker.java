@@ -43,14 +43,21 @@ package org.glassfish.jersey.client;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
 
 import javax.ws.rs.client.CompletionStageRxInvoker;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.SyncInvoker;
 import javax.ws.rs.core.GenericType;
 
 /**
  * Implementation of Reactive Invoker for {@code CompletionStage}.
+ * <p>
+ * If the client runtime works in the {@link ClientProperties#ASYNC_NON_BLOCKING non-blocking mode} the requests are
+ * submitted as asynchronous invocations and the returned stages are completed by the connector, no thread is blocked
+ * waiting for the response. Otherwise the synchronous invocation is executed in the executor service of the invoker.
+ * </p>
  *
  * @author Michal Gajdos
  * @since 2.26
@@ -62,20 +69,66 @@ public class JerseyCompletionStageRxInvoker extends AbstractRxInvoker<Completion
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> CompletionStage<T> method(final String name, final Entity<?> entity, final Class<T> responseType) {
         final ExecutorService executorService = getExecutorService();
 
+        final JerseyInvocation.Builder builder = nonBlockingBuilder();
+        if (builder != null) {
+            // JerseyInvocation futures are completable futures
+            return completeAsync((CompletableFuture<T>) builder.build(name, entity).submit(responseType), executorService);
+        }
+
         return executorService == null
                 ? CompletableFuture.supplyAsync(() -> getSyncInvoker().method(name, entity, responseType))
                 : CompletableFuture.supplyAsync(() -> getSyncInvoker().method(name, entity, responseType), executorService);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> CompletionStage<T> method(final String name, final Entity<?> entity, final GenericType<T> responseType) {
         final ExecutorService executorService = getExecutorService();
 
+        final JerseyInvocation.Builder builder = nonBlockingBuilder();
+        if (builder != null) {
+            // JerseyInvocation futures are completable futures
+            return completeAsync((CompletableFuture<T>) builder.build(name, entity).submit(responseType), executorService);
+        }
+
         return executorService == null
                 ? CompletableFuture.supplyAsync(() -> getSyncInvoker().method(name, entity, responseType))
                 : CompletableFuture.supplyAsync(() -> getSyncInvoker().method(name, entity, responseType), executorService);
     }
+
+    private JerseyInvocation.Builder nonBlockingBuilder() {
+        final SyncInvoker invoker = getSyncInvoker();
+        if (invoker instanceof JerseyInvocation.Builder) {
+            final JerseyInvocation.Builder builder = (JerseyInvocation.Builder) invoker;
+            if (builder.request().getClientRuntime().isNonBlocking()) {
+                return builder;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Complete the returned stage in the executor service (or in the default asynchronous execution facility of
+     * {@link CompletableFuture} if there is none) so that the dependent stages are not executed by the client threads.
+     */
+    private static <T> CompletionStage<T> completeAsync(final CompletableFuture<T> future, final ExecutorService executor) {
+        final CompletableFuture<T> stage = new CompletableFuture<>();
+        final BiConsumer<T, Throwable> complete = (value, failure) -> {
+            if (failure != null) {
+                stage.completeExceptionally(failure);
+            } else {
+                stage.complete(value);
+            }
+        };
+        if (executor == null) {
+            future.whenCompleteAsync(complete);
+        } else {
+            future.whenCompleteAsync(complete, executor);
+        }
+        return stage;
+    }
 }
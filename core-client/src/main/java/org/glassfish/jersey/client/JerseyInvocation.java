@@ -115,6 +115,18 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
         this.copyRequestContext = copyRequestContext;
     }
 
+    /**
+     * Create new single-use invocation of the given request. The request is not copied.
+     *
+     * @param requestContext request to be invoked.
+     */
+    JerseyInvocation(final ClientRequest requestContext) {
+        validateHttpMethodAndEntity(requestContext);
+
+        this.requestContext = requestContext;
+        this.copyRequestContext = false;
+    }
+
     private enum EntityPresence {
         MUST_BE_NULL,
         MUST_BE_PRESENT,
@@ -798,7 +810,7 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
     public Future<Response> submit() {
         final CompletableFuture<Response> responseFuture = new CompletableFuture<>();
         final ClientRuntime runtime = request().getClientRuntime();
-        runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext), new ResponseCallback() {
+        runtime.submit(requestForCall(requestContext), new ResponseCallback() {
 
             @Override
             public void completed(final ClientResponse response, final RequestScope scope) {
@@ -815,7 +827,7 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
                     responseFuture.completeExceptionally(error);
                 }
             }
-        }));
+        });
 
         return responseFuture;
     }
@@ -828,7 +840,7 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
         final CompletableFuture<T> responseFuture = new CompletableFuture<>();
         //noinspection Duplicates
         final ClientRuntime runtime = request().getClientRuntime();
-        runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext), new ResponseCallback() {
+        runtime.submit(requestForCall(requestContext), new ResponseCallback() {
 
             @Override
             public void completed(final ClientResponse response, final RequestScope scope) {
@@ -854,7 +866,7 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
                     responseFuture.completeExceptionally(error);
                 }
             }
-        }));
+        });
 
         return responseFuture;
     }
@@ -892,7 +904,7 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
         final CompletableFuture<T> responseFuture = new CompletableFuture<>();
         //noinspection Duplicates
         final ClientRuntime runtime = request().getClientRuntime();
-        runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext), new ResponseCallback() {
+        runtime.submit(requestForCall(requestContext), new ResponseCallback() {
 
             @Override
             public void completed(final ClientResponse response, final RequestScope scope) {
@@ -919,7 +931,7 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
                     responseFuture.completeExceptionally(error);
                 }
             }
-        }));
+        });
 
         return responseFuture;
     }
@@ -1032,7 +1044,7 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
                 }
             };
             final ClientRuntime runtime = request().getClientRuntime();
-            runtime.submit(runtime.createRunnableForAsyncProcessing(requestForCall(requestContext), responseCallback));
+            runtime.submit(requestForCall(requestContext), responseCallback);
         } catch (final Throwable error) {
             final ProcessingException ce;
             //noinspection ChainOfInstanceofChecks
@@ -50,6 +50,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriBuilder;
 
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.uri.internal.JerseyUriBuilder;
 
 /**
  * Jersey implementation of {@link javax.ws.rs.client.WebTarget JAX-RS client target}
@@ -61,6 +62,14 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
 
     private final ClientConfig config;
     private final UriBuilder targetUri;
+    /**
+     * Target with unresolved template variables this target has been derived from, {@code null} for the original target.
+     */
+    private final JerseyWebTarget unresolved;
+    /**
+     * URI template of the target, computed lazily.
+     */
+    private volatile String template;
 
     /**
      * Create new web target instance.
@@ -113,6 +122,21 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
         this(uriBuilder, that.config);
     }
 
+    /**
+     * Create new web target instance with resolved template variables.
+     *
+     * @param uriBuilder builder for the target URI.
+     * @param that       original target to copy the internal data from.
+     * @param unresolved target with unresolved template variables.
+     */
+    private JerseyWebTarget(UriBuilder uriBuilder, JerseyWebTarget that, JerseyWebTarget unresolved) {
+        that.config.checkClient();
+
+        this.targetUri = uriBuilder;
+        this.config = that.config.snapshot();
+        this.unresolved = unresolved;
+    }
+
     /**
      * Create new web target instance.
      *
@@ -124,6 +148,7 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
 
         this.targetUri = uriBuilder;
         this.config = clientConfig.snapshot();
+        this.unresolved = null;
     }
 
     @Override
@@ -212,13 +237,13 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
     @Override
     public JerseyInvocation.Builder request() {
         checkNotClosed();
-        return new JerseyInvocation.Builder(getUri(), config.snapshot());
+        return newBuilder();
     }
 
     @Override
     public JerseyInvocation.Builder request(String... acceptedResponseTypes) {
         checkNotClosed();
-        JerseyInvocation.Builder b = new JerseyInvocation.Builder(getUri(), config.snapshot());
+        JerseyInvocation.Builder b = newBuilder();
         b.request().accept(acceptedResponseTypes);
         return b;
     }
@@ -226,11 +251,57 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
     @Override
     public JerseyInvocation.Builder request(MediaType... acceptedResponseTypes) {
         checkNotClosed();
-        JerseyInvocation.Builder b = new JerseyInvocation.Builder(getUri(), config.snapshot());
+        JerseyInvocation.Builder b = newBuilder();
         b.request().accept(acceptedResponseTypes);
         return b;
     }
 
+    /**
+     * Prepare a reusable invocation of the target resource.
+     * <p>
+     * Unlike the {@link #request() request builders}, the prepared invocation is created from the target URI template,
+     * the template values are bound on each invocation. The URI template is parsed and the client runtime is initialized
+     * only once, which makes prepared invocations suitable for frequently repeated requests.
+     * </p>
+     *
+     * @param method HTTP method of the prepared request.
+     * @return prepared invocation of the target resource.
+     * @since 2.28
+     */
+    public PreparedInvocation prepare(String method) {
+        checkNotClosed();
+        final JerseyUriBuilder uriBuilder = targetUri instanceof JerseyUriBuilder
+                ? (JerseyUriBuilder) targetUri : new JerseyUriBuilder().uri(template());
+        return new PreparedInvocation(uriBuilder.prepare(), template(), method, config.snapshot());
+    }
+
+    private JerseyInvocation.Builder newBuilder() {
+        final JerseyInvocation.Builder builder = new JerseyInvocation.Builder(getUri(), config.snapshot());
+        builder.request().setTargetTemplate(this::template);
+        return builder;
+    }
+
+    /**
+     * Get the URI template of the target before any template variable has been resolved.
+     *
+     * @return target URI template.
+     */
+    private String template() {
+        if (unresolved != null) {
+            return unresolved.template();
+        }
+        String result = template;
+        if (result == null) {
+            result = targetUri.toTemplate();
+            template = result;
+        }
+        return result;
+    }
+
+    private JerseyWebTarget unresolved() {
+        return unresolved != null ? unresolved : this;
+    }
+
     @Override
     public JerseyWebTarget resolveTemplate(String name, Object value) throws NullPointerException {
         return resolveTemplate(name, value, true);
@@ -242,7 +313,7 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
         Preconditions.checkNotNull(name, "name is 'null'.");
         Preconditions.checkNotNull(value, "value is 'null'.");
 
-        return new JerseyWebTarget(getUriBuilder().resolveTemplate(name, value, encodeSlashInPath), this);
+        return new JerseyWebTarget(getUriBuilder().resolveTemplate(name, value, encodeSlashInPath), this, unresolved());
     }
 
     @Override
@@ -252,7 +323,7 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
         Preconditions.checkNotNull(name, "name is 'null'.");
         Preconditions.checkNotNull(value, "value is 'null'.");
 
-        return new JerseyWebTarget(getUriBuilder().resolveTemplateFromEncoded(name, value), this);
+        return new JerseyWebTarget(getUriBuilder().resolveTemplateFromEncoded(name, value), this, unresolved());
     }
 
     @Override
@@ -269,7 +340,7 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
         if (templateValues.isEmpty()) {
             return this;
         } else {
-            return new JerseyWebTarget(getUriBuilder().resolveTemplates(templateValues, encodeSlashInPath), this);
+            return new JerseyWebTarget(getUriBuilder().resolveTemplates(templateValues, encodeSlashInPath), this, unresolved());
         }
     }
 
@@ -282,7 +353,7 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
         if (templateValues.isEmpty()) {
             return this;
         } else {
-            return new JerseyWebTarget(getUriBuilder().resolveTemplatesFromEncoded(templateValues), this);
+            return new JerseyWebTarget(getUriBuilder().resolveTemplatesFromEncoded(templateValues), this, unresolved());
         }
     }
 
@@ -0,0 +1,282 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.uri.internal.PreparedUriTemplate;
+
+/**
+ * Reusable client request prepared in advance for repeated invocations.
+ * <p>
+ * The request URI template, the HTTP method, the request headers and properties are resolved once when the prepared
+ * invocation is created, the client runtime (including the filter and interceptor chains) is initialized eagerly.
+ * Each invocation then only binds the template values and the optional entity:
+ * </p>
+ * <pre>
+ * PreparedInvocation getItem = client.target("http://example.com/items/{id}")
+ *         .prepare(HttpMethod.GET)
+ *         .accept(MediaType.APPLICATION_JSON_TYPE);
+ *
+ * Item item = getItem.invoke(Item.class, 42);
+ * </pre>
+ * <p>
+ * Prepared invocations are immutable and can be shared by multiple threads. The methods modifying the request
+ * return a new prepared invocation.
+ * </p>
+ *
+ * @since 2.28
+ */
+public final class PreparedInvocation {
+
+    private final PreparedUriTemplate uriTemplate;
+    private final ClientRequest requestContext;
+
+    /**
+     * Create new prepared invocation.
+     *
+     * @param uriTemplate    prepared target URI template.
+     * @param template       target URI template string.
+     * @param method         HTTP method.
+     * @param configuration  target configuration.
+     */
+    PreparedInvocation(final PreparedUriTemplate uriTemplate,
+                       final String template,
+                       final String method,
+                       final ClientConfig configuration) {
+        this.uriTemplate = uriTemplate;
+        this.requestContext = new ClientRequest(null, configuration, new MapPropertiesDelegate());
+        requestContext.setMethod(method);
+        requestContext.setTargetTemplate(() -> template);
+        // initialize the request processing chain in advance
+        requestContext.getClientRuntime();
+    }
+
+    private PreparedInvocation(final PreparedInvocation that) {
+        this.uriTemplate = that.uriTemplate;
+        this.requestContext = new ClientRequest(that.requestContext);
+    }
+
+    /**
+     * Get the names of the URI template variables in the order in which the template values are bound.
+     *
+     * @return unique template variable names.
+     */
+    public List<String> getTemplateVariables() {
+        return uriTemplate.getTemplateVariables();
+    }
+
+    /**
+     * Add the accepted response media types.
+     *
+     * @param mediaTypes accepted response media types.
+     * @return new prepared invocation with updated request headers.
+     */
+    public PreparedInvocation accept(final String... mediaTypes) {
+        final PreparedInvocation result = new PreparedInvocation(this);
+        result.requestContext.accept(mediaTypes);
+        return result;
+    }
+
+    /**
+     * Add the accepted response media types.
+     *
+     * @param mediaTypes accepted response media types.
+     * @return new prepared invocation with updated request headers.
+     */
+    public PreparedInvocation accept(final MediaType... mediaTypes) {
+        final PreparedInvocation result = new PreparedInvocation(this);
+        result.requestContext.accept(mediaTypes);
+        return result;
+    }
+
+    /**
+     * Add an arbitrary header.
+     *
+     * @param name  the name of the header.
+     * @param value the value of the header, the header will be removed if the value is {@code null}.
+     * @return new prepared invocation with updated request headers.
+     */
+    public PreparedInvocation header(final String name, final Object value) {
+        final PreparedInvocation result = new PreparedInvocation(this);
+        final MultivaluedMap<String, Object> headers = result.requestContext.getHeaders();
+
+        if (value == null) {
+            headers.remove(name);
+        } else {
+            headers.add(name, value);
+        }
+
+        if (HttpHeaders.USER_AGENT.equalsIgnoreCase(name)) {
+            result.requestContext.ignoreUserAgent(value == null);
+        }
+        return result;
+    }
+
+    /**
+     * Set a request property.
+     *
+     * @param name  property name.
+     * @param value property value, the property will be removed if the value is {@code null}.
+     * @return new prepared invocation with updated request properties.
+     */
+    public PreparedInvocation property(final String name, final Object value) {
+        final PreparedInvocation result = new PreparedInvocation(this);
+        if (value == null) {
+            result.requestContext.removeProperty(name);
+        } else {
+            result.requestContext.setProperty(name, value);
+        }
+        return result;
+    }
+
+    /**
+     * Invoke the request.
+     *
+     * @param templateValues URI template values, bound in the order of the {@link #getTemplateVariables() template variables}.
+     * @return response.
+     * @throws ProcessingException in case the invocation processing has failed.
+     */
+    public Response invoke(final Object... templateValues) throws ProcessingException {
+        return invocation(null, templateValues).invoke();
+    }
+
+    /**
+     * Invoke the request and read the response entity.
+     *
+     * @param responseType   Java type the response entity will be converted to.
+     * @param templateValues URI template values, bound in the order of the {@link #getTemplateVariables() template variables}.
+     * @param <T>            response entity type.
+     * @return response entity.
+     * @throws ProcessingException     in case the invocation processing has failed.
+     * @throws WebApplicationException in case the response status code of the response is not successful.
+     */
+    public <T> T invoke(final Class<T> responseType, final Object... templateValues)
+            throws ProcessingException, WebApplicationException {
+        return invocation(null, templateValues).invoke(responseType);
+    }
+
+    /**
+     * Invoke the request and read the response entity.
+     *
+     * @param responseType   Java type the response entity will be converted to.
+     * @param templateValues URI template values, bound in the order of the {@link #getTemplateVariables() template variables}.
+     * @param <T>            response entity type.
+     * @return response entity.
+     * @throws ProcessingException     in case the invocation processing has failed.
+     * @throws WebApplicationException in case the response status code of the response is not successful.
+     */
+    public <T> T invoke(final GenericType<T> responseType, final Object... templateValues)
+            throws ProcessingException, WebApplicationException {
+        return invocation(null, templateValues).invoke(responseType);
+    }
+
+    /**
+     * Invoke the request with an entity and read the response entity.
+     *
+     * @param entity         request entity.
+     * @param responseType   Java type the response entity will be converted to.
+     * @param templateValues URI template values, bound in the order of the {@link #getTemplateVariables() template variables}.
+     * @param <T>            response entity type.
+     * @return response entity.
+     * @throws ProcessingException     in case the invocation processing has failed.
+     * @throws WebApplicationException in case the response status code of the response is not successful.
+     */
+    public <T> T invoke(final Entity<?> entity, final Class<T> responseType, final Object... templateValues)
+            throws ProcessingException, WebApplicationException {
+        return invocation(entity, templateValues).invoke(responseType);
+    }
+
+    /**
+     * Invoke the request with URI template values bound by name.
+     *
+     * @param entity         request entity, may be {@code null}.
+     * @param templateValues map of the URI template variable names to the template values.
+     * @return response.
+     * @throws ProcessingException in case the invocation processing has failed.
+     */
+    public Response invoke(final Entity<?> entity, final Map<String, ?> templateValues) throws ProcessingException {
+        return invocation(entity, uriTemplate.buildFromMap(templateValues)).invoke();
+    }
+
+    /**
+     * Submit the request for asynchronous invocation.
+     *
+     * @param callback       invocation callback.
+     * @param templateValues URI template values, bound in the order of the {@link #getTemplateVariables() template variables}.
+     * @param <T>            response entity type.
+     * @return future response entity.
+     */
+    public <T> Future<T> submit(final InvocationCallback<T> callback, final Object... templateValues) {
+        return invocation(null, templateValues).submit(callback);
+    }
+
+    private JerseyInvocation invocation(final Entity<?> entity, final Object[] templateValues) {
+        return invocation(entity, uriTemplate.build(templateValues));
+    }
+
+    private JerseyInvocation invocation(final Entity<?> entity, final URI uri) {
+        requestContext.getClientConfig().getClient().checkNotClosed();
+
+        final ClientRequest request = new ClientRequest(requestContext);
+        request.setUri(uri);
+        if (entity != null) {
+            request.variant(entity.getVariant());
+            request.setEntity(entity.getEntity());
+            request.setEntityAnnotations(entity.getAnnotations());
+        }
+        return new JerseyInvocation(request);
+    }
+}
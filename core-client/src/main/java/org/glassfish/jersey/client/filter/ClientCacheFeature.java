@@ -0,0 +1,120 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.filter;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+/**
+ * Feature that enables a private in-memory HTTP cache on the client side.
+ * <p>
+ * The cache follows the RFC 7234 semantics of a private cache for {@code GET} requests:
+ * <ul>
+ * <li>Responses with status code cacheable by default (e.g. {@code 200}, {@code 203}, {@code 301} or {@code 404}) are
+ * stored unless the request or the response contains the {@code no-store} directive or the response varies on all
+ * request headers ({@code Vary: *}). Responses to requests with an {@code Authorization} header are stored only if
+ * explicitly allowed by the {@code public}, {@code must-revalidate} or {@code s-maxage} directives.</li>
+ * <li>Fresh responses (according to the {@code max-age} directive or the {@code Expires} header) are served from the
+ * cache without sending the request to the {@link org.glassfish.jersey.client.spi.Connector connector}.</li>
+ * <li>Stale responses with an entity tag or a last modification date are revalidated using the {@code If-None-Match}
+ * and {@code If-Modified-Since} conditional headers, a {@code 304 Not Modified} response is then replaced by
+ * the cached response.</li>
+ * <li>The {@code no-cache}, {@code max-age} and {@code only-if-cached} request directives are honored.</li>
+ * <li>Successful responses to unsafe requests ({@code POST}, {@code PUT}, {@code DELETE}, ...) invalidate the cached
+ * response for the request URI.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The cache is bounded by the number of entries and by the total size of the cached entities, the least recently used
+ * entries are evicted first. Each client runtime configured with the feature uses its own cache.
+ * </p>
+ *
+ * @since 2.28
+ */
+public class ClientCacheFeature implements Feature {
+
+    /**
+     * Default maximal number of cached responses.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * Default maximal total size of the cached entities in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Priority of the cache filter. The filter is executed as the last request filter so that it sees the request
+     * as sent to the connector and as the first response filter.
+     */
+    static final int PRIORITY = Integer.MAX_VALUE;
+
+    private final int maxEntries;
+    private final long maxSize;
+
+    /**
+     * Create a new instance of the feature with the {@link #DEFAULT_MAX_ENTRIES default number of entries}
+     * and the {@link #DEFAULT_MAX_SIZE default size} of the cache.
+     */
+    public ClientCacheFeature() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a new instance of the feature.
+     *
+     * @param maxEntries maximal number of cached responses.
+     * @param maxSize    maximal total size of the cached entities in bytes. Larger entities are not cached.
+     */
+    public ClientCacheFeature(final int maxEntries, final long maxSize) {
+        if (maxEntries <= 0 || maxSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        context.register(new ResponseCacheFilter(new ResponseCache(maxEntries, maxSize)), PRIORITY);
+        return true;
+    }
+}
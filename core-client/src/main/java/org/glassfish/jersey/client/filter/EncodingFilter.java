@@ -42,7 +42,9 @@ package org.glassfish.jersey.client.filter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.logging.Logger;
@@ -57,6 +59,7 @@ import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.message.internal.Quality;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
@@ -64,7 +67,9 @@ import org.glassfish.jersey.spi.ContentEncoder;
  * list of supported encodings to the Accept-Header values.
  * Supported encodings are determined by looking
  * up all the {@link org.glassfish.jersey.spi.ContentEncoder} implementations registered in the corresponding
- * {@link ClientConfig client configuration}.
+ * {@link ClientConfig client configuration}. An encoding with a
+ * {@link org.glassfish.jersey.spi.ContentEncoder#getQuality(String) quality} lower than the maximum is listed with
+ * the corresponding quality parameter.
  * <p>
  * If {@link ClientProperties#USE_ENCODING} client property is set, the filter will add Content-Encoding header with
  * the value of the property, unless Content-Encoding header has already been set.
@@ -76,6 +81,7 @@ public final class EncodingFilter implements ClientRequestFilter {
     @Inject
     private InjectionManager injectionManager;
     private volatile List<Object> supportedEncodings = null;
+    private volatile List<Object> acceptedEncodings = null;
 
     @Override
     public void filter(ClientRequestContext request) throws IOException {
@@ -83,7 +89,7 @@ public final class EncodingFilter implements ClientRequestFilter {
             return;
         }
 
-        request.getHeaders().addAll(HttpHeaders.ACCEPT_ENCODING, getSupportedEncodings());
+        request.getHeaders().addAll(HttpHeaders.ACCEPT_ENCODING, acceptedEncodings);
 
         String useEncoding = (String) request.getConfiguration().getProperty(ClientProperties.USE_ENCODING);
         if (useEncoding != null) {
@@ -105,10 +111,21 @@ public final class EncodingFilter implements ClientRequestFilter {
         // may be set twice, but it does not break anything
         if (supportedEncodings == null) {
             SortedSet<String> se = new TreeSet<>();
+            Map<String, Integer> qualities = new HashMap<>();
             List<ContentEncoder> encoders = injectionManager.getAllInstances(ContentEncoder.class);
             for (ContentEncoder encoder : encoders) {
                 se.addAll(encoder.getSupportedEncodings());
+                for (String encoding : encoder.getSupportedEncodings()) {
+                    int quality = Math.max(Quality.MINIMUM + 1, Math.min(Quality.MAXIMUM, encoder.getQuality(encoding)));
+                    qualities.merge(encoding, quality, Math::max);
+                }
+            }
+            List<Object> ae = new ArrayList<>(se.size());
+            for (String encoding : se) {
+                int quality = qualities.get(encoding);
+                ae.add(quality == Quality.DEFAULT ? encoding : encoding + ";q=" + (quality / 1000f));
             }
+            acceptedEncodings = ae;
             supportedEncodings = new ArrayList<>(se);
         }
         return supportedEncodings;
@@ -0,0 +1,195 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.filter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Bounded in-memory store of cached responses used by the {@link ResponseCacheFilter}.
+ * <p>
+ * The store is limited by the number of entries and by the total size of the cached entities, the least recently
+ * used entries are evicted first.
+ * </p>
+ */
+final class ResponseCache {
+
+    private final int maxEntries;
+    private final long maxSize;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size = 0;
+
+    /**
+     * Create new response cache.
+     *
+     * @param maxEntries maximal number of entries.
+     * @param maxSize    maximal total size of the cached entities in bytes.
+     */
+    ResponseCache(final int maxEntries, final long maxSize) {
+        this.maxEntries = maxEntries;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the maximal size of a single cached entity.
+     *
+     * @return maximal entity size in bytes.
+     */
+    long maxEntitySize() {
+        return maxSize;
+    }
+
+    /**
+     * Get the cached response.
+     *
+     * @param key cache key.
+     * @return cached response or {@code null}.
+     */
+    synchronized Entry get(final String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Store a response, the previously cached response for the key is replaced.
+     *
+     * @param key   cache key.
+     * @param entry response to be cached.
+     */
+    synchronized void put(final String key, final Entry entry) {
+        final Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            size -= previous.entity.length;
+        }
+        size += entry.entity.length;
+
+        final Iterator<Entry> eldest = entries.values().iterator();
+        while ((size > maxSize || entries.size() > maxEntries) && eldest.hasNext()) {
+            size -= eldest.next().entity.length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Remove the cached response.
+     *
+     * @param key cache key.
+     */
+    synchronized void remove(final String key) {
+        final Entry previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.entity.length;
+        }
+    }
+
+    /**
+     * Cached response.
+     */
+    static final class Entry {
+
+        final int status;
+        final String reasonPhrase;
+        final MultivaluedMap<String, String> headers;
+        final byte[] entity;
+        /**
+         * Values of the request headers the response varies on (lower case header name to the header value).
+         */
+        final Map<String, String> vary;
+        /**
+         * Time the response has been received at.
+         */
+        final long responseTime;
+        /**
+         * Age of the response at the time it has been received.
+         */
+        final long initialAge;
+        /**
+         * Freshness lifetime of the response.
+         */
+        final long freshnessLifetime;
+        /**
+         * {@code true} if the response must be revalidated before it is used.
+         */
+        final boolean noCache;
+
+        Entry(final int status,
+              final String reasonPhrase,
+              final MultivaluedMap<String, String> headers,
+              final byte[] entity,
+              final Map<String, String> vary,
+              final long responseTime,
+              final long initialAge,
+              final long freshnessLifetime,
+              final boolean noCache) {
+            this.status = status;
+            this.reasonPhrase = reasonPhrase;
+            this.headers = headers;
+            this.entity = entity;
+            this.vary = vary;
+            this.responseTime = responseTime;
+            this.initialAge = initialAge;
+            this.freshnessLifetime = freshnessLifetime;
+            this.noCache = noCache;
+        }
+
+        /**
+         * Get the current age of the response.
+         *
+         * @param now current time in milliseconds.
+         * @return current age in milliseconds.
+         */
+        long age(final long now) {
+            return initialAge + Math.max(0, now - responseTime);
+        }
+
+        /**
+         * Check whether the response can be revalidated using a conditional request.
+         *
+         * @return {@code true} if the response has an entity tag or a last modification date.
+         */
+        boolean hasValidator() {
+            return headers.containsKey("ETag") || headers.containsKey("Last-Modified");
+        }
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.internal.util.collection.StringKeyIgnoreCaseMultivaluedMap;
+import org.glassfish.jersey.message.internal.HttpDateFormat;
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * Client filter implementing a private HTTP cache, see {@link ClientCacheFeature}.
+ * <p>
+ * The request filter either aborts the request with a fresh cached response or adds the conditional headers
+ * to revalidate a stale one. The response filter stores the cacheable responses and replaces {@code 304 Not Modified}
+ * responses to the revalidation requests by the cached responses.
+ * </p>
+ */
+final class ResponseCacheFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final String CACHED_ENTRY = ResponseCacheFilter.class.getName() + ".cached";
+    private static final String REVALIDATED_ENTRY = ResponseCacheFilter.class.getName() + ".revalidated";
+
+    private static final String AGE = "Age";
+    private static final String PRAGMA = "Pragma";
+    private static final String NO_CACHE = "no-cache";
+    private static final String ONLY_IF_CACHED = "only-if-cached";
+
+    /**
+     * Status codes cacheable by default (RFC 7231, section 6.1).
+     */
+    private static final Set<Integer> CACHEABLE_STATUS_CODES = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(200, 203, 204, 300, 301, 404, 405, 410, 414, 501)));
+
+    private static final Set<String> SAFE_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, "TRACE")));
+
+    private final ResponseCache cache;
+
+    /**
+     * Create new cache filter.
+     *
+     * @param cache response store.
+     */
+    ResponseCacheFilter(final ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return;
+        }
+
+        final CacheControl cacheControl = cacheControl(request.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        if (cacheControl != null && cacheControl.isNoStore()) {
+            return;
+        }
+
+        final boolean onlyIfCached = cacheControl != null && cacheControl.getCacheExtension().containsKey(ONLY_IF_CACHED);
+        final ResponseCache.Entry entry = cache.get(key(request));
+        if (entry == null || !varyMatches(entry, request)) {
+            if (onlyIfCached) {
+                request.abortWith(Response.status(Response.Status.GATEWAY_TIMEOUT).build());
+            }
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        if (isFresh(entry, cacheControl, request, now)) {
+            request.setProperty(CACHED_ENTRY, entry);
+            request.abortWith(toResponse(entry, now));
+            return;
+        }
+
+        if (onlyIfCached) {
+            request.abortWith(Response.status(Response.Status.GATEWAY_TIMEOUT).build());
+            return;
+        }
+
+        final MultivaluedMap<String, Object> headers = request.getHeaders();
+        if (entry.hasValidator()
+                && !headers.containsKey(HttpHeaders.IF_NONE_MATCH) && !headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE)) {
+            final String entityTag = header(entry.headers, HttpHeaders.ETAG);
+            if (entityTag != null) {
+                headers.putSingle(HttpHeaders.IF_NONE_MATCH, entityTag);
+            }
+            final String lastModified = header(entry.headers, HttpHeaders.LAST_MODIFIED);
+            if (lastModified != null) {
+                headers.putSingle(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+            request.setProperty(REVALIDATED_ENTRY, entry);
+        }
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request, final ClientResponseContext response) throws IOException {
+        final ResponseCache.Entry cached = (ResponseCache.Entry) request.getProperty(CACHED_ENTRY);
+        if (cached != null) {
+            // response served from the cache by the request filter
+            request.removeProperty(CACHED_ENTRY);
+            response.setEntityStream(new ByteArrayInputStream(cached.entity));
+            return;
+        }
+
+        final String key = key(request);
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            if (response.getStatus() < 400) {
+                // RFC 7234, section 4.4
+                cache.remove(key);
+            }
+            return;
+        }
+
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final ResponseCache.Entry revalidated = (ResponseCache.Entry) request.getProperty(REVALIDATED_ENTRY);
+        if (revalidated != null) {
+            request.removeProperty(REVALIDATED_ENTRY);
+
+            if (response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                notModified(request, response, key, revalidated, now);
+                return;
+            }
+        }
+
+        store(request, response, key, now);
+    }
+
+    /**
+     * Update the cached response with the headers of the {@code 304} response and use it as the response.
+     */
+    private void notModified(final ClientRequestContext request,
+                             final ClientResponseContext response,
+                             final String key,
+                             final ResponseCache.Entry revalidated,
+                             final long now) {
+        final MultivaluedMap<String, String> headers = copy(revalidated.headers);
+        for (final Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+
+        final ResponseCache.Entry updated = entry(request, revalidated.status, revalidated.reasonPhrase, headers,
+                                                  revalidated.entity, now);
+        if (updated != null) {
+            cache.put(key, updated);
+        } else {
+            cache.remove(key);
+        }
+
+        response.setStatusInfo(Statuses.from(revalidated.status, revalidated.reasonPhrase));
+        response.getHeaders().clear();
+        response.getHeaders().putAll(copy(headers));
+        response.setEntityStream(new ByteArrayInputStream(revalidated.entity));
+    }
+
+    /**
+     * Store the response if it is cacheable.
+     */
+    private void store(final ClientRequestContext request,
+                       final ClientResponseContext response,
+                       final String key,
+                       final long now) throws IOException {
+        final CacheControl requestCacheControl = cacheControl(request.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        if (requestCacheControl != null && requestCacheControl.isNoStore()) {
+            return;
+        }
+
+        if (!CACHEABLE_STATUS_CODES.contains(response.getStatus())) {
+            return;
+        }
+
+        final ResponseCache.Entry candidate = entry(request, response.getStatus(), response.getStatusInfo().getReasonPhrase(),
+                                                    copy(response.getHeaders()), new byte[0], now);
+        if (candidate == null) {
+            // the new response replaces the cached one
+            cache.remove(key);
+            return;
+        }
+
+        byte[] entity = candidate.entity;
+        if (response.hasEntity()) {
+            final InputStream entityStream = response.getEntityStream();
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final long limit = cache.maxEntitySize();
+            final byte[] chunk = new byte[8192];
+            int read;
+            while (buffer.size() <= limit && (read = entityStream.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+
+            if (buffer.size() > limit) {
+                // too large to be cached, hand the entity over untouched
+                response.setEntityStream(new SequenceInputStream(new ByteArrayInputStream(buffer.toByteArray()), entityStream));
+                cache.remove(key);
+                return;
+            }
+
+            entityStream.close();
+            entity = buffer.toByteArray();
+            response.setEntityStream(new ByteArrayInputStream(entity));
+        }
+
+        cache.put(key, new ResponseCache.Entry(candidate.status, candidate.reasonPhrase, candidate.headers, entity,
+                                               candidate.vary, candidate.responseTime, candidate.initialAge,
+                                               candidate.freshnessLifetime, candidate.noCache));
+    }
+
+    /**
+     * Create a cache entry for the response if the response may be stored.
+     *
+     * @return cache entry or {@code null} if the response must not be stored.
+     */
+    private static ResponseCache.Entry entry(final ClientRequestContext request,
+                                             final int status,
+                                             final String reasonPhrase,
+                                             final MultivaluedMap<String, String> headers,
+                                             final byte[] entity,
+                                             final long now) {
+        final CacheControl cacheControl = cacheControl(header(headers, HttpHeaders.CACHE_CONTROL));
+        if (cacheControl != null && cacheControl.isNoStore()) {
+            return null;
+        }
+
+        final String vary = header(headers, HttpHeaders.VARY);
+        if (vary != null && vary.contains("*")) {
+            return null;
+        }
+
+        if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                && (cacheControl == null || !(cacheControl.getCacheExtension().containsKey("public")
+                                                      || cacheControl.isMustRevalidate()
+                                                      || cacheControl.getSMaxAge() >= 0))) {
+            // RFC 7234, section 3.2
+            return null;
+        }
+
+        final Date date = date(header(headers, HttpHeaders.DATE));
+        final long freshnessLifetime = freshnessLifetime(cacheControl, headers, date, now);
+        final boolean hasValidator = headers.containsKey(HttpHeaders.ETAG) || headers.containsKey(HttpHeaders.LAST_MODIFIED);
+        if (freshnessLifetime <= 0 && !hasValidator) {
+            // would never be used
+            return null;
+        }
+
+        final Map<String, String> varyValues = new HashMap<>();
+        if (vary != null) {
+            for (final String name : vary.split(",")) {
+                final String trimmed = name.trim().toLowerCase(Locale.ROOT);
+                if (!trimmed.isEmpty()) {
+                    varyValues.put(trimmed, request.getHeaderString(trimmed));
+                }
+            }
+        }
+
+        long initialAge = date == null ? 0 : Math.max(0, now - date.getTime());
+        final String age = header(headers, AGE);
+        if (age != null) {
+            try {
+                initialAge = Math.max(initialAge, Long.parseLong(age.trim()) * 1000);
+            } catch (NumberFormatException e) {
+                // ignore invalid age
+            }
+        }
+        headers.remove(AGE);
+
+        return new ResponseCache.Entry(status, reasonPhrase, headers, entity, varyValues, now, initialAge, freshnessLifetime,
+                                       cacheControl != null && cacheControl.isNoCache());
+    }
+
+    private static long freshnessLifetime(final CacheControl cacheControl,
+                                          final MultivaluedMap<String, String> headers,
+                                          final Date date,
+                                          final long now) {
+        if (cacheControl != null && cacheControl.getMaxAge() >= 0) {
+            return cacheControl.getMaxAge() * 1000L;
+        }
+
+        final String expires = header(headers, HttpHeaders.EXPIRES);
+        if (expires != null) {
+            final Date expiresDate = date(expires);
+            // invalid date means already expired
+            return expiresDate == null ? 0 : expiresDate.getTime() - (date == null ? now : date.getTime());
+        }
+
+        return 0;
+    }
+
+    private static boolean isFresh(final ResponseCache.Entry entry,
+                                   final CacheControl requestCacheControl,
+                                   final ClientRequestContext request,
+                                   final long now) {
+        if (entry.noCache) {
+            return false;
+        }
+
+        long freshnessLifetime = entry.freshnessLifetime;
+        if (requestCacheControl != null) {
+            if (requestCacheControl.isNoCache()) {
+                return false;
+            }
+            if (requestCacheControl.getMaxAge() >= 0) {
+                freshnessLifetime = Math.min(freshnessLifetime, requestCacheControl.getMaxAge() * 1000L);
+            }
+        } else {
+            final String pragma = request.getHeaderString(PRAGMA);
+            if (pragma != null && pragma.toLowerCase(Locale.ROOT).contains(NO_CACHE)) {
+                return false;
+            }
+        }
+
+        return entry.age(now) < freshnessLifetime;
+    }
+
+    private static boolean varyMatches(final ResponseCache.Entry entry, final ClientRequestContext request) {
+        for (final Map.Entry<String, String> vary : entry.vary.entrySet()) {
+            final String value = request.getHeaderString(vary.getKey());
+            if (value == null ? vary.getValue() != null : !value.equals(vary.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Response toResponse(final ResponseCache.Entry entry, final long now) {
+        final Response.ResponseBuilder builder = Response.status(Statuses.from(entry.status, entry.reasonPhrase));
+        for (final Map.Entry<String, List<String>> header : entry.headers.entrySet()) {
+            for (final String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        return builder.header(AGE, entry.age(now) / 1000).build();
+    }
+
+    private static String key(final ClientRequestContext request) {
+        return request.getUri().toString();
+    }
+
+    private static CacheControl cacheControl(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return CacheControl.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Date date(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return HttpDateFormat.readDate(value);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static String header(final MultivaluedMap<String, String> headers, final String name) {
+        final List<String> values = headers.get(name);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.size() == 1 ? values.get(0) : String.join(",", values);
+    }
+
+    private static MultivaluedMap<String, String> copy(final MultivaluedMap<String, String> headers) {
+        final MultivaluedMap<String, String> copy = new StringKeyIgnoreCaseMultivaluedMap<>();
+        for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+            copy.put(header.getKey(), new ArrayList<>(header.getValue()));
+        }
+        return copy;
+    }
+}
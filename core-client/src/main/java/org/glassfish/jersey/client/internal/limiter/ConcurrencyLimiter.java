@@ -0,0 +1,133 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.limiter;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+import org.glassfish.jersey.client.internal.monitoring.ClientStatisticsImpl;
+import org.glassfish.jersey.client.limiter.ConcurrencyLimitListener;
+import org.glassfish.jersey.client.limiter.LimitAlgorithm;
+
+/**
+ * Concurrency limiting configuration and state of a client, see
+ * {@link org.glassfish.jersey.client.limiter.ConcurrencyLimitFeature}.
+ */
+public final class ConcurrencyLimiter {
+
+    /**
+     * Name of the runtime configuration property holding the concurrency limiter of the client. If the property is set,
+     * the client runtime wraps the connector into a {@link ConcurrencyLimitingConnector}.
+     */
+    public static final String PROPERTY = ConcurrencyLimiter.class.getName();
+
+    private static final Logger LOGGER = Logger.getLogger(ConcurrencyLimiter.class.getName());
+
+    private final ConcurrentHashMap<String, DestinationLimiter> destinations = new ConcurrentHashMap<>();
+
+    final int initialLimit;
+    final int minLimit;
+    final int maxLimit;
+    final int maxQueueSize;
+    final long queueTimeoutNanos;
+    private final Supplier<? extends LimitAlgorithm> algorithm;
+    private final List<ConcurrencyLimitListener> listeners;
+
+    /**
+     * Create new concurrency limiter.
+     *
+     * @param initialLimit      initial limit of each destination.
+     * @param minLimit          minimal limit of each destination.
+     * @param maxLimit          maximal limit of each destination.
+     * @param algorithm         factory of the destination limit algorithms.
+     * @param maxQueueSize      maximal number of the queued requests of each destination.
+     * @param queueTimeoutNanos maximal time a request waits in the queue, {@code 0} to wait without a time limit.
+     * @param listeners         limit change listeners.
+     */
+    public ConcurrencyLimiter(final int initialLimit,
+                              final int minLimit,
+                              final int maxLimit,
+                              final Supplier<? extends LimitAlgorithm> algorithm,
+                              final int maxQueueSize,
+                              final long queueTimeoutNanos,
+                              final List<ConcurrencyLimitListener> listeners) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.algorithm = algorithm;
+        this.maxQueueSize = maxQueueSize;
+        this.queueTimeoutNanos = queueTimeoutNanos;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Get the limiter of the request destination.
+     *
+     * @param uri request URI.
+     * @return destination limiter.
+     */
+    DestinationLimiter destination(final URI uri) {
+        return destinations.computeIfAbsent(ClientStatisticsImpl.hostKey(uri),
+                destination -> new DestinationLimiter(destination, this, algorithm.get()));
+    }
+
+    /**
+     * Notify the listeners about a destination limit change.
+     *
+     * @param destination destination.
+     * @param oldLimit    previous limit.
+     * @param newLimit    new limit.
+     */
+    void limitChanged(final String destination, final int oldLimit, final int newLimit) {
+        for (final ConcurrencyLimitListener listener : listeners) {
+            try {
+                listener.onLimitChange(destination, oldLimit, newLimit);
+            } catch (final RuntimeException e) {
+                LOGGER.log(Level.WARNING, LocalizationMessages.CONCURRENCY_LIMIT_LISTENER_FAILED(listener), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.limiter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.ClientExecutor;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
+
+/**
+ * Connector wrapper enforcing the destination concurrency limits of a {@link ConcurrencyLimiter}.
+ * <p>
+ * The wrapper implements {@link NonBlockingConnector}, the {@link #applyNonBlocking(ClientRequest, AsyncConnectorCallback)}
+ * method must be used only if the wrapped connector is a non-blocking connector too.
+ * </p>
+ */
+public final class ConcurrencyLimitingConnector implements NonBlockingConnector {
+
+    private final Connector connector;
+    private final ConcurrencyLimiter limiter;
+    private final ClientExecutor executor;
+
+    /**
+     * Create new concurrency limiting connector.
+     *
+     * @param connector wrapped connector.
+     * @param limiter   concurrency limiter of the client.
+     * @param executor  client executor used to time out the queued requests and to send the asynchronous requests
+     *                  that had to wait in the queue.
+     */
+    public ConcurrencyLimitingConnector(final Connector connector,
+                                        final ConcurrencyLimiter limiter,
+                                        final ClientExecutor executor) {
+        this.connector = connector;
+        this.limiter = limiter;
+        this.executor = executor;
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final DestinationLimiter destination = limiter.destination(request.getUri());
+        final CompletableFuture<Void> permit = destination.acquire(executor);
+        try {
+            permit.get();
+        } catch (final InterruptedException e) {
+            destination.abandon(permit);
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (final ExecutionException e) {
+            throw (ProcessingException) e.getCause();
+        }
+
+        final long start = System.nanoTime();
+        final ClientResponse response;
+        try {
+            response = connector.apply(request);
+        } catch (final Throwable t) {
+            destination.completed(System.nanoTime() - start, true);
+            throw t;
+        }
+        destination.completed(System.nanoTime() - start, isOverloaded(response));
+        return response;
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, connector::apply);
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, ((NonBlockingConnector) connector)::applyNonBlocking);
+    }
+
+    private Future<?> apply(final ClientRequest request,
+                            final AsyncConnectorCallback callback,
+                            final BiFunction<ClientRequest, AsyncConnectorCallback, Future<?>> send) {
+        final DestinationLimiter destination = limiter.destination(request.getUri());
+        final CompletableFuture<Void> permit = destination.acquire(executor);
+        if (permit.isDone()) {
+            return send(request, callback, send, destination, permit);
+        }
+
+        // queued: do not send the request in the thread that released the permit
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        permit.whenComplete((acquired, failure) -> executor.submit(() -> {
+            try {
+                send(request, callback, send, destination, permit);
+            } catch (final Throwable t) {
+                callback.failure(t);
+            }
+            result.complete(null);
+        }));
+        return result;
+    }
+
+    private Future<?> send(final ClientRequest request,
+                           final AsyncConnectorCallback callback,
+                           final BiFunction<ClientRequest, AsyncConnectorCallback, Future<?>> send,
+                           final DestinationLimiter destination,
+                           final CompletableFuture<Void> permit) {
+        if (permit.isCompletedExceptionally()) {
+            callback.failure(permit.handle((acquired, failure) -> failure).join());
+            return permit;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return send.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    destination.completed(System.nanoTime() - start, isOverloaded(response));
+                    callback.response(response);
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    destination.completed(System.nanoTime() - start, true);
+                    callback.failure(failure);
+                }
+            });
+        } catch (final Throwable t) {
+            destination.completed(System.nanoTime() - start, true);
+            throw t;
+        }
+    }
+
+    private static boolean isOverloaded(final ClientResponse response) {
+        return response.getStatus() == 429 || response.getStatus() == 503;
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.limiter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.glassfish.jersey.client.ClientExecutor;
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+import org.glassfish.jersey.client.limiter.ConcurrencyLimitExceededException;
+import org.glassfish.jersey.client.limiter.LimitAlgorithm;
+
+/**
+ * Concurrency limit and the requests in flight of a single destination.
+ */
+final class DestinationLimiter {
+
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+
+    private final String destination;
+    private final ConcurrencyLimiter limiter;
+    private final LimitAlgorithm algorithm;
+    private final ArrayDeque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+
+    private int limit;
+    private int inFlight;
+
+    DestinationLimiter(final String destination, final ConcurrencyLimiter limiter, final LimitAlgorithm algorithm) {
+        this.destination = destination;
+        this.limiter = limiter;
+        this.algorithm = algorithm;
+        this.limit = limiter.initialLimit;
+    }
+
+    /**
+     * Acquire a permit to send a request.
+     *
+     * @param executor executor used to time out the queued requests.
+     * @return future completed once the permit is acquired or completed exceptionally with
+     * {@link ConcurrencyLimitExceededException} if the request is rejected.
+     */
+    CompletableFuture<Void> acquire(final ClientExecutor executor) {
+        final int current;
+        synchronized (this) {
+            if (inFlight < limit) {
+                inFlight++;
+                return ACQUIRED;
+            }
+            if (queue.size() < limiter.maxQueueSize) {
+                final CompletableFuture<Void> waiting = new CompletableFuture<>();
+                queue.add(waiting);
+                if (limiter.queueTimeoutNanos > 0) {
+                    executor.schedule(() -> timeout(waiting), limiter.queueTimeoutNanos, TimeUnit.NANOSECONDS);
+                }
+                return waiting;
+            }
+            current = limit;
+        }
+
+        final CompletableFuture<Void> rejected = new CompletableFuture<>();
+        rejected.completeExceptionally(exceeded(current));
+        return rejected;
+    }
+
+    private void timeout(final CompletableFuture<Void> waiting) {
+        final int current;
+        synchronized (this) {
+            if (!queue.remove(waiting)) {
+                // the permit has been acquired already
+                return;
+            }
+            current = limit;
+        }
+        waiting.completeExceptionally(exceeded(current));
+    }
+
+    /**
+     * Give up a permit requested by {@link #acquire(ClientExecutor)} without sending the request.
+     *
+     * @param permit permit future returned by {@code acquire}.
+     */
+    void abandon(final CompletableFuture<Void> permit) {
+        final boolean acquired;
+        synchronized (this) {
+            acquired = !queue.remove(permit);
+        }
+        if (acquired && !permit.isCompletedExceptionally()) {
+            release(null);
+        }
+    }
+
+    /**
+     * Release the permit of a completed request and update the limit.
+     *
+     * @param rttNanos round-trip time of the request in nanoseconds.
+     * @param dropped  {@code true} if the request failed or the destination is overloaded.
+     */
+    void completed(final long rttNanos, final boolean dropped) {
+        release(() -> algorithm.update(limit, rttNanos, inFlight, dropped));
+    }
+
+    private void release(final IntSupplier update) {
+        final int oldLimit;
+        final int newLimit;
+        final List<CompletableFuture<Void>> acquired = new ArrayList<>(1);
+        synchronized (this) {
+            oldLimit = limit;
+            if (update != null) {
+                limit = Math.max(limiter.minLimit, Math.min(limiter.maxLimit, update.getAsInt()));
+            }
+            newLimit = limit;
+            inFlight--;
+            while (inFlight < limit && !queue.isEmpty()) {
+                inFlight++;
+                acquired.add(queue.poll());
+            }
+        }
+
+        for (final CompletableFuture<Void> permit : acquired) {
+            permit.complete(null);
+        }
+        if (oldLimit != newLimit) {
+            limiter.limitChanged(destination, oldLimit, newLimit);
+        }
+    }
+
+    private ConcurrencyLimitExceededException exceeded(final int current) {
+        return new ConcurrencyLimitExceededException(
+                LocalizationMessages.CONCURRENCY_LIMIT_EXCEEDED(destination, current), destination, current);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.loadbalancing;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.jersey.client.loadbalancing.Endpoint;
+
+/**
+ * Load balanced endpoint tracking its outstanding requests and response times.
+ */
+final class EndpointImpl implements Endpoint {
+
+    /**
+     * Weight of a new response time in the moving average.
+     */
+    private static final double ALPHA = 0.2;
+
+    private final URI uri;
+    private final String base;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latency = new AtomicLong(Double.doubleToLongBits(0));
+
+    /**
+     * Create new endpoint.
+     *
+     * @param uri endpoint base URI.
+     */
+    EndpointImpl(final URI uri) {
+        this.uri = uri;
+        this.base = LoadBalancer.stripTrailingSlash(uri.toString());
+    }
+
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @Override
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    @Override
+    public double getLatency() {
+        return Double.longBitsToDouble(latency.get());
+    }
+
+    /**
+     * Resolve the request URI.
+     *
+     * @param path part of the request URI following the service URI.
+     * @return request URI targeting the endpoint.
+     */
+    URI resolve(final String path) {
+        return URI.create(base + path);
+    }
+
+    /**
+     * Record a request sent to the endpoint.
+     */
+    void started() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Record a response received from the endpoint.
+     *
+     * @param nanos response time in nanoseconds.
+     */
+    void completed(final long nanos) {
+        inFlight.decrementAndGet();
+
+        final double millis = nanos / 1_000_000.0;
+        long current;
+        double updated;
+        do {
+            current = latency.get();
+            final double average = Double.longBitsToDouble(current);
+            updated = average == 0 ? millis : average + ALPHA * (millis - average);
+        } while (!latency.compareAndSet(current, Double.doubleToLongBits(updated)));
+    }
+
+    /**
+     * Record a request that failed without a response.
+     */
+    void failed() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint{" + uri + ", inFlight=" + inFlight.get() + ", latency=" + getLatency() + '}';
+    }
+}
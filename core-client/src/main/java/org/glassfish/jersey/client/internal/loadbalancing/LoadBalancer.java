@@ -0,0 +1,194 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.loadbalancing;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.HttpMethod;
+
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.loadbalancing.Endpoint;
+import org.glassfish.jersey.client.loadbalancing.LoadBalancingStrategy;
+
+/**
+ * Load balancing configuration and state of a client, see
+ * {@link org.glassfish.jersey.client.loadbalancing.LoadBalancingFeature}.
+ */
+public final class LoadBalancer {
+
+    /**
+     * Name of the runtime configuration property holding the load balancer of the client. If the property is set,
+     * the client runtime wraps the connector into a {@link LoadBalancingConnector}.
+     */
+    public static final String PROPERTY = LoadBalancer.class.getName();
+
+    /**
+     * Number of the recent response times the hedging delay is computed from.
+     */
+    private static final int WINDOW = 1024;
+    /**
+     * Minimal number of measured response times before the requests are hedged.
+     */
+    private static final int MIN_SAMPLES = 50;
+    /**
+     * Number of the measured response times after which the hedging delay is recomputed.
+     */
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final String serviceUri;
+    private final List<Endpoint> endpoints;
+    private final LoadBalancingStrategy strategy;
+    private final double hedgingPercentile;
+
+    private final long[] samples = new long[WINDOW];
+    private long sampleCount;
+    private volatile long hedgingDelay = -1;
+
+    /**
+     * Create new load balancer.
+     *
+     * @param serviceUri        logical URI of the service.
+     * @param endpoints         base URIs of the service endpoints.
+     * @param strategy          endpoint selection strategy.
+     * @param hedgingPercentile response time percentile after which the safe requests are hedged, {@code 0} to disable
+     *                          hedging.
+     */
+    public LoadBalancer(final URI serviceUri,
+                        final List<URI> endpoints,
+                        final LoadBalancingStrategy strategy,
+                        final double hedgingPercentile) {
+        this.serviceUri = stripTrailingSlash(serviceUri.toString());
+        final List<Endpoint> list = new ArrayList<>(endpoints.size());
+        for (final URI endpoint : endpoints) {
+            list.add(new EndpointImpl(endpoint));
+        }
+        this.endpoints = Collections.unmodifiableList(list);
+        this.strategy = strategy;
+        this.hedgingPercentile = hedgingPercentile;
+    }
+
+    /**
+     * Get the part of the request URI following the service URI.
+     *
+     * @param requestUri request URI.
+     * @return request path relative to the service URI or {@code null} if the request does not target the service.
+     */
+    String path(final URI requestUri) {
+        final String uri = requestUri.toString();
+        if (!uri.startsWith(serviceUri)) {
+            return null;
+        }
+        final String path = uri.substring(serviceUri.length());
+        return path.isEmpty() || "/?#".indexOf(path.charAt(0)) >= 0 ? path : null;
+    }
+
+    /**
+     * Select an endpoint for a request.
+     *
+     * @param excluded endpoint that must not be selected, may be {@code null}.
+     * @return selected endpoint.
+     */
+    EndpointImpl select(final EndpointImpl excluded) {
+        if (excluded == null) {
+            return (EndpointImpl) strategy.select(endpoints);
+        }
+
+        final List<Endpoint> candidates = new ArrayList<>(endpoints);
+        candidates.remove(excluded);
+        return (EndpointImpl) strategy.select(candidates);
+    }
+
+    /**
+     * Check whether the request should be hedged.
+     *
+     * @param request client request.
+     * @return {@code true} if hedging is enabled, the request is safe and enough response times have been measured.
+     */
+    boolean isHedged(final ClientRequest request) {
+        return hedgingPercentile > 0
+                && hedgingDelay >= 0
+                && endpoints.size() > 1
+                && (HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod()))
+                && !request.hasEntity();
+    }
+
+    /**
+     * Get the delay after which a hedged request is sent.
+     *
+     * @return hedging delay in nanoseconds.
+     */
+    long hedgingDelay() {
+        return hedgingDelay;
+    }
+
+    /**
+     * Record a measured response time.
+     *
+     * @param nanos response time in nanoseconds.
+     */
+    void record(final long nanos) {
+        if (hedgingPercentile <= 0) {
+            return;
+        }
+
+        final long[] window;
+        synchronized (samples) {
+            samples[(int) (sampleCount++ % WINDOW)] = nanos;
+            if (sampleCount < MIN_SAMPLES || (sampleCount % RECOMPUTE_INTERVAL != 0 && hedgingDelay >= 0)) {
+                return;
+            }
+            window = Arrays.copyOf(samples, (int) Math.min(sampleCount, WINDOW));
+        }
+
+        Arrays.sort(window);
+        final int index = (int) Math.min(window.length - 1, Math.ceil(window.length * hedgingPercentile / 100) - 1);
+        hedgingDelay = Math.max(TimeUnit.MILLISECONDS.toNanos(1), window[Math.max(0, index)]);
+    }
+
+    static String stripTrailingSlash(final String uri) {
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+}
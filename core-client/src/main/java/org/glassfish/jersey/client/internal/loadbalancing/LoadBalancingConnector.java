@@ -0,0 +1,284 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.loadbalancing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.ClientExecutor;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
+
+/**
+ * Connector wrapper routing the requests to the endpoints selected by a {@link LoadBalancer} and hedging the safe
+ * requests.
+ * <p>
+ * The wrapper implements {@link NonBlockingConnector}, the {@link #applyNonBlocking(ClientRequest, AsyncConnectorCallback)}
+ * method must be used only if the wrapped connector is a non-blocking connector too.
+ * </p>
+ */
+public final class LoadBalancingConnector implements NonBlockingConnector {
+
+    private final Connector connector;
+    private final LoadBalancer loadBalancer;
+    private final ClientExecutor executor;
+
+    /**
+     * Create new load balancing connector.
+     *
+     * @param connector    wrapped connector.
+     * @param loadBalancer load balancer of the client.
+     * @param executor     client executor used to send the hedged requests.
+     */
+    public LoadBalancingConnector(final Connector connector, final LoadBalancer loadBalancer, final ClientExecutor executor) {
+        this.connector = connector;
+        this.loadBalancer = loadBalancer;
+        this.executor = executor;
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final String path = loadBalancer.path(request.getUri());
+        if (path == null) {
+            return connector.apply(request);
+        }
+
+        if (loadBalancer.isHedged(request)) {
+            final CompletableFuture<ClientResponse> response = new CompletableFuture<>();
+            new Hedge(request, path, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse clientResponse) {
+                    response.complete(clientResponse);
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    response.completeExceptionally(failure);
+                }
+            }).start();
+
+            try {
+                return response.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(e);
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof ProcessingException
+                        ? (ProcessingException) cause : new ProcessingException(cause.getMessage(), cause);
+            }
+        }
+
+        final EndpointImpl endpoint = loadBalancer.select(null);
+        request.setUri(endpoint.resolve(path));
+        endpoint.started();
+        final long start = System.nanoTime();
+        final ClientResponse response;
+        try {
+            response = connector.apply(request);
+        } catch (final Throwable t) {
+            endpoint.failed();
+            throw t;
+        }
+        completed(endpoint, start);
+        return response;
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, connector::apply);
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, ((NonBlockingConnector) connector)::applyNonBlocking);
+    }
+
+    private Future<?> apply(final ClientRequest request,
+                            final AsyncConnectorCallback callback,
+                            final BiFunction<ClientRequest, AsyncConnectorCallback, Future<?>> send) {
+        final String path = loadBalancer.path(request.getUri());
+        if (path == null) {
+            return send.apply(request, callback);
+        }
+
+        if (loadBalancer.isHedged(request)) {
+            return new Hedge(request, path, callback).start();
+        }
+
+        final EndpointImpl endpoint = loadBalancer.select(null);
+        request.setUri(endpoint.resolve(path));
+        endpoint.started();
+        final long start = System.nanoTime();
+        try {
+            return send.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    completed(endpoint, start);
+                    callback.response(response);
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    endpoint.failed();
+                    callback.failure(failure);
+                }
+            });
+        } catch (final Throwable t) {
+            endpoint.failed();
+            throw t;
+        }
+    }
+
+    private void completed(final EndpointImpl endpoint, final long start) {
+        final long responseTime = System.nanoTime() - start;
+        endpoint.completed(responseTime);
+        loadBalancer.record(responseTime);
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+
+    /**
+     * Hedged request: the request is sent to a second endpoint if no response is received from the first one within
+     * the hedging delay or if the first attempt fails. The response received first is used.
+     */
+    private final class Hedge {
+
+        private static final int MAX_ATTEMPTS = 2;
+
+        private final ClientRequest request;
+        private final String path;
+        private final AsyncConnectorCallback callback;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final AtomicBoolean hedged = new AtomicBoolean();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private volatile EndpointImpl primary;
+        private volatile ScheduledFuture<?> timer;
+
+        private Hedge(final ClientRequest request, final String path, final AsyncConnectorCallback callback) {
+            this.request = request;
+            this.path = path;
+            this.callback = callback;
+        }
+
+        private Future<?> start() {
+            primary = loadBalancer.select(null);
+            final ClientRequest hedgedRequest = new ClientRequest(request);
+            attempt(primary, request);
+            timer = executor.schedule(() -> hedge(hedgedRequest), loadBalancer.hedgingDelay(), TimeUnit.NANOSECONDS);
+            return done;
+        }
+
+        private void hedge(final ClientRequest hedgedRequest) {
+            if (!done.isDone() && hedged.compareAndSet(false, true)) {
+                attempt(loadBalancer.select(primary), hedgedRequest);
+            }
+        }
+
+        private void attempt(final EndpointImpl endpoint, final ClientRequest attemptRequest) {
+            attemptRequest.setUri(endpoint.resolve(path));
+            endpoint.started();
+            final long start = System.nanoTime();
+            final AsyncConnectorCallback attemptCallback = new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    completed(endpoint, start);
+                    if (done.complete(null)) {
+                        cancelTimer();
+                        callback.response(response);
+                    } else {
+                        // the other attempt has already won
+                        response.close();
+                    }
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    endpoint.failed();
+                    if (failures.incrementAndGet() == MAX_ATTEMPTS) {
+                        if (done.complete(null)) {
+                            callback.failure(failure);
+                        }
+                    } else {
+                        // retry right away instead of waiting for the hedging delay
+                        cancelTimer();
+                        hedge(new ClientRequest(request));
+                    }
+                }
+            };
+
+            executor.submit(() -> {
+                try {
+                    connector.apply(attemptRequest, attemptCallback);
+                } catch (final Throwable t) {
+                    attemptCallback.failure(t);
+                }
+            });
+        }
+
+        private void cancelTimer() {
+            final ScheduledFuture<?> scheduled = timer;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.monitoring;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+import org.glassfish.jersey.client.monitoring.ClientStatistics;
+import org.glassfish.jersey.client.monitoring.ConnectionPoolStatistics;
+import org.glassfish.jersey.client.monitoring.EndpointStatistics;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.PooledConnector;
+
+/**
+ * Client monitoring statistics collected by the {@link MonitoringConnector monitoring connectors} of the clients
+ * the {@link org.glassfish.jersey.client.monitoring.ClientMonitoringFeature} is registered in.
+ */
+public final class ClientStatisticsImpl implements ClientStatistics {
+
+    /**
+     * Name of the runtime configuration property holding the statistics of the client. If the property is set,
+     * the client runtime wraps the connector into a {@link MonitoringConnector}.
+     */
+    public static final String PROPERTY = ClientStatisticsImpl.class.getName();
+
+    private static final Logger LOGGER = Logger.getLogger(ClientStatisticsImpl.class.getName());
+    private static final String DOMAIN = "org.glassfish.jersey.client";
+
+    /**
+     * Maximal number of monitored hosts and web targets, the statistics of the others are aggregated under
+     * the {@link #OTHER_ENDPOINTS} key.
+     */
+    static final int MAX_ENDPOINTS = 1000;
+    static final String OTHER_ENDPOINTS = "*";
+
+    private final String name;
+    private final ConcurrentHashMap<String, EndpointStatisticsImpl> hosts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, EndpointStatisticsImpl> targets = new ConcurrentHashMap<>();
+    private final List<Connector> connectors = new CopyOnWriteArrayList<>();
+    private final Set<ObjectName> mBeans = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean mBeansEnabled;
+
+    /**
+     * Create new client statistics.
+     *
+     * @param name client name used in the names of the monitoring MXBeans.
+     */
+    public ClientStatisticsImpl(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Set whether the endpoint MXBeans should be exposed.
+     *
+     * @param mBeansEnabled {@code true} if the MXBeans should be exposed.
+     */
+    public void setMBeansEnabled(final boolean mBeansEnabled) {
+        this.mBeansEnabled = mBeansEnabled;
+    }
+
+    @Override
+    public Map<String, EndpointStatistics> getHostStatistics() {
+        return Collections.unmodifiableMap(new HashMap<>(hosts));
+    }
+
+    @Override
+    public Map<String, EndpointStatistics> getTargetStatistics() {
+        return Collections.unmodifiableMap(new HashMap<>(targets));
+    }
+
+    @Override
+    public Map<String, ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        final Map<String, ConnectionPoolStatistics> pools = new HashMap<>();
+        for (final Connector connector : connectors) {
+            if (connector instanceof PooledConnector) {
+                pools.putAll(((PooledConnector) connector).getConnectionPoolStatistics());
+            }
+        }
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * Register a monitored connector.
+     *
+     * @param connector connector of a monitored client.
+     */
+    void connectorCreated(final Connector connector) {
+        connectors.add(connector);
+    }
+
+    /**
+     * Unregister a closed connector, the MXBeans are unregistered once all the monitored connectors are closed.
+     *
+     * @param connector closed connector.
+     */
+    void connectorClosed(final Connector connector) {
+        connectors.remove(connector);
+        if (connectors.isEmpty()) {
+            unregisterMBeans();
+        }
+    }
+
+    /**
+     * Get the statistics of the target host of the request URI.
+     *
+     * @param uri request URI.
+     * @return target host statistics.
+     */
+    EndpointStatisticsImpl host(final URI uri) {
+        return endpoint(hosts, hostKey(uri), "Hosts");
+    }
+
+    /**
+     * Get the statistics of the web target.
+     *
+     * @param template web target URI template.
+     * @return web target statistics.
+     */
+    EndpointStatisticsImpl target(final String template) {
+        return endpoint(targets, template, "Targets");
+    }
+
+    /**
+     * Get the host key in the form {@code scheme://host:port}.
+     *
+     * @param uri request URI.
+     * @return host key.
+     */
+    public static String hostKey(final URI uri) {
+        final String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase(Locale.ROOT);
+        final int port = uri.getPort() != -1 ? uri.getPort() : "https".equals(scheme) ? 443 : 80;
+        return scheme + "://" + uri.getHost() + ":" + port;
+    }
+
+    private EndpointStatisticsImpl endpoint(final ConcurrentHashMap<String, EndpointStatisticsImpl> endpoints,
+                                            final String key,
+                                            final String subType) {
+        EndpointStatisticsImpl statistics = endpoints.get(key);
+        if (statistics != null) {
+            return statistics;
+        }
+
+        final String endpointKey = endpoints.size() < MAX_ENDPOINTS ? key : OTHER_ENDPOINTS;
+        final EndpointStatisticsImpl created = new EndpointStatisticsImpl();
+        statistics = endpoints.putIfAbsent(endpointKey, created);
+        if (statistics != null) {
+            return statistics;
+        }
+
+        if (mBeansEnabled) {
+            final Supplier<ConnectionPoolStatistics> pool = "Hosts".equals(subType)
+                    ? () -> getConnectionPoolStatistics().get(endpointKey) : () -> null;
+            registerMBean(new EndpointMXBeanImpl(created, pool), subType, endpointKey);
+        }
+        return created;
+    }
+
+    private void registerMBean(final Object mBean, final String subType, final String key) {
+        final String objectName = DOMAIN + ":type=" + ObjectName.quote(name) + ",subType=" + subType
+                + ",name=" + ObjectName.quote(key);
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName mBeanName = new ObjectName(objectName);
+            if (!mBeanServer.isRegistered(mBeanName)) {
+                mBeanServer.registerMBean(mBean, mBeanName);
+                mBeans.add(mBeanName);
+            }
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, LocalizationMessages.WARNING_MONITORING_MBEAN_REGISTRATION(objectName), e);
+        }
+    }
+
+    private void unregisterMBeans() {
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (final ObjectName mBeanName : mBeans) {
+            mBeans.remove(mBeanName);
+            try {
+                mBeanServer.unregisterMBean(mBeanName);
+            } catch (JMException e) {
+                LOGGER.log(Level.FINE, LocalizationMessages.WARNING_MONITORING_MBEAN_UNREGISTRATION(mBeanName), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.monitoring;
+
+import java.util.function.Supplier;
+
+import org.glassfish.jersey.client.monitoring.ConnectionPoolStatistics;
+import org.glassfish.jersey.client.monitoring.EndpointMXBean;
+
+/**
+ * MXBean exposing the statistics of a target host or a web target.
+ */
+final class EndpointMXBeanImpl implements EndpointMXBean {
+
+    private final EndpointStatisticsImpl statistics;
+    private final Supplier<ConnectionPoolStatistics> pool;
+
+    /**
+     * Create new endpoint MXBean.
+     *
+     * @param statistics endpoint statistics.
+     * @param pool       supplier of the connection pool statistics of the endpoint, may return {@code null}.
+     */
+    EndpointMXBeanImpl(final EndpointStatisticsImpl statistics, final Supplier<ConnectionPoolStatistics> pool) {
+        this.statistics = statistics;
+        this.pool = pool;
+    }
+
+    @Override
+    public long getRequestCount() {
+        return statistics.getRequestCount();
+    }
+
+    @Override
+    public long getInFlightCount() {
+        return statistics.getInFlightCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return statistics.getFailureCount();
+    }
+
+    @Override
+    public long getServerErrorCount() {
+        return statistics.getServerErrorCount();
+    }
+
+    @Override
+    public double getQueueTimeAverage() {
+        return statistics.queueTime.getAverage();
+    }
+
+    @Override
+    public double getResponseTimeAverage() {
+        return statistics.responseTime.getAverage();
+    }
+
+    @Override
+    public long getResponseTime99thPercentile() {
+        return statistics.responseTime.getPercentile(99);
+    }
+
+    @Override
+    public double getTotalTimeAverage() {
+        return statistics.totalTime.getAverage();
+    }
+
+    @Override
+    public long getTotalTime99thPercentile() {
+        return statistics.totalTime.getPercentile(99);
+    }
+
+    @Override
+    public long getTotalTimeMaximum() {
+        return statistics.totalTime.getMaximum();
+    }
+
+    @Override
+    public int getLeasedConnections() {
+        final ConnectionPoolStatistics poolStatistics = pool.get();
+        return poolStatistics == null ? -1 : poolStatistics.getLeasedConnections();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        final ConnectionPoolStatistics poolStatistics = pool.get();
+        return poolStatistics == null ? -1 : poolStatistics.getIdleConnections();
+    }
+
+    @Override
+    public int getPendingRequests() {
+        final ConnectionPoolStatistics poolStatistics = pool.get();
+        return poolStatistics == null ? -1 : poolStatistics.getPendingRequests();
+    }
+}
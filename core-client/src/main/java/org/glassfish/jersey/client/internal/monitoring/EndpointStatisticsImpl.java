@@ -0,0 +1,96 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.client.monitoring.EndpointStatistics;
+import org.glassfish.jersey.client.monitoring.LatencyStatistics;
+
+/**
+ * Mutable statistics of a target host or a web target updated by the {@link MonitoringConnector}.
+ */
+final class EndpointStatisticsImpl implements EndpointStatistics {
+
+    final LongAdder requests = new LongAdder();
+    final AtomicLong inFlight = new AtomicLong();
+    final LongAdder failures = new LongAdder();
+    final LongAdder serverErrors = new LongAdder();
+    final LatencyStatisticsImpl queueTime = new LatencyStatisticsImpl();
+    final LatencyStatisticsImpl responseTime = new LatencyStatisticsImpl();
+    final LatencyStatisticsImpl totalTime = new LatencyStatisticsImpl();
+
+    @Override
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getInFlightCount() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getServerErrorCount() {
+        return serverErrors.sum();
+    }
+
+    @Override
+    public LatencyStatistics getQueueTime() {
+        return queueTime;
+    }
+
+    @Override
+    public LatencyStatistics getResponseTime() {
+        return responseTime;
+    }
+
+    @Override
+    public LatencyStatistics getTotalTime() {
+        return totalTime;
+    }
+}
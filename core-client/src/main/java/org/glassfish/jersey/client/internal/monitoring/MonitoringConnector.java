@@ -0,0 +1,250 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.internal.monitoring;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
+
+/**
+ * Connector wrapper collecting the {@link ClientStatisticsImpl client monitoring statistics}.
+ * <p>
+ * The wrapper implements {@link NonBlockingConnector}, the {@link #applyNonBlocking(ClientRequest, AsyncConnectorCallback)}
+ * method must be used only if the wrapped connector is a non-blocking connector too.
+ * </p>
+ */
+public final class MonitoringConnector implements NonBlockingConnector {
+
+    /**
+     * Name of the request property holding the {@link System#nanoTime()} the request has been submitted at.
+     */
+    public static final String SUBMITTED = MonitoringConnector.class.getName() + ".submitted";
+
+    /**
+     * Name of the request property holding the URI template of the web target the request has been created from.
+     */
+    public static final String TARGET_TEMPLATE = MonitoringConnector.class.getName() + ".targetTemplate";
+
+    private final Connector connector;
+    private final ClientStatisticsImpl statistics;
+
+    /**
+     * Create new monitoring connector.
+     *
+     * @param connector  wrapped connector.
+     * @param statistics statistics to be updated.
+     */
+    public MonitoringConnector(final Connector connector, final ClientStatisticsImpl statistics) {
+        this.connector = connector;
+        this.statistics = statistics;
+
+        statistics.connectorCreated(connector);
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final Exchange exchange = new Exchange(request);
+        final ClientResponse response;
+        try {
+            response = connector.apply(request);
+        } catch (final Throwable t) {
+            exchange.failed();
+            throw t;
+        }
+        return exchange.received(response);
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, connector::apply);
+    }
+
+    @Override
+    public Future<?> applyNonBlocking(final ClientRequest request, final AsyncConnectorCallback callback) {
+        return apply(request, callback, ((NonBlockingConnector) connector)::applyNonBlocking);
+    }
+
+    private Future<?> apply(final ClientRequest request,
+                            final AsyncConnectorCallback callback,
+                            final BiFunction<ClientRequest, AsyncConnectorCallback, Future<?>> send) {
+        final Exchange exchange = new Exchange(request);
+        try {
+            return send.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    callback.response(exchange.received(response));
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    exchange.failed();
+                    callback.failure(failure);
+                }
+            });
+        } catch (final Throwable t) {
+            exchange.failed();
+            throw t;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        statistics.connectorClosed(connector);
+        connector.close();
+    }
+
+    /**
+     * Single request/response exchange being measured.
+     */
+    private final class Exchange {
+
+        private final EndpointStatisticsImpl host;
+        private final EndpointStatisticsImpl target;
+        private final long submitted;
+        private final long started;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Exchange(final ClientRequest request) {
+            this.started = System.nanoTime();
+
+            final Object submittedProperty = request.getProperty(SUBMITTED);
+            this.submitted = submittedProperty instanceof Long ? (Long) submittedProperty : started;
+
+            final URI uri = request.getUri();
+            final Object template = request.getProperty(TARGET_TEMPLATE);
+            this.host = statistics.host(uri);
+            this.target = statistics.target(template instanceof String
+                    ? (String) template : ClientStatisticsImpl.hostKey(uri) + uri.getRawPath());
+
+            started(host);
+            started(target);
+        }
+
+        private void started(final EndpointStatisticsImpl endpoint) {
+            endpoint.requests.increment();
+            endpoint.inFlight.incrementAndGet();
+            endpoint.queueTime.record(started - submitted);
+        }
+
+        private ClientResponse received(final ClientResponse response) {
+            final long responseTime = System.nanoTime() - started;
+            final boolean serverError = response.getStatusInfo().getFamily() == Response.Status.Family.SERVER_ERROR;
+            for (final EndpointStatisticsImpl endpoint : new EndpointStatisticsImpl[] {host, target}) {
+                endpoint.responseTime.record(responseTime);
+                if (serverError) {
+                    endpoint.serverErrors.increment();
+                }
+            }
+
+            final InputStream entityStream = response.getEntityStream();
+            final int status = response.getStatus();
+            if (entityStream == null || status == 204 || status == 304 || response.getLength() == 0
+                    || HttpMethod.HEAD.equals(response.getRequestContext().getMethod())) {
+                completed(true);
+            } else {
+                response.setEntityStream(new FilterInputStream(entityStream) {
+                    @Override
+                    public int read() throws IOException {
+                        return completeOnEnd(super.read());
+                    }
+
+                    @Override
+                    public int read(final byte[] b, final int off, final int len) throws IOException {
+                        return completeOnEnd(super.read(b, off, len));
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            completed(true);
+                        }
+                    }
+                });
+            }
+            return response;
+        }
+
+        private int completeOnEnd(final int read) {
+            if (read == -1) {
+                completed(true);
+            }
+            return read;
+        }
+
+        private void failed() {
+            host.failures.increment();
+            target.failures.increment();
+            completed(false);
+        }
+
+        private void completed(final boolean measure) {
+            if (done.compareAndSet(false, true)) {
+                final long totalTime = System.nanoTime() - submitted;
+                for (final EndpointStatisticsImpl endpoint : new EndpointStatisticsImpl[] {host, target}) {
+                    if (measure) {
+                        endpoint.totalTime.record(totalTime);
+                    }
+                    endpoint.inFlight.decrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.limiter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.internal.limiter.ConcurrencyLimiter;
+
+/**
+ * Feature limiting the number of concurrent requests sent to each destination ({@code scheme://host:port}).
+ * <p>
+ * The limit of each destination adapts to the observed request round-trip times and failures using the configured
+ * {@link LimitAlgorithm limit algorithm} ({@link LimitAlgorithms#gradient() gradient} by default). Requests exceeding
+ * the limit are rejected with {@link ConcurrencyLimitExceededException} without being sent, unless a queue is
+ * {@link #queue(int, long, TimeUnit) configured}, in which case they wait for a request of the same destination
+ * to complete.
+ * </p>
+ * <pre>
+ * Client client = ClientBuilder.newClient().register(new ConcurrencyLimitFeature()
+ *         .limits(10, 2, 200)
+ *         .algorithm(() -&gt; LimitAlgorithms.aimd(1, TimeUnit.SECONDS))
+ *         .queue(100, 50, TimeUnit.MILLISECONDS)
+ *         .listener((destination, oldLimit, newLimit) -&gt; LOGGER.fine(destination + ": " + newLimit)));
+ * </pre>
+ * <p>
+ * The limit is enforced in the client runtime, so it applies to all connectors and to the synchronous, asynchronous
+ * and reactive invocations alike.
+ * </p>
+ *
+ * @since 2.28
+ */
+public final class ConcurrencyLimitFeature implements Feature {
+
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private Supplier<? extends LimitAlgorithm> algorithm = LimitAlgorithms::gradient;
+    private int maxQueueSize = 0;
+    private long queueTimeoutNanos = 0;
+    private final List<ConcurrencyLimitListener> listeners = new ArrayList<>();
+
+    /**
+     * Set the concurrency limits of each destination.
+     *
+     * @param initial initial limit.
+     * @param min     minimal limit.
+     * @param max     maximal limit.
+     * @return updated feature.
+     * @throws IllegalArgumentException if the limits are not positive or {@code min <= initial <= max} does not hold.
+     */
+    public ConcurrencyLimitFeature limits(final int initial, final int min, final int max) {
+        if (min < 1 || initial < min || max < initial) {
+            throw new IllegalArgumentException("The concurrency limits must satisfy 0 < min <= initial <= max.");
+        }
+        this.initialLimit = initial;
+        this.minLimit = min;
+        this.maxLimit = max;
+        return this;
+    }
+
+    /**
+     * Set the factory of the limit algorithm, a new algorithm instance is created for each destination.
+     *
+     * @param algorithm limit algorithm factory.
+     * @return updated feature.
+     */
+    public ConcurrencyLimitFeature algorithm(final Supplier<? extends LimitAlgorithm> algorithm) {
+        this.algorithm = algorithm;
+        return this;
+    }
+
+    /**
+     * Queue the requests exceeding the limit instead of rejecting them immediately.
+     *
+     * @param maxSize maximal number of the queued requests of each destination.
+     * @param timeout maximal time a request waits in the queue, {@code 0} to wait without a time limit.
+     * @param unit    timeout time unit.
+     * @return updated feature.
+     * @throws IllegalArgumentException if the queue size or timeout is negative.
+     */
+    public ConcurrencyLimitFeature queue(final int maxSize, final long timeout, final TimeUnit unit) {
+        if (maxSize < 0 || timeout < 0) {
+            throw new IllegalArgumentException("The queue size and timeout must not be negative.");
+        }
+        this.maxQueueSize = maxSize;
+        this.queueTimeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * Register a listener notified about the limit changes.
+     *
+     * @param listener limit change listener.
+     * @return updated feature.
+     */
+    public ConcurrencyLimitFeature listener(final ConcurrencyLimitListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        context.property(ConcurrencyLimiter.PROPERTY, new ConcurrencyLimiter(initialLimit, minLimit, maxLimit, algorithm,
+                maxQueueSize, queueTimeoutNanos, new ArrayList<>(listeners)));
+        return true;
+    }
+}
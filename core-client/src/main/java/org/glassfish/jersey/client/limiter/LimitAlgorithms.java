@@ -0,0 +1,135 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory of the built-in {@link LimitAlgorithm concurrency limit algorithms}.
+ *
+ * @since 2.28
+ */
+public final class LimitAlgorithms {
+
+    /**
+     * Create an additive increase/multiplicative decrease algorithm.
+     * <p>
+     * The limit is increased by one after each successful request completed while at least half of the limit was used,
+     * and multiplied by {@code 0.9} after each dropped request or a request whose round-trip time exceeded the given
+     * timeout.
+     * </p>
+     *
+     * @param timeout maximal round-trip time of a successful request.
+     * @param unit    timeout time unit.
+     * @return new AIMD algorithm.
+     */
+    public static LimitAlgorithm aimd(final long timeout, final TimeUnit unit) {
+        final long timeoutNanos = unit.toNanos(timeout);
+        return (limit, rttNanos, inFlight, dropped) -> {
+            if (dropped || rttNanos > timeoutNanos) {
+                return (int) (limit * 0.9);
+            }
+            return inFlight * 2 >= limit ? limit + 1 : limit;
+        };
+    }
+
+    /**
+     * Create a gradient algorithm.
+     * <p>
+     * The algorithm tracks the minimal round-trip time observed by the destination and adjusts the limit by the ratio
+     * of the minimal and the recently measured (smoothed) round-trip time, allowing a small queue of the square root
+     * of the limit. Increasing latency therefore reduces the limit before the requests start to fail. The minimal
+     * round-trip time is reset periodically to follow the changes of the destination.
+     * </p>
+     *
+     * @return new gradient algorithm.
+     */
+    public static LimitAlgorithm gradient() {
+        return new Gradient();
+    }
+
+    private static final class Gradient implements LimitAlgorithm {
+
+        private static final double SMOOTHING = 0.2;
+        private static final int RESET_INTERVAL = 1000;
+
+        private double estimatedLimit;
+        private long minRtt = Long.MAX_VALUE;
+        private double smoothedRtt;
+        private int samples;
+
+        @Override
+        public int update(final int limit, final long rttNanos, final int inFlight, final boolean dropped) {
+            if ((int) estimatedLimit != limit) {
+                // first sample or the estimate has been clamped by the limiter
+                estimatedLimit = limit;
+            }
+            if (++samples % RESET_INTERVAL == 0) {
+                minRtt = Long.MAX_VALUE;
+            }
+
+            if (dropped) {
+                estimatedLimit = Math.max(1, estimatedLimit * 0.5);
+                return (int) estimatedLimit;
+            }
+
+            minRtt = Math.min(minRtt, rttNanos);
+            smoothedRtt = smoothedRtt == 0 ? rttNanos : smoothedRtt + SMOOTHING * (rttNanos - smoothedRtt);
+
+            // do not grow the limit unless it is being used
+            if (inFlight * 2 < estimatedLimit) {
+                return (int) estimatedLimit;
+            }
+
+            final double gradient = Math.max(0.5, Math.min(1.0, minRtt / smoothedRtt));
+            final double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING;
+            return (int) estimatedLimit;
+        }
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private LimitAlgorithms() {
+        throw new AssertionError("No instances allowed.");
+    }
+}
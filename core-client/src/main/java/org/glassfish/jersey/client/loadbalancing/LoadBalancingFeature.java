@@ -0,0 +1,144 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.loadbalancing;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.internal.loadbalancing.LoadBalancer;
+
+/**
+ * Feature spreading the requests sent to a logical service URI across a set of endpoints.
+ * <p>
+ * Each request whose URI starts with the service URI is sent to an endpoint selected by the configured
+ * {@link LoadBalancingStrategy strategy} ({@link LoadBalancingStrategies#roundRobin() round robin} by default); the service
+ * URI prefix of the request URI is replaced by the base URI of the selected endpoint. Other requests are sent unchanged.
+ * </p>
+ * <pre>
+ * Client client = ClientBuilder.newClient().register(
+ *         new LoadBalancingFeature(URI.create("http://orders"),
+ *                 URI.create("http://replica1:8080/api"), URI.create("http://replica2:8080/api"))
+ *                 .strategy(LoadBalancingStrategies.powerOfTwoChoices())
+ *                 .hedging(95));
+ * client.target("http://orders/items/42").request().get(Item.class);
+ * </pre>
+ * <p>
+ * Optionally, the {@code GET} and {@code HEAD} requests without an entity can be hedged: if no response is received
+ * within the given percentile of the recently measured response times, a second attempt is sent to another endpoint
+ * and the response received first is used. The other response is closed. Hedged requests are executed in the
+ * asynchronous client thread pool.
+ * </p>
+ *
+ * @since 2.28
+ */
+public final class LoadBalancingFeature implements Feature {
+
+    private final URI serviceUri;
+    private final List<URI> endpoints;
+
+    private LoadBalancingStrategy strategy = LoadBalancingStrategies.roundRobin();
+    private double hedgingPercentile = 0;
+
+    /**
+     * Create new load balancing feature.
+     *
+     * @param serviceUri logical URI of the service.
+     * @param endpoints  base URIs of the service endpoints.
+     * @throws IllegalArgumentException if no endpoint is given.
+     */
+    public LoadBalancingFeature(final URI serviceUri, final URI... endpoints) {
+        this(serviceUri, Arrays.asList(endpoints));
+    }
+
+    /**
+     * Create new load balancing feature.
+     *
+     * @param serviceUri logical URI of the service.
+     * @param endpoints  base URIs of the service endpoints.
+     * @throws IllegalArgumentException if no endpoint is given.
+     */
+    public LoadBalancingFeature(final URI serviceUri, final List<URI> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint must be given.");
+        }
+        this.serviceUri = serviceUri;
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(endpoints));
+    }
+
+    /**
+     * Set the strategy selecting the endpoints.
+     *
+     * @param strategy load balancing strategy.
+     * @return updated feature.
+     */
+    public LoadBalancingFeature strategy(final LoadBalancingStrategy strategy) {
+        this.strategy = strategy;
+        return this;
+    }
+
+    /**
+     * Enable hedging of the safe requests.
+     *
+     * @param percentile percentile of the recent response times after which a second attempt is sent
+     *                   ({@code 0} &lt; percentile &lt; {@code 100}).
+     * @return updated feature.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public LoadBalancingFeature hedging(final double percentile) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("The hedging percentile must be between 0 and 100.");
+        }
+        this.hedgingPercentile = percentile;
+        return this;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        context.property(LoadBalancer.PROPERTY, new LoadBalancer(serviceUri, endpoints, strategy, hedgingPercentile));
+        return true;
+    }
+}
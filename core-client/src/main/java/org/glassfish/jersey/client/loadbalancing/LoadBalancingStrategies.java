@@ -0,0 +1,116 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.loadbalancing;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of the built-in {@link LoadBalancingStrategy load balancing strategies}.
+ *
+ * @since 2.28
+ */
+public final class LoadBalancingStrategies {
+
+    /**
+     * Create a strategy selecting the endpoints in turn.
+     *
+     * @return round robin strategy.
+     */
+    public static LoadBalancingStrategy roundRobin() {
+        final AtomicInteger counter = new AtomicInteger();
+        return endpoints -> endpoints.get(Math.floorMod(counter.getAndIncrement(), endpoints.size()));
+    }
+
+    /**
+     * Create a strategy selecting the endpoint with the least outstanding requests. Ties are broken randomly.
+     *
+     * @return least outstanding requests strategy.
+     */
+    public static LoadBalancingStrategy leastOutstandingRequests() {
+        return endpoints -> {
+            final int size = endpoints.size();
+            final int start = ThreadLocalRandom.current().nextInt(size);
+            Endpoint selected = endpoints.get(start);
+            for (int i = 1; i < size; i++) {
+                final Endpoint candidate = endpoints.get((start + i) % size);
+                if (candidate.getInFlightCount() < selected.getInFlightCount()) {
+                    selected = candidate;
+                }
+            }
+            return selected;
+        };
+    }
+
+    /**
+     * Create a strategy comparing two randomly chosen endpoints and selecting the one with the lower measured latency,
+     * weighted by the number of its outstanding requests. Endpoints without any measured latency are preferred so that
+     * their latency gets measured.
+     *
+     * @return power of two choices strategy.
+     */
+    public static LoadBalancingStrategy powerOfTwoChoices() {
+        return endpoints -> {
+            final int size = endpoints.size();
+            if (size == 1) {
+                return endpoints.get(0);
+            }
+
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final int first = random.nextInt(size);
+            final int second = (first + 1 + random.nextInt(size - 1)) % size;
+            final Endpoint a = endpoints.get(first);
+            final Endpoint b = endpoints.get(second);
+            return cost(a) <= cost(b) ? a : b;
+        };
+    }
+
+    private static double cost(final Endpoint endpoint) {
+        return endpoint.getLatency() * (endpoint.getInFlightCount() + 1);
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private LoadBalancingStrategies() {
+        throw new AssertionError("No instances allowed.");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.monitoring;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.internal.monitoring.ClientStatisticsImpl;
+
+/**
+ * Feature that enables calculating of {@link ClientStatistics client monitoring statistics} and optionally
+ * also enables exposure of monitoring MXBeans.
+ * <p>
+ * The statistics are collected per target host and per {@link javax.ws.rs.client.WebTarget web target} URI template
+ * and include request counts, in-flight requests, failures and latency histograms. If the client transport connector
+ * is a {@link org.glassfish.jersey.client.spi.PooledConnector}, the statistics include also the state of its connection
+ * pools. The statistics can be retrieved from the feature instance:
+ * </p>
+ * <pre>
+ * ClientMonitoringFeature monitoring = new ClientMonitoringFeature("orders");
+ * Client client = ClientBuilder.newClient().register(monitoring);
+ * ...
+ * Map&lt;String, EndpointStatistics&gt; hosts = monitoring.getStatistics().getHostStatistics();
+ * </pre>
+ * <p>
+ * A feature instance should be registered in a single client only, otherwise the statistics of all the clients
+ * are merged. Exposure of the monitoring MXBeans (one {@link EndpointMXBean} per target host and web target registered
+ * under the {@code org.glassfish.jersey.client} domain) can be enabled by {@link #setmBeansEnabled(boolean)} or by
+ * the {@link ClientProperties#MONITORING_STATISTICS_MBEANS_ENABLED} property, which overrides the setting of the feature.
+ * The MXBeans are unregistered when the client is closed.
+ * </p>
+ *
+ * @since 2.28
+ */
+public final class ClientMonitoringFeature implements Feature {
+
+    private static final AtomicInteger CLIENT_COUNTER = new AtomicInteger();
+
+    private final ClientStatisticsImpl statistics;
+    private boolean mBeansEnabled;
+
+    /**
+     * Create new client monitoring feature with a generated client name.
+     */
+    public ClientMonitoringFeature() {
+        this("Client-" + CLIENT_COUNTER.incrementAndGet());
+    }
+
+    /**
+     * Create new client monitoring feature.
+     *
+     * @param name name of the client used in the names of the monitoring MXBeans.
+     */
+    public ClientMonitoringFeature(final String name) {
+        this.statistics = new ClientStatisticsImpl(name);
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        final Boolean mBeansEnabledProperty = ClientProperties.getValue(context.getConfiguration().getProperties(),
+                ClientProperties.MONITORING_STATISTICS_MBEANS_ENABLED, null, Boolean.class);
+        if (mBeansEnabledProperty != null) {
+            mBeansEnabled = mBeansEnabledProperty;
+        }
+
+        statistics.setMBeansEnabled(mBeansEnabled);
+        context.property(ClientStatisticsImpl.PROPERTY, statistics);
+        return true;
+    }
+
+    /**
+     * Set whether the feature should also enable exposure of the monitoring MXBeans.
+     * The set value can be overwritten by the definition of the property
+     * {@link ClientProperties#MONITORING_STATISTICS_MBEANS_ENABLED}.
+     *
+     * @param mBeansEnabled {@code true} if monitoring MXBeans should be exposed.
+     */
+    public void setmBeansEnabled(final boolean mBeansEnabled) {
+        this.mBeansEnabled = mBeansEnabled;
+    }
+
+    /**
+     * Get the monitoring statistics collected by the clients this feature is registered in.
+     *
+     * @return client monitoring statistics.
+     */
+    public ClientStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.monitoring;
+
+import java.util.Map;
+
+/**
+ * Monitoring statistics of the requests sent by a Jersey client, see {@link ClientMonitoringFeature}.
+ * <p>
+ * The statistics are collected for the requests handed over to the client transport connector, i.e. requests aborted
+ * by a filter are not counted. All returned maps are immutable snapshots.
+ * </p>
+ *
+ * @since 2.28
+ */
+public interface ClientStatistics {
+
+    /**
+     * Get the statistics of the requests per target host. Keys of the map are target hosts in the form
+     * {@code scheme://host:port}.
+     *
+     * @return host statistics.
+     */
+    Map<String, EndpointStatistics> getHostStatistics();
+
+    /**
+     * Get the statistics of the requests per {@link javax.ws.rs.client.WebTarget web target}. Keys of the map are URI
+     * templates of the targets before any template variable has been resolved (e.g. {@code http://localhost:8080/users/{id}}).
+     *
+     * @return web target statistics.
+     */
+    Map<String, EndpointStatistics> getTargetStatistics();
+
+    /**
+     * Get the current state of the connection pools of the client transport connector. Keys of the map are target hosts
+     * in the form {@code scheme://host:port}. The map is empty if the connector does not expose any connection pool
+     * statistics (see {@link org.glassfish.jersey.client.spi.PooledConnector}).
+     *
+     * @return connection pool statistics.
+     */
+    Map<String, ConnectionPoolStatistics> getConnectionPoolStatistics();
+}
@@ -0,0 +1,114 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.monitoring;
+
+/**
+ * Snapshot of the state of a connector connection pool for a single target host.
+ *
+ * @since 2.28
+ */
+public final class ConnectionPoolStatistics {
+
+    private final int leasedConnections;
+    private final int idleConnections;
+    private final int pendingRequests;
+    private final int maxConnections;
+
+    /**
+     * Create new connection pool statistics snapshot.
+     *
+     * @param leasedConnections number of connections currently used by requests.
+     * @param idleConnections   number of idle connections.
+     * @param pendingRequests   number of requests waiting for a connection.
+     * @param maxConnections    maximal number of connections, {@code -1} if not limited or not known.
+     */
+    public ConnectionPoolStatistics(final int leasedConnections,
+                                    final int idleConnections,
+                                    final int pendingRequests,
+                                    final int maxConnections) {
+        this.leasedConnections = leasedConnections;
+        this.idleConnections = idleConnections;
+        this.pendingRequests = pendingRequests;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Get the number of connections currently used by requests.
+     *
+     * @return number of leased connections.
+     */
+    public int getLeasedConnections() {
+        return leasedConnections;
+    }
+
+    /**
+     * Get the number of idle connections.
+     *
+     * @return number of idle connections.
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Get the number of requests waiting for a connection.
+     *
+     * @return number of pending requests.
+     */
+    public int getPendingRequests() {
+        return pendingRequests;
+    }
+
+    /**
+     * Get the maximal number of connections.
+     *
+     * @return maximal number of connections, {@code -1} if not limited or not known.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{leased=" + leasedConnections + ", idle=" + idleConnections
+                + ", pending=" + pendingRequests + ", max=" + maxConnections + '}';
+    }
+}
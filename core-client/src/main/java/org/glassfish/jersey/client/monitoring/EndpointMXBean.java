@@ -0,0 +1,140 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.monitoring;
+
+/**
+ * MXBean interface of the client monitoring statistics of a target host or a web target. All times are in milliseconds.
+ *
+ * @since 2.28
+ */
+public interface EndpointMXBean {
+
+    /**
+     * Get the number of requests handed over to the connector.
+     *
+     * @return number of requests.
+     */
+    long getRequestCount();
+
+    /**
+     * Get the number of requests currently in flight.
+     *
+     * @return number of requests in flight.
+     */
+    long getInFlightCount();
+
+    /**
+     * Get the number of requests that failed without receiving any response.
+     *
+     * @return number of failed requests.
+     */
+    long getFailureCount();
+
+    /**
+     * Get the number of responses with a server error ({@code 5xx}) status code.
+     *
+     * @return number of server error responses.
+     */
+    long getServerErrorCount();
+
+    /**
+     * Get the average queue time (see {@link EndpointStatistics#getQueueTime()}).
+     *
+     * @return average queue time.
+     */
+    double getQueueTimeAverage();
+
+    /**
+     * Get the average response time (see {@link EndpointStatistics#getResponseTime()}).
+     *
+     * @return average response time.
+     */
+    double getResponseTimeAverage();
+
+    /**
+     * Get the approximated 99th percentile of the response time (see {@link EndpointStatistics#getResponseTime()}).
+     *
+     * @return 99th percentile of the response time.
+     */
+    long getResponseTime99thPercentile();
+
+    /**
+     * Get the average total time (see {@link EndpointStatistics#getTotalTime()}).
+     *
+     * @return average total time.
+     */
+    double getTotalTimeAverage();
+
+    /**
+     * Get the approximated 99th percentile of the total time (see {@link EndpointStatistics#getTotalTime()}).
+     *
+     * @return 99th percentile of the total time.
+     */
+    long getTotalTime99thPercentile();
+
+    /**
+     * Get the maximal total time (see {@link EndpointStatistics#getTotalTime()}).
+     *
+     * @return maximal total time.
+     */
+    long getTotalTimeMaximum();
+
+    /**
+     * Get the number of connections to the target host currently used by requests.
+     *
+     * @return number of leased connections or {@code -1} if not known (e.g. the MXBean represents a web target).
+     */
+    int getLeasedConnections();
+
+    /**
+     * Get the number of idle connections to the target host.
+     *
+     * @return number of idle connections or {@code -1} if not known (e.g. the MXBean represents a web target).
+     */
+    int getIdleConnections();
+
+    /**
+     * Get the number of requests waiting for a connection to the target host.
+     *
+     * @return number of pending requests or {@code -1} if not known (e.g. the MXBean represents a web target).
+     */
+    int getPendingRequests();
+}
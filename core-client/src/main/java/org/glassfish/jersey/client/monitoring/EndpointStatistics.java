@@ -0,0 +1,103 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.monitoring;
+
+/**
+ * Monitoring statistics of the requests sent to a target host or a web target.
+ *
+ * @since 2.28
+ */
+public interface EndpointStatistics {
+
+    /**
+     * Get the number of requests handed over to the connector.
+     *
+     * @return number of requests.
+     */
+    long getRequestCount();
+
+    /**
+     * Get the number of requests currently in flight, i.e. requests that have been handed over to the connector
+     * and whose response entity has not been fully read or closed yet.
+     *
+     * @return number of requests in flight.
+     */
+    long getInFlightCount();
+
+    /**
+     * Get the number of requests that failed without receiving any response (e.g. connection failures and timeouts).
+     *
+     * @return number of failed requests.
+     */
+    long getFailureCount();
+
+    /**
+     * Get the number of responses with a server error ({@code 5xx}) status code.
+     *
+     * @return number of server error responses.
+     */
+    long getServerErrorCount();
+
+    /**
+     * Get the statistics of the time between the submission of a request and handing the request over to the connector.
+     * The time includes execution of the request filters and waiting for a thread of the asynchronous client thread pool.
+     *
+     * @return queue time statistics.
+     */
+    LatencyStatistics getQueueTime();
+
+    /**
+     * Get the statistics of the time between handing the request over to the connector and receiving the response
+     * from the connector. For the streaming connectors the time corresponds to the time to the first byte
+     * of the response.
+     *
+     * @return response time statistics.
+     */
+    LatencyStatistics getResponseTime();
+
+    /**
+     * Get the statistics of the time between the submission of a request and reading (or closing) the whole response
+     * entity.
+     *
+     * @return total time statistics.
+     */
+    LatencyStatistics getTotalTime();
+}
@@ -0,0 +1,98 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.monitoring;
+
+/**
+ * Histogram of measured latencies. All times are in milliseconds.
+ * <p>
+ * The measured values are counted in buckets with fixed upper bounds, the percentiles are therefore approximated
+ * by the upper bound of the bucket containing the requested percentile.
+ * </p>
+ *
+ * @since 2.28
+ */
+public interface LatencyStatistics {
+
+    /**
+     * Get the number of measured values.
+     *
+     * @return number of measurements.
+     */
+    long getCount();
+
+    /**
+     * Get the average of the measured values.
+     *
+     * @return average time in milliseconds or {@code 0} if nothing has been measured yet.
+     */
+    double getAverage();
+
+    /**
+     * Get the maximal measured value.
+     *
+     * @return maximal time in milliseconds or {@code 0} if nothing has been measured yet.
+     */
+    long getMaximum();
+
+    /**
+     * Get the approximated percentile of the measured values.
+     *
+     * @param percentile requested percentile ({@code 0} - {@code 100}).
+     * @return upper bound of the histogram bucket containing the percentile in milliseconds or {@code 0} if nothing
+     * has been measured yet.
+     */
+    long getPercentile(double percentile);
+
+    /**
+     * Get the upper bounds (inclusive) of the histogram buckets in milliseconds. The last bucket is unbounded
+     * and its upper bound is {@link Long#MAX_VALUE}.
+     *
+     * @return bucket upper bounds.
+     */
+    long[] getBucketBounds();
+
+    /**
+     * Get the number of measured values in each of the histogram buckets.
+     *
+     * @return bucket counts in the order of {@link #getBucketBounds()}.
+     */
+    long[] getBucketCounts();
+}
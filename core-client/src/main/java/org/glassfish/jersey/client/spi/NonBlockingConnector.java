@@ -0,0 +1,75 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.spi;
+
+import java.util.concurrent.Future;
+
+import org.glassfish.jersey.client.ClientRequest;
+
+/**
+ * Client transport connector able to process asynchronous requests without blocking any thread while waiting
+ * for network I/O.
+ * <p>
+ * The non-blocking processing is used by the Jersey client runtime for asynchronous and reactive requests if enabled
+ * via the {@link org.glassfish.jersey.client.ClientProperties#ASYNC_NON_BLOCKING} property. In such a case the client
+ * runtime does not hand the request over to the asynchronous client thread pool but invokes
+ * {@link #applyNonBlocking(ClientRequest, AsyncConnectorCallback)} directly from the thread that submitted the request.
+ * </p>
+ *
+ * @since 2.28
+ */
+public interface NonBlockingConnector extends Connector {
+
+    /**
+     * Asynchronously process client request into a response without blocking the calling thread.
+     * <p>
+     * Implementations MUST return from the method without waiting for any network I/O and MUST invoke
+     * the {@link AsyncConnectorCallback#response(org.glassfish.jersey.client.ClientResponse) response callback} only once
+     * the whole response entity has been received, i.e. reading from the entity stream of the response must never block.
+     * </p>
+     *
+     * @param request  Jersey client request to be sent.
+     * @param callback Jersey asynchronous connector callback to asynchronously receive
+     *                 the request processing result (either a response or a failure).
+     * @return asynchronously executed task handle.
+     */
+    Future<?> applyNonBlocking(ClientRequest request, AsyncConnectorCallback callback);
+}
@@ -0,0 +1,150 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests several parsing use-cases of the buffered chunk parser.
+ */
+public class BufferedBoundaryParserTest {
+
+    public static final String DELIMITER_4 = "1234";
+
+    @Test
+    public void testBufferedParserDelimiter4() throws IOException {
+        // delimiter is the same char sequence as an input
+        assertNull(parse(DELIMITER_4, DELIMITER_4));
+
+        // input starts with the delimiter
+        assertEquals("123", parse(DELIMITER_4, DELIMITER_4 + "123"));
+
+        // beginning of the input and delimiter are not the same
+        assertEquals("abc", parse(DELIMITER_4, "abc" + DELIMITER_4 + "def"));
+
+        // delimiter in the input is not complete, only partial
+        assertEquals("abc123", parse(DELIMITER_4, "abc123"));
+        assertEquals("abc1231", parse(DELIMITER_4, "abc1231"));
+
+        // input has the same beginning as the delimiter
+        assertEquals("12", parse(DELIMITER_4, "121234"));
+        assertEquals("1*", parse("**b**", "1***b**"));
+    }
+
+    @Test
+    public void testBufferedParserFlow() throws IOException {
+        final ChunkParser parser = ChunkedInput.createBufferedParser(DELIMITER_4);
+        final InputStream stream = new ByteArrayInputStream((DELIMITER_4 + "abc" + DELIMITER_4 + DELIMITER_4 + "edf"
+                + DELIMITER_4 + "ghi").getBytes());
+
+        assertEquals("abc", new String(parser.readChunk(stream)));
+        assertEquals("edf", new String(parser.readChunk(stream)));
+        assertEquals("ghi", new String(parser.readChunk(stream)));
+        assertNull(parser.readChunk(stream));
+    }
+
+    @Test
+    public void testDelimiterSplitAcrossReads() throws IOException {
+        final ChunkParser parser = ChunkedInput.createBufferedParser("\r\n");
+        final InputStream stream = new TrickleInputStream("{\"a\":1}\r\n{\"b\":2}\r\n".getBytes());
+
+        assertEquals("{\"a\":1}", new String(parser.readChunk(stream)));
+        assertEquals("{\"b\":2}", new String(parser.readChunk(stream)));
+        assertNull(parser.readChunk(stream));
+    }
+
+    @Test
+    public void testChunksLargerThanWindow() throws IOException {
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 1000 * (i % 20); j++) {
+                input.append((char) ('a' + i % 26));
+            }
+            input.append('\n');
+        }
+
+        final ChunkParser parser = ChunkedInput.createBufferedParser("\n");
+        final InputStream stream = new ByteArrayInputStream(input.toString().getBytes());
+        for (int i = 0; i < 100; i++) {
+            if (i % 20 == 0) {
+                // empty chunks are skipped
+                continue;
+            }
+            final byte[] chunk = parser.readChunk(stream);
+            assertEquals(1000 * (i % 20), chunk.length);
+            assertEquals('a' + i % 26, chunk[0]);
+            assertEquals('a' + i % 26, chunk[chunk.length - 1]);
+        }
+        assertNull(parser.readChunk(stream));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyDelimiter() {
+        ChunkedInput.createBufferedParser("");
+    }
+
+    private static String parse(final String delimiter, final String str) throws IOException {
+        final byte[] bytes = ChunkedInput.createBufferedParser(delimiter).readChunk(new ByteArrayInputStream(str.getBytes()));
+        return bytes == null ? null : new String(bytes);
+    }
+
+    /**
+     * Input stream returning at most a single byte per read.
+     */
+    private static class TrickleInputStream extends FilterInputStream {
+
+        TrickleInputStream(final byte[] data) {
+            super(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ChunkedInput#toPublisher(java.util.concurrent.Executor)} unit tests.
+ */
+public class ChunkedInputPublisherTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testDemandDriven() throws Exception {
+        final ChunkedInput<String> input = chunkedInput("a\r\nb\r\nc\r\n");
+        final TestSubscriber subscriber = new TestSubscriber();
+        input.toPublisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+        assertEquals(2, subscriber.chunks.size());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.completed.get(10, TimeUnit.SECONDS);
+        assertEquals("[a, b, c]", subscriber.chunks.toString());
+        assertTrue(input.isClosed());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final ChunkedInput<String> input = chunkedInput("a\r\nb\r\n");
+        final TestSubscriber subscriber = new TestSubscriber();
+        input.toPublisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+
+        assertTrue(input.isClosed());
+        assertTrue(subscriber.chunks.size() <= 1);
+        assertFalse(subscriber.completed.isDone());
+    }
+
+    @Test
+    public void testInvalidRequest() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber();
+        chunkedInput("a\r\n").toPublisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        try {
+            subscriber.completed.get(10, TimeUnit.SECONDS);
+        } catch (final Exception e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            return;
+        }
+        throw new AssertionError("Invalid request not reported.");
+    }
+
+    @Test
+    public void testSingleSubscriber() throws Exception {
+        final Flow.Publisher<String> publisher = chunkedInput("a\r\n").toPublisher(executor);
+        publisher.subscribe(new TestSubscriber());
+
+        final TestSubscriber second = new TestSubscriber();
+        publisher.subscribe(second);
+        try {
+            second.completed.get(10, TimeUnit.SECONDS);
+        } catch (final Exception e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            return;
+        }
+        throw new AssertionError("Second subscriber not rejected.");
+    }
+
+    private static ChunkedInput<String> chunkedInput(final String entity) {
+        final StaticConnector connector = new StaticConnector(entity);
+        final Client client = new JerseyClientBuilder().withConfig(new ClientConfig().connectorProvider(connector)).build();
+        return client.target("http://localhost/chunks").request().get(new GenericType<ChunkedInput<String>>() { });
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<String> {
+
+        private final List<String> chunks = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> completed = new CompletableFuture<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final String item) {
+            chunks.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.complete(null);
+        }
+    }
+
+    private static class StaticConnector implements Connector, ConnectorProvider {
+
+        private final String entity;
+
+        private StaticConnector(final String entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.getHeaders().putSingle("Content-Type", MediaType.TEXT_PLAIN);
+            response.setEntityStream(new ByteArrayInputStream(entity.getBytes()));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            callback.response(apply(request));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public String getName() {
+            return "static-connector";
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link CoalescingConnector} unit tests.
+ */
+public class CoalescingConnectorTest {
+
+    private static final String EXECUTOR_THREAD = "coalescing-test-executor";
+
+    private final JerseyClient client = new JerseyClientBuilder().build();
+
+    @Test
+    public void testIdenticalRequestsCoalesced() throws Exception {
+        final BlockingConnector blocking = new BlockingConnector();
+        final CoalescingConnector connector = new CoalescingConnector(blocking, CoalescingConnectorTest::execute);
+
+        final CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                () -> entity(connector.apply(request("GET", "http://localhost/a"))));
+        assertTrue(blocking.entered.await(10, TimeUnit.SECONDS));
+
+        final CompletableFuture<String> follower = new CompletableFuture<>();
+        final CompletableFuture<String> followerThread = new CompletableFuture<>();
+        connector.apply(request("GET", "http://localhost/a"), new AsyncConnectorCallback() {
+            @Override
+            public void response(final ClientResponse response) {
+                followerThread.complete(Thread.currentThread().getName());
+                follower.complete(entity(response));
+            }
+
+            @Override
+            public void failure(final Throwable failure) {
+                follower.completeExceptionally(failure);
+            }
+        });
+        blocking.release.countDown();
+
+        assertEquals("http://localhost/a", leader.get(10, TimeUnit.SECONDS));
+        assertEquals("http://localhost/a", follower.get(10, TimeUnit.SECONDS));
+        assertEquals(EXECUTOR_THREAD, followerThread.get(10, TimeUnit.SECONDS));
+        assertEquals(1, blocking.calls.get());
+
+        // the request is sent again once the response has been received
+        connector.apply(request("GET", "http://localhost/a")).close();
+        assertEquals(2, blocking.calls.get());
+    }
+
+    @Test
+    public void testStreamedResponseNotShared() throws Exception {
+        final BlockingConnector blocking = new BlockingConnector() {
+            @Override
+            protected ClientResponse respond(final ClientRequest request) {
+                final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+                response.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, MediaType.SERVER_SENT_EVENTS);
+                response.setEntityStream(new ByteArrayInputStream(request.getUri().toString().getBytes()));
+                return response;
+            }
+        };
+        final CoalescingConnector connector = new CoalescingConnector(blocking, CoalescingConnectorTest::execute);
+
+        final CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                () -> entity(connector.apply(request("GET", "http://localhost/events"))));
+        assertTrue(blocking.entered.await(10, TimeUnit.SECONDS));
+
+        final CompletableFuture<String> follower = new CompletableFuture<>();
+        connector.apply(request("GET", "http://localhost/events"), new AsyncConnectorCallback() {
+            @Override
+            public void response(final ClientResponse response) {
+                follower.complete(entity(response));
+            }
+
+            @Override
+            public void failure(final Throwable failure) {
+                follower.completeExceptionally(failure);
+            }
+        });
+        blocking.release.countDown();
+
+        // the streamed response is not buffered, the waiting request is sent on its own
+        assertEquals("http://localhost/events", leader.get(10, TimeUnit.SECONDS));
+        assertEquals("http://localhost/events", follower.get(10, TimeUnit.SECONDS));
+        assertEquals(2, blocking.calls.get());
+    }
+
+    @Test
+    public void testDifferentRequestsNotCoalesced() throws Exception {
+        final BlockingConnector blocking = new BlockingConnector();
+        blocking.release.countDown();
+        final CoalescingConnector connector = new CoalescingConnector(blocking, CoalescingConnectorTest::execute);
+
+        connector.apply(request("GET", "http://localhost/a")).close();
+        connector.apply(request("GET", "http://localhost/b")).close();
+        final ClientRequest withHeader = request("GET", "http://localhost/b");
+        withHeader.getHeaders().add("X-Test", "value");
+        connector.apply(withHeader).close();
+        connector.apply(request("DELETE", "http://localhost/b")).close();
+        assertEquals(4, blocking.calls.get());
+    }
+
+    @Test
+    public void testFailureShared() throws Exception {
+        final BlockingConnector blocking = new BlockingConnector() {
+            @Override
+            protected ClientResponse respond(final ClientRequest request) {
+                throw new ProcessingException("failed");
+            }
+        };
+        final CoalescingConnector connector = new CoalescingConnector(blocking, CoalescingConnectorTest::execute);
+
+        final CompletableFuture<Void> leader = CompletableFuture.runAsync(
+                () -> connector.apply(request("GET", "http://localhost/a")));
+        assertTrue(blocking.entered.await(10, TimeUnit.SECONDS));
+
+        final CompletableFuture<Throwable> follower = new CompletableFuture<>();
+        connector.apply(request("GET", "http://localhost/a"), new AsyncConnectorCallback() {
+            @Override
+            public void response(final ClientResponse response) {
+                follower.complete(null);
+            }
+
+            @Override
+            public void failure(final Throwable failure) {
+                follower.complete(failure);
+            }
+        });
+        blocking.release.countDown();
+
+        assertEquals("failed", follower.get(10, TimeUnit.SECONDS).getMessage());
+        assertTrue(leader.handle((value, failure) -> failure != null).get(10, TimeUnit.SECONDS));
+        assertEquals(1, blocking.calls.get());
+    }
+
+    @Test
+    public void testEnabledByProperty() {
+        final BlockingConnector blocking = new BlockingConnector();
+        blocking.release.countDown();
+        final JerseyClient coalescing = new JerseyClientBuilder()
+                .withConfig(new ClientConfig().connectorProvider(blocking))
+                .property(ClientProperties.REQUEST_COALESCING, true)
+                .build();
+
+        assertEquals("http://localhost/a", coalescing.target("http://localhost/a").request().get(String.class));
+        assertEquals(1, blocking.calls.get());
+    }
+
+    private ClientRequest request(final String method, final String uri) {
+        final ClientRequest request = new ClientRequest(URI.create(uri), client.getConfiguration(), new MapPropertiesDelegate());
+        request.setMethod(method);
+        return request;
+    }
+
+    private static void execute(final Runnable task) {
+        new Thread(task, EXECUTOR_THREAD).start();
+    }
+
+    private static String entity(final ClientResponse response) {
+        try {
+            return ReaderWriter.readFromAsString(response.getEntityStream(), null);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class BlockingConnector implements Connector, ConnectorProvider {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            calls.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new ProcessingException(e);
+            }
+            return respond(request);
+        }
+
+        protected ClientResponse respond(final ClientRequest request) {
+            final byte[] entity = request.getUri().toString().getBytes();
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, Integer.toString(entity.length));
+            response.setEntityStream(new ByteArrayInputStream(entity));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            try {
+                callback.response(apply(request));
+            } catch (final ProcessingException e) {
+                callback.failure(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public String getName() {
+            return "blocking-connector";
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.client.spi.NonBlockingConnector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link ClientProperties#ASYNC_NON_BLOCKING non-blocking} asynchronous client processing.
+ */
+public class NonBlockingConnectorTest {
+
+    private LoopBackConnector connector;
+    private ExecutorService responder;
+
+    @Before
+    public void setUp() {
+        responder = Executors.newSingleThreadExecutor();
+        connector = new LoopBackConnector(responder);
+    }
+
+    @After
+    public void tearDown() {
+        responder.shutdownNow();
+    }
+
+    private Client client(final boolean nonBlocking) {
+        return ClientBuilder.newClient(new ClientConfig()
+                .property(ClientProperties.ASYNC_NON_BLOCKING, nonBlocking)
+                .connectorProvider(connector));
+    }
+
+    @Test
+    public void testAsyncNonBlocking() throws Exception {
+        final Client client = client(true);
+        try {
+            final Future<String> future = client.target("http://localhost/async").request().async().get(String.class);
+
+            assertEquals("http://localhost/async", future.get(5, TimeUnit.SECONDS));
+            // the request has been handed over to the connector by the calling thread
+            assertSame(Thread.currentThread(), connector.nonBlockingThread);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testCallbackNotInvokedByConnectorThread() throws Exception {
+        final Client client = client(true);
+        try {
+            final CompletableFuture<Thread> callbackThread = new CompletableFuture<>();
+            client.target("http://localhost/callback").request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(final String response) {
+                    callbackThread.complete(Thread.currentThread());
+                }
+
+                @Override
+                public void failed(final Throwable throwable) {
+                    callbackThread.completeExceptionally(throwable);
+                }
+            });
+
+            assertNotSame(connector.responderThread, callbackThread.get(5, TimeUnit.SECONDS));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testRxNonBlocking() throws Exception {
+        final Client client = client(true);
+        try {
+            final CompletableFuture<String> future = client.target("http://localhost/rx").request().rx().get(String.class)
+                    .toCompletableFuture();
+
+            assertEquals("http://localhost/rx", future.get(5, TimeUnit.SECONDS));
+            assertSame(Thread.currentThread(), connector.nonBlockingThread);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testRxResponseNonBlocking() throws Exception {
+        final Client client = client(true);
+        try {
+            final Response response = client.target("http://localhost/response").request().rx().get()
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertEquals(200, response.getStatus());
+            assertEquals("http://localhost/response", response.readEntity(String.class));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testNonBlockingDisabled() throws Exception {
+        final Client client = client(false);
+        try {
+            final Future<String> future = client.target("http://localhost/async").request().async().get(String.class);
+
+            assertEquals("http://localhost/async", future.get(5, TimeUnit.SECONDS));
+            assertNull(connector.nonBlockingThread);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Connector completing the requests asynchronously with the request URI as the response entity.
+     */
+    private static class LoopBackConnector implements NonBlockingConnector, ConnectorProvider {
+
+        private final ExecutorService responder;
+        private volatile Thread nonBlockingThread;
+        private volatile Thread responderThread;
+
+        private LoopBackConnector(final ExecutorService responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public Future<?> applyNonBlocking(final ClientRequest request, final AsyncConnectorCallback callback) {
+            nonBlockingThread = Thread.currentThread();
+            return respond(request, callback);
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            return respond(request, callback);
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.setEntityStream(new ByteArrayInputStream(request.getUri().toString().getBytes()));
+            return response;
+        }
+
+        private Future<?> respond(final ClientRequest request, final AsyncConnectorCallback callback) {
+            return responder.submit(() -> {
+                responderThread = Thread.currentThread();
+                callback.response(apply(request));
+            });
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public String getName() {
+            return "non-blocking-loop-back-connector";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
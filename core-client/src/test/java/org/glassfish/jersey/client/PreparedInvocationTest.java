@@ -0,0 +1,146 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link PreparedInvocation} unit tests.
+ */
+public class PreparedInvocationTest {
+
+    private final JerseyClient client = new JerseyClientBuilder()
+            .withConfig(new ClientConfig().connectorProvider(new EchoConnector()))
+            .build();
+
+    @Test
+    public void testTemplateValuesBound() {
+        final PreparedInvocation invocation = client.target("http://localhost/items/{id}")
+                .queryParam("q", "{query}")
+                .prepare(HttpMethod.GET);
+
+        assertEquals(Arrays.asList("id", "query"), invocation.getTemplateVariables());
+        assertEquals("GET http://localhost/items/1?q=a null", invocation.invoke(String.class, 1, "a"));
+        assertEquals("GET http://localhost/items/x%2Fy?q=c null", invocation.invoke(String.class, "x/y", "c"));
+    }
+
+    @Test
+    public void testHeaders() {
+        final PreparedInvocation invocation = client.target("http://localhost/items").prepare(HttpMethod.GET);
+        final PreparedInvocation withHeader = invocation.header("X-Test", "value").accept(MediaType.TEXT_PLAIN_TYPE);
+
+        assertEquals("GET http://localhost/items value", withHeader.invoke(String.class));
+        // the original prepared invocation is not modified
+        assertEquals("GET http://localhost/items null", invocation.invoke(String.class));
+    }
+
+    @Test
+    public void testEntity() {
+        final PreparedInvocation invocation = client.target("http://localhost/items/{id}").prepare(HttpMethod.PUT);
+
+        assertEquals("PUT http://localhost/items/1 null",
+                invocation.invoke(Entity.text("item"), String.class, 1));
+        try (Response response = invocation.invoke(Entity.text("item"), Collections.singletonMap("id", 2))) {
+            assertEquals("PUT http://localhost/items/2 null", response.readEntity(String.class));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEntityValidated() {
+        client.target("http://localhost/items").prepare(HttpMethod.PUT).invoke();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingTemplateValue() {
+        client.target("http://localhost/items/{id}").prepare(HttpMethod.GET).invoke();
+    }
+
+    private static class EchoConnector implements Connector, ConnectorProvider {
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final String echo = request.getMethod() + " " + request.getUri() + " " + request.getHeaderString("X-Test");
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.getHeaders().putSingle("Content-Type", MediaType.TEXT_PLAIN);
+            response.setEntityStream(new ByteArrayInputStream(echo.getBytes()));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            callback.response(apply(request));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public String getName() {
+            return "echo-connector";
+        }
+    }
+}
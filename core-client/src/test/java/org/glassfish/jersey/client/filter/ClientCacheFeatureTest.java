@@ -0,0 +1,207 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.filter;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * {@link ClientCacheFeature} unit tests.
+ */
+public class ClientCacheFeatureTest {
+
+    @Test
+    public void testFreshResponseServedFromCache() {
+        final TestConnector connector = new TestConnector(request -> {
+            final ClientResponse response = response(request, "fresh");
+            response.header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+            return response;
+        });
+        final WebTarget target = target(connector);
+
+        assertEquals("fresh", target.request().get(String.class));
+        final Response cached = target.request().get();
+        assertEquals(200, cached.getStatus());
+        assertEquals("fresh", cached.readEntity(String.class));
+        assertEquals("0", cached.getHeaderString("Age"));
+        assertEquals(1, connector.calls.get());
+
+        assertEquals("fresh", target.request().header(HttpHeaders.CACHE_CONTROL, "no-cache").get(String.class));
+        assertEquals(2, connector.calls.get());
+    }
+
+    @Test
+    public void testNoStoreResponseNotCached() {
+        final TestConnector connector = new TestConnector(request -> {
+            final ClientResponse response = response(request, "private");
+            response.header(HttpHeaders.CACHE_CONTROL, "no-store, max-age=60");
+            return response;
+        });
+        final WebTarget target = target(connector);
+
+        assertEquals("private", target.request().get(String.class));
+        assertEquals("private", target.request().get(String.class));
+        assertEquals(2, connector.calls.get());
+    }
+
+    @Test
+    public void testStaleResponseRevalidated() {
+        final TestConnector connector = new TestConnector(request -> {
+            if ("\"v1\"".equals(request.getHeaderString(HttpHeaders.IF_NONE_MATCH))) {
+                final ClientResponse response = new ClientResponse(Response.Status.NOT_MODIFIED, request);
+                response.header(HttpHeaders.ETAG, "\"v1\"");
+                return response;
+            }
+            final ClientResponse response = response(request, "tagged");
+            response.header(HttpHeaders.ETAG, "\"v1\"");
+            response.header(HttpHeaders.CACHE_CONTROL, "no-cache");
+            return response;
+        });
+        final WebTarget target = target(connector);
+
+        assertEquals("tagged", target.request().get(String.class));
+        final Response revalidated = target.request().get();
+        assertEquals(200, revalidated.getStatus());
+        assertEquals("\"v1\"", revalidated.getHeaderString(HttpHeaders.ETAG));
+        assertEquals("tagged", revalidated.readEntity(String.class));
+        assertEquals(2, connector.calls.get());
+    }
+
+    @Test
+    public void testUnsafeMethodInvalidatesCachedResponse() {
+        final TestConnector connector = new TestConnector(request -> {
+            final ClientResponse response = response(request, "value");
+            response.header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+            return response;
+        });
+        final WebTarget target = target(connector);
+
+        target.request().get(String.class);
+        target.request().get(String.class);
+        assertEquals(1, connector.calls.get());
+
+        target.request().post(Entity.text("update")).close();
+        target.request().get(String.class);
+        assertEquals(3, connector.calls.get());
+    }
+
+    @Test
+    public void testOnlyIfCached() {
+        final TestConnector connector = new TestConnector(request -> response(request, "uncacheable"));
+        final WebTarget target = target(connector);
+
+        final Response response = target.request().header(HttpHeaders.CACHE_CONTROL, "only-if-cached").get();
+        assertEquals(504, response.getStatus());
+        assertNull(response.getHeaderString(HttpHeaders.ETAG));
+        assertEquals(0, connector.calls.get());
+    }
+
+    private static WebTarget target(final TestConnector connector) {
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(connector)
+                .register(new ClientCacheFeature()));
+        return client.target("http://localhost/resource");
+    }
+
+    private static ClientResponse response(final ClientRequest request, final String entity) {
+        final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+        response.setEntityStream(new ByteArrayInputStream(entity.getBytes()));
+        return response;
+    }
+
+    private static class TestConnector implements Connector, ConnectorProvider {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Function<ClientRequest, ClientResponse> handler;
+
+        private TestConnector(final Function<ClientRequest, ClientResponse> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) throws ProcessingException {
+            calls.incrementAndGet();
+            return handler.apply(request);
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            throw new UnsupportedOperationException("Asynchronous execution not supported.");
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public String getName() {
+            return "test-connector";
+        }
+    }
+}
@@ -56,6 +56,8 @@ import javax.ws.rs.core.UriBuilder;
 import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
 
+import javax.inject.Inject;
+
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
@@ -80,6 +82,18 @@ import static org.junit.Assert.fail;
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
 public class EncodingFilterTest {
+    public static class LowQualityDeflateEncoder extends DeflateEncoder {
+        @Inject
+        public LowQualityDeflateEncoder(Configuration config) {
+            super(config);
+        }
+
+        @Override
+        public int getQuality(String contentEncoding) {
+            return 500;
+        }
+    }
+
     @Test
     public void testAcceptEncoding() {
         Client client = ClientBuilder.newClient(new ClientConfig(
@@ -93,6 +107,18 @@ public class EncodingFilterTest {
         assertNull(r.getHeaderString(CONTENT_ENCODING));
     }
 
+    @Test
+    public void testAcceptEncodingWithQuality() {
+        Client client = ClientBuilder.newClient(new ClientConfig(
+                EncodingFilter.class,
+                GZipEncoder.class,
+                LowQualityDeflateEncoder.class
+        ).connectorProvider(new TestConnector()));
+        Invocation.Builder invBuilder = client.target(UriBuilder.fromUri("/").build()).request();
+        Response r = invBuilder.get();
+        assertEquals("deflate;q=0.5,gzip,x-gzip", r.getHeaderString(ACCEPT_ENCODING));
+    }
+
     @Test
     public void testContentEncoding() {
         Client client = ClientBuilder.newClient(new ClientConfig(
@@ -0,0 +1,244 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.limiter;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.JerseyClient;
+import org.glassfish.jersey.client.JerseyClientBuilder;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link ConcurrencyLimitFeature} unit tests.
+ */
+public class ConcurrencyLimitFeatureTest {
+
+    private final BlockingConnector connector = new BlockingConnector();
+
+    @After
+    public void tearDown() {
+        connector.release.countDown();
+    }
+
+    @Test
+    public void testExcessRequestRejected() throws Exception {
+        final JerseyClient client = client(new ConcurrencyLimitFeature().limits(1, 1, 1));
+
+        final Future<Response> blocked = client.target("http://slow/a").request().async().get();
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+
+        try {
+            client.target("http://slow/b").request().get();
+            fail("Request exceeding the limit was not rejected.");
+        } catch (final ProcessingException e) {
+            assertTrue(e instanceof ConcurrencyLimitExceededException);
+            assertEquals("http://slow:80", ((ConcurrencyLimitExceededException) e).getDestination());
+            assertEquals(1, ((ConcurrencyLimitExceededException) e).getLimit());
+        }
+
+        // other destinations are not limited
+        assertEquals(200, client.target("http://fast/a").request().get().getStatus());
+
+        connector.release.countDown();
+        assertEquals(200, blocked.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, client.target("http://slow/c").request().get().getStatus());
+    }
+
+    @Test
+    public void testExcessRequestQueued() throws Exception {
+        final JerseyClient client = client(new ConcurrencyLimitFeature().limits(1, 1, 1).queue(10, 0, TimeUnit.SECONDS));
+
+        final Future<Response> first = client.target("http://slow/a").request().async().get();
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+        final Future<Response> second = client.target("http://slow/b").request().async().get();
+
+        connector.release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, second.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(2, connector.calls.size());
+    }
+
+    @Test
+    public void testQueueTimeout() throws Exception {
+        final JerseyClient client = client(new ConcurrencyLimitFeature().limits(1, 1, 1)
+                .queue(10, 10, TimeUnit.MILLISECONDS));
+
+        client.target("http://slow/a").request().async().get();
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+        try {
+            client.target("http://slow/b").request().get();
+            fail("Queued request did not time out.");
+        } catch (final ConcurrencyLimitExceededException e) {
+            assertEquals(1, e.getLimit());
+        }
+    }
+
+    @Test
+    public void testLimitChangeReported() {
+        final List<String> changes = new CopyOnWriteArrayList<>();
+        connector.release.countDown();
+        final JerseyClient client = client(new ConcurrencyLimitFeature()
+                .limits(1, 1, 3)
+                .algorithm(() -> LimitAlgorithms.aimd(10, TimeUnit.SECONDS))
+                .listener((destination, oldLimit, newLimit) -> changes.add(destination + " " + oldLimit + "->" + newLimit)));
+
+        for (int i = 0; i < 4; i++) {
+            client.target("http://fast/a").request().get().close();
+        }
+        assertEquals("[http://fast:80 1->2, http://fast:80 2->3]", changes.toString());
+
+        client.target("http://fast/unavailable").request().get().close();
+        assertEquals("[http://fast:80 1->2, http://fast:80 2->3, http://fast:80 3->2]", changes.toString());
+    }
+
+    @Test
+    public void testAimd() {
+        final LimitAlgorithm aimd = LimitAlgorithms.aimd(1, TimeUnit.SECONDS);
+
+        assertEquals(11, aimd.update(10, TimeUnit.MILLISECONDS.toNanos(10), 5, false));
+        // the limit is not used
+        assertEquals(10, aimd.update(10, TimeUnit.MILLISECONDS.toNanos(10), 4, false));
+        assertEquals(9, aimd.update(10, TimeUnit.MILLISECONDS.toNanos(10), 10, true));
+        assertEquals(9, aimd.update(10, TimeUnit.SECONDS.toNanos(2), 10, false));
+    }
+
+    @Test
+    public void testGradient() {
+        final LimitAlgorithm gradient = LimitAlgorithms.gradient();
+
+        int limit = 10;
+        for (int i = 0; i < 100; i++) {
+            limit = gradient.update(limit, TimeUnit.MILLISECONDS.toNanos(10), limit, false);
+        }
+        assertTrue(limit > 10);
+
+        final int grown = limit;
+        for (int i = 0; i < 100; i++) {
+            limit = gradient.update(limit, TimeUnit.MILLISECONDS.toNanos(100), limit, false);
+        }
+        assertTrue(limit < grown);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLimits() {
+        new ConcurrencyLimitFeature().limits(10, 20, 30);
+    }
+
+    private JerseyClient client(final ConcurrencyLimitFeature feature) {
+        return new JerseyClientBuilder()
+                .withConfig(new ClientConfig().connectorProvider(connector))
+                .register(feature)
+                .build();
+    }
+
+    private static class BlockingConnector implements Connector, ConnectorProvider {
+
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final String host = request.getUri().getHost();
+            calls.add(request.getUri().toString());
+            if ("slow".equals(host)) {
+                entered.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    throw new ProcessingException(e);
+                }
+            }
+            final Response.Status status = request.getUri().getPath().endsWith("unavailable")
+                    ? Response.Status.SERVICE_UNAVAILABLE : Response.Status.OK;
+            final ClientResponse response = new ClientResponse(status, request);
+            response.setEntityStream(new ByteArrayInputStream(new byte[0]));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            try {
+                callback.response(apply(request));
+            } catch (final ProcessingException e) {
+                callback.failure(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public String getName() {
+            return "blocking-connector";
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.loadbalancing;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.JerseyClient;
+import org.glassfish.jersey.client.JerseyClientBuilder;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link LoadBalancingFeature} unit tests.
+ */
+public class LoadBalancingFeatureTest {
+
+    private static final URI SERVICE = URI.create("http://service");
+    private static final URI REPLICA_1 = URI.create("http://replica1:8080/api");
+    private static final URI REPLICA_2 = URI.create("http://replica2:8080/api/");
+
+    private final RecordingConnector connector = new RecordingConnector();
+
+    @After
+    public void tearDown() {
+        connector.release.countDown();
+    }
+
+    @Test
+    public void testRoundRobin() {
+        final JerseyClient client = client(new LoadBalancingFeature(SERVICE, REPLICA_1, REPLICA_2));
+
+        for (int i = 0; i < 10; i++) {
+            client.target(SERVICE).path("items").request().get(String.class);
+        }
+        assertEquals(5, connector.hosts.get("replica1").get());
+        assertEquals(5, connector.hosts.get("replica2").get());
+    }
+
+    @Test
+    public void testUriRewritten() {
+        final JerseyClient client = client(new LoadBalancingFeature(SERVICE, REPLICA_1));
+
+        assertEquals("http://replica1:8080/api/items/42?q=a",
+                client.target("http://service/items/42").queryParam("q", "a").request().get(String.class));
+        assertEquals("http://replica1:8080/api", client.target("http://service").request().get(String.class));
+    }
+
+    @Test
+    public void testOtherRequestsNotBalanced() {
+        final JerseyClient client = client(new LoadBalancingFeature(SERVICE, REPLICA_1));
+
+        assertEquals("http://other/items", client.target("http://other/items").request().get(String.class));
+        assertEquals("http://serviceother/items", client.target("http://serviceother/items").request().get(String.class));
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() {
+        final TestEndpoint busy = new TestEndpoint(3, 1);
+        final TestEndpoint idle = new TestEndpoint(1, 100);
+
+        assertSame(idle, LoadBalancingStrategies.leastOutstandingRequests().select(Arrays.<Endpoint>asList(busy, idle)));
+    }
+
+    @Test
+    public void testPowerOfTwoChoices() {
+        final TestEndpoint slow = new TestEndpoint(0, 100);
+        final TestEndpoint fast = new TestEndpoint(0, 1);
+        final List<Endpoint> endpoints = Arrays.asList(slow, fast);
+
+        assertSame(fast, LoadBalancingStrategies.powerOfTwoChoices().select(endpoints));
+    }
+
+    @Test
+    public void testHedgedRequest() throws Exception {
+        final JerseyClient client = client(new LoadBalancingFeature(SERVICE, REPLICA_1, REPLICA_2).hedging(90));
+
+        // measure the response times first
+        for (int i = 0; i < 64; i++) {
+            client.target(SERVICE).request().get(String.class);
+        }
+
+        connector.slowHost = "replica1";
+        for (int i = 0; i < 4; i++) {
+            final long start = System.nanoTime();
+            assertEquals("http://replica2:8080/api/items", client.target(SERVICE).path("items").request().get(String.class));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoEndpoints() {
+        new LoadBalancingFeature(SERVICE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LoadBalancingFeature(SERVICE, REPLICA_1).hedging(100);
+    }
+
+    private JerseyClient client(final LoadBalancingFeature feature) {
+        return new JerseyClientBuilder()
+                .withConfig(new ClientConfig().connectorProvider(connector))
+                .register(feature)
+                .build();
+    }
+
+    private static class TestEndpoint implements Endpoint {
+
+        private final int inFlight;
+        private final double latency;
+
+        private TestEndpoint(final int inFlight, final double latency) {
+            this.inFlight = inFlight;
+            this.latency = latency;
+        }
+
+        @Override
+        public URI getUri() {
+            return REPLICA_1;
+        }
+
+        @Override
+        public int getInFlightCount() {
+            return inFlight;
+        }
+
+        @Override
+        public double getLatency() {
+            return latency;
+        }
+    }
+
+    private static class RecordingConnector implements Connector, ConnectorProvider {
+
+        private final Map<String, AtomicInteger> hosts = new ConcurrentHashMap<>();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile String slowHost;
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final String host = request.getUri().getHost();
+            hosts.computeIfAbsent(host, h -> new AtomicInteger()).incrementAndGet();
+            if (host.equals(slowHost)) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    throw new ProcessingException(e);
+                }
+            }
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.setEntityStream(new ByteArrayInputStream(request.getUri().toString().getBytes()));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            try {
+                callback.response(apply(request));
+            } catch (final ProcessingException e) {
+                callback.failure(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public String getName() {
+            return "recording-connector";
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client.monitoring;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import javax.management.ObjectName;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.client.spi.PooledConnector;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link ClientMonitoringFeature} unit tests.
+ */
+public class ClientMonitoringFeatureTest {
+
+    @Test
+    public void testStatistics() {
+        final ClientMonitoringFeature monitoring = new ClientMonitoringFeature();
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new TestConnector())
+                .register(monitoring));
+
+        assertEquals("ok", client.target("http://localhost:8080/users/{id}").resolveTemplate("id", 1).request()
+                .get(String.class));
+        final Response error = client.target("http://localhost:8080/users/{id}").resolveTemplate("id", "error").request()
+                .get();
+        assertEquals(500, error.getStatus());
+
+        final EndpointStatistics host = monitoring.getStatistics().getHostStatistics().get("http://localhost:8080");
+        assertEquals(2, host.getRequestCount());
+        assertEquals(1, host.getInFlightCount());
+        assertEquals(1, host.getServerErrorCount());
+        assertEquals(0, host.getFailureCount());
+        assertEquals(2, host.getResponseTime().getCount());
+        assertEquals(1, host.getTotalTime().getCount());
+
+        error.close();
+        assertEquals(0, host.getInFlightCount());
+        assertEquals(2, host.getTotalTime().getCount());
+
+        final EndpointStatistics target = monitoring.getStatistics().getTargetStatistics()
+                .get("http://localhost:8080/users/{id}");
+        assertEquals(2, target.getRequestCount());
+        assertEquals(2, target.getQueueTime().getCount());
+
+        assertEquals(3, monitoring.getStatistics().getConnectionPoolStatistics().get("http://localhost:8080")
+                .getIdleConnections());
+        client.close();
+    }
+
+    @Test
+    public void testFailure() {
+        final ClientMonitoringFeature monitoring = new ClientMonitoringFeature();
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new TestConnector())
+                .register(monitoring));
+
+        try {
+            client.target("http://localhost:8080/fail").request().get();
+            fail("ProcessingException expected.");
+        } catch (final ProcessingException expected) {
+            // expected
+        }
+
+        final EndpointStatistics host = monitoring.getStatistics().getHostStatistics().get("http://localhost:8080");
+        assertEquals(1, host.getFailureCount());
+        assertEquals(0, host.getInFlightCount());
+        client.close();
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        final ClientMonitoringFeature monitoring = new ClientMonitoringFeature();
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new TestConnector())
+                .register(monitoring));
+        for (int i = 0; i < 10; i++) {
+            client.target("http://localhost:8080/fast").request().get(String.class);
+        }
+
+        final LatencyStatistics latency = monitoring.getStatistics().getHostStatistics().get("http://localhost:8080")
+                .getResponseTime();
+        long total = 0;
+        for (final long count : latency.getBucketCounts()) {
+            total += count;
+        }
+        assertEquals(10, total);
+        assertEquals(latency.getBucketBounds().length, latency.getBucketCounts().length);
+        assertTrue(latency.getPercentile(99) <= Math.max(1, latency.getMaximum()));
+        client.close();
+    }
+
+    @Test
+    public void testMBeans() throws Exception {
+        final ClientMonitoringFeature monitoring = new ClientMonitoringFeature("mbeans-test");
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new TestConnector())
+                .property(ClientProperties.MONITORING_STATISTICS_MBEANS_ENABLED, true)
+                .register(monitoring));
+        client.target("http://localhost:8080/users").request().get(String.class);
+
+        final ObjectName name = new ObjectName("org.glassfish.jersey.client:type=\"mbeans-test\",subType=Hosts,name="
+                + ObjectName.quote("http://localhost:8080"));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "RequestCount"));
+        assertEquals(3, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "IdleConnections"));
+
+        client.close();
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    private static class TestConnector implements PooledConnector, ConnectorProvider {
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final String path = request.getUri().getPath();
+            if (path.endsWith("fail")) {
+                throw new ProcessingException("Connection refused.");
+            }
+
+            final ClientResponse response = new ClientResponse(
+                    path.endsWith("error") ? Response.Status.INTERNAL_SERVER_ERROR : Response.Status.OK, request);
+            response.setEntityStream(new ByteArrayInputStream("ok".getBytes()));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            throw new UnsupportedOperationException("Asynchronous execution not supported.");
+        }
+
+        @Override
+        public Map<String, ConnectionPoolStatistics> getConnectionPoolStatistics() {
+            return Collections.singletonMap("http://localhost:8080", new ConnectionPoolStatistics(1, 3, 0, 10));
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public String getName() {
+            return "test-connector";
+        }
+    }
+}
@@ -240,6 +240,48 @@ public final class CommonProperties {
      */
     public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_SERVER = "jersey.config.server.contentLength.buffer";
 
+    /**
+     * If {@code true} the buffers used to buffer the outbound message entity (see
+     * {@link #OUTBOUND_CONTENT_LENGTH_BUFFER}) are taken from a shared pool and returned to it once the buffered
+     * entity has been written out, instead of being allocated for every outbound message.
+     * <p>
+     * The pooled buffers are grouped into size classes starting at {@link #OUTBOUND_CONTENT_LENGTH_BUFFER_POOL_MIN_SIZE}
+     * and doubling up to the configured entity buffer size. A buffer starts in the smallest suitable size class and
+     * is exchanged for a larger one as the entity grows.
+     * </p>
+     * The value of this property may be overridden by the client/server variant of this property
+     * (<tt>jersey.config.client.contentLength.buffer.pooled</tt> or
+     * <tt>jersey.config.server.contentLength.buffer.pooled</tt>).
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_POOLED = "jersey.config.contentLength.buffer.pooled";
+
+    /**
+     * An integer value that defines the size of the smallest size class of the pooled outbound entity buffers
+     * (see {@link #OUTBOUND_CONTENT_LENGTH_BUFFER_POOLED}).
+     * <p>
+     * The value of this property may be overridden by the client/server variant of this property
+     * (<tt>jersey.config.client.contentLength.buffer.pool.minSize</tt> or
+     * <tt>jersey.config.server.contentLength.buffer.pool.minSize</tt>).
+     * </p>
+     * <p>
+     * The default value is <tt>1024</tt>.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_POOL_MIN_SIZE = "jersey.config.contentLength.buffer.pool.minSize";
+
     /**
      * Prevent instantiation.
      */
@@ -45,9 +45,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
 import javax.annotation.Priority;
 import javax.ws.rs.Priorities;
@@ -55,13 +52,19 @@ import javax.ws.rs.core.Configuration;
 
 import javax.inject.Inject;
 
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.internal.ReaderWriter;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
  * Deflate encoding support. Interceptor that encodes the output or decodes the input if
  * {@link javax.ws.rs.core.HttpHeaders#CONTENT_ENCODING Content-Encoding header} value equals to {@code deflate}.
  * The default behavior of this interceptor can be tweaked using {@link MessageProperties#DEFLATE_WITHOUT_ZLIB}
- * property.
+ * and {@link MessageProperties#DEFLATE_COMPRESSION_LEVEL} properties.
+ * <p>
+ * The native {@link Deflater deflaters} and {@link java.util.zip.Inflater inflaters} used by the encoded and decoded
+ * streams are pooled and returned to the pool when the streams are closed.
+ * </p>
  *
  * @author Martin Matula
  */
@@ -70,6 +73,7 @@ public class DeflateEncoder extends ContentEncoder {
 
     // TODO This provider should be registered and configured via a feature.
     private final Configuration config;
+    private final int compressionLevel;
 
     /**
      * Initialize DeflateEncoder.
@@ -80,6 +84,7 @@ public class DeflateEncoder extends ContentEncoder {
     public DeflateEncoder(final Configuration config) {
         super("deflate");
         this.config = config;
+        this.compressionLevel = compressionLevel(config);
     }
 
     @Override
@@ -98,10 +103,10 @@ public class DeflateEncoder extends ContentEncoder {
         // that should never be the case if no zlib wrapper
         if ((firstByte & 15) == 8) {
             // ok, zlib wrapped stream
-            return new InflaterInputStream(markSupportingStream);
+            return new PooledInflaterInputStream(markSupportingStream, false, ReaderWriter.BUFFER_SIZE);
         } else {
             // no zlib wrapper
-            return new InflaterInputStream(markSupportingStream, new Inflater(true));
+            return new PooledInflaterInputStream(markSupportingStream, true, ReaderWriter.BUFFER_SIZE);
         }
     }
 
@@ -121,8 +126,19 @@ public class DeflateEncoder extends ContentEncoder {
             deflateWithoutZLib = false;
         }
 
-        return deflateWithoutZLib
-                ? new DeflaterOutputStream(entityStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true))
-                : new DeflaterOutputStream(entityStream);
+        return new PooledDeflaterOutputStream(entityStream, compressionLevel, deflateWithoutZLib, ReaderWriter.BUFFER_SIZE);
+    }
+
+    /**
+     * Get the compression level configured by the {@link MessageProperties#DEFLATE_COMPRESSION_LEVEL} property.
+     *
+     * @param config Jersey configuration properties.
+     * @return configured compression level or {@link Deflater#DEFAULT_COMPRESSION} if the configured value is not valid.
+     */
+    static int compressionLevel(final Configuration config) {
+        final Integer level = PropertiesHelper.getValue(config.getProperties(), MessageProperties.DEFLATE_COMPRESSION_LEVEL,
+                Integer.class, null);
+        return level != null && level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION
+                ? level : Deflater.DEFAULT_COMPRESSION;
     }
 }
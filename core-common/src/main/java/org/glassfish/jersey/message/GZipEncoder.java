@@ -43,39 +43,63 @@ package org.glassfish.jersey.message;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
 
 import javax.annotation.Priority;
 import javax.ws.rs.Priorities;
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.HttpHeaders;
 
+import javax.inject.Inject;
+
+import org.glassfish.jersey.message.internal.ReaderWriter;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
  * GZIP encoding support. Interceptor that encodes the output or decodes the input if
  * {@link HttpHeaders#CONTENT_ENCODING Content-Encoding header} value equals to {@code gzip} or {@code x-gzip}.
+ * The compression level can be configured using {@link MessageProperties#DEFLATE_COMPRESSION_LEVEL} property.
+ * <p>
+ * The native {@link Deflater deflaters} and {@link java.util.zip.Inflater inflaters} used by the encoded and decoded
+ * streams are pooled and returned to the pool when the streams are closed.
+ * </p>
  *
  * @author Martin Matula
  */
 @Priority(Priorities.ENTITY_CODER)
 public class GZipEncoder extends ContentEncoder {
+
+    private final int compressionLevel;
+
     /**
      * Initialize GZipEncoder.
      */
     public GZipEncoder() {
         super("gzip", "x-gzip");
+        this.compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    }
+
+    /**
+     * Initialize GZipEncoder.
+     *
+     * @param config Jersey configuration properties.
+     * @since 2.28
+     */
+    @Inject
+    public GZipEncoder(final Configuration config) {
+        super("gzip", "x-gzip");
+        this.compressionLevel = DeflateEncoder.compressionLevel(config);
     }
 
     @Override
     public InputStream decode(String contentEncoding, InputStream encodedStream)
             throws IOException {
-        return new GZIPInputStream(encodedStream);
+        return new GZipInputStream(encodedStream, ReaderWriter.BUFFER_SIZE);
     }
 
     @Override
     public OutputStream encode(String contentEncoding, OutputStream entityStream)
             throws IOException {
-        return new GZIPOutputStream(entityStream);
+        return new GZipOutputStream(entityStream, compressionLevel, ReaderWriter.BUFFER_SIZE);
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * GZIP input stream using a {@link ZipCodecPool pooled} inflater. Reads the same input as
+ * {@link java.util.zip.GZIPInputStream}, including concatenated GZIP members.
+ */
+final class GZipInputStream extends PooledInflaterInputStream {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final CRC32 crc = new CRC32();
+    private boolean eos = false;
+
+    /**
+     * Create a new GZIP input stream and read the GZIP header.
+     *
+     * @param in         input stream the compressed data are read from.
+     * @param bufferSize size of the input buffer.
+     * @throws IOException if the header cannot be read or is not valid.
+     */
+    GZipInputStream(final InputStream in, final int bufferSize) throws IOException {
+        super(in, true, bufferSize);
+        try {
+            readHeader(in);
+        } catch (final IOException | RuntimeException e) {
+            abandon();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        if (eos) {
+            return -1;
+        }
+        final int n = super.read(b, off, len);
+        if (n == -1) {
+            if (readTrailer()) {
+                eos = true;
+            } else {
+                return read(b, off, len);
+            }
+        } else {
+            crc.update(b, off, n);
+        }
+        return n;
+    }
+
+    private int readHeader(final InputStream in) throws IOException {
+        final CheckedInputStream checked = new CheckedInputStream(in, crc);
+        crc.reset();
+        if (readUShort(checked) != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUByte(checked) != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        final int flags = readUByte(checked);
+        // modification time, extra flags and operating system
+        skipBytes(checked, 6);
+        int n = 10;
+        if ((flags & FEXTRA) == FEXTRA) {
+            final int extraLength = readUShort(checked);
+            skipBytes(checked, extraLength);
+            n += extraLength + 2;
+        }
+        if ((flags & FNAME) == FNAME) {
+            do {
+                n++;
+            } while (readUByte(checked) != 0);
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            do {
+                n++;
+            } while (readUByte(checked) != 0);
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            final int headerCrc = (int) crc.getValue() & 0xffff;
+            if (readUShort(checked) != headerCrc) {
+                throw new ZipException("Corrupt GZIP header");
+            }
+            n += 2;
+        }
+        crc.reset();
+        return n;
+    }
+
+    /**
+     * Read the trailer of the current GZIP member and the header of the next one, if any.
+     *
+     * @return {@code true} if the end of the compressed data has been reached.
+     */
+    private boolean readTrailer() throws IOException {
+        InputStream trailerIn = this.in;
+        final int remaining = inf.getRemaining();
+        if (remaining > 0) {
+            trailerIn = new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining),
+                    new FilterInputStream(this.in) {
+                        @Override
+                        public void close() throws IOException {
+                            // the underlying stream is closed by the GZIP stream
+                        }
+                    });
+        }
+        if (readUInt(trailerIn) != crc.getValue() || readUInt(trailerIn) != (inf.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+
+        // concatenated GZIP members
+        if (this.in.available() > 0 || remaining > 26) {
+            int headerLength = 8;
+            try {
+                headerLength += readHeader(trailerIn);
+            } catch (final IOException e) {
+                // no (valid) next member - ignore the trailing garbage
+                return true;
+            }
+            inf.reset();
+            if (remaining > headerLength) {
+                inf.setInput(buf, len - remaining + headerLength, remaining - headerLength);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static long readUInt(final InputStream in) throws IOException {
+        final long low = readUShort(in);
+        return ((long) readUShort(in) << 16) | low;
+    }
+
+    private static int readUShort(final InputStream in) throws IOException {
+        final int low = readUByte(in);
+        return (readUByte(in) << 8) | low;
+    }
+
+    private static int readUByte(final InputStream in) throws IOException {
+        final int b = in.read();
+        if (b == -1) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    private static void skipBytes(final InputStream in, int n) throws IOException {
+        while (n > 0) {
+            readUByte(in);
+            n--;
+        }
+    }
+}
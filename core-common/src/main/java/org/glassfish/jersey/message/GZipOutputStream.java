@@ -0,0 +1,100 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * GZIP output stream using a {@link ZipCodecPool pooled} deflater. Produces the same output as
+ * {@link java.util.zip.GZIPOutputStream}.
+ */
+final class GZipOutputStream extends PooledDeflaterOutputStream {
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, // magic number
+            8,                 // compression method: deflate
+            0,                 // flags
+            0, 0, 0, 0,        // modification time
+            0,                 // extra flags
+            0                  // operating system
+    };
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Create a new GZIP output stream and write the GZIP header.
+     *
+     * @param out        output stream the compressed data are written to.
+     * @param level      compression level.
+     * @param bufferSize size of the output buffer.
+     * @throws IOException if the header cannot be written.
+     */
+    GZipOutputStream(final OutputStream out, final int level, final int bufferSize) throws IOException {
+        super(out, level, true, bufferSize);
+        try {
+            out.write(HEADER);
+        } catch (final IOException e) {
+            abandon();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        super.write(b, off, len);
+        crc.update(b, off, len);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (!def.finished()) {
+            super.finish();
+            final int crcValue = (int) crc.getValue();
+            final int size = (int) def.getBytesRead();
+            out.write(new byte[] {
+                    (byte) crcValue, (byte) (crcValue >> 8), (byte) (crcValue >> 16), (byte) (crcValue >> 24),
+                    (byte) size, (byte) (size >> 8), (byte) (size >> 16), (byte) (size >> 24)
+            });
+        }
+    }
+}
@@ -114,6 +114,19 @@ public final class MessageProperties {
      */
     public static final String DEFLATE_WITHOUT_ZLIB = "jersey.config.deflate.nozlib";
 
+    /**
+     * Compression level used by the {@link GZipEncoder gzip} and {@link DeflateEncoder deflate} encoding interceptors.
+     * The property value is expected to be an integer between {@code 0} (no compression) and {@code 9} (best compression),
+     * or {@code -1} for the default compression level of the zlib library, otherwise it will be ignored.
+     * <p />
+     * The default value is {@code -1} ({@link java.util.zip.Deflater#DEFAULT_COMPRESSION}).
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.28
+     */
+    public static final String DEFLATE_COMPRESSION_LEVEL = "jersey.config.deflate.compressionLevel";
+
     /**
      * If set to {@code true}, {@link javax.ws.rs.ext.MessageBodyReader MessageBodyReaders} and
      * {@link javax.ws.rs.ext.MessageBodyWriter MessageBodyWriters} will be ordered by rules from JAX-RS 1.x, where custom
@@ -0,0 +1,123 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Deflater output stream using a {@link ZipCodecPool pooled} deflater. The deflater is returned to the pool when
+ * the stream is closed.
+ */
+class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+    private final ZipCodecPool.PooledDeflater deflater;
+    private boolean closed = false;
+
+    /**
+     * Create a new deflater output stream.
+     *
+     * @param out        output stream the compressed data are written to.
+     * @param level      compression level.
+     * @param nowrap     if {@code true}, raw deflate data without the zlib wrapper are written.
+     * @param bufferSize size of the output buffer.
+     */
+    PooledDeflaterOutputStream(final OutputStream out, final int level, final boolean nowrap, final int bufferSize) {
+        this(out, ZipCodecPool.acquireDeflater(level, nowrap), bufferSize);
+    }
+
+    private PooledDeflaterOutputStream(final OutputStream out,
+                                       final ZipCodecPool.PooledDeflater deflater,
+                                       final int bufferSize) {
+        super(out, deflater, bufferSize);
+        this.deflater = deflater;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        super.write(b, off, len);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        ensureOpen();
+        super.finish();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        super.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            finish();
+        } finally {
+            closed = true;
+            ZipCodecPool.release(deflater);
+            out.close();
+        }
+    }
+
+    /**
+     * Return the deflater to the pool without finishing the compressed data and without closing the underlying
+     * output stream.
+     */
+    void abandon() {
+        if (!closed) {
+            closed = true;
+            ZipCodecPool.release(deflater);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Inflater input stream using a {@link ZipCodecPool pooled} inflater. The inflater is returned to the pool when
+ * the stream is closed.
+ */
+class PooledInflaterInputStream extends InflaterInputStream {
+
+    private final ZipCodecPool.PooledInflater inflater;
+    private boolean closed = false;
+
+    /**
+     * Create a new inflater input stream.
+     *
+     * @param in         input stream the compressed data are read from.
+     * @param nowrap     if {@code true}, raw deflate data without the zlib wrapper are expected.
+     * @param bufferSize size of the input buffer.
+     */
+    PooledInflaterInputStream(final InputStream in, final boolean nowrap, final int bufferSize) {
+        this(in, ZipCodecPool.acquireInflater(nowrap), bufferSize);
+    }
+
+    private PooledInflaterInputStream(final InputStream in,
+                                      final ZipCodecPool.PooledInflater inflater,
+                                      final int bufferSize) {
+        super(in, inflater, bufferSize);
+        this.inflater = inflater;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        return super.read(b, off, len);
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return super.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            abandon();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Return the inflater to the pool without closing the underlying input stream.
+     */
+    void abandon() {
+        if (!closed) {
+            closed = true;
+            ZipCodecPool.release(inflater);
+        }
+    }
+
+    /**
+     * Check that the stream has not been closed yet.
+     *
+     * @throws IOException if the stream has been closed.
+     */
+    void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
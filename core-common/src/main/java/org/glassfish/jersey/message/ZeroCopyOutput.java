@@ -0,0 +1,97 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Capability of an entity {@link java.io.OutputStream output stream} to write file regions and byte buffers directly,
+ * without copying their content through intermediate heap byte arrays.
+ * <p>
+ * Entity providers (e.g. the providers of {@link java.io.File}, {@link java.nio.file.Path} and {@link ByteBuffer}
+ * entities) check whether the entity output stream implements this interface and if so, they first try to write the
+ * entity using one of the methods of this interface. If the method returns {@code false}, nothing has been written and
+ * the provider falls back to writing the entity bytes into the output stream.
+ * </p>
+ * <p>
+ * Containers may implement this interface in the output streams returned from
+ * {@code ContainerResponseWriter#writeResponseStatusAndHeaders(long, ContainerResponse)} in order to send the file
+ * regions and buffers using the most efficient means of the underlying I/O layer (e.g. {@code sendfile}, file regions
+ * or direct buffers).
+ * </p>
+ *
+ * @since 2.28
+ */
+public interface ZeroCopyOutput {
+
+    /**
+     * Write a region of a file.
+     * <p>
+     * The caller closes the file channel once this method returns. An implementation that writes the region
+     * asynchronously must therefore not use the channel after returning (it may, for example, write a memory mapped
+     * region of the file instead).
+     * </p>
+     *
+     * @param channel  file channel to read the region from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes of the region.
+     * @return {@code true} if the region has been written, {@code false} if the region cannot be written directly and
+     * nothing has been written.
+     * @throws IOException in case of an I/O error.
+     */
+    boolean writeFileRegion(FileChannel channel, long position, long count) throws IOException;
+
+    /**
+     * Write the remaining content of a byte buffer.
+     * <p>
+     * Implementations do not modify the position or the limit of the buffer. The content of the buffer may be written
+     * asynchronously, so the caller must not modify it once it has been written.
+     * </p>
+     *
+     * @param buffer byte buffer to be written.
+     * @return {@code true} if the buffer has been written, {@code false} if the buffer cannot be written directly and
+     * nothing has been written.
+     * @throws IOException in case of an I/O error.
+     */
+    boolean writeByteBuffer(ByteBuffer buffer) throws IOException;
+}
@@ -0,0 +1,203 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Pool of {@link Deflater deflaters} and {@link Inflater inflaters} used by the {@link GZipEncoder} and the
+ * {@link DeflateEncoder}.
+ * <p>
+ * Every deflater and inflater holds native memory that is otherwise released only when the instance is finalized.
+ * The pool keeps a fixed number of reset instances in slots striped by the thread id, separately for the zlib
+ * wrapped and the raw ("nowrap") variant. Acquiring and releasing an instance never blocks; if there is no instance
+ * available in the pool a new one is created and if there is no free slot the released instance is
+ * {@link Deflater#end() ended} immediately.
+ * </p>
+ */
+final class ZipCodecPool {
+
+    private static final int MAX_SLOTS = 64;
+
+    private static final Slots<PooledDeflater> DEFLATERS = new Slots<>();
+    private static final Slots<PooledDeflater> RAW_DEFLATERS = new Slots<>();
+    private static final Slots<PooledInflater> INFLATERS = new Slots<>();
+    private static final Slots<PooledInflater> RAW_INFLATERS = new Slots<>();
+
+    /**
+     * Prevents instantiation.
+     */
+    private ZipCodecPool() {
+        throw new AssertionError("Instantiation not allowed.");
+    }
+
+    /**
+     * Acquire a deflater from the pool.
+     *
+     * @param level  compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}).
+     * @param nowrap if {@code true}, the deflater produces raw deflate data without the zlib wrapper.
+     * @return deflater ready to compress a new data stream.
+     */
+    static PooledDeflater acquireDeflater(final int level, final boolean nowrap) {
+        final PooledDeflater deflater = (nowrap ? RAW_DEFLATERS : DEFLATERS).poll();
+        if (deflater == null) {
+            return new PooledDeflater(level, nowrap);
+        }
+        deflater.updateLevel(level);
+        return deflater;
+    }
+
+    /**
+     * Return a deflater to the pool.
+     * <p>
+     * The deflater must not be used by the caller anymore.
+     * </p>
+     *
+     * @param deflater deflater to be returned.
+     */
+    static void release(final PooledDeflater deflater) {
+        deflater.reset();
+        if (!(deflater.nowrap ? RAW_DEFLATERS : DEFLATERS).offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Acquire an inflater from the pool.
+     *
+     * @param nowrap if {@code true}, the inflater expects raw deflate data without the zlib wrapper.
+     * @return inflater ready to decompress a new data stream.
+     */
+    static PooledInflater acquireInflater(final boolean nowrap) {
+        final PooledInflater inflater = (nowrap ? RAW_INFLATERS : INFLATERS).poll();
+        return inflater == null ? new PooledInflater(nowrap) : inflater;
+    }
+
+    /**
+     * Return an inflater to the pool.
+     * <p>
+     * The inflater must not be used by the caller anymore.
+     * </p>
+     *
+     * @param inflater inflater to be returned.
+     */
+    static void release(final PooledInflater inflater) {
+        inflater.reset();
+        if (!(inflater.nowrap ? RAW_INFLATERS : INFLATERS).offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Deflater that remembers its configuration so that it can be returned to the right pool.
+     */
+    static final class PooledDeflater extends Deflater {
+
+        private final boolean nowrap;
+        private int level;
+
+        private PooledDeflater(final int level, final boolean nowrap) {
+            super(level, nowrap);
+            this.nowrap = nowrap;
+            this.level = level;
+        }
+
+        private void updateLevel(final int level) {
+            if (this.level != level) {
+                setLevel(level);
+                this.level = level;
+            }
+        }
+    }
+
+    /**
+     * Inflater that remembers its configuration so that it can be returned to the right pool.
+     */
+    static final class PooledInflater extends Inflater {
+
+        private final boolean nowrap;
+
+        private PooledInflater(final boolean nowrap) {
+            super(nowrap);
+            this.nowrap = nowrap;
+        }
+    }
+
+    private static final class Slots<T> {
+
+        private final AtomicReferenceArray<T> slots;
+        private final int slotMask;
+
+        private Slots() {
+            final int processors = Runtime.getRuntime().availableProcessors();
+            final int slotCount = Math.min(MAX_SLOTS, Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1);
+            this.slots = new AtomicReferenceArray<>(slotCount);
+            this.slotMask = slotCount - 1;
+        }
+
+        private T poll() {
+            final int start = (int) Thread.currentThread().getId();
+            for (int i = 0; i < 2; i++) {
+                final int slot = (start + i) & slotMask;
+                if (slots.get(slot) != null) {
+                    final T instance = slots.getAndSet(slot, null);
+                    if (instance != null) {
+                        return instance;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private boolean offer(final T instance) {
+            final int start = (int) Thread.currentThread().getId();
+            for (int i = 0; i < 2; i++) {
+                final int slot = (start + i) & slotMask;
+                if (slots.get(slot) == null && slots.compareAndSet(slot, null, instance)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -40,15 +40,17 @@
 
 package org.glassfish.jersey.message.internal;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.message.ZeroCopyOutput;
 
 /**
  * A committing output stream with optional serialized entity buffering functionality
@@ -74,12 +76,21 @@ import org.glassfish.jersey.internal.guava.Preconditions;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * The internal buffer may start smaller than the configured buffer size (see {@link EntitySizeEstimator}) and grows
+ * up to the configured size as the entity is written. Optionally, the buffer arrays are taken from and returned to
+ * an {@link EntityBufferPool entity buffer pool} instead of being allocated for every stream.
+ * </p>
+ * <p>
+ * File regions and byte buffers written through the {@link ZeroCopyOutput} interface are passed directly to the adapted
+ * output stream if it supports zero-copy writes and if they do not fit into the internal buffer.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar (marek.potociar at oracle.com)
  * @author Miroslav Fuksa
  */
-public final class CommittingOutputStream extends OutputStream {
+public final class CommittingOutputStream extends OutputStream implements ZeroCopyOutput {
 
     private static final Logger LOGGER = Logger.getLogger(CommittingOutputStream.class.getName());
     /**
@@ -106,7 +117,19 @@ public final class CommittingOutputStream extends OutputStream {
     /**
      * Entity buffer.
      */
-    private ByteArrayOutputStream buffer;
+    private byte[] buffer;
+    /**
+     * Number of bytes written into the entity buffer.
+     */
+    private int count;
+    /**
+     * Pool the entity buffer is taken from, {@code null} if the buffer is not pooled.
+     */
+    private EntityBufferPool bufferPool;
+    /**
+     * Estimator of the entity size that is notified about the measured entity size, may be {@code null}.
+     */
+    private EntitySizeEstimator sizeEstimator;
     /**
      * When {@code true}, the data are written directly to output stream and not to the buffer.
      */
@@ -157,15 +180,32 @@ public final class CommittingOutputStream extends OutputStream {
      *                   {@link org.glassfish.jersey.message.internal.OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
      */
     public void enableBuffering(int bufferSize) {
-        Preconditions.checkState(!isCommitted && (this.buffer == null || this.buffer.size() == 0),
-                                 COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        enableBuffering(bufferSize, null, null);
+    }
+
+    /**
+     * Enable buffering of the serialized entity.
+     *
+     * @param bufferSize    size of the buffer. When the value is less or equal to zero the buffering will be disabled.
+     * @param bufferPool    pool to take the buffer from, may be {@code null} if the buffer should not be pooled.
+     * @param sizeEstimator estimator of the entity size used to choose the initial size of the buffer and notified
+     *                      with the measured entity size, may be {@code null}.
+     */
+    void enableBuffering(int bufferSize, EntityBufferPool bufferPool, EntitySizeEstimator sizeEstimator) {
+        Preconditions.checkState(!isCommitted && count == 0, COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        releaseBuffer();
         this.bufferSize = bufferSize;
         if (bufferSize <= 0) {
             this.directWrite = true;
-            this.buffer = null;
+            this.bufferPool = null;
+            this.sizeEstimator = null;
         } else {
             directWrite = false;
-            buffer = new ByteArrayOutputStream(bufferSize);
+            this.bufferPool = bufferPool;
+            this.sizeEstimator = sizeEstimator;
+
+            final int initialSize = sizeEstimator == null ? bufferSize : sizeEstimator.getInitialSize(bufferSize);
+            buffer = bufferPool == null ? new byte[initialSize] : bufferPool.acquire(initialSize);
         }
     }
 
@@ -208,11 +248,13 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (b.length + buffer.size() > bufferSize) {
+            if (b.length + count > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                ensureCapacity(count + b.length);
+                System.arraycopy(b, 0, buffer, count, b.length);
+                count += b.length;
             }
         }
     }
@@ -223,11 +265,13 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b, off, len);
         } else {
-            if (len + buffer.size() > bufferSize) {
+            if (len + count > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b, off, len);
             } else {
-                buffer.write(b, off, len);
+                ensureCapacity(count + len);
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
             }
         }
     }
@@ -238,15 +282,50 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (buffer.size() + 1 > bufferSize) {
+            if (count + 1 > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                ensureCapacity(count + 1);
+                buffer[count++] = (byte) b;
             }
         }
     }
 
+    @Override
+    public boolean writeFileRegion(FileChannel channel, long position, long count) throws IOException {
+        final ZeroCopyOutput output = getZeroCopyOutput(count);
+        return output != null && output.writeFileRegion(channel, position, count);
+    }
+
+    @Override
+    public boolean writeByteBuffer(ByteBuffer byteBuffer) throws IOException {
+        final ZeroCopyOutput output = getZeroCopyOutput(byteBuffer.remaining());
+        return output != null && output.writeByteBuffer(byteBuffer);
+    }
+
+    /**
+     * Get the adapted output stream as a zero-copy output if data of the given length should be written directly.
+     * <p>
+     * Data that still fit into the entity buffer are not written directly so that the entity size can be measured.
+     * Otherwise the stream is committed (any buffered data are written out first).
+     * </p>
+     *
+     * @param length number of bytes to be written.
+     * @return adapted output stream or {@code null} if the data should be written as bytes.
+     * @throws IOException when underlying stream returned from the callback method throws the io exception.
+     */
+    private ZeroCopyOutput getZeroCopyOutput(long length) throws IOException {
+        if (directWrite) {
+            commitStream();
+        } else if (length + count > bufferSize) {
+            flushBuffer(false);
+        } else {
+            return null;
+        }
+        return adaptedOutput instanceof ZeroCopyOutput ? (ZeroCopyOutput) adaptedOutput : null;
+    }
+
     /**
      * Commit the output stream.
      *
@@ -292,16 +371,56 @@ public final class CommittingOutputStream extends OutputStream {
         if (!directWrite) {
             int currentSize;
             if (endOfStream) {
-                currentSize = buffer == null ? 0 : buffer.size();
+                currentSize = count;
             } else {
                 currentSize = -1;
             }
+            if (sizeEstimator != null) {
+                sizeEstimator.record(endOfStream ? count : bufferSize);
+            }
 
             commitStream(currentSize);
             if (buffer != null) {
-                buffer.writeTo(adaptedOutput);
+                try {
+                    adaptedOutput.write(buffer, 0, count);
+                } finally {
+                    releaseBuffer();
+                }
             }
         }
     }
 
+    /**
+     * Grow the entity buffer so that it is able to hold at least {@code capacity} bytes.
+     *
+     * @param capacity required capacity, never greater than the configured buffer size.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= buffer.length) {
+            return;
+        }
+        final byte[] grown;
+        if (bufferPool == null) {
+            grown = new byte[Math.min(bufferSize, Math.max(capacity, buffer.length << 1))];
+        } else {
+            grown = bufferPool.acquire(capacity);
+        }
+        System.arraycopy(buffer, 0, grown, 0, count);
+        if (bufferPool != null) {
+            bufferPool.release(buffer);
+        }
+        buffer = grown;
+    }
+
+    /**
+     * Drop the entity buffer and return it to the buffer pool if it is pooled.
+     */
+    private void releaseBuffer() {
+        if (buffer != null && bufferPool != null) {
+            bufferPool.release(buffer);
+        }
+        buffer = null;
+        count = 0;
+    }
+
 }
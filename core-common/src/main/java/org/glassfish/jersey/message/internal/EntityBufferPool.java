@@ -0,0 +1,197 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool of byte arrays used by the {@link CommittingOutputStream} to buffer serialized entities.
+ * <p>
+ * The pooled arrays are grouped into size classes. The smallest size class is configurable, every next size class
+ * is twice as large as the previous one and the largest size class is equal to the maximal size of the entity buffer.
+ * Each size class keeps a fixed number of array slots striped by the thread id, so that concurrent threads rarely
+ * compete for the same slot. Acquiring and releasing an array never blocks; if there is no array available in the
+ * pool a new one is allocated and if there is no free slot the released array is left to the garbage collector.
+ * </p>
+ *
+ * @see org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOLED
+ */
+final class EntityBufferPool {
+
+    /**
+     * Default size of the smallest size class.
+     */
+    static final int DEFAULT_MIN_SIZE = 1024;
+
+    private static final int MAX_SLOTS = 64;
+    private static final ConcurrentMap<Long, EntityBufferPool> POOLS = new ConcurrentHashMap<>();
+
+    private final int[] sizeClasses;
+    private final AtomicReferenceArray<byte[]>[] slots;
+    private final int slotMask;
+
+    /**
+     * Get a shared pool for the given buffer sizes.
+     *
+     * @param minSize size of the smallest size class.
+     * @param maxSize size of the largest size class (maximal size of the entity buffer).
+     * @return shared entity buffer pool.
+     */
+    static EntityBufferPool getPool(final int minSize, final int maxSize) {
+        final long key = ((long) minSize << 32) | maxSize;
+        EntityBufferPool pool = POOLS.get(key);
+        if (pool == null) {
+            final EntityBufferPool newPool = new EntityBufferPool(minSize, maxSize);
+            pool = POOLS.putIfAbsent(key, newPool);
+            if (pool == null) {
+                pool = newPool;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Create a new pool.
+     *
+     * @param minSize size of the smallest size class.
+     * @param maxSize size of the largest size class.
+     */
+    @SuppressWarnings("unchecked")
+    EntityBufferPool(final int minSize, final int maxSize) {
+        final int smallest = Math.max(1, Math.min(minSize, maxSize));
+
+        int classCount = 1;
+        for (long size = smallest; size < maxSize; size <<= 1) {
+            classCount++;
+        }
+        this.sizeClasses = new int[classCount];
+        for (int i = 0; i < classCount - 1; i++) {
+            sizeClasses[i] = smallest << i;
+        }
+        sizeClasses[classCount - 1] = Math.max(smallest, maxSize);
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int slotCount = Math.min(MAX_SLOTS, Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1);
+        this.slotMask = slotCount - 1;
+        this.slots = new AtomicReferenceArray[classCount];
+        for (int i = 0; i < classCount; i++) {
+            slots[i] = new AtomicReferenceArray<>(slotCount);
+        }
+    }
+
+    /**
+     * Get the size of the size class suitable for an array of the required size.
+     *
+     * @param size required size.
+     * @return size of the smallest size class able to hold the required number of bytes, or the size of the largest
+     * size class if the required size exceeds it.
+     */
+    int sizeClassFor(final int size) {
+        return sizeClasses[classIndex(size)];
+    }
+
+    /**
+     * Get the maximal size of the pooled arrays.
+     *
+     * @return size of the largest size class.
+     */
+    int getMaxSize() {
+        return sizeClasses[sizeClasses.length - 1];
+    }
+
+    /**
+     * Acquire an array from the pool.
+     *
+     * @param size required size of the array.
+     * @return array of the size of the {@link #sizeClassFor(int) size class} of the required size.
+     */
+    byte[] acquire(final int size) {
+        final int index = classIndex(size);
+        final AtomicReferenceArray<byte[]> classSlots = slots[index];
+        final int start = (int) Thread.currentThread().getId();
+
+        for (int i = 0; i < 2; i++) {
+            final int slot = (start + i) & slotMask;
+            if (classSlots.get(slot) != null) {
+                final byte[] buffer = classSlots.getAndSet(slot, null);
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+        }
+        return new byte[sizeClasses[index]];
+    }
+
+    /**
+     * Return an array to the pool.
+     * <p>
+     * The array must not be used by the caller anymore. Arrays that do not match any of the size classes are ignored.
+     * </p>
+     *
+     * @param buffer array to be returned.
+     */
+    void release(final byte[] buffer) {
+        final int index = classIndex(buffer.length);
+        if (sizeClasses[index] != buffer.length) {
+            return;
+        }
+        final AtomicReferenceArray<byte[]> classSlots = slots[index];
+        final int start = (int) Thread.currentThread().getId();
+
+        for (int i = 0; i < 2; i++) {
+            final int slot = (start + i) & slotMask;
+            if (classSlots.get(slot) == null && classSlots.compareAndSet(slot, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    private int classIndex(final int size) {
+        for (int i = 0; i < sizeClasses.length - 1; i++) {
+            if (size <= sizeClasses[i]) {
+                return i;
+            }
+        }
+        return sizeClasses.length - 1;
+    }
+}
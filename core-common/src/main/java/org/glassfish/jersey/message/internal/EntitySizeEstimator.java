@@ -0,0 +1,95 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+/**
+ * Estimator of the typical size of serialized entities produced by a single source (e.g. a resource method).
+ * <p>
+ * The estimator is used by the {@link CommittingOutputStream} to choose the initial size of the entity buffer:
+ * the committing stream reports the measured entity sizes and the estimator keeps their exponential moving
+ * average. The estimator is thread-safe; concurrent updates may be lost which only slightly affects the precision
+ * of the estimate.
+ * </p>
+ *
+ * @see OutboundMessageContext#enableBuffering(javax.ws.rs.core.Configuration, EntitySizeEstimator)
+ */
+public final class EntitySizeEstimator {
+
+    /**
+     * Weight of the previous estimate expressed as a power of two ({@code 7/8} of the previous estimate).
+     */
+    private static final int DECAY_SHIFT = 3;
+
+    private volatile int estimate = -1;
+
+    /**
+     * Get the initial size of the entity buffer.
+     * <p>
+     * The initial size leaves a headroom of one quarter above the estimated entity size.
+     * </p>
+     *
+     * @param bufferSize maximal size of the entity buffer.
+     * @return initial buffer size not greater than {@code bufferSize}, or {@code bufferSize} if no entity sizes
+     * have been recorded yet.
+     */
+    public int getInitialSize(final int bufferSize) {
+        final int current = estimate;
+        if (current < 0) {
+            return bufferSize;
+        }
+        final long size = current + (current >> 2) + 1;
+        return (int) Math.min(size, bufferSize);
+    }
+
+    /**
+     * Record a size of a serialized entity.
+     *
+     * @param size measured entity size in bytes.
+     */
+    public void record(final int size) {
+        final int current = estimate;
+        if (current < 0) {
+            estimate = size;
+        } else {
+            estimate = (int) (current + (((long) size - current) >> DECAY_SHIFT));
+        }
+    }
+}
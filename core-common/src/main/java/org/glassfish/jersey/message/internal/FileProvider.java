@@ -50,6 +50,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
@@ -58,9 +60,14 @@ import javax.ws.rs.core.MultivaluedMap;
 
 import javax.inject.Singleton;
 
+import org.glassfish.jersey.message.ZeroCopyOutput;
+
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link File} instance.
+ * <p>
+ * If the entity output stream is a {@link ZeroCopyOutput}, the file is written as a file region.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar (marek.potociar at oracle.com)
@@ -113,6 +120,13 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
                         final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders,
                         final OutputStream entityStream) throws IOException {
+        if (entityStream instanceof ZeroCopyOutput) {
+            try (FileChannel channel = FileChannel.open(t.toPath(), StandardOpenOption.READ)) {
+                ReaderWriter.writeTo(channel, 0, channel.size(), entityStream);
+            }
+            return;
+        }
+
         final InputStream stream = new BufferedInputStream(new FileInputStream(t), ReaderWriter.BUFFER_SIZE);
 
         try {
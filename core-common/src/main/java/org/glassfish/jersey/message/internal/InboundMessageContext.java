@@ -49,6 +49,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -118,6 +119,32 @@ public abstract class InboundMessageContext {
     private final boolean translateNce;
     private MessageBodyWorkers workers;
 
+    // Parsed header values cached for the lifetime of the message, re-parsed only if the raw header value changes.
+    private ParsedHeader<MediaType> mediaType;
+    private ParsedHeader<List<AcceptableMediaType>> acceptableMediaTypes;
+    private ParsedHeader<List<AcceptableLanguageTag>> acceptableLanguages;
+    private ParsedHeader<Map<String, Cookie>> requestCookies;
+
+    /**
+     * Parsed header value together with the raw header value it has been parsed from.
+     *
+     * @param <T> parsed value type.
+     */
+    private static final class ParsedHeader<T> {
+
+        private final Object raw;
+        private final T value;
+
+        private ParsedHeader(final Object raw, final T value) {
+            this.raw = raw;
+            this.value = value;
+        }
+
+        private static <T> T get(final ParsedHeader<T> parsed, final Object raw) {
+            return parsed != null && (parsed.raw == raw || (raw != null && raw.equals(parsed.raw))) ? parsed.value : null;
+        }
+    }
+
     /**
      * Input stream and its state. State is represented by the {@link Type Type enum} and
      * is used to control the execution of interceptors.
@@ -291,6 +318,9 @@ public abstract class InboundMessageContext {
         if (values.isEmpty()) {
             return "";
         }
+        if (values.size() == 1) {
+            return values.get(0);
+        }
 
         final Iterator<String> valuesIterator = values.iterator();
         StringBuilder buffer = new StringBuilder(valuesIterator.next());
@@ -443,16 +473,28 @@ public abstract class InboundMessageContext {
      * message entity).
      */
     public MediaType getMediaType() {
-        return singleHeader(HttpHeaders.CONTENT_TYPE, new Function<String, MediaType>() {
+        final List<String> values = this.headers.get(HttpHeaders.CONTENT_TYPE);
+        final MediaType cached = ParsedHeader.get(mediaType, values);
+        if (cached != null) {
+            return cached;
+        }
+
+        final MediaType value = singleHeader(HttpHeaders.CONTENT_TYPE, new Function<String, MediaType>() {
             @Override
             public MediaType apply(String input) {
                 try {
-                    return MediaType.valueOf(input);
+                    return ParsedHeaderCache.readMediaType(input);
                 } catch (IllegalArgumentException iae) {
                     throw new ProcessingException(iae);
                 }
             }
         }, false);
+
+        if (value != null) {
+            // values list might be changed later, remember its snapshot
+            mediaType = new ParsedHeader<>(Collections.singletonList(values.get(0)), value);
+        }
+        return value;
     }
 
     /**
@@ -468,8 +510,15 @@ public abstract class InboundMessageContext {
             return WILDCARD_ACCEPTABLE_TYPE_SINGLETON_LIST;
         }
 
+        final List<AcceptableMediaType> cached = ParsedHeader.get(acceptableMediaTypes, value);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(value));
+            final List<AcceptableMediaType> parsed = ParsedHeaderCache.readAcceptMediaType(value);
+            acceptableMediaTypes = new ParsedHeader<>(value, parsed);
+            return parsed;
         } catch (ParseException e) {
             throw exception(HttpHeaders.ACCEPT, value, e);
         }
@@ -488,8 +537,15 @@ public abstract class InboundMessageContext {
             return Collections.singletonList(new AcceptableLanguageTag("*", null));
         }
 
+        final List<AcceptableLanguageTag> cached = ParsedHeader.get(acceptableLanguages, value);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(value));
+            final List<AcceptableLanguageTag> parsed = ParsedHeaderCache.readAcceptLanguage(value);
+            acceptableLanguages = new ParsedHeader<>(value, parsed);
+            return parsed;
         } catch (ParseException e) {
             throw exception(HttpHeaders.ACCEPT_LANGUAGE, value, e);
         }
@@ -542,12 +598,20 @@ public abstract class InboundMessageContext {
             return Collections.emptyMap();
         }
 
+        final Map<String, Cookie> cached = ParsedHeader.get(requestCookies, cookies);
+        if (cached != null) {
+            return cached;
+        }
+
         Map<String, Cookie> result = new HashMap<String, Cookie>();
         for (String cookie : cookies) {
             if (cookie != null) {
                 result.putAll(HttpHeaderReader.readCookies(cookie));
             }
         }
+        result = Collections.unmodifiableMap(result);
+        // cookie values list might be changed later, remember its snapshot
+        requestCookies = new ParsedHeader<>(new ArrayList<>(cookies), result);
         return result;
     }
 
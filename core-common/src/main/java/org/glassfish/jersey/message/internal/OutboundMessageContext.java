@@ -61,6 +61,7 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.ProcessingException;
+import javax.ws.rs.RuntimeType;
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.EntityTag;
@@ -792,13 +793,38 @@ public class OutboundMessageContext {
      * @param configuration runtime configuration.
      */
     public void enableBuffering(Configuration configuration) {
-        final Integer bufferSize = CommonProperties.getValue(configuration.getProperties(),
-                configuration.getRuntimeType(), CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, Integer.class);
-        if (bufferSize != null) {
-            committingOutputStream.enableBuffering(bufferSize);
-        } else {
-            committingOutputStream.enableBuffering();
+        enableBuffering(configuration, null);
+    }
+
+    /**
+     * Enable a buffering of serialized entity. The buffering will be configured from configuration. The properties
+     * determining the size of the buffer and its pooling are {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER},
+     * {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOLED} and
+     * {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL_MIN_SIZE}.
+     * </p>
+     * This method must be called before first bytes are written to the {@link #getEntityStream() entity stream}.
+     *
+     * @param configuration runtime configuration.
+     * @param sizeEstimator estimator of the entity size used to choose the initial size of the buffer, may be {@code null}.
+     */
+    public void enableBuffering(Configuration configuration, EntitySizeEstimator sizeEstimator) {
+        final Map<String, Object> properties = configuration.getProperties();
+        final RuntimeType runtimeType = configuration.getRuntimeType();
+
+        final Integer configuredSize = CommonProperties.getValue(properties, runtimeType,
+                CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, Integer.class);
+        final int bufferSize = configuredSize != null ? configuredSize : CommittingOutputStream.DEFAULT_BUFFER_SIZE;
+
+        EntityBufferPool bufferPool = null;
+        if (bufferSize > 0 && CommonProperties.getValue(properties, runtimeType,
+                CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_POOLED, Boolean.FALSE, Boolean.class)) {
+            final int minSize = CommonProperties.getValue(properties, runtimeType,
+                    CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_POOL_MIN_SIZE, EntityBufferPool.DEFAULT_MIN_SIZE,
+                    Integer.class);
+            bufferPool = EntityBufferPool.getPool(minSize, bufferSize);
         }
+
+        committingOutputStream.enableBuffering(bufferSize, bufferPool, sizeEstimator);
     }
 
     /**
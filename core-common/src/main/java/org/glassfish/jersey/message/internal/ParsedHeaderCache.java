@@ -0,0 +1,148 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
+
+/**
+ * Application-wide cache of parsed immutable values of frequently repeated inbound header values.
+ * <p>
+ * Clients typically send the same {@code Accept}, {@code Accept-Language} or {@code Content-Type} header values
+ * with every request. The parsed values of these headers are immutable and are therefore shared across requests
+ * instead of being parsed again for every request. The caches are bounded and values longer than
+ * {@value #MAX_VALUE_LENGTH} characters are never cached.
+ * </p>
+ */
+final class ParsedHeaderCache {
+
+    /**
+     * Maximal number of cached values per header.
+     */
+    static final int MAX_SIZE = 256;
+
+    /**
+     * Maximal length of a cached header value.
+     */
+    static final int MAX_VALUE_LENGTH = 1024;
+
+    private static final Cache<String, List<AcceptableMediaType>> ACCEPT = newCache();
+    private static final Cache<String, List<AcceptableLanguageTag>> ACCEPT_LANGUAGE = newCache();
+    private static final Cache<String, MediaType> CONTENT_TYPE = newCache();
+
+    /**
+     * Parser of a header value.
+     *
+     * @param <T> type of the parsed value.
+     */
+    private interface Parser<T> {
+
+        T parse(String value) throws ParseException;
+    }
+
+    private static <T> Cache<String, T> newCache() {
+        return CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+    }
+
+    private static <T> T get(final Cache<String, T> cache, final String value, final Parser<T> parser)
+            throws ParseException {
+        if (value.length() > MAX_VALUE_LENGTH) {
+            return parser.parse(value);
+        }
+
+        T parsed = cache.getIfPresent(value);
+        if (parsed == null) {
+            parsed = parser.parse(value);
+            cache.put(value, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Get parsed read-only list of acceptable media types of the {@code Accept} header value.
+     *
+     * @param value non-empty {@code Accept} header value.
+     * @return read-only list of acceptable media types.
+     * @throws ParseException in case the value cannot be parsed.
+     */
+    static List<AcceptableMediaType> readAcceptMediaType(final String value) throws ParseException {
+        return get(ACCEPT, value, input -> Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(input)));
+    }
+
+    /**
+     * Get parsed read-only list of acceptable languages of the {@code Accept-Language} header value.
+     *
+     * @param value non-empty {@code Accept-Language} header value.
+     * @return read-only list of acceptable languages.
+     * @throws ParseException in case the value cannot be parsed.
+     */
+    static List<AcceptableLanguageTag> readAcceptLanguage(final String value) throws ParseException {
+        return get(ACCEPT_LANGUAGE, value, input -> Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(input)));
+    }
+
+    /**
+     * Get parsed media type of the {@code Content-Type} header value.
+     *
+     * @param value {@code Content-Type} header value.
+     * @return parsed media type.
+     * @throws IllegalArgumentException in case the value cannot be parsed.
+     */
+    static MediaType readMediaType(final String value) {
+        try {
+            return get(CONTENT_TYPE, value, MediaType::valueOf);
+        } catch (final ParseException e) {
+            // not thrown by MediaType.valueOf
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private ParsedHeaderCache() {
+    }
+}
@@ -48,6 +48,9 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.security.AccessController;
 import java.util.logging.Level;
@@ -59,6 +62,7 @@ import javax.ws.rs.core.MediaType;
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.ZeroCopyOutput;
 
 /**
  * A utility class for reading and writing using byte and character streams.
@@ -118,6 +122,107 @@ public final class ReaderWriter {
         }
     }
 
+    /**
+     * Size of the memory mapped file regions written by {@link #writeMapped(FileChannel, long, long, ZeroCopyOutput)}.
+     */
+    private static final long MAPPED_REGION_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * Write a region of a file to an output stream.
+     * <p>
+     * If the output stream is a {@link ZeroCopyOutput} the region is first offered to be written directly; otherwise,
+     * or if the output refuses the region, the bytes are read from the channel and written to the stream.
+     * </p>
+     *
+     * @param channel  file channel to read from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes of the region.
+     * @param out      the output stream to write to.
+     * @throws IOException if there is an error reading or writing bytes.
+     */
+    public static void writeTo(FileChannel channel, long position, long count, OutputStream out) throws IOException {
+        if (out instanceof ZeroCopyOutput && ((ZeroCopyOutput) out).writeFileRegion(channel, position, count)) {
+            return;
+        }
+
+        final byte[] data = new byte[(int) Math.min(BUFFER_SIZE, Math.max(1, count))];
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        long current = position;
+        final long end = position + count;
+        while (current < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(data.length, end - current));
+            final int read = channel.read(buffer, current);
+            if (read < 0) {
+                break;
+            }
+            out.write(data, 0, read);
+            current += read;
+        }
+    }
+
+    /**
+     * Write the remaining content of a byte buffer to an output stream.
+     * <p>
+     * If the output stream is a {@link ZeroCopyOutput} the buffer is first offered to be written directly; otherwise,
+     * or if the output refuses the buffer, the bytes are copied to the stream. The position of the buffer is not modified.
+     * </p>
+     *
+     * @param buffer the byte buffer to read from.
+     * @param out    the output stream to write to.
+     * @throws IOException if there is an error writing bytes.
+     */
+    public static void writeTo(ByteBuffer buffer, OutputStream out) throws IOException {
+        if (out instanceof ZeroCopyOutput && ((ZeroCopyOutput) out).writeByteBuffer(buffer)) {
+            return;
+        }
+
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            final ByteBuffer source = buffer.duplicate();
+            final byte[] data = new byte[Math.min(BUFFER_SIZE, Math.max(1, source.remaining()))];
+            while (source.hasRemaining()) {
+                final int length = Math.min(data.length, source.remaining());
+                source.get(data, 0, length);
+                out.write(data, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Write a region of a file to a zero-copy output as a sequence of memory mapped byte buffers.
+     * <p>
+     * The method is intended for {@link ZeroCopyOutput} implementations that are able to write byte buffers directly
+     * but not file regions. The mapped buffers remain valid after the file channel is closed.
+     * </p>
+     *
+     * @param channel  file channel to map the region from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes of the region.
+     * @param output   zero-copy output to write the mapped buffers to.
+     * @return {@code true} if the region has been written, {@code false} if the output refused the first mapped buffer
+     * and nothing has been written.
+     * @throws IOException if there is an error mapping the file or writing the buffers.
+     */
+    public static boolean writeMapped(FileChannel channel, long position, long count, ZeroCopyOutput output)
+            throws IOException {
+        long current = position;
+        final long end = position + count;
+        while (current < end) {
+            final long size = Math.min(MAPPED_REGION_SIZE, end - current);
+            final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, current, size);
+            if (!output.writeByteBuffer(region)) {
+                if (current == position) {
+                    return false;
+                }
+                throw new IOException(LocalizationMessages.ERROR_ZERO_COPY_WRITE_INTERRUPTED());
+            }
+            current += size;
+        }
+        return true;
+    }
+
     /**
      * Read characters from an input stream and write them to an output stream.
      *
@@ -45,6 +45,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
@@ -65,6 +67,7 @@ import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InjectionManagerSupplier;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.ZeroCopyOutput;
 
 /**
  * Represents writer interceptor chain executor for both client and server side.
@@ -275,7 +278,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
      * {@link javax.ws.rs.ext.MessageBodyWriter}s should not close the given {@link java.io.OutputStream stream}. This output
      * stream makes sure that the stream is not closed even if MBW tries to do it.
      */
-    private static class UnCloseableOutputStream extends OutputStream {
+    private static class UnCloseableOutputStream extends OutputStream implements ZeroCopyOutput {
 
         private final OutputStream original;
         private final MessageBodyWriter writer;
@@ -300,6 +303,17 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             original.write(b, off, len);
         }
 
+        @Override
+        public boolean writeFileRegion(final FileChannel channel, final long position, final long count) throws IOException {
+            return original instanceof ZeroCopyOutput
+                    && ((ZeroCopyOutput) original).writeFileRegion(channel, position, count);
+        }
+
+        @Override
+        public boolean writeByteBuffer(final ByteBuffer buffer) throws IOException {
+            return original instanceof ZeroCopyOutput && ((ZeroCopyOutput) original).writeByteBuffer(buffer);
+        }
+
         @Override
         public void flush() throws IOException {
             original.flush();
@@ -58,11 +58,19 @@ import javax.ws.rs.ext.WriterInterceptorContext;
 
 import javax.annotation.Priority;
 
+import org.glassfish.jersey.message.internal.Quality;
+
 /**
  * Standard contract for plugging in content encoding support. Provides a standard way of implementing encoding
  * {@link WriterInterceptor} and decoding {@link ReaderInterceptor}. Implementing this class ensures the encoding
  * supported by the implementation will be considered during the content negotiation phase when deciding which encoding
  * should be used based on the accepted encodings (and the associated quality parameters) in the request headers.
+ * <p>
+ * If several supported encodings are equally acceptable to the client, the encoding with the highest
+ * {@link #getQuality(String) quality} provided by the encoder is preferred. Implementations of alternative
+ * (e.g. faster or more efficient) encodings may override the quality to be preferred to, or to be used only as a fallback
+ * for, the standard encodings.
+ * </p>
  *
  * @author Martin Matula
  */
@@ -91,6 +99,24 @@ public abstract class ContentEncoder implements ReaderInterceptor, WriterInterce
         return supportedEncodings;
     }
 
+    /**
+     * Returns the quality of the given supported encoding as preferred by this encoder. The quality is used to choose
+     * among the supported encodings that are equally acceptable according to the quality parameters of the
+     * {@code Accept-Encoding} header, and it is advertised by the client-side encoding filter as the quality parameter
+     * of the encoding in the {@code Accept-Encoding} header.
+     * <p>
+     * The quality is expressed in thousandths, i.e. it is an integer between {@code 1} (least preferred) and
+     * {@code 1000} (most preferred, the default).
+     * </p>
+     *
+     * @param contentEncoding one of the supported encoding values.
+     * @return quality of the encoding.
+     * @since 2.28
+     */
+    public int getQuality(String contentEncoding) {
+        return Quality.DEFAULT;
+    }
+
     /**
      * Implementations of this method should take the encoded stream, wrap it and return a stream that can be used
      * to read the decoded entity.
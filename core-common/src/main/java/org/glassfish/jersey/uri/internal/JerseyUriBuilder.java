@@ -900,6 +900,27 @@ public class JerseyUriBuilder extends UriBuilder {
         return sb.toString();
     }
 
+    /**
+     * Parse the URI template of this builder in advance, so that URIs can be repeatedly built from the template
+     * without parsing it again. Subsequent modifications of this builder do not affect the returned template.
+     *
+     * @return prepared URI template.
+     * @throws IllegalArgumentException if the scheme-specific part of the URI is opaque.
+     * @since 2.28
+     */
+    public PreparedUriTemplate prepare() {
+        if (ssp != null) {
+            throw new IllegalArgumentException(LocalizationMessages.URI_BUILDER_SCHEMA_PART_OPAQUE());
+        }
+
+        encodeMatrix();
+        encodeQuery();
+
+        return new PreparedUriTemplate(clone(), scheme, authority,
+                userInfo, host, port,
+                path.toString(), query.toString(), fragment);
+    }
+
     private URI _build(final boolean encode, final boolean encodeSlashInPath, final Object... values) {
         if (ssp != null) {
             if (values == null || values.length == 0) {
@@ -0,0 +1,282 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.uri.internal;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.ws.rs.core.UriBuilder;
+import javax.ws.rs.core.UriBuilderException;
+
+import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.uri.UriComponent;
+import org.glassfish.jersey.uri.UriTemplate;
+
+/**
+ * URI template of a {@link JerseyUriBuilder} parsed in advance so that URIs can be repeatedly built from
+ * the template without parsing the template again.
+ * <p>
+ * The URIs are built in the same way as by {@link JerseyUriBuilder#build(Object...)} and
+ * {@link JerseyUriBuilder#buildFromMap(java.util.Map)}, i.e. the template values are encoded and slash characters
+ * in the path template values are encoded too. Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @since 2.28
+ */
+public final class PreparedUriTemplate {
+
+    private static final Pattern TEMPLATE_NAMES_PATTERN = Pattern.compile("\\{([\\w\\?;][-\\w\\.,]*)\\}");
+
+    private final List<Object> parts = new ArrayList<>();
+    private final List<String> variables = new ArrayList<>();
+    // used for the query and matrix parameter expansion templates that are not parsed in advance
+    private final UriBuilder fallback;
+
+    // literal URI text collected while the template is parsed
+    private final StringBuilder literal = new StringBuilder();
+
+    /**
+     * Create new prepared URI template from the URI components of a {@link JerseyUriBuilder}.
+     */
+    PreparedUriTemplate(final UriBuilder builder,
+                        final String scheme, final String authority,
+                        final String userInfo, final String host, final String port,
+                        final String path, final String query, final String fragment) {
+        this.fallback = compile(scheme, authority, userInfo, host, port, path, query, fragment) ? null : builder;
+        if (fallback != null) {
+            parts.clear();
+            variables.clear();
+            variables.addAll(new UriTemplate(builder.toTemplate()).getTemplateVariables());
+        }
+    }
+
+    /**
+     * Get the names of the template variables in the order in which the template values are bound
+     * by {@link #build(Object...)}.
+     *
+     * @return unmodifiable list of the unique template variable names.
+     */
+    public List<String> getTemplateVariables() {
+        return Collections.unmodifiableList(variables);
+    }
+
+    /**
+     * Build a URI from the template.
+     *
+     * @param values template values, bound in the order of the {@link #getTemplateVariables() template variables}.
+     * @return built URI.
+     * @throws IllegalArgumentException if a template variable has no value.
+     * @throws UriBuilderException      if the built URI is not valid.
+     */
+    public URI build(final Object... values) {
+        if (fallback != null) {
+            return fallback.build(values);
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (final Object part : parts) {
+            if (part instanceof Variable) {
+                final Variable variable = (Variable) part;
+                sb.append(variable.encode(variable.index < values.length ? values[variable.index] : null));
+            } else {
+                sb.append((String) part);
+            }
+        }
+        return createUri(sb.toString());
+    }
+
+    /**
+     * Build a URI from the template.
+     *
+     * @param values map of the template variable names to the template values.
+     * @return built URI.
+     * @throws IllegalArgumentException if a template variable has no value.
+     * @throws UriBuilderException      if the built URI is not valid.
+     */
+    public URI buildFromMap(final Map<String, ?> values) {
+        if (fallback != null) {
+            return fallback.buildFromMap(values);
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (final Object part : parts) {
+            if (part instanceof Variable) {
+                final Variable variable = (Variable) part;
+                sb.append(variable.encode(values.get(variable.name)));
+            } else {
+                sb.append((String) part);
+            }
+        }
+        return createUri(sb.toString());
+    }
+
+    private boolean compile(final String scheme, final String authority,
+                            final String userInfo, final String host, final String port,
+                            final String path, final String query, final String fragment) {
+        // mirrors the URI assembly done by UriTemplate.createURI
+        boolean compiled = true;
+        if (scheme != null) {
+            compiled = compile(UriComponent.Type.SCHEME, scheme);
+            literal.append(':');
+        }
+
+        boolean hasAuthority = false;
+        if (notEmpty(userInfo) || notEmpty(host) || notEmpty(port)) {
+            hasAuthority = true;
+            literal.append("//");
+
+            if (notEmpty(userInfo)) {
+                compiled &= compile(UriComponent.Type.USER_INFO, userInfo);
+                literal.append('@');
+            }
+            if (notEmpty(host)) {
+                compiled &= compile(UriComponent.Type.HOST, host);
+            }
+            if (notEmpty(port)) {
+                literal.append(':');
+                compiled &= compile(UriComponent.Type.PORT, port);
+            }
+        } else if (notEmpty(authority)) {
+            hasAuthority = true;
+            literal.append("//");
+            compiled &= compile(UriComponent.Type.AUTHORITY, authority);
+        }
+
+        if (notEmpty(path) || notEmpty(query) || notEmpty(fragment)) {
+            if (hasAuthority && (path == null || path.isEmpty() || path.charAt(0) != '/')) {
+                literal.append('/');
+            }
+            if (notEmpty(path)) {
+                compiled &= compile(UriComponent.Type.PATH_SEGMENT, path);
+            }
+            if (notEmpty(query)) {
+                literal.append('?');
+                compiled &= compile(UriComponent.Type.QUERY_PARAM, query);
+            }
+            if (notEmpty(fragment)) {
+                literal.append('#');
+                compiled &= compile(UriComponent.Type.FRAGMENT, fragment);
+            }
+        }
+
+        flushLiteral();
+        return compiled;
+    }
+
+    private boolean compile(final UriComponent.Type type, final String template) {
+        if (template.indexOf('{') == -1) {
+            literal.append(template);
+            return true;
+        }
+
+        final String normalized = new UriTemplateParser(template).getNormalizedTemplate();
+        final Matcher m = TEMPLATE_NAMES_PATTERN.matcher(normalized);
+        int i = 0;
+        while (m.find()) {
+            final String name = m.group(1);
+            final char firstChar = name.charAt(0);
+            if (firstChar == '?' || firstChar == ';') {
+                return false;
+            }
+
+            literal.append(normalized, i, m.start());
+            flushLiteral();
+
+            int index = variables.indexOf(name);
+            if (index < 0) {
+                index = variables.size();
+                variables.add(name);
+            }
+            parts.add(new Variable(name, index, type));
+            i = m.end();
+        }
+        literal.append(normalized, i, normalized.length());
+        return true;
+    }
+
+    private void flushLiteral() {
+        if (literal.length() > 0) {
+            parts.add(literal.toString());
+            literal.setLength(0);
+        }
+    }
+
+    private static boolean notEmpty(final String string) {
+        return string != null && !string.isEmpty();
+    }
+
+    private static URI createUri(final String uri) {
+        try {
+            return new URI(uri);
+        } catch (final URISyntaxException ex) {
+            throw new UriBuilderException(ex);
+        }
+    }
+
+    /**
+     * Template variable occurrence.
+     */
+    private static final class Variable {
+
+        private final String name;
+        private final int index;
+        private final UriComponent.Type type;
+
+        private Variable(final String name, final int index, final UriComponent.Type type) {
+            this.name = name;
+            this.index = index;
+            this.type = type;
+        }
+
+        private String encode(final Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException(LocalizationMessages.URI_TEMPLATE_VALUE_MISSING(name));
+            }
+            return UriComponent.encode(value.toString(), type);
+        }
+    }
+}
@@ -40,9 +40,12 @@
 
 package org.glassfish.jersey.message;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -59,7 +62,12 @@ import javax.ws.rs.core.Feature;
 
 import javax.inject.Provider;
 
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
 import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Martin Matula
@@ -75,6 +83,11 @@ public class DeflateEncodingTest extends AbstractEncodingTest {
             properties.put(MessageProperties.DEFLATE_WITHOUT_ZLIB, noZLib);
         }
 
+        DummyConfiguration(boolean noZLib, int compressionLevel) {
+            this(noZLib);
+            properties.put(MessageProperties.DEFLATE_COMPRESSION_LEVEL, compressionLevel);
+        }
+
         @Override
         public RuntimeType getRuntimeType() {
             return null;
@@ -224,4 +237,33 @@ public class DeflateEncodingTest extends AbstractEncodingTest {
             }
         });
     }
+
+    @Test
+    public void testCompressionLevel() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Hello world!");
+        }
+        byte[] entity = sb.toString().getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(encode(entity, Deflater.NO_COMPRESSION) > entity.length);
+        assertTrue(encode(entity, Deflater.BEST_COMPRESSION) < entity.length / 10);
+        // invalid level is ignored
+        assertEquals(encode(entity, Deflater.DEFAULT_COMPRESSION), encode(entity, 42));
+    }
+
+    private static int encode(byte[] entity, int compressionLevel) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        OutputStream encoded = new DeflateEncoder(new DummyConfiguration(false, compressionLevel)).encode("deflate", baos);
+        encoded.write(entity);
+        encoded.close();
+
+        InputStream decoded = new DeflateEncoder(new DummyConfiguration(false)).decode("deflate",
+                new ByteArrayInputStream(baos.toByteArray()));
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        ReaderWriter.writeTo(decoded, result);
+        assertArrayEquals(entity, result.toByteArray());
+
+        return baos.size();
+    }
 }
@@ -40,13 +40,21 @@
 
 package org.glassfish.jersey.message;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
 import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * @author Martin Matula
@@ -96,4 +104,61 @@ public class GZipEncodingTest extends AbstractEncodingTest {
             }
         });
     }
+
+    @Test
+    public void testDecodeConcatenatedMembers() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (String member : new String[] {"Hello ", "world!"}) {
+            OutputStream encoded = new GZIPOutputStream(baos);
+            encoded.write(member.getBytes(StandardCharsets.US_ASCII));
+            encoded.close();
+        }
+
+        InputStream decoded = new GZipEncoder().decode("gzip", new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals("Hello world!", new String(readAll(decoded), StandardCharsets.US_ASCII));
+        decoded.close();
+    }
+
+    @Test
+    public void testEncodeDecodeLargeEntityWithReusedCodecs() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i).append(',');
+        }
+        byte[] entity = sb.toString().getBytes(StandardCharsets.US_ASCII);
+
+        for (int i = 0; i < 3; i++) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            OutputStream encoded = new GZipEncoder().encode("gzip", baos);
+            encoded.write(entity);
+            encoded.close();
+
+            InputStream jdkDecoded = new GZIPInputStream(new ByteArrayInputStream(baos.toByteArray()));
+            assertArrayEquals(entity, readAll(jdkDecoded));
+
+            InputStream decoded = new GZipEncoder().decode("gzip", new ByteArrayInputStream(baos.toByteArray()));
+            assertArrayEquals(entity, readAll(decoded));
+            decoded.close();
+        }
+    }
+
+    @Test
+    public void testClosedStreamNotUsable() throws IOException {
+        OutputStream encoded = new GZipEncoder().encode("gzip", new ByteArrayOutputStream());
+        encoded.close();
+        // closing twice is allowed
+        encoded.close();
+        try {
+            encoded.write(1);
+            fail("Writing to a closed stream should fail.");
+        } catch (IOException expected) {
+            // ok
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ReaderWriter.writeTo(in, baos);
+        return baos.toByteArray();
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.ext.ReaderInterceptor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests caching of parsed header values in {@link InboundMessageContext}.
+ */
+public class InboundMessageContextHeaderCacheTest {
+
+    private static InboundMessageContext context() {
+        return new InboundMessageContext() {
+            @Override
+            protected Iterable<ReaderInterceptor> getReaderInterceptors() {
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    @Test
+    public void testAcceptableMediaTypesCached() {
+        final InboundMessageContext context = context();
+        context.getHeaders().add(HttpHeaders.ACCEPT, "application/json;q=0.5, text/plain");
+
+        final List<AcceptableMediaType> types = context.getQualifiedAcceptableMediaTypes();
+        assertEquals(2, types.size());
+        assertEquals("text", types.get(0).getType());
+        assertSame(types, context.getQualifiedAcceptableMediaTypes());
+
+        // the same raw value sent by another request is not parsed again
+        final InboundMessageContext other = context();
+        other.getHeaders().add(HttpHeaders.ACCEPT, "application/json;q=0.5, text/plain");
+        assertSame(types, other.getQualifiedAcceptableMediaTypes());
+    }
+
+    @Test
+    public void testAcceptableMediaTypesReparsedOnChange() {
+        final InboundMessageContext context = context();
+        context.getHeaders().add(HttpHeaders.ACCEPT, "text/plain");
+        final List<AcceptableMediaType> types = context.getQualifiedAcceptableMediaTypes();
+
+        context.getHeaders().putSingle(HttpHeaders.ACCEPT, "application/xml");
+        final List<AcceptableMediaType> changed = context.getQualifiedAcceptableMediaTypes();
+
+        assertNotSame(types, changed);
+        assertEquals("xml", changed.get(0).getSubtype());
+
+        context.getHeaders().add(HttpHeaders.ACCEPT, "text/html");
+        assertEquals(2, context.getQualifiedAcceptableMediaTypes().size());
+    }
+
+    @Test
+    public void testAcceptableLanguagesCached() {
+        final InboundMessageContext context = context();
+        context.getHeaders().add(HttpHeaders.ACCEPT_LANGUAGE, "en-US, cs;q=0.8");
+
+        final List<AcceptableLanguageTag> languages = context.getQualifiedAcceptableLanguages();
+        assertEquals(2, languages.size());
+        assertSame(languages, context.getQualifiedAcceptableLanguages());
+
+        context.getHeaders().putSingle(HttpHeaders.ACCEPT_LANGUAGE, "de");
+        assertEquals("de", context.getQualifiedAcceptableLanguages().get(0).getTag());
+    }
+
+    @Test
+    public void testRequestCookiesCached() {
+        final InboundMessageContext context = context();
+        context.getHeaders().add(HttpHeaders.COOKIE, "a=1");
+
+        final Map<String, Cookie> cookies = context.getRequestCookies();
+        assertEquals("1", cookies.get("a").getValue());
+        assertSame(cookies, context.getRequestCookies());
+
+        context.getHeaders().add(HttpHeaders.COOKIE, "b=2");
+        final Map<String, Cookie> changed = context.getRequestCookies();
+        assertEquals(2, changed.size());
+        assertEquals("2", changed.get("b").getValue());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRequestCookiesReadOnly() {
+        final InboundMessageContext context = context();
+        context.getHeaders().add(HttpHeaders.COOKIE, "a=1");
+
+        context.getRequestCookies().remove("a");
+    }
+}
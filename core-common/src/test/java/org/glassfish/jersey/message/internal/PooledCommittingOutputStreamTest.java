@@ -0,0 +1,151 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link CommittingOutputStream} buffering backed by {@link EntityBufferPool} and {@link EntitySizeEstimator}.
+ */
+public class PooledCommittingOutputStreamTest {
+
+    private static byte[] bytes(final int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static CommittingOutputStream stream(final ByteArrayOutputStream target, final AtomicInteger contentLength) {
+        final CommittingOutputStream cos = new CommittingOutputStream();
+        cos.setStreamProvider(size -> {
+            contentLength.set(size);
+            return target;
+        });
+        return cos;
+    }
+
+    @Test
+    public void testSizeClasses() {
+        final EntityBufferPool pool = new EntityBufferPool(1024, 3000);
+
+        assertEquals(1024, pool.sizeClassFor(1));
+        assertEquals(1024, pool.sizeClassFor(1024));
+        assertEquals(2048, pool.sizeClassFor(1025));
+        assertEquals(3000, pool.sizeClassFor(2049));
+        assertEquals(3000, pool.sizeClassFor(10000));
+        assertEquals(3000, pool.getMaxSize());
+    }
+
+    @Test
+    public void testBufferReuse() {
+        final EntityBufferPool pool = new EntityBufferPool(16, 64);
+
+        final byte[] buffer = pool.acquire(20);
+        assertEquals(32, buffer.length);
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(17));
+    }
+
+    @Test
+    public void testPooledBufferGrowsAndMeasuresSize() throws IOException {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final AtomicInteger contentLength = new AtomicInteger();
+        final CommittingOutputStream cos = stream(target, contentLength);
+        final EntitySizeEstimator estimator = new EntitySizeEstimator();
+        estimator.record(10);
+        cos.enableBuffering(64, new EntityBufferPool(16, 64), estimator);
+
+        final byte[] entity = bytes(50);
+        cos.write(entity, 0, 10);
+        cos.write(entity[10]);
+        cos.write(entity, 11, 39);
+        cos.close();
+
+        assertEquals(50, contentLength.get());
+        assertArrayEquals(entity, target.toByteArray());
+        assertTrue(estimator.getInitialSize(64) > 13);
+    }
+
+    @Test
+    public void testPooledBufferOverflow() throws IOException {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final AtomicInteger contentLength = new AtomicInteger();
+        final CommittingOutputStream cos = stream(target, contentLength);
+        final EntityBufferPool pool = new EntityBufferPool(16, 64);
+        cos.enableBuffering(64, pool, null);
+
+        final byte[] entity = bytes(100);
+        cos.write(entity, 0, 40);
+        cos.write(entity, 40, 60);
+        cos.close();
+
+        assertEquals(-1, contentLength.get());
+        assertArrayEquals(entity, target.toByteArray());
+    }
+
+    @Test
+    public void testSizeEstimator() throws IOException {
+        final EntitySizeEstimator estimator = new EntitySizeEstimator();
+        assertEquals(8192, estimator.getInitialSize(8192));
+
+        for (int i = 0; i < 3; i++) {
+            final ByteArrayOutputStream target = new ByteArrayOutputStream();
+            final CommittingOutputStream cos = stream(target, new AtomicInteger());
+            cos.enableBuffering(8192, null, estimator);
+            cos.write(bytes(100));
+            cos.close();
+            assertEquals(100, target.size());
+        }
+
+        final int initialSize = estimator.getInitialSize(8192);
+        assertTrue(initialSize > 100 && initialSize < 200);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.jersey.message.ZeroCopyOutput;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of writing file and byte buffer entities through {@link ZeroCopyOutput} streams.
+ */
+public class ZeroCopyOutputTest {
+
+    /**
+     * Zero-copy output that records the number of direct writes and copies the written content.
+     */
+    private static class RecordingOutput extends ByteArrayOutputStream implements ZeroCopyOutput {
+
+        private int directWrites;
+
+        @Override
+        public boolean writeFileRegion(final FileChannel channel, final long position, final long count) throws IOException {
+            directWrites++;
+            final ByteBuffer buffer = ByteBuffer.allocate((int) count);
+            channel.read(buffer, position);
+            write(buffer.array(), 0, buffer.position());
+            return true;
+        }
+
+        @Override
+        public boolean writeByteBuffer(final ByteBuffer buffer) throws IOException {
+            directWrites++;
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            write(bytes);
+            return true;
+        }
+    }
+
+    private static byte[] bytes(final int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static File file(final byte[] content) throws IOException {
+        final File file = Utils.createTempFile();
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    private static CommittingOutputStream stream(final ByteArrayOutputStream target, final AtomicInteger contentLength) {
+        final CommittingOutputStream cos = new CommittingOutputStream();
+        cos.setStreamProvider(size -> {
+            contentLength.set(size);
+            return target;
+        });
+        cos.enableBuffering(64);
+        return cos;
+    }
+
+    @Test
+    public void testLargeFileWrittenDirectly() throws IOException {
+        final byte[] content = bytes(1000);
+        final RecordingOutput target = new RecordingOutput();
+        final AtomicInteger contentLength = new AtomicInteger();
+        final CommittingOutputStream cos = stream(target, contentLength);
+
+        new FileProvider().writeTo(file(content), File.class, File.class, null, null, null, cos);
+        cos.close();
+
+        assertEquals(1, target.directWrites);
+        assertEquals(-1, contentLength.get());
+        assertArrayEquals(content, target.toByteArray());
+    }
+
+    @Test
+    public void testSmallFileBuffered() throws IOException {
+        final byte[] content = bytes(10);
+        final RecordingOutput target = new RecordingOutput();
+        final AtomicInteger contentLength = new AtomicInteger();
+        final CommittingOutputStream cos = stream(target, contentLength);
+
+        new PathProvider().writeTo(file(content).toPath(), File.class, File.class, null, null, null, cos);
+        cos.close();
+
+        assertEquals(0, target.directWrites);
+        assertEquals(10, contentLength.get());
+        assertArrayEquals(content, target.toByteArray());
+    }
+
+    @Test
+    public void testFallbackToCopy() throws IOException {
+        final byte[] content = bytes(1000);
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final CommittingOutputStream cos = stream(target, new AtomicInteger());
+
+        new FileProvider().writeTo(file(content), File.class, File.class, null, null, null, cos);
+        cos.close();
+
+        assertArrayEquals(content, target.toByteArray());
+    }
+
+    @Test
+    public void testByteBuffer() throws IOException {
+        final byte[] content = bytes(1000);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(content.length);
+        direct.put(content).flip();
+
+        final RecordingOutput target = new RecordingOutput();
+        final CommittingOutputStream cos = stream(target, new AtomicInteger());
+        new ByteBufferProvider().writeTo(direct, ByteBuffer.class, ByteBuffer.class, null, null, null, cos);
+        cos.close();
+
+        assertEquals(1, target.directWrites);
+        assertArrayEquals(content, target.toByteArray());
+        assertEquals(0, direct.position());
+
+        final ByteArrayOutputStream copyTarget = new ByteArrayOutputStream();
+        ReaderWriter.writeTo(direct, copyTarget);
+        assertArrayEquals(content, copyTarget.toByteArray());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.uri.internal;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link PreparedUriTemplate} unit tests.
+ */
+public class PreparedUriTemplateTest {
+
+    @Test
+    public void testSameAsBuilder() {
+        assertSameAsBuilder("http://localhost:8080/items/{id}", "a b/c");
+        assertSameAsBuilder("http://{host}:{port}/a/{x}/b/{x}?q={q}#{f}", "example.com", 80, "x y", "q&r", "f g");
+        assertSameAsBuilder("http://localhost/{id: [0-9]+}/tail", 42);
+        assertSameAsBuilder("/relative/{path}", "p");
+        assertSameAsBuilder("http://localhost", new Object[0]);
+        assertSameAsBuilder("http://localhost?a=1", new Object[0]);
+    }
+
+    @Test
+    public void testQueryParamsAdded() {
+        final JerseyUriBuilder builder = new JerseyUriBuilder().uri("http://localhost/items");
+        builder.queryParam("q", "{query}").queryParam("limit", 10).matrixParam("m", "{matrix}");
+
+        final PreparedUriTemplate template = builder.prepare();
+        assertEquals(Arrays.asList("matrix", "query"), template.getTemplateVariables());
+        assertEquals(builder.build("a;b", "x y"), template.build("a;b", "x y"));
+    }
+
+    @Test
+    public void testBuildFromMap() {
+        final JerseyUriBuilder builder = new JerseyUriBuilder().uri("http://localhost/{a}/{b}");
+        final Map<String, Object> values = new HashMap<>();
+        values.put("a", "x");
+        values.put("b", "y/z");
+
+        assertEquals(URI.create("http://localhost/x/y%2Fz"), builder.prepare().buildFromMap(values));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingValue() {
+        new JerseyUriBuilder().uri("http://localhost/{a}/{b}").prepare().build("x");
+    }
+
+    @Test
+    public void testBuilderModificationIgnored() {
+        final JerseyUriBuilder builder = new JerseyUriBuilder().uri("http://localhost/{a}");
+        final PreparedUriTemplate template = builder.prepare();
+        builder.path("b");
+
+        assertEquals(URI.create("http://localhost/x"), template.build("x"));
+    }
+
+    private static void assertSameAsBuilder(final String template, final Object... values) {
+        final JerseyUriBuilder builder = new JerseyUriBuilder().uri(template);
+        assertEquals(builder.build(values), builder.prepare().build(values));
+    }
+}
@@ -366,6 +366,27 @@ public final class ServerProperties {
     @PropertyAlias
     public static final String OUTBOUND_CONTENT_LENGTH_BUFFER = CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_SERVER;
 
+    /**
+     * If {@code true} then the server learns the typical size of the response entities produced by each resource method
+     * and uses it to choose the initial size of the buffer used to buffer the outbound response entity
+     * (see {@link #OUTBOUND_CONTENT_LENGTH_BUFFER}). The buffer grows up to the configured buffer size if the entity
+     * is larger than expected.
+     * <p>
+     * Adaptive sizing reduces the amount of memory allocated (or, if
+     * {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOLED pooling} is enabled, held) for responses that are
+     * considerably smaller than the configured buffer size.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_ADAPTIVE = "jersey.config.server.contentLength.buffer.adaptive";
+
     /**
      * If {@code true} then disable configuration of Json Processing (JSR-353) feature on server.
      *
@@ -545,6 +566,27 @@ public final class ServerProperties {
     public static final String MONITORING_STATISTICS_REFRESH_INTERVAL =
             "jersey.config.server.monitoring.statistics.refresh.interval";
 
+    /**
+     * If {@code true} then the monitoring events are collected into lock-free, per-thread striped queues and counters
+     * and the execution statistics of finite time windows are aggregated into fixed time buckets instead of keeping every
+     * measurement. This reduces the contention and the allocation rate caused by monitoring statistics on busy servers
+     * at the cost of a bucket-granular precision of the time windows.
+     * <p>
+     * The property is taken into account only if {@link #MONITORING_STATISTICS_ENABLED monitoring statistics} are enabled.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #MONITORING_STATISTICS_ENABLED
+     * @since 2.28
+     */
+    public static final String MONITORING_STATISTICS_LOCK_FREE_ENABLED =
+            "jersey.config.server.monitoring.statistics.lockFree.enabled";
+
     /**
      * {@link String} property that defines the application name.
      *
@@ -748,6 +790,110 @@ public final class ServerProperties {
     public static final String LOCATION_HEADER_RELATIVE_URI_RESOLUTION_DISABLED =
             "jersey.config.server.headers.location.relative.resolution.disabled";
 
+    /**
+     * If {@code true} then the request path matching routers compile the literal path segments of their routing patterns
+     * into a prefix trie when the application is initialized. The trie is used to select the (usually small) set of
+     * candidate routes for the request path before the regular expression matching is performed, instead of
+     * matching the request path against the patterns of all the resources one by one. The JAX-RS matching precedence
+     * of the routes is preserved.
+     * <p>
+     * Enabling the trie is beneficial for applications with a large number of (root) resources.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String ROUTING_PATH_TRIE_ENABLED = "jersey.config.server.routing.trie.enabled";
+
+    /**
+     * An integer value that defines the size of the cache of resource method selection results maintained for every set of
+     * resource methods bound to the same path. Method selection results are cached per distinct combination of the request
+     * HTTP method, {@code Content-Type} and {@code Accept} header values and contain the selected resource method as well
+     * as the response media types computed for it. If the value is not a positive integer, the caching is disabled.
+     * <p>
+     * The default value is {@value #METHOD_SELECTION_DEFAULT_CACHE_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #METHOD_SELECTION_DEFAULT_CACHE_SIZE
+     * @since 2.28
+     */
+    public static final String METHOD_SELECTION_CACHE_SIZE = "jersey.config.server.routing.methodSelection.cache.size";
+
+    /**
+     * The default resource method selection cache size ({@value}).
+     *
+     * @see #METHOD_SELECTION_CACHE_SIZE
+     * @since 2.28
+     */
+    public static final int METHOD_SELECTION_DEFAULT_CACHE_SIZE = 32;
+
+    /**
+     * If {@code true} then the resource methods are invoked using {@link java.lang.invoke.MethodHandle method handles}
+     * resolved for every resource method when the application is initialized instead of the reflective
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)} calls. The property is taken into account only if no
+     * custom {@link org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider} provides an invocation
+     * handler for the resource method. Resource methods that cannot be accessed via a method handle are still invoked
+     * using reflection.
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String RESOURCE_METHOD_HANDLES_ENABLED = "jersey.config.server.resource.methodHandles.enabled";
+
+    /**
+     * If {@code true} then {@link javax.ws.rs.BeanParam bean parameters} are created and populated using an extraction
+     * plan compiled once per bean class when the application is initialized: the bean is instantiated via its no-argument
+     * constructor and every {@code @XxxParam} annotated field is set through a {@link java.lang.invoke.MethodHandle method
+     * handle} from a pre-resolved parameter value provider, bypassing the injection framework for every request.
+     * <p>
+     * Bean classes that require other kinds of injection (e.g. {@code @Context} or {@code @Inject} members, annotated
+     * methods or constructors with parameters) or that are bound in the injection manager are still populated by
+     * the injection framework.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String BEAN_PARAM_EXTRACTION_PLANS_ENABLED = "jersey.config.server.beanParam.extractionPlans.enabled";
+
+    /**
+     * An integer value that defines the minimum size (in bytes) of a response entity to be encoded by the
+     * {@link org.glassfish.jersey.server.filter.EncodingFilter encoding filter}.
+     * <p>
+     * Response entities that are known to be smaller than the configured size are sent without any content encoding,
+     * since compressing them costs more CPU time than it saves in the transfer. The size of the entity is determined
+     * from the {@code Content-Length} header or from the entity itself if it is a byte array, a {@link String} or
+     * a {@link java.io.File}; entities of an unknown size are always encoded.
+     * </p>
+     * <p>
+     * The default value is {@code 0}, i.e. all entities are encoded.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    public static final String ENCODING_MINIMUM_SIZE = "jersey.config.server.encoding.minimumSize";
+
     private ServerProperties() {
         // prevents instantiation
     }
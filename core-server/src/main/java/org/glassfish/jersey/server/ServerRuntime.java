@@ -52,7 +52,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -86,6 +88,7 @@ import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.internal.util.collection.Refs;
 import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.message.internal.EntitySizeEstimator;
 import org.glassfish.jersey.message.internal.HeaderValueException;
 import org.glassfish.jersey.message.internal.MessageBodyProviderNotFoundException;
 import org.glassfish.jersey.message.internal.OutboundJaxrsResponse;
@@ -105,6 +108,7 @@ import org.glassfish.jersey.server.internal.process.Endpoint;
 import org.glassfish.jersey.server.internal.process.MappableException;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.internal.routing.UriRoutingContext;
+import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
@@ -149,6 +153,8 @@ public class ServerRuntime {
     private final boolean disableLocationHeaderRelativeUriResolution;
     /** Resolve relative URIs according to RFC7231 (not JAX-RS 2.0 compliant */
     private final boolean rfc7231LocationHeaderRelativeUriResolution;
+    /** Response entity size estimators per resource method, {@code null} if the adaptive buffer sizing is disabled. */
+    private final ConcurrentMap<ResourceMethod, EntitySizeEstimator> entitySizeEstimators;
 
     static ServerRuntime createServerRuntime(
             InjectionManager injectionManager,
@@ -212,6 +218,26 @@ public class ServerRuntime {
         this.rfc7231LocationHeaderRelativeUriResolution = ServerProperties.getValue(configuration.getProperties(),
                 ServerProperties.LOCATION_HEADER_RELATIVE_URI_RESOLUTION_RFC7231,
                 Boolean.FALSE, Boolean.class);
+
+        this.entitySizeEstimators = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_ADAPTIVE, Boolean.FALSE, Boolean.class)
+                ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Get the response entity size estimator of the resource method matched for the request.
+     *
+     * @param request container request.
+     * @return entity size estimator or {@code null} if the adaptive buffer sizing is disabled or no resource method
+     * has been matched.
+     */
+    private EntitySizeEstimator getEntitySizeEstimator(final ContainerRequest request) {
+        if (entitySizeEstimators == null) {
+            return null;
+        }
+        final ResourceMethod resourceMethod = request.getUriInfo().getMatchedResourceMethod();
+        return resourceMethod == null
+                ? null : entitySizeEstimators.computeIfAbsent(resourceMethod, method -> new EntitySizeEstimator());
     }
 
     /**
@@ -655,7 +681,8 @@ public class ServerRuntime {
                 });
 
                 if ((writer.enableResponseBuffering() || isHead) && !response.isChunked()) {
-                    response.enableBuffering(runtime.configuration);
+                    response.getWrappedMessageContext().enableBuffering(runtime.configuration,
+                            runtime.getEntitySizeEstimator(request));
                 }
 
                 try {
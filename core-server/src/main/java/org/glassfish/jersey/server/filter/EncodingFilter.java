@@ -40,11 +40,15 @@
 
 package org.glassfish.jersey.server.filter;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.logging.Level;
@@ -55,14 +59,19 @@ import javax.ws.rs.Priorities;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.HttpHeaders;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.MessageUtils;
 import org.glassfish.jersey.message.internal.HttpHeaderReader;
+import org.glassfish.jersey.message.internal.Quality;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
@@ -70,9 +79,15 @@ import org.glassfish.jersey.spi.ContentEncoder;
  * content encodings are supported by the container (by looking up all the
  * {@link org.glassfish.jersey.spi.ContentEncoder encoders}) and decides what encoding should be chosen
  * based on the encodings listed in the Accept-Encoding request header and their associated quality values.
+ * If several supported encodings are equally acceptable, the one with the highest
+ * {@link org.glassfish.jersey.spi.ContentEncoder#getQuality(String) quality} provided by its encoder is chosen.
  * If none of the acceptable encodings is supported and identity encoding is explicitly forbidden by the client,
  * the filter generates {@link javax.ws.rs.core.Response.Status#NOT_ACCEPTABLE} response.
  * <p>
+ *     Responses with entities known to be smaller than the value of the {@link ServerProperties#ENCODING_MINIMUM_SIZE}
+ *     property are not encoded.
+ * </p>
+ * <p>
  *     The filter also ensures Accept-Encoding is added to the Vary header, for proper interaction with web caches.
  * </p>
  *
@@ -85,8 +100,12 @@ public final class EncodingFilter implements ContainerResponseFilter {
 
     @Inject
     private InjectionManager injectionManager;
+    @Inject
+    private Configuration config;
     // sorted set to keep the order same for different invocations of the app
     private volatile SortedSet<String> supportedEncodings = null;
+    private volatile Map<String, Integer> encodingQualities = null;
+    private volatile int minimumSize = -1;
 
     /**
      * Enables this filter along with the provided {@link org.glassfish.jersey.spi.ContentEncoder encoders}
@@ -117,6 +136,15 @@ public final class EncodingFilter implements ContainerResponseFilter {
             return;
         }
 
+        // don't encode entities that are too small to benefit from the encoding
+        final int minSize = getMinimumSize();
+        if (minSize > 0) {
+            final long size = getEntitySize(response);
+            if (size >= 0 && size < minSize) {
+                return;
+            }
+        }
+
         // retrieve the list of accepted encodings
         List<String> acceptEncoding = request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING);
 
@@ -155,7 +183,8 @@ public final class EncodingFilter implements ContainerResponseFilter {
         String contentEncoding = null;
 
         // iterate through the accepted encodings, starting with the highest quality one
-        for (ContentEncoding encoding : encodings) {
+        for (int i = 0; i < encodings.size(); i++) {
+            ContentEncoding encoding = encodings.get(i);
             if (encoding.q == 0) {
                 // ok, we are down at 0 quality
                 if ("*".equals(encoding.name)) {
@@ -171,8 +200,8 @@ public final class EncodingFilter implements ContainerResponseFilter {
                     anyRemaining = true;
                 } else {
                     if (acceptedEncodings.contains(encoding.name)) {
-                        // found an acceptable one -> we are done
-                        contentEncoding = encoding.name;
+                        // found an acceptable one -> we are done, unless there are more with the same quality
+                        contentEncoding = getPreferredEncoding(encodings, i, acceptedEncodings);
                         break;
                     }
                 }
@@ -183,7 +212,7 @@ public final class EncodingFilter implements ContainerResponseFilter {
             // haven't found any explicit acceptable encoding, let's see if we can just pick any of the remaining ones
             // (if there are any left)
             if (anyRemaining && !acceptedEncodings.isEmpty()) {
-                contentEncoding = acceptedEncodings.first();
+                contentEncoding = getPreferredEncoding(acceptedEncodings);
             } else {
                 // no acceptable encoding can be sent -> return NOT ACCEPTABLE status code back to the client
                 throw new NotAcceptableException();
@@ -196,6 +225,85 @@ public final class EncodingFilter implements ContainerResponseFilter {
         }
     }
 
+    /**
+     * Choose the encoding with the highest encoder quality among the acceptable encodings with the same client quality
+     * as the encoding at the given index. The encodings with the same encoder quality are chosen in the order in which
+     * they are listed in the request.
+     */
+    private String getPreferredEncoding(List<ContentEncoding> encodings, int index, SortedSet<String> acceptedEncodings) {
+        final ContentEncoding first = encodings.get(index);
+        String preferred = first.name;
+        int preferredQuality = getQuality(preferred);
+        for (int i = index + 1; i < encodings.size() && encodings.get(i).q == first.q; i++) {
+            final String name = encodings.get(i).name;
+            if (acceptedEncodings.contains(name) && getQuality(name) > preferredQuality) {
+                preferred = name;
+                preferredQuality = getQuality(name);
+            }
+        }
+        return preferred;
+    }
+
+    /**
+     * Choose the encoding with the highest encoder quality among the given encodings. The encodings with the same
+     * encoder quality are chosen in the lexical order.
+     */
+    private String getPreferredEncoding(SortedSet<String> acceptedEncodings) {
+        String preferred = null;
+        int preferredQuality = Integer.MIN_VALUE;
+        for (String name : acceptedEncodings) {
+            if (getQuality(name) > preferredQuality) {
+                preferred = name;
+                preferredQuality = getQuality(name);
+            }
+        }
+        return preferred;
+    }
+
+    private int getQuality(String encoding) {
+        getSupportedEncodings();
+        final Integer quality = encodingQualities.get(encoding);
+        return quality == null ? Quality.DEFAULT : quality;
+    }
+
+    private int getMinimumSize() {
+        if (minimumSize < 0) {
+            final Integer value = PropertiesHelper.getValue(config.getProperties(), ServerProperties.ENCODING_MINIMUM_SIZE,
+                    Integer.class, null);
+            minimumSize = value == null ? 0 : Math.max(0, value);
+        }
+        return minimumSize;
+    }
+
+    /**
+     * Returns the size of the response entity in bytes, if it can be determined before the entity is written.
+     * The size of a {@link String} entity is estimated from above by its length and the maximum number of bytes per
+     * character of the response charset, so that only entities that are certainly small are not encoded.
+     */
+    private static long getEntitySize(ContainerResponseContext response) {
+        final String contentLength = response.getHeaderString(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                // ignore the invalid header value
+            }
+        }
+        final Object entity = response.getEntity();
+        if (entity instanceof byte[]) {
+            return ((byte[]) entity).length;
+        } else if (entity instanceof String) {
+            final Charset charset = MessageUtils.getCharset(response.getMediaType());
+            if (!charset.canEncode()) {
+                return -1;
+            }
+            return (long) Math.ceil(((String) entity).length() * (double) charset.newEncoder().maxBytesPerChar());
+        } else if (entity instanceof File) {
+            return ((File) entity).length();
+        }
+        return -1;
+    }
+
     // representation of a single Content-Encoding header value
     private static class ContentEncoding implements Comparable<ContentEncoding> {
         public final String name;
@@ -243,11 +351,17 @@ public final class EncodingFilter implements ContainerResponseFilter {
         // may be set twice, but it does not break anything
         if (supportedEncodings == null) {
             SortedSet<String> se = new TreeSet<>();
+            Map<String, Integer> qualities = new HashMap<>();
             List<ContentEncoder> encoders = injectionManager.getAllInstances(ContentEncoder.class);
             for (ContentEncoder encoder : encoders) {
                 se.addAll(encoder.getSupportedEncodings());
+                for (String encoding : encoder.getSupportedEncodings()) {
+                    int quality = Math.max(Quality.MINIMUM + 1, Math.min(Quality.MAXIMUM, encoder.getQuality(encoding)));
+                    qualities.merge(encoding, quality, Math::max);
+                }
             }
             se.add(IDENTITY_ENCODING);
+            encodingQualities = qualities;
             supportedEncodings = se;
         }
         return supportedEncodings;
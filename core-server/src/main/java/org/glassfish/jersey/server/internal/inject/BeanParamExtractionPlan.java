@@ -0,0 +1,321 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.BeanParam;
+import javax.ws.rs.CookieParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.Encoded;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.MatrixParam;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.model.Parameter;
+
+/**
+ * Extraction plan of a {@link BeanParam bean parameter} class compiled once per bean class.
+ * <p>
+ * The plan instantiates the bean using its no-argument constructor and assigns every {@code @XxxParam} annotated
+ * field the value returned by the parameter value provider resolved for the field when the plan has been compiled.
+ * Both the constructor and the field setters are invoked via {@link MethodHandle method handles}. The plan is used
+ * instead of the injection framework which otherwise resolves and creates value providers for every field of every
+ * bean instance.
+ * </p>
+ * <p>
+ * Plans are compiled only for bean classes whose instances do not require any other kind of injection, i.e. classes
+ * with no constructors with parameters and with no members annotated by annotations the plan does not know how to
+ * handle (e.g. {@code @Context} or {@code @Inject}). Bean validation constraint annotations are allowed.
+ * </p>
+ */
+final class BeanParamExtractionPlan implements Function<ContainerRequest, Object> {
+
+    private static final Logger LOGGER = Logger.getLogger(BeanParamExtractionPlan.class.getName());
+
+    private static final Set<Class<? extends Annotation>> PARAM_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            BeanParam.class,
+            CookieParam.class,
+            FormParam.class,
+            HeaderParam.class,
+            MatrixParam.class,
+            PathParam.class,
+            QueryParam.class));
+
+    private static final Set<Class<? extends Annotation>> MODIFIER_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            DefaultValue.class,
+            Encoded.class));
+
+    private static final String VALIDATION_PACKAGE = "javax.validation.";
+    private static final String CONSTRAINT_ANNOTATION = "javax.validation.Constraint";
+
+    private final Class<?> beanClass;
+    private final MethodHandle constructor;
+    private final MethodHandle[] setters;
+    private final Function<ContainerRequest, ?>[] valueProviders;
+    private final boolean[] primitives;
+
+    /**
+     * Compile an extraction plan for the given bean parameter class.
+     *
+     * @param beanClass      bean parameter class.
+     * @param valueProviders resolves the value provider for a bean field parameter, returns {@code null} if the parameter
+     *                       is not supported.
+     * @return compiled extraction plan or {@code null} if the bean class is not eligible for a plan and has to be
+     * injected by the injection framework.
+     */
+    static BeanParamExtractionPlan compile(final Class<?> beanClass,
+                                           final Function<Parameter, Function<ContainerRequest, ?>> valueProviders) {
+        if (beanClass.isInterface() || beanClass.isArray() || beanClass.isPrimitive()
+                || Modifier.isAbstract(beanClass.getModifiers())
+                || (beanClass.isMemberClass() && !Modifier.isStatic(beanClass.getModifiers()))) {
+            return null;
+        }
+
+        try {
+            final Constructor<?> noArgConstructor = getNoArgConstructor(beanClass);
+            if (noArgConstructor == null) {
+                return null;
+            }
+
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final List<MethodHandle> setters = new ArrayList<>();
+            final List<Function<ContainerRequest, ?>> providers = new ArrayList<>();
+            final List<Boolean> primitives = new ArrayList<>();
+
+            for (Class<?> clazz = beanClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                if (!hasSupportedMethods(clazz)) {
+                    return null;
+                }
+
+                for (final Field field : AccessController.doPrivileged(ReflectionHelper.getDeclaredFieldsPA(clazz))) {
+                    final Annotation[] annotations = field.getDeclaredAnnotations();
+                    if (annotations.length == 0 || Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (!isSupported(annotations)) {
+                        return null;
+                    }
+                    if (!isParam(annotations)) {
+                        continue;
+                    }
+                    if (Modifier.isFinal(field.getModifiers())) {
+                        return null;
+                    }
+
+                    final Parameter parameter = Parameter.create(
+                            beanClass,
+                            field.getDeclaringClass(),
+                            field.isAnnotationPresent(Encoded.class)
+                                    || field.getDeclaringClass().isAnnotationPresent(Encoded.class),
+                            field.getType(),
+                            field.getGenericType(),
+                            annotations);
+
+                    final Function<ContainerRequest, ?> provider = valueProviders.apply(parameter);
+                    if (provider == null) {
+                        return null;
+                    }
+
+                    setAccessible(field);
+                    setters.add(lookup.unreflectSetter(field)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class)));
+                    providers.add(provider);
+                    primitives.add(field.getType().isPrimitive());
+                }
+            }
+
+            setAccessible(noArgConstructor);
+            final MethodHandle constructor = lookup.unreflectConstructor(noArgConstructor)
+                    .asType(MethodType.methodType(Object.class));
+
+            return new BeanParamExtractionPlan(beanClass, constructor, setters, providers, primitives);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Extraction plan cannot be compiled for bean parameter " + beanClass
+                    + ", the bean will be injected.", e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BeanParamExtractionPlan(final Class<?> beanClass,
+                                    final MethodHandle constructor,
+                                    final List<MethodHandle> setters,
+                                    final List<Function<ContainerRequest, ?>> valueProviders,
+                                    final List<Boolean> primitives) {
+        this.beanClass = beanClass;
+        this.constructor = constructor;
+        this.setters = setters.toArray(new MethodHandle[setters.size()]);
+        this.valueProviders = valueProviders.toArray(new Function[valueProviders.size()]);
+        this.primitives = new boolean[primitives.size()];
+        for (int i = 0; i < this.primitives.length; i++) {
+            this.primitives[i] = primitives.get(i);
+        }
+    }
+
+    @Override
+    public Object apply(final ContainerRequest request) {
+        final Object bean = newInstance();
+
+        for (int i = 0; i < setters.length; i++) {
+            final Object value = valueProviders[i].apply(request);
+            if (value == null && primitives[i]) {
+                // keep the field default value, the same way as the injection does
+                continue;
+            }
+
+            try {
+                setters[i].invokeExact(bean, value);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable t) {
+                throw new IllegalStateException("Cannot set bean parameter field of " + beanClass + ".", t);
+            }
+        }
+
+        return bean;
+    }
+
+    private Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new IllegalStateException("Cannot create bean parameter instance of " + beanClass + ".", t);
+        }
+    }
+
+    private static Constructor<?> getNoArgConstructor(final Class<?> beanClass) {
+        Constructor<?> noArgConstructor = null;
+        for (final Constructor<?> constructor : AccessController
+                .doPrivileged(ReflectionHelper.getDeclaredConstructorsPA(beanClass))) {
+            // constructors with parameters or annotated constructors would be selected by the injection framework
+            if (constructor.getParameterCount() > 0 || constructor.getDeclaredAnnotations().length > 0) {
+                return null;
+            }
+            noArgConstructor = constructor;
+        }
+        return noArgConstructor;
+    }
+
+    private static boolean hasSupportedMethods(final Class<?> clazz) {
+        for (final Method method : AccessController.doPrivileged(ReflectionHelper.getDeclaredMethodsPA(clazz))) {
+            if (method.isSynthetic() || method.isBridge()) {
+                continue;
+            }
+            // setter injection, @PostConstruct callbacks and the like are handled by the injection framework only
+            for (final Annotation annotation : method.getDeclaredAnnotations()) {
+                if (!isValidationAnnotation(annotation)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupported(final Annotation[] annotations) {
+        for (final Annotation annotation : annotations) {
+            final Class<? extends Annotation> type = annotation.annotationType();
+            if (!PARAM_ANNOTATIONS.contains(type) && !MODIFIER_ANNOTATIONS.contains(type)
+                    && !isValidationAnnotation(annotation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isParam(final Annotation[] annotations) {
+        for (final Annotation annotation : annotations) {
+            if (PARAM_ANNOTATIONS.contains(annotation.annotationType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isValidationAnnotation(final Annotation annotation) {
+        final Class<? extends Annotation> type = annotation.annotationType();
+        if (type.getName().startsWith(VALIDATION_PACKAGE)) {
+            return true;
+        }
+        for (final Annotation meta : type.getDeclaredAnnotations()) {
+            if (CONSTRAINT_ANNOTATION.equals(meta.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void setAccessible(final AccessibleObject accessibleObject) {
+        AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+            accessibleObject.setAccessible(true);
+            return null;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "BeanParamExtractionPlan{" + beanClass.getName() + '}';
+    }
+}
@@ -40,9 +40,15 @@
 
 package org.glassfish.jersey.server.internal.inject;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.BeanParam;
+import javax.ws.rs.core.Configuration;
 
 import javax.inject.Provider;
 import javax.inject.Singleton;
@@ -51,9 +57,14 @@ import org.glassfish.jersey.internal.inject.Bindings;
 import org.glassfish.jersey.internal.inject.ForeignDescriptor;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.util.collection.Cache;
+import org.glassfish.jersey.internal.util.collection.LazyValue;
+import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.model.Parameter;
+import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 
 /**
  * Value factory provider for {@link BeanParam bean parameters}.
@@ -64,10 +75,26 @@ import org.glassfish.jersey.server.model.Parameter;
 final class BeanParamValueParamProvider extends AbstractValueParamProvider {
 
     private final InjectionManager injectionManager;
+    private final LazyValue<Boolean> extractionPlansEnabled;
+    private final LazyValue<List<ValueParamProvider>> valueParamProviders;
+
+    /**
+     * Compiled extraction plans, an empty value means the bean class has to be injected by the injection manager.
+     */
+    private final Cache<Class<?>, Optional<BeanParamExtractionPlan>> planCache = new Cache<>(this::compilePlan, beanClass -> {
+        // recursive bean parameter, fail the compilation of the enclosing plan
+        throw new IllegalStateException("Bean parameter " + beanClass + " contains itself.");
+    });
 
     private static final class BeanParamValueProvider implements Function<ContainerRequest, Object> {
         private final Parameter parameter;
         private final InjectionManager injectionManager;
+        private final BeanParamExtractionPlan plan;
+
+        /**
+         * {@code null} until the first request reveals whether the bean class is bound in the injection manager.
+         */
+        private volatile Boolean bound;
 
         private final Cache<Class<?>, ForeignDescriptor> descriptorCache
                 = new Cache<>(new Function<Class<?>, ForeignDescriptor>() {
@@ -81,18 +108,30 @@ final class BeanParamValueParamProvider extends AbstractValueParamProvider {
                     }
                 });
 
-        private BeanParamValueProvider(InjectionManager injectionManager, Parameter parameter) {
+        private BeanParamValueProvider(InjectionManager injectionManager, Parameter parameter,
+                                       BeanParamExtractionPlan plan) {
             this.injectionManager = injectionManager;
             this.parameter = parameter;
+            this.plan = plan;
         }
 
         @Override
         public Object apply(ContainerRequest request) {
+            if (plan != null && bound == Boolean.FALSE) {
+                return plan.apply(request);
+            }
+
             Class<?> rawType = parameter.getRawType();
             Object fromHk2 = injectionManager.getInstance(rawType);
             if (fromHk2 != null) { // the bean parameter type is already bound in HK2, let's just take it from there
+                bound = true;
                 return fromHk2;
             }
+            if (plan != null) {
+                // bindings do not change once the application is initialized, the plan can be used from now on
+                bound = false;
+                return plan.apply(request);
+            }
             ForeignDescriptor foreignDescriptor = descriptorCache.apply(rawType);
             return injectionManager.getInstance(foreignDescriptor);
         }
@@ -101,16 +140,43 @@ final class BeanParamValueParamProvider extends AbstractValueParamProvider {
     /**
      * Creates new instance initialized from parameters injected by HK2.
      *
-     * @param mpep            multivalued parameter extractor provider.
+     * @param mpep                   multivalued parameter extractor provider.
+     * @param injectionManager       injection manager.
+     * @param configuration          runtime configuration, determines whether bean parameters are populated using
+     *                               compiled extraction plans (see
+     *                               {@link ServerProperties#BEAN_PARAM_EXTRACTION_PLANS_ENABLED}).
+     * @param valueParamProviders    all parameter value providers, used to resolve values of bean parameter fields.
      */
     public BeanParamValueParamProvider(Provider<MultivaluedParameterExtractorProvider> mpep,
-            InjectionManager injectionManager) {
+            InjectionManager injectionManager,
+            Supplier<Configuration> configuration,
+            Value<Collection<ValueParamProvider>> valueParamProviders) {
         super(mpep, Parameter.Source.BEAN_PARAM);
         this.injectionManager = injectionManager;
+        this.extractionPlansEnabled = Values.lazy((Value<Boolean>) () -> ServerProperties.getValue(
+                configuration.get().getProperties(), ServerProperties.BEAN_PARAM_EXTRACTION_PLANS_ENABLED, false, Boolean.class));
+        this.valueParamProviders = Values.lazy((Value<List<ValueParamProvider>>) () -> valueParamProviders.get().stream()
+                .sorted((o1, o2) -> o2.getPriority().getWeight() - o1.getPriority().getWeight())
+                .collect(Collectors.toList()));
     }
 
     @Override
     public Function<ContainerRequest, ?> createValueProvider(Parameter parameter) {
-        return new BeanParamValueProvider(injectionManager, parameter);
+        final BeanParamExtractionPlan plan = extractionPlansEnabled.get()
+                ? planCache.apply(parameter.getRawType()).orElse(null)
+                : null;
+        return new BeanParamValueProvider(injectionManager, parameter, plan);
+    }
+
+    private Optional<BeanParamExtractionPlan> compilePlan(Class<?> beanClass) {
+        return Optional.ofNullable(BeanParamExtractionPlan.compile(beanClass, parameter -> {
+            for (ValueParamProvider provider : valueParamProviders.get()) {
+                final Function<ContainerRequest, ?> valueProvider = provider.getValueProvider(parameter);
+                if (valueProvider != null) {
+                    return valueProvider;
+                }
+            }
+            return null;
+        }));
     }
 }
@@ -45,6 +45,8 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -55,6 +57,7 @@ import javax.inject.Provider;
 import org.glassfish.jersey.internal.inject.Injectee;
 import org.glassfish.jersey.internal.inject.InjectionResolver;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.internal.util.collection.Cache;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.model.Parameter;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
@@ -71,6 +74,13 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
     private final Class<A> annotation;
     private final Provider<ContainerRequest> request;
 
+    /**
+     * Value providers resolved for the injection points, the parameter model and its extractor are
+     * created only once per injection point and not for every injected instance.
+     */
+    private final Cache<InjecteeKey, Optional<Function<ContainerRequest, ?>>> valueProviderCache =
+            new Cache<>(this::createValueProvider);
+
     /**
      * Initialize the base parameter injection resolver.
      *
@@ -86,6 +96,20 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
     @Override
     @SuppressWarnings("unchecked")
     public Object resolve(Injectee injectee) {
+        final Function<ContainerRequest, ?> valueProvider = valueProviderCache.apply(new InjecteeKey(injectee)).orElse(null);
+        if (valueProvider != null) {
+            if (injectee.isFactory()) {
+                return (Supplier<Object>) () -> valueProvider.apply(request.get());
+            } else {
+                return valueProvider.apply(request.get());
+            }
+        }
+
+        return null;
+    }
+
+    private Optional<Function<ContainerRequest, ?>> createValueProvider(InjecteeKey key) {
+        final Injectee injectee = key.injectee;
         AnnotatedElement annotated = injectee.getParent();
         Annotation[] annotations;
         if (annotated.getClass().equals(Constructor.class)) {
@@ -113,16 +137,7 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
                 targetGenericType,
                 annotations);
 
-        final Function<ContainerRequest, ?> valueProvider = valueParamProvider.getValueProvider(parameter);
-        if (valueProvider != null) {
-            if (injectee.isFactory()) {
-                return (Supplier<Object>) () -> valueProvider.apply(request.get());
-            } else {
-                return valueProvider.apply(request.get());
-            }
-        }
-
-        return null;
+        return Optional.ofNullable(valueParamProvider.getValueProvider(parameter));
     }
 
     private boolean hasEncodedAnnotation(Injectee injectee) {
@@ -158,6 +173,46 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
     }
 
 
+    /**
+     * Identifies an injection point. Injectees describing the same injection point are not required to be equal.
+     */
+    private static final class InjecteeKey {
+
+        private final Injectee injectee;
+        private final AnnotatedElement parent;
+        private final int position;
+        private final Class<?> injecteeClass;
+        private final Type requiredType;
+
+        private InjecteeKey(Injectee injectee) {
+            this.injectee = injectee;
+            this.parent = injectee.getParent();
+            this.position = injectee.getPosition();
+            this.injecteeClass = injectee.getInjecteeClass();
+            this.requiredType = injectee.getRequiredType();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InjecteeKey)) {
+                return false;
+            }
+            InjecteeKey that = (InjecteeKey) o;
+            return position == that.position
+                    && Objects.equals(parent, that.parent)
+                    && Objects.equals(injecteeClass, that.injecteeClass)
+                    && Objects.equals(requiredType, that.requiredType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(parent, position, injecteeClass, requiredType);
+        }
+    }
+
     @Override
     public boolean isConstructorParameterIndicator() {
         return true;
@@ -126,7 +126,8 @@ public class ValueParamProviderConfigurator implements BootstrapConfigurator {
         QueryParamValueParamProvider queryProvider = new QueryParamValueParamProvider(paramExtractor);
         suppliers.add(queryProvider);
 
-        BeanParamValueParamProvider beanProvider = new BeanParamValueParamProvider(paramExtractor, injectionManager);
+        BeanParamValueParamProvider beanProvider = new BeanParamValueParamProvider(paramExtractor, injectionManager,
+                configuration, serverBag::getValueParamProviders);
         suppliers.add(beanProvider);
 
         WebTargetValueParamProvider webTargetProvider = new WebTargetValueParamProvider(configuration,
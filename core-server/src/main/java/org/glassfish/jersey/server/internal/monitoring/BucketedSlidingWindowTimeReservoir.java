@@ -0,0 +1,183 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
+import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
+
+/**
+ * Sliding window time reservoir that aggregates measurements into a fixed ring of time buckets.
+ * <p/>
+ * Every bucket covers {@code 1/BUCKETS} of the window and keeps only the count, sum, minimum and maximum of the values
+ * measured within its time slot. An update therefore never allocates and touches just a few atomic longs of a single
+ * bucket, and a snapshot is computed in constant time from the buckets that fall into the window. Compared to
+ * {@link SlidingWindowTimeReservoir} the window boundaries are only as precise as the bucket granularity, and a value
+ * recorded concurrently with the roll-over of its bucket to a new time slot may be lost.
+ */
+final class BucketedSlidingWindowTimeReservoir implements TimeReservoir<Long> {
+
+    /**
+     * Number of buckets the window is divided into.
+     */
+    static final int BUCKETS = 20;
+
+    private static final int EPOCH = 0;
+    private static final int COUNT = 1;
+    private static final int SUM = 2;
+    private static final int MIN = 3;
+    private static final int MAX = 4;
+    private static final int FIELDS = 5;
+
+    private final long windowMillis;
+    private final long bucketMillis;
+    private final long startMillis;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS * FIELDS);
+
+    /**
+     * Create a new reservoir.
+     *
+     * @param window         size of the sliding window.
+     * @param windowUnit     time unit of the window size.
+     * @param startTime      start time of the reservoir.
+     * @param startTimeUnit  time unit of the start time.
+     */
+    BucketedSlidingWindowTimeReservoir(final long window,
+                                       final TimeUnit windowUnit,
+                                       final long startTime,
+                                       final TimeUnit startTimeUnit) {
+        this.windowMillis = windowUnit.toMillis(window);
+        this.bucketMillis = Math.max(1, windowMillis / BUCKETS);
+        this.startMillis = startTimeUnit.toMillis(startTime);
+
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i * FIELDS + EPOCH, Long.MIN_VALUE);
+        }
+    }
+
+    @Override
+    public int size(final long time, final TimeUnit timeUnit) {
+        return (int) Math.min(Integer.MAX_VALUE, aggregate(timeUnit.toMillis(time))[COUNT]);
+    }
+
+    @Override
+    public void update(final Long value, final long time, final TimeUnit timeUnit) {
+        final long epoch = Math.floorDiv(timeUnit.toMillis(time), bucketMillis);
+        final int base = (int) Math.floorMod(epoch, BUCKETS) * FIELDS;
+
+        long current = buckets.get(base + EPOCH);
+        while (current < epoch) {
+            if (buckets.compareAndSet(base + EPOCH, current, epoch)) {
+                // roll the bucket over to the new time slot
+                buckets.set(base + COUNT, 0);
+                buckets.set(base + SUM, 0);
+                buckets.set(base + MIN, Long.MAX_VALUE);
+                buckets.set(base + MAX, Long.MIN_VALUE);
+                break;
+            }
+            current = buckets.get(base + EPOCH);
+        }
+        if (current > epoch) {
+            // measurement too old to fit into the window
+            return;
+        }
+
+        final long measured = value;
+        buckets.incrementAndGet(base + COUNT);
+        buckets.addAndGet(base + SUM, measured);
+
+        long min = buckets.get(base + MIN);
+        while (measured < min && !buckets.compareAndSet(base + MIN, min, measured)) {
+            min = buckets.get(base + MIN);
+        }
+        long max = buckets.get(base + MAX);
+        while (measured > max && !buckets.compareAndSet(base + MAX, max, measured)) {
+            max = buckets.get(base + MAX);
+        }
+    }
+
+    @Override
+    public UniformTimeSnapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long nowMillis = timeUnit.toMillis(time);
+        final long[] aggregate = aggregate(nowMillis);
+        final long measuredInterval = Math.max(1, Math.min(nowMillis - startMillis, windowMillis));
+
+        final long count = aggregate[COUNT];
+        if (count == 0) {
+            return new UniformTimeSimpleSnapshot(0, 0, 0, 0, measuredInterval, TimeUnit.MILLISECONDS);
+        }
+        final double mean = (double) aggregate[SUM] / count;
+        if (aggregate[MIN] > aggregate[MAX]) {
+            // extremes were lost in a concurrent bucket roll-over
+            aggregate[MIN] = aggregate[MAX] = (long) mean;
+        }
+        return new UniformTimeSimpleSnapshot(aggregate[MAX], aggregate[MIN], mean, count, measuredInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private long[] aggregate(final long nowMillis) {
+        final long currentEpoch = Math.floorDiv(nowMillis, bucketMillis);
+        final long[] aggregate = new long[] {0, 0, 0, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        for (int i = 0; i < BUCKETS; i++) {
+            final int base = i * FIELDS;
+            final long epoch = buckets.get(base + EPOCH);
+            if (epoch <= currentEpoch - BUCKETS || epoch > currentEpoch) {
+                continue;
+            }
+            final long count = buckets.get(base + COUNT);
+            if (count > 0) {
+                aggregate[COUNT] += count;
+                aggregate[SUM] += buckets.get(base + SUM);
+                aggregate[MIN] = Math.min(aggregate[MIN], buckets.get(base + MIN));
+                aggregate[MAX] = Math.max(aggregate[MAX], buckets.get(base + MAX));
+            }
+        }
+        return aggregate;
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        return timeUnit.convert(windowMillis, TimeUnit.MILLISECONDS);
+    }
+}
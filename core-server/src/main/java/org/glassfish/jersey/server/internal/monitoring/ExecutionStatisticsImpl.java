@@ -40,11 +40,13 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -79,8 +81,41 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
         /**
          * Create a new builder.
          */
-        @SuppressWarnings("MagicNumber")
         public Builder() {
+            this(false);
+        }
+
+        /**
+         * Create a new builder.
+         *
+         * @param bucketed if {@code true}, the finite time windows are backed by lock-free
+         *                 {@link BucketedSlidingWindowTimeReservoir bucketed reservoirs} instead of the precise sliding window
+         *                 reservoirs.
+         */
+        @SuppressWarnings("MagicNumber")
+        Builder(final boolean bucketed) {
+            if (bucketed) {
+                final long nowMillis = System.currentTimeMillis();
+                final TimeWindowStatisticsImpl.Builder<Long> infiniteIntervalWindowBuilder =
+                        new TimeWindowStatisticsImpl.Builder<>(new UniformTimeReservoir(nowMillis, TimeUnit.MILLISECONDS));
+
+                final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(6);
+                final List<TimeWindowStatisticsImpl.Builder<Long>> tmpUpdatableIntervalStatistics = new ArrayList<>(6);
+
+                tmpIntervalStatistics.put(0L, infiniteIntervalWindowBuilder);
+                tmpUpdatableIntervalStatistics.add(infiniteIntervalWindowBuilder);
+
+                addBucketedInterval(tmpIntervalStatistics, tmpUpdatableIntervalStatistics, nowMillis, 1, TimeUnit.SECONDS);
+                addBucketedInterval(tmpIntervalStatistics, tmpUpdatableIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS);
+                addBucketedInterval(tmpIntervalStatistics, tmpUpdatableIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES);
+                addBucketedInterval(tmpIntervalStatistics, tmpUpdatableIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES);
+                addBucketedInterval(tmpIntervalStatistics, tmpUpdatableIntervalStatistics, nowMillis, 1, TimeUnit.HOURS);
+
+                this.updatableIntervalStatistics = tmpUpdatableIntervalStatistics;
+                this.intervalStatistics = Collections.unmodifiableMap(tmpIntervalStatistics);
+                return;
+            }
+
             final long nowMillis = System.currentTimeMillis();
             final AggregatingTrimmer trimmer = new AggregatingTrimmer(nowMillis, TimeUnit.MILLISECONDS, 1, TimeUnit.SECONDS);
             final TimeWindowStatisticsImpl.Builder<Long> oneSecondIntervalWindowBuilder =
@@ -122,6 +157,18 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
                             TimeUnit.MILLISECONDS, notifier)));
         }
 
+        private static void addBucketedInterval(
+                final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatisticsMap,
+                final List<TimeWindowStatisticsImpl.Builder<Long>> updatableIntervalStatistics,
+                final long nowMillis,
+                final long interval,
+                final TimeUnit timeUnit) {
+            final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
+                    new BucketedSlidingWindowTimeReservoir(interval, timeUnit, nowMillis, TimeUnit.MILLISECONDS));
+            intervalStatisticsMap.put(timeUnit.toMillis(interval), builder);
+            updatableIntervalStatistics.add(builder);
+        }
+
         /**
          * Add execution of a target.
          *
@@ -49,11 +49,13 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Configuration;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
@@ -88,9 +90,10 @@ public final class MonitoringEventListener implements ApplicationEventListener {
     @Inject
     private InjectionManager injectionManager;
 
-    private final Queue<RequestStats> requestQueuedItems = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
     private final Queue<Integer> responseStatuses = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
-    private final Queue<RequestEvent> exceptionMapperEvents = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
+    private volatile Queue<RequestStats> requestQueuedItems = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
+    private volatile Queue<RequestEvent> exceptionMapperEvents = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
+    private volatile ResponseStatusCounters responseStatusCounters;
     private volatile MonitoringStatisticsProcessor monitoringStatisticsProcessor;
 
     /**
@@ -208,6 +211,7 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                 break;
             case RELOAD_FINISHED:
             case INITIALIZATION_FINISHED:
+                configureLockFreeCollection();
                 this.monitoringStatisticsProcessor = new MonitoringStatisticsProcessor(injectionManager, this);
                 this.monitoringStatisticsProcessor.startMonitoringWorker();
                 break;
@@ -239,6 +243,24 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         }
     }
 
+    /**
+     * Switch the event collection to the lock-free striped queues and counters if
+     * {@link ServerProperties#MONITORING_STATISTICS_LOCK_FREE_ENABLED} is enabled.
+     */
+    private void configureLockFreeCollection() {
+        if (responseStatusCounters != null) {
+            return;
+        }
+
+        final Configuration configuration = injectionManager.getInstance(Configuration.class);
+        if (ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.MONITORING_STATISTICS_LOCK_FREE_ENABLED, Boolean.FALSE, Boolean.class)) {
+            this.requestQueuedItems = new StripedEventQueue<>(EVENT_QUEUE_SIZE);
+            this.exceptionMapperEvents = new StripedEventQueue<>(EVENT_QUEUE_SIZE);
+            this.responseStatusCounters = new ResponseStatusCounters();
+        }
+    }
+
     private class ReqEventListener implements RequestEventListener {
 
         private final long requestTimeStart;
@@ -268,7 +290,9 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                     break;
                 case FINISHED:
                     if (event.isResponseWritten()) {
-                        if (!responseStatuses.offer(event.getContainerResponse().getStatus())) {
+                        final int status = event.getContainerResponse().getStatus();
+                        final ResponseStatusCounters counters = responseStatusCounters;
+                        if ((counters == null || !counters.increment(status)) && !responseStatuses.offer(status)) {
                             LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
                         }
                     }
@@ -324,4 +348,13 @@ public final class MonitoringEventListener implements ApplicationEventListener {
     Queue<Integer> getResponseStatuses() {
         return responseStatuses;
     }
+
+    /**
+     * Get the lock-free response status counters.
+     *
+     * @return response status counters or {@code null} if lock-free monitoring statistics are not enabled.
+     */
+    ResponseStatusCounters getResponseStatusCounters() {
+        return responseStatusCounters;
+    }
 }
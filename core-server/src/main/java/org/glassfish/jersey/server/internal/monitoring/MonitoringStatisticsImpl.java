@@ -94,7 +94,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         private final ResponseStatisticsImpl.Builder responseStatisticsBuilder;
         private final ExceptionMapperStatisticsImpl.Builder exceptionMapperStatisticsBuilder;
 
-        private final ResourceMethodStatisticsImpl.Factory methodFactory = new ResourceMethodStatisticsImpl.Factory();
+        private final ResourceMethodStatisticsImpl.Factory methodFactory;
         private final SortedMap<String, ResourceStatisticsImpl.Builder> uriStatistics = new TreeMap<>();
         private final SortedMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
                 = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
@@ -105,6 +105,16 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * Create a new builder.
          */
         Builder() {
+            this(false);
+        }
+
+        /**
+         * Create a new builder.
+         *
+         * @param bucketed if {@code true}, execution statistics use lock-free bucketed time reservoirs.
+         */
+        Builder(final boolean bucketed) {
+            this.methodFactory = new ResourceMethodStatisticsImpl.Factory(bucketed);
             this.responseStatisticsBuilder = new ResponseStatisticsImpl.Builder();
             this.exceptionMapperStatisticsBuilder = new ExceptionMapperStatisticsImpl.Builder();
         }
@@ -115,7 +125,17 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * @param resourceModel resource model.
          */
         Builder(final ResourceModel resourceModel) {
-            this();
+            this(resourceModel, false);
+        }
+
+        /**
+         * Create a new builder and initialize it from resource model.
+         *
+         * @param resourceModel resource model.
+         * @param bucketed      if {@code true}, execution statistics use lock-free bucketed time reservoirs.
+         */
+        Builder(final ResourceModel resourceModel, final boolean bucketed) {
+            this(bucketed);
 
             for (final Resource resource : resourceModel.getRootResources()) {
                 processResource(resource, "");
@@ -168,7 +188,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          */
         void addRequestExecution(final long startTime, final long duration) {
             if (executionStatisticsBuilder == null) {
-                executionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+                executionStatisticsBuilder = methodFactory.createExecutionStatisticsBuilder();
             }
             executionStatisticsBuilder.addExecution(startTime, duration);
         }
@@ -213,6 +233,16 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             responseStatisticsBuilder.addResponseCode(responseCode);
         }
 
+        /**
+         * Add a number of occurrences of a response status code produced by Jersey.
+         *
+         * @param responseCode Response status code.
+         * @param count        Number of responses with the status code.
+         */
+        void addResponseCode(final int responseCode, final long count) {
+            responseStatisticsBuilder.addResponseCode(responseCode, count);
+        }
+
         /**
          * Build a new instance of monitoring statistics.
          *
@@ -96,7 +96,8 @@ final class MonitoringStatisticsProcessor {
             final InjectionManager injectionManager, final MonitoringEventListener monitoringEventListener) {
         this.monitoringEventListener = monitoringEventListener;
         final ResourceModel resourceModel = injectionManager.getInstance(ExtendedResourceContext.class).getResourceModel();
-        this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel);
+        this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel,
+                monitoringEventListener.getResponseStatusCounters() != null);
         this.statisticsCallbackList = injectionManager.getAllInstances(MonitoringStatisticsListener.class);
         this.scheduler =
                 injectionManager.getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
@@ -145,10 +146,10 @@ final class MonitoringStatisticsProcessor {
         final Queue<RequestEvent> eventQueue = monitoringEventListener.getExceptionMapperEvents();
         final FloodingLogger floodingLogger = new FloodingLogger(eventQueue);
 
-        while (!eventQueue.isEmpty()) {
+        RequestEvent event;
+        while ((event = eventQueue.poll()) != null) {
             floodingLogger.conditionallyLogFlooding();
 
-            final RequestEvent event = eventQueue.remove();
             final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
 
             if (event.getExceptionMapper() != null) {
@@ -163,11 +164,10 @@ final class MonitoringStatisticsProcessor {
         final Queue<MonitoringEventListener.RequestStats> requestQueuedItems = monitoringEventListener.getRequestQueuedItems();
         final FloodingLogger floodingLogger = new FloodingLogger(requestQueuedItems);
 
-        while (!requestQueuedItems.isEmpty()) {
+        MonitoringEventListener.RequestStats event;
+        while ((event = requestQueuedItems.poll()) != null) {
             floodingLogger.conditionallyLogFlooding();
 
-            final MonitoringEventListener.RequestStats event = requestQueuedItems.remove();
-
             final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
             statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
 
@@ -185,13 +185,18 @@ final class MonitoringStatisticsProcessor {
         final Queue<Integer> responseEvents = monitoringEventListener.getResponseStatuses();
         final FloodingLogger floodingLogger = new FloodingLogger(responseEvents);
 
-        while (!responseEvents.isEmpty()) {
+        Integer code;
+        while ((code = responseEvents.poll()) != null) {
             floodingLogger.conditionallyLogFlooding();
 
-            final Integer code = responseEvents.remove();
             statisticsBuilder.addResponseCode(code);
         }
 
+        final ResponseStatusCounters responseStatusCounters = monitoringEventListener.getResponseStatusCounters();
+        if (responseStatusCounters != null) {
+            responseStatusCounters.drainTo(statisticsBuilder);
+        }
+
     }
 
     /**
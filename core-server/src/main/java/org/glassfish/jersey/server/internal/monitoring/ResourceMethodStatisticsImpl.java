@@ -64,12 +64,39 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
     static class Factory {
 
         private final ConcurrentMap<String, Builder> stringToMethodsBuilders = new ConcurrentHashMap<>();
+        private final boolean bucketed;
+
+        /**
+         * Create a new factory.
+         */
+        Factory() {
+            this(false);
+        }
+
+        /**
+         * Create a new factory.
+         *
+         * @param bucketed if {@code true}, the created execution statistics builders use bucketed time reservoirs.
+         */
+        Factory(final boolean bucketed) {
+            this.bucketed = bucketed;
+        }
+
+        /**
+         * Create a new execution statistics builder of the kind configured for this factory.
+         *
+         * @return new execution statistics builder.
+         */
+        ExecutionStatisticsImpl.Builder createExecutionStatisticsBuilder() {
+            return new ExecutionStatisticsImpl.Builder(bucketed);
+        }
 
         ResourceMethodStatisticsImpl.Builder getOrCreate(final ResourceMethod resourceMethod) {
             final String methodUniqueId = MonitoringUtils.getMethodUniqueId(resourceMethod);
 
             if (!stringToMethodsBuilders.containsKey(methodUniqueId)) {
-                stringToMethodsBuilders.putIfAbsent(methodUniqueId, new ResourceMethodStatisticsImpl.Builder(resourceMethod));
+                stringToMethodsBuilders.putIfAbsent(methodUniqueId,
+                        new ResourceMethodStatisticsImpl.Builder(resourceMethod, bucketed));
             }
             return stringToMethodsBuilders.get(methodUniqueId);
         }
@@ -89,6 +116,8 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
         private final AtomicReference<ExecutionStatisticsImpl.Builder> requestExecutionStatisticsBuilder = new
                 AtomicReference<>();
 
+        private final boolean bucketed;
+
         private volatile ResourceMethodStatisticsImpl cached;
 
         /**
@@ -97,7 +126,18 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
          * @param resourceMethod Resource method for which statistics are evaluated.
          */
         Builder(final ResourceMethod resourceMethod) {
+            this(resourceMethod, false);
+        }
+
+        /**
+         * Create a new builder instance.
+         *
+         * @param resourceMethod Resource method for which statistics are evaluated.
+         * @param bucketed       if {@code true}, execution statistics use bucketed time reservoirs.
+         */
+        Builder(final ResourceMethod resourceMethod, final boolean bucketed) {
             this.resourceMethod = resourceMethod;
+            this.bucketed = bucketed;
         }
 
         /**
@@ -141,12 +181,12 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
             cached = null;
 
             if (resourceMethodExecutionStatisticsBuilder.get() == null) {
-                resourceMethodExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                resourceMethodExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder(bucketed));
             }
             resourceMethodExecutionStatisticsBuilder.get().addExecution(methodStartTime, methodDuration);
 
             if (requestExecutionStatisticsBuilder.get() == null) {
-                requestExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                requestExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder(bucketed));
             }
             requestExecutionStatisticsBuilder.get().addExecution(requestStartTime, requestDuration);
         }
@@ -67,6 +67,10 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
         private ResponseStatisticsImpl cached = null;
 
         void addResponseCode(final int responseCode) {
+            addResponseCode(responseCode, 1);
+        }
+
+        void addResponseCode(final int responseCode, final long count) {
             cached = null;
 
             lastResponseCode = responseCode;
@@ -74,7 +78,7 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
             if (currentValue == null) {
                 currentValue = 0L;
             }
-            responseCodesMap.put(responseCode, currentValue + 1);
+            responseCodesMap.put(responseCode, currentValue + count);
         }
 
         ResponseStatisticsImpl build() {
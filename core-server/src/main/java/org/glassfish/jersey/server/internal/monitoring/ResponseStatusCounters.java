@@ -0,0 +1,93 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counters of response status codes.
+ * <p/>
+ * Replaces a queue of status codes in the monitoring pipeline: recording a response status is a single atomic increment
+ * and does not allocate, the counts are periodically drained into the
+ * {@link MonitoringStatisticsImpl.Builder monitoring statistics builder} by the {@link MonitoringStatisticsProcessor}.
+ */
+final class ResponseStatusCounters {
+
+    private static final int MAX_STATUS = 599;
+
+    private final AtomicLongArray counters = new AtomicLongArray(MAX_STATUS + 1);
+    private volatile int lastStatus = -1;
+
+    /**
+     * Record a response status code.
+     *
+     * @param status response status code.
+     * @return {@code true} if the status has been recorded, {@code false} if the status code is out of the range
+     * supported by the counters.
+     */
+    boolean increment(final int status) {
+        if (status < 0 || status > MAX_STATUS) {
+            return false;
+        }
+        counters.incrementAndGet(status);
+        lastStatus = status;
+        return true;
+    }
+
+    /**
+     * Move the recorded counts to the statistics builder and reset them.
+     * <p/>
+     * The last recorded status code is added last so that it is reported as the last response code.
+     *
+     * @param statisticsBuilder statistics builder to add the counts to.
+     */
+    void drainTo(final MonitoringStatisticsImpl.Builder statisticsBuilder) {
+        final int last = lastStatus;
+        for (int status = 0; status <= MAX_STATUS; status++) {
+            if (status != last && counters.get(status) > 0) {
+                statisticsBuilder.addResponseCode(status, counters.getAndSet(status, 0));
+            }
+        }
+        if (last >= 0 && counters.get(last) > 0) {
+            statisticsBuilder.addResponseCode(last, counters.getAndSet(last, 0));
+        }
+    }
+}
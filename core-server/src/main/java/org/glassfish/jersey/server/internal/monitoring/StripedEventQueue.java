@@ -0,0 +1,257 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free queue striped by the producing thread.
+ * <p/>
+ * The queue consists of several independent bounded ring buffers (stripes). A producing thread always offers its
+ * elements to the stripe selected by its thread id, so concurrent producers rarely compete for the same stripe and
+ * never block each other (unlike with a single lock guarded {@link java.util.concurrent.ArrayBlockingQueue}). No
+ * objects are allocated when elements are offered or polled. The consumer polls the stripes in a round-robin fashion,
+ * which means that the global FIFO ordering of elements is not preserved, only the ordering of elements offered by the
+ * same thread.
+ * <p/>
+ * The queue is designed for a many producers - single consumer hand-off of monitoring events; {@link #size()} and
+ * {@link #iterator()} are weakly consistent.
+ *
+ * @param <E> type of queue elements.
+ */
+final class StripedEventQueue<E> extends AbstractQueue<E> {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeMask;
+    private int nextPollStripe;
+
+    /**
+     * Create a new striped queue.
+     *
+     * @param capacity total (minimal) capacity of the queue.
+     */
+    @SuppressWarnings("unchecked")
+    StripedEventQueue(final int capacity) {
+        final int stripeCount = Math.min(MAX_STRIPES, powerOfTwo(Runtime.getRuntime().availableProcessors()));
+        final int stripeCapacity = powerOfTwo(Math.max(2, (capacity + stripeCount - 1) / stripeCount));
+
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(stripeCapacity);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    private static int powerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    @Override
+    public boolean offer(final E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        return stripes[(int) Thread.currentThread().getId() & stripeMask].offer(element);
+    }
+
+    @Override
+    public E poll() {
+        for (int i = 0; i < stripes.length; i++) {
+            final int index = (nextPollStripe + i) & stripeMask;
+            final E element = stripes[index].poll();
+            if (element != null) {
+                nextPollStripe = index;
+                return element;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public E peek() {
+        for (int i = 0; i < stripes.length; i++) {
+            final E element = stripes[(nextPollStripe + i) & stripeMask].peek();
+            if (element != null) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (final Stripe<E> stripe : stripes) {
+            size += stripe.size();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (final Stripe<E> stripe : stripes) {
+            if (stripe.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> elements = new ArrayList<>();
+        for (final Stripe<E> stripe : stripes) {
+            stripe.copyTo(elements);
+        }
+        return new Iterator<E>() {
+
+            private final Iterator<E> delegate = elements.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return delegate.next();
+            }
+        };
+    }
+
+    /**
+     * Bounded lock-free ring buffer with per-slot sequence numbers.
+     */
+    private static final class Stripe<E> {
+
+        private final AtomicReferenceArray<E> elements;
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+
+        Stripe(final int capacity) {
+            this.elements = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+            this.mask = capacity - 1;
+        }
+
+        boolean offer(final E element) {
+            long position = tail.get();
+            while (true) {
+                final int index = (int) position & mask;
+                final long difference = sequences.get(index) - position;
+
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        elements.lazySet(index, element);
+                        sequences.lazySet(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (difference < 0) {
+                    // full
+                    return false;
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        E poll() {
+            long position = head.get();
+            while (true) {
+                final int index = (int) position & mask;
+                final long difference = sequences.get(index) - (position + 1);
+
+                if (difference == 0) {
+                    if (head.compareAndSet(position, position + 1)) {
+                        final E element = elements.get(index);
+                        elements.lazySet(index, null);
+                        sequences.lazySet(index, position + mask + 1);
+                        return element;
+                    }
+                    position = head.get();
+                } else if (difference < 0) {
+                    // empty
+                    return null;
+                } else {
+                    position = head.get();
+                }
+            }
+        }
+
+        E peek() {
+            final long position = head.get();
+            final int index = (int) position & mask;
+            return sequences.get(index) == position + 1 ? elements.get(index) : null;
+        }
+
+        long size() {
+            final long size = tail.get() - head.get();
+            return size < 0 ? 0 : Math.min(size, mask + 1);
+        }
+
+        void copyTo(final List<E> target) {
+            final long end = tail.get();
+            for (long position = head.get(); position < end; position++) {
+                final int index = (int) position & mask;
+                if (sequences.get(index) == position + 1) {
+                    final E element = elements.get(index);
+                    if (element != null) {
+                        target.add(element);
+                    }
+                }
+            }
+        }
+    }
+}
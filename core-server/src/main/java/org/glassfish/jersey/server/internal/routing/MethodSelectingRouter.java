@@ -51,7 +51,10 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -62,10 +65,13 @@ import javax.ws.rs.NotAllowedException;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.internal.guava.Primitives;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.message.ReaderModel;
@@ -88,6 +94,10 @@ import org.glassfish.jersey.server.model.ResourceMethod;
  * method name, requested media type as well as defined resource method media type
  * capabilities.
  *
+ * Results of the method selection are cached per distinct combination of the HTTP request method,
+ * request content type and acceptable media types (see
+ * {@link org.glassfish.jersey.server.ServerProperties#METHOD_SELECTION_CACHE_SIZE}).
+ *
  * @author Jakub Podlesak (jakub.podlesak at oracle.com)
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
@@ -133,10 +143,16 @@ final class MethodSelectingRouter implements Router {
                 }
             };
 
+    /**
+     * Maximal number of response media types cached for a single method selection (i.e. for distinct response entity types).
+     */
+    private static final int RESPONSE_MEDIA_TYPE_CACHE_SIZE = 16;
+
     private final MessageBodyWorkers workers;
 
     private final Map<String, List<ConsumesProducesAcceptor>> consumesProducesAcceptors;
     private final Router router;
+    private final Cache<MethodSelectionKey, MethodSelection> methodSelectionCache;
 
     /**
      * Create a new {@code MethodSelectingRouter} for all the methods on the same path.
@@ -146,9 +162,14 @@ final class MethodSelectingRouter implements Router {
      *
      * @param workers        message body workers.
      * @param methodRoutings [method model, method methodAcceptorPair] pairs.
+     * @param cacheSize      maximal number of cached method selections, method selection caching is disabled if the value
+     *                       is not positive.
      */
-    MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings) {
+    MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings, int cacheSize) {
         this.workers = workers;
+        this.methodSelectionCache = cacheSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(cacheSize).<MethodSelectionKey, MethodSelection>build()
+                : null;
 
         this.consumesProducesAcceptors = new HashMap<>();
 
@@ -356,6 +377,100 @@ final class MethodSelectingRouter implements Router {
         }
     }
 
+    /**
+     * Cache key of the method selection - HTTP request method, content type and acceptable media types as sent
+     * in the request headers.
+     */
+    private static final class MethodSelectionKey {
+
+        private final String method;
+        private final String contentType;
+        private final String accept;
+        private final int hash;
+
+        MethodSelectionKey(final String method, final String contentType, final String accept) {
+            this.method = method;
+            this.contentType = contentType;
+            this.accept = accept;
+            this.hash = Objects.hash(method, contentType, accept);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodSelectionKey)) {
+                return false;
+            }
+
+            final MethodSelectionKey that = (MethodSelectionKey) o;
+            return hash == that.hash
+                    && Objects.equals(method, that.method)
+                    && Objects.equals(contentType, that.contentType)
+                    && Objects.equals(accept, that.accept);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Result of the resource method selection for a given request shape.
+     */
+    private static final class MethodSelection {
+
+        final MethodSelector selector;
+        final List<AcceptableMediaType> acceptableMediaTypes;
+        /**
+         * Response media types determined for the selected method and given response entity types. {@code null} if
+         * the selection is not cached.
+         */
+        final ConcurrentMap<ResponseMediaTypeKey, MediaType> responseMediaTypes;
+
+        MethodSelection(final MethodSelector selector,
+                        final List<AcceptableMediaType> acceptableMediaTypes,
+                        final boolean cached) {
+            this.selector = selector;
+            this.acceptableMediaTypes = acceptableMediaTypes;
+            this.responseMediaTypes = cached ? new ConcurrentHashMap<>() : null;
+        }
+    }
+
+    /**
+     * Cache key of the response media type - class and (generic) type of the response entity.
+     */
+    private static final class ResponseMediaTypeKey {
+
+        private final Class<?> entityClass;
+        private final Type entityType;
+
+        ResponseMediaTypeKey(final Class<?> entityClass, final Type entityType) {
+            this.entityClass = entityClass;
+            this.entityType = entityType;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResponseMediaTypeKey)) {
+                return false;
+            }
+
+            final ResponseMediaTypeKey that = (ResponseMediaTypeKey) o;
+            return entityClass == that.entityClass && Objects.equals(entityType, that.entityType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(entityClass) + Objects.hashCode(entityType);
+        }
+    }
+
     private Router createInternalRouter() {
         return new Router() {
 
@@ -466,6 +581,74 @@ final class MethodSelectingRouter implements Router {
                     Response.status(Status.METHOD_NOT_ALLOWED).allow(consumesProducesAcceptors.keySet()).build());
         }
 
+        final MethodSelection selection;
+        if (methodSelectionCache != null) {
+            final MethodSelectionKey key = new MethodSelectionKey(request.getMethod(),
+                    request.getHeaderString(HttpHeaders.CONTENT_TYPE),
+                    request.getHeaderString(HttpHeaders.ACCEPT));
+
+            final MethodSelection cached = methodSelectionCache.getIfPresent(key);
+            if (cached != null) {
+                selection = cached;
+            } else {
+                selection = createMethodSelection(request, acceptors, true);
+                methodSelectionCache.put(key, selection);
+            }
+        } else {
+            selection = createMethodSelection(request, acceptors, false);
+        }
+
+        final MethodSelector methodSelector = selection.selector;
+        final List<AcceptableMediaType> acceptableMediaTypes = selection.acceptableMediaTypes;
+
+        if (methodSelector.sameFitnessAcceptors != null) {
+            reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
+                    methodSelector.sameFitnessAcceptors);
+        }
+
+        context.push(new Function<ContainerResponse, ContainerResponse>() {
+            @Override
+            public ContainerResponse apply(final ContainerResponse responseContext) {
+                // we only need to compute and set the effective media type if:
+                // - it hasn't been set already, and
+                // - either there is an entity, or we are responding to a HEAD request
+                if (responseContext.getMediaType() == null
+                        && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
+
+                    MediaType effectiveResponseType = getResponseMediaType(
+                            responseContext.getEntityClass(),
+                            responseContext.getEntityType(),
+                            selection);
+
+                    if (MediaTypes.isWildcard(effectiveResponseType)) {
+                        if (effectiveResponseType.isWildcardType()
+                                || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
+                            effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+                        } else {
+                            throw new NotAcceptableException();
+                        }
+                    }
+                    responseContext.setMediaType(effectiveResponseType);
+                }
+
+                return responseContext;
+            }
+        });
+        return methodSelector.selected.methodRouting.routers;
+    }
+
+    /**
+     * Select the resource method for the request among the acceptors bound to the request HTTP method.
+     *
+     * @param request   request to select the method for.
+     * @param acceptors acceptors bound to the request HTTP method.
+     * @param cached    {@code true} if the selection is going to be cached.
+     * @return resource method selection.
+     */
+    private MethodSelection createMethodSelection(final ContainerRequest request,
+                                                  final List<ConsumesProducesAcceptor> acceptors,
+                                                  final boolean cached) {
+
         final List<ConsumesProducesAcceptor> satisfyingAcceptors = new LinkedList<>();
         final Set<ResourceMethod> differentInvokableMethods = Collections.newSetFromMap(new IdentityHashMap<>());
         for (ConsumesProducesAcceptor cpi : acceptors) {
@@ -486,47 +669,42 @@ final class MethodSelectingRouter implements Router {
         final MethodSelector methodSelector = selectMethod(acceptableMediaTypes, satisfyingAcceptors, effectiveContentType,
                 differentInvokableMethods.size() == 1);
 
-        if (methodSelector.selected != null) {
-            final RequestSpecificConsumesProducesAcceptor selected = methodSelector.selected;
-
-            if (methodSelector.sameFitnessAcceptors != null) {
-                reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
-                        methodSelector.sameFitnessAcceptors);
-            }
+        if (methodSelector.selected == null) {
+            throw new NotAcceptableException();
+        }
 
-            context.push(new Function<ContainerResponse, ContainerResponse>() {
-                @Override
-                public ContainerResponse apply(final ContainerResponse responseContext) {
-                    // we only need to compute and set the effective media type if:
-                    // - it hasn't been set already, and
-                    // - either there is an entity, or we are responding to a HEAD request
-                    if (responseContext.getMediaType() == null
-                            && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
-
-                        MediaType effectiveResponseType = determineResponseMediaType(
-                                responseContext.getEntityClass(),
-                                responseContext.getEntityType(),
-                                methodSelector.selected,
-                                acceptableMediaTypes);
-
-                        if (MediaTypes.isWildcard(effectiveResponseType)) {
-                            if (effectiveResponseType.isWildcardType()
-                                    || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
-                                effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-                            } else {
-                                throw new NotAcceptableException();
-                            }
-                        }
-                        responseContext.setMediaType(effectiveResponseType);
-                    }
+        return new MethodSelection(methodSelector, acceptableMediaTypes, cached);
+    }
 
-                    return responseContext;
-                }
-            });
-            return selected.methodRouting.routers;
+    /**
+     * Get the {@link MediaType} of the {@link Response} for the given entity class and the method selection. The media type
+     * is cached in the method selection, if the selection itself is cached.
+     *
+     * @param entityClass entity class to determine the media type for.
+     * @param entityType  entity type for writers.
+     * @param selection   method selection.
+     * @return media type of the response.
+     */
+    private MediaType getResponseMediaType(final Class<?> entityClass,
+                                           final Type entityType,
+                                           final MethodSelection selection) {
+
+        final ConcurrentMap<ResponseMediaTypeKey, MediaType> responseMediaTypes = selection.responseMediaTypes;
+        if (responseMediaTypes == null) {
+            return determineResponseMediaType(entityClass, entityType, selection.selector.selected,
+                    selection.acceptableMediaTypes);
+        }
+
+        final ResponseMediaTypeKey key = new ResponseMediaTypeKey(entityClass, entityType);
+        MediaType mediaType = responseMediaTypes.get(key);
+        if (mediaType == null) {
+            mediaType = determineResponseMediaType(entityClass, entityType, selection.selector.selected,
+                    selection.acceptableMediaTypes);
+            if (responseMediaTypes.size() < RESPONSE_MEDIA_TYPE_CACHE_SIZE) {
+                responseMediaTypes.putIfAbsent(key, mediaType);
+            }
         }
-
-        throw new NotAcceptableException();
+        return mediaType;
     }
 
     /**
@@ -58,6 +58,7 @@ import org.glassfish.jersey.uri.PathPattern;
 final class PathMatchingRouter implements Router {
 
     private final List<Route> acceptedRoutes;
+    private final PathMatchingTrie trie;
 
     /**
      * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
@@ -67,7 +68,21 @@ final class PathMatchingRouter implements Router {
      *                 the built router is successful.
      */
     PathMatchingRouter(final List<Route> routes) {
+        this(routes, null);
+    }
+
+    /**
+     * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
+     * patch matching and (optionally) a {@link PathMatchingTrie literal path segment trie} to narrow
+     * the set of routes whose patterns need to be evaluated for a request path.
+     *
+     * @param routes next-level request routers to be returned in case the router matching
+     *               the built router is successful.
+     * @param trie   path matching trie compiled from the {@code routes}, may be {@code null}.
+     */
+    PathMatchingRouter(final List<Route> routes, final PathMatchingTrie trie) {
         this.acceptedRoutes = routes;
+        this.trie = trie;
     }
 
     @Override
@@ -79,8 +94,12 @@ final class PathMatchingRouter implements Router {
         final TracingLogger tracingLogger = TracingLogger.getInstance(context.request());
         tracingLogger.log(ServerTraceEvent.MATCH_PATH_FIND, path);
 
+        // Full list of routes is scanned when tracing the not matched routes to keep the trace complete.
+        final List<Route> routes = trie == null || tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_NOT_MATCHED)
+                ? acceptedRoutes : trie.candidates(path);
+
         Router.Continuation result = null;
-        final Iterator<Route> iterator = acceptedRoutes.iterator();
+        final Iterator<Route> iterator = routes.iterator();
         while (iterator.hasNext()) {
             final Route acceptedRoute = iterator.next();
             final PathPattern routePattern = acceptedRoute.routingPattern();
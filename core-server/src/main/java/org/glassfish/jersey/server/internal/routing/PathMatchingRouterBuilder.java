@@ -113,7 +113,19 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
      * @return hierarchical request path matching processor (i.e. router).
      */
     public PathMatchingRouter build() {
-        return new PathMatchingRouter(acceptedRoutes());
+        return build(false);
+    }
+
+    /**
+     * Build a {@link org.glassfish.jersey.server.internal.routing.Router hierarchical request path matching processor}.
+     *
+     * @param trieEnabled if {@code true}, the routes are compiled into a {@link PathMatchingTrie literal path segment trie}
+     *                    that is used to select the candidate routes before the regular expression matching.
+     * @return hierarchical request path matching processor (i.e. router).
+     */
+    public PathMatchingRouter build(final boolean trieEnabled) {
+        final List<Route> routes = acceptedRoutes();
+        return new PathMatchingRouter(routes, trieEnabled ? new PathMatchingTrie(routes) : null);
     }
 
 }
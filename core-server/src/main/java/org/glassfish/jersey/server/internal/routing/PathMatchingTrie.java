@@ -0,0 +1,215 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.glassfish.jersey.uri.PathPattern;
+
+/**
+ * Prefix trie of the literal path segments of a list of {@link Route routes}.
+ * <p>
+ * Every route is indexed by the complete literal path segments its {@link PathPattern routing pattern} template
+ * starts with, i.e. by the part of the template that precedes the first template variable. A route can match
+ * a request path only if the path starts with these segments, so for a given path the trie yields the (usually
+ * very small) sub-list of candidate routes that have to be tried using the regular expression matching. Routes
+ * that start with a template variable (e.g. {@code /{id}}) or whose literal prefix cannot be safely compared
+ * with the encoded request path are candidates for every request path.
+ * </p>
+ * <p>
+ * The candidate routes are always returned in the same relative order as they were registered in, so the JAX-RS
+ * matching precedence expressed by the order of the routes is preserved.
+ * </p>
+ */
+final class PathMatchingTrie {
+
+    private final Node root;
+
+    /**
+     * Compile a new path matching trie for the given list of routes.
+     *
+     * @param routes routes ordered by their matching precedence.
+     */
+    PathMatchingTrie(final List<Route> routes) {
+        this.root = new Node();
+
+        int index = 0;
+        for (final Route route : routes) {
+            Node node = root;
+            for (final String segment : literalSegments(route.routingPattern())) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            node.indexedRoutes.add(new IndexedRoute(index++, route));
+        }
+
+        root.compile(Collections.emptyList());
+    }
+
+    /**
+     * Get the routes that may match the given (un-matched right-hand part of the) request path.
+     *
+     * @param path request path to be matched.
+     * @return candidate routes in their original order.
+     */
+    List<Route> candidates(final String path) {
+        Node node = root;
+
+        int start = path.startsWith("/") ? 1 : 0;
+        while (start <= path.length() && !node.children.isEmpty()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+
+            final Node child = node.children.get(path.substring(start, end));
+            if (child == null) {
+                break;
+            }
+            node = child;
+            start = end + 1;
+        }
+
+        return node.candidates;
+    }
+
+    /**
+     * Get the complete literal path segments the template of the routing pattern starts with.
+     *
+     * @param pattern routing pattern.
+     * @return leading literal segments of the pattern; empty if there are none or the pattern cannot be indexed.
+     */
+    private static List<String> literalSegments(final PathPattern pattern) {
+        final String template = pattern.getTemplate().getTemplate();
+        if (template == null || template.isEmpty() || template.charAt(0) != '/') {
+            return Collections.emptyList();
+        }
+
+        final int variable = template.indexOf('{');
+        final String literal = variable < 0 ? template : template.substring(0, variable);
+
+        final List<String> segments = new ArrayList<>();
+        int start = 1;
+        while (start < literal.length()) {
+            final int end = literal.indexOf('/', start);
+            if (end < 0) {
+                // the last segment is complete only if it is not followed by a template variable
+                if (variable < 0) {
+                    addSegment(segments, literal.substring(start));
+                }
+                break;
+            }
+            if (!addSegment(segments, literal.substring(start, end))) {
+                break;
+            }
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    private static boolean addSegment(final List<String> segments, final String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!isVerbatimCharacter(segment.charAt(i))) {
+                // the literal would be encoded or escaped in the routing pattern regular expression
+                return false;
+            }
+        }
+        segments.add(segment);
+        return true;
+    }
+
+    private static boolean isVerbatimCharacter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static final class IndexedRoute {
+
+        private final int index;
+        private final Route route;
+
+        private IndexedRoute(final int index, final Route route) {
+            this.index = index;
+            this.route = route;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<IndexedRoute> indexedRoutes = new ArrayList<>();
+        private List<Route> candidates;
+
+        /**
+         * Merge the routes of this node with the routes of all the ancestor nodes (ordered by the original
+         * route index) and compile all the child nodes.
+         */
+        private void compile(final List<IndexedRoute> inherited) {
+            final List<IndexedRoute> merged = new ArrayList<>(inherited.size() + indexedRoutes.size());
+            int i = 0;
+            int j = 0;
+            while (i < inherited.size() || j < indexedRoutes.size()) {
+                if (j >= indexedRoutes.size()
+                        || (i < inherited.size() && inherited.get(i).index < indexedRoutes.get(j).index)) {
+                    merged.add(inherited.get(i++));
+                } else {
+                    merged.add(indexedRoutes.get(j++));
+                }
+            }
+
+            final List<Route> routes = new ArrayList<>(merged.size());
+            for (final IndexedRoute indexedRoute : merged) {
+                routes.add(indexedRoute.route);
+            }
+            this.candidates = Collections.unmodifiableList(routes);
+
+            for (final Node child : children.values()) {
+                child.compile(merged);
+            }
+        }
+    }
+}
@@ -51,6 +51,7 @@ import javax.ws.rs.core.Configuration;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.JerseyResourceContext;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.process.Endpoint;
@@ -76,6 +77,8 @@ final class RuntimeModelBuilder {
     private final ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
     private final MessageBodyWorkers messageBodyWorkers;
     private final ProcessingProviders processingProviders;
+    private final boolean pathMatchingTrieEnabled;
+    private final int methodSelectionCacheSize;
 
     // SubResourceLocator Model Builder.
     private final Value<RuntimeLocatorModelBuilder> locatorBuilder;
@@ -104,6 +107,14 @@ final class RuntimeModelBuilder {
         this.resourceMethodInvokerBuilder = resourceMethodInvokerBuilder;
         this.messageBodyWorkers = messageBodyWorkers;
         this.processingProviders = processingProviders;
+        this.pathMatchingTrieEnabled = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.ROUTING_PATH_TRIE_ENABLED,
+                Boolean.FALSE,
+                Boolean.class);
+        this.methodSelectionCacheSize = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.METHOD_SELECTION_CACHE_SIZE,
+                ServerProperties.METHOD_SELECTION_DEFAULT_CACHE_SIZE,
+                Integer.class);
         this.locatorBuilder = Values.lazy((Value<RuntimeLocatorModelBuilder>)
                 () -> new RuntimeLocatorModelBuilder(config, messageBodyWorkers, valueSuppliers, resourceContext,
                         RuntimeModelBuilder.this, modelProcessors, createServiceFunction));
@@ -136,7 +147,7 @@ final class RuntimeModelBuilder {
     private Router createRootRouter(final PathMatchingRouterBuilder lastRoutedBuilder, final boolean subResourceMode) {
         final Router routingRoot;
         if (lastRoutedBuilder != null) {
-            routingRoot = lastRoutedBuilder.build();
+            routingRoot = lastRoutedBuilder.build(pathMatchingTrieEnabled);
         } else {
             /*
              * Create an empty routing root that accepts any request, does not do
@@ -173,7 +184,8 @@ final class RuntimeModelBuilder {
             // resource methods
             if (!resource.getResourceMethods().isEmpty()) {
                 final List<MethodRouting> methodRoutings = createResourceMethodRouters(resource, subResourceMode);
-                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings);
+                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings,
+                        methodSelectionCacheSize);
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.END_OF_PATH_PATTERN)
                             .to(resourcePushingRouter)
@@ -202,7 +214,8 @@ final class RuntimeModelBuilder {
                         srRoutedBuilder = startNextRoute(srRoutedBuilder, childClosedPattern)
                                 .to(uriPushingRouter)
                                 .to(childResourcePushingRouter)
-                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings));
+                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings,
+                                        methodSelectionCacheSize));
                     }
 
                     // sub resource locator
@@ -234,7 +247,7 @@ final class RuntimeModelBuilder {
             }
 
             if (srRoutedBuilder != null) {
-                final Router methodRouter = srRoutedBuilder.build();
+                final Router methodRouter = srRoutedBuilder.build(pathMatchingTrieEnabled);
 
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.OPEN_ROOT_PATH_PATTERN)
@@ -0,0 +1,170 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resource method {@link InvocationHandler invocation handler} that invokes the resource Java method using a
+ * {@link MethodHandle method handle} resolved once, when the handler is created, instead of using the reflective
+ * {@link Method#invoke(Object, Object...)} call for every request.
+ * <p>
+ * The method handle is adapted to accept the resource instance and the array of the (boxed) argument values,
+ * primitive argument values are unboxed and {@code void} results are returned as {@code null} by the adapted handle
+ * itself. Exceptions thrown by the resource method are wrapped in {@link InvocationTargetException} and invalid
+ * arguments are reported by {@link IllegalArgumentException}, the same way the reflective invocation does. Both are
+ * done by the adapted handle as well, no additional checks are performed for the individual invocations.
+ * </p>
+ */
+final class MethodHandleInvocationHandler implements InvocationHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInvocationHandler.class.getName());
+
+    /**
+     * {@code (Throwable)Object} handle throwing the {@link InvocationTargetException} wrapping its argument.
+     */
+    private static final MethodHandle TARGET_EXCEPTION;
+    /**
+     * {@code (RuntimeException)Object} handle throwing the {@link IllegalArgumentException} caused by its argument.
+     */
+    private static final MethodHandle ILLEGAL_ARGUMENT;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TARGET_EXCEPTION = lookup.findStatic(MethodHandleInvocationHandler.class, "targetException",
+                    MethodType.methodType(Object.class, Throwable.class));
+            ILLEGAL_ARGUMENT = lookup.findStatic(MethodHandleInvocationHandler.class, "illegalArgument",
+                    MethodType.methodType(Object.class, RuntimeException.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Method method;
+    private final MethodHandle handle;
+
+    /**
+     * Create a new method handle invocation handler for the given Java method.
+     *
+     * @param method Java method to be invoked.
+     * @return method handle invocation handler or {@code null} if the method cannot be invoked via a method handle
+     *         (e.g. if it is static or not accessible).
+     */
+    static InvocationHandler create(final Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+
+        try {
+            return new MethodHandleInvocationHandler(method, adapt(MethodHandles.lookup().unreflect(method)));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Method handle cannot be created for " + method + ", reflection will be used.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Adapt the method handle of the resource method to the {@code (Object, Object[])Object} type.
+     * <p>
+     * Any exception thrown by the resource method is wrapped in {@link InvocationTargetException} first, so that
+     * the {@link ClassCastException} or {@link NullPointerException} thrown by the adapter itself (argument type
+     * mismatch, {@code null} value of a primitive argument, wrong number of arguments) can be told apart and reported
+     * as {@link IllegalArgumentException}.
+     * </p>
+     */
+    private static MethodHandle adapt(final MethodHandle target) {
+        final MethodType type = target.type();
+        final int arity = type.parameterCount() - 1;
+
+        final MethodHandle wrapped = MethodHandles.catchException(target.asFixedArity(), Throwable.class,
+                MethodHandles.dropArguments(TARGET_EXCEPTION.asType(MethodType.methodType(type.returnType(), Throwable.class)),
+                        1, type.parameterList()));
+
+        final MethodHandle spread = wrapped
+                .asType(MethodType.genericMethodType(arity + 1))
+                .asSpreader(Object[].class, arity);
+
+        final MethodType spreadType = spread.type();
+        final MethodHandle illegalArgument = MethodHandles.dropArguments(ILLEGAL_ARGUMENT, 1, spreadType.parameterList());
+        return MethodHandles.catchException(
+                MethodHandles.catchException(spread, ClassCastException.class,
+                        illegalArgument.asType(illegalArgument.type().changeParameterType(0, ClassCastException.class))),
+                NullPointerException.class,
+                illegalArgument.asType(illegalArgument.type().changeParameterType(0, NullPointerException.class)));
+    }
+
+    private static Object targetException(final Throwable cause) throws InvocationTargetException {
+        throw new InvocationTargetException(cause);
+    }
+
+    private static Object illegalArgument(final RuntimeException cause) {
+        throw new IllegalArgumentException("Argument type mismatch.", cause);
+    }
+
+    private MethodHandleInvocationHandler(final Method method, final MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    @Override
+    public Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        if (method != this.method) {
+            // handler invoked for a different method than it has been created for
+            return method.invoke(target, args);
+        }
+
+        return handle.invokeExact(target, args);
+    }
+
+    @Override
+    public String toString() {
+        return method.toString();
+    }
+}
@@ -67,6 +67,10 @@ import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerP
  * invocation handler} instance retrieved from the providers. If no custom providers
  * are available, or if none of the providers returns a non-null invocation handler,
  * in such case a default invocation handler provided by the factory is returned.
+ * <p />
+ * The default invocation handler invokes the resource method using Java reflection, or, if enabled via
+ * {@link org.glassfish.jersey.server.ServerProperties#RESOURCE_METHOD_HANDLES_ENABLED}, using a
+ * {@link java.lang.invoke.MethodHandle method handle} resolved for the resource method in advance.
  *
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
@@ -76,8 +80,14 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
     private static final InvocationHandler DEFAULT_HANDLER = (target, method, args) -> method.invoke(target, args);
     private static final Logger LOGGER = Logger.getLogger(ResourceMethodInvocationHandlerFactory.class.getName());
     private final LazyValue<Set<ResourceMethodInvocationHandlerProvider>> providers;
+    private final boolean methodHandlesEnabled;
 
     ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager) {
+        this(injectionManager, false);
+    }
+
+    ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager, boolean methodHandlesEnabled) {
+        this.methodHandlesEnabled = methodHandlesEnabled;
         this.providers = Values.lazy((Value<Set<ResourceMethodInvocationHandlerProvider>>)
                 () -> Providers.getProviders(injectionManager, ResourceMethodInvocationHandlerProvider.class));
     }
@@ -98,6 +108,13 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
             }
         }
 
+        if (methodHandlesEnabled) {
+            final InvocationHandler handler = MethodHandleInvocationHandler.create(resourceMethod.getDefinitionMethod());
+            if (handler != null) {
+                return handler;
+            }
+        }
+
         return DEFAULT_HANDLER;
     }
 }
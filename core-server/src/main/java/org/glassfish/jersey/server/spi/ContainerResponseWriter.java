@@ -102,6 +102,11 @@ public interface ContainerResponseWriter {
      * otherwise -1. I/O containers may use this value to determine whether the
      * {@code "Content-Length"} header can be set or utilize chunked transfer encoding.
      * </p>
+     * <p>
+     * The returned output stream may also implement {@link org.glassfish.jersey.message.ZeroCopyOutput}. In such case
+     * file ({@link java.io.File}, {@link java.nio.file.Path}) and {@link java.nio.ByteBuffer} entities are passed to
+     * the container as file regions and byte buffers instead of being copied into the stream byte by byte.
+     * </p>
      *
      * @param contentLength greater or equal to 0 if the content length in bytes
      *     of the entity to be written is known, otherwise -1. Containers
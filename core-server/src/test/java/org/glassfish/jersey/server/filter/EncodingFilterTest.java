@@ -55,6 +55,7 @@ import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.RequestContextBuilder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 import org.junit.Test;
@@ -84,6 +85,27 @@ public class EncodingFilterTest {
         }
     }
 
+    public static class BarEncoding extends ContentEncoder {
+        public BarEncoding() {
+            super("bar");
+        }
+
+        @Override
+        public InputStream decode(String contentEncoding, InputStream encodedStream) throws IOException {
+            return encodedStream;
+        }
+
+        @Override
+        public OutputStream encode(String contentEncoding, OutputStream entityStream) throws IOException {
+            return entityStream;
+        }
+
+        @Override
+        public int getQuality(String contentEncoding) {
+            return 500;
+        }
+    }
+
     @Test
     public void testNoInterceptor() {
         ResourceConfig rc = new ResourceConfig(EncodingFilter.class);
@@ -146,6 +168,36 @@ public class EncodingFilterTest {
         testEncoding("foo", "*", "gzip; q=0", "identity; q=0");
     }
 
+    @Test
+    public void testEncoderQualityPreferred() throws IOException {
+        EncodingFilter filter = initializeAndGetFilter(new ResourceConfig().registerClasses(BarEncoding.class));
+        assertEquals("gzip", filter(filter, "OK!", "bar, gzip").getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("foo", filter(filter, "OK!", "foo, bar").getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("bar", filter(filter, "OK!", "bar, foo; q=.5").getHeaderString(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testEncoderQualityPreferredForAnyEncoding() throws IOException {
+        EncodingFilter filter = initializeAndGetFilter(new ResourceConfig().registerClasses(BarEncoding.class));
+        assertEquals("foo", filter(filter, "OK!", "*, identity; q=0").getHeaderString(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testMinimumSize() throws IOException {
+        EncodingFilter filter = initializeAndGetFilter(new ResourceConfig().property(ServerProperties.ENCODING_MINIMUM_SIZE, 10));
+
+        ContainerResponse response = filter(filter, "OK!", "gzip");
+        assertNull(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaderString(HttpHeaders.VARY));
+
+        response = filter(filter, "Hello world!", "gzip");
+        assertEquals("gzip", response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+
+        // 4 characters, 12 bytes in UTF-8
+        response = filter(filter, "\u20ac\u20ac\u20ac\u20ac", "gzip");
+        assertEquals("gzip", response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+    }
+
     @Test
     public void testNoEntity() throws IOException {
         EncodingFilter filter = initializeAndGetFilter();
@@ -157,13 +209,24 @@ public class EncodingFilterTest {
         assertNull(response.getHeaders().getFirst(HttpHeaders.VARY));
     }
 
-    @SuppressWarnings("unchecked")
     private EncodingFilter initializeAndGetFilter() {
-        ResourceConfig rc = new ResourceConfig();
+        return initializeAndGetFilter(new ResourceConfig());
+    }
+
+    @SuppressWarnings("unchecked")
+    private EncodingFilter initializeAndGetFilter(ResourceConfig rc) {
         EncodingFilter.enableFor(rc, FooEncoding.class, GZipEncoder.class);
         return (EncodingFilter) new ApplicationHandler(rc).getInjectionManager().getInstance(ContainerResponseFilter.class);
     }
 
+    private ContainerResponse filter(EncodingFilter filter, String entity, String acceptEncoding) throws IOException {
+        ContainerRequest request = RequestContextBuilder.from("/resource", "GET")
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding).build();
+        ContainerResponse response = new ContainerResponse(request, Response.ok(entity).build());
+        filter.filter(request, response);
+        return response;
+    }
+
     private void testEncoding(String expected, String... accepted) throws IOException {
         EncodingFilter filter = initializeAndGetFilter();
         RequestContextBuilder builder = RequestContextBuilder.from("/resource", "GET");
@@ -0,0 +1,215 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.inject;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.ws.rs.BeanParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests {@link BeanParamExtractionPlan} and bean parameters populated by compiled extraction plans.
+ */
+public class BeanParamExtractionPlanTest extends AbstractTest {
+
+    public static class InnerBean {
+
+        @QueryParam("inner")
+        private String inner;
+    }
+
+    public static class BaseBean {
+
+        @HeaderParam("X-Base")
+        protected String base;
+    }
+
+    public static class Bean extends BaseBean {
+
+        @PathParam("id")
+        private long id;
+
+        @QueryParam("name")
+        private String name;
+
+        @QueryParam("limit")
+        @DefaultValue("10")
+        private int limit;
+
+        @QueryParam("tag")
+        private List<String> tags;
+
+        @BeanParam
+        private InnerBean innerBean;
+
+        private String notInjected = "default";
+
+        @Override
+        public String toString() {
+            return id + "," + name + "," + limit + "," + tags + "," + innerBean.inner + "," + base + "," + notInjected;
+        }
+    }
+
+    public static class ContextBean {
+
+        @QueryParam("name")
+        private String name;
+
+        @Context
+        private UriInfo uriInfo;
+    }
+
+    public static class ConstructorBean {
+
+        private final String name;
+
+        public ConstructorBean(@QueryParam("name") final String name) {
+            this.name = name;
+        }
+    }
+
+    public static class SetterBean {
+
+        private String name;
+
+        @QueryParam("name")
+        public void setName(final String name) {
+            this.name = name;
+        }
+    }
+
+    @Path("{id}")
+    public static class BeanResource {
+
+        @GET
+        public String get(@BeanParam final Bean bean) {
+            return bean.toString();
+        }
+
+        @GET
+        @Path("context")
+        public String context(@BeanParam final ContextBean bean) {
+            return bean.name + "," + bean.uriInfo.getPath();
+        }
+    }
+
+    @Test
+    public void testCompile() {
+        final BeanParamExtractionPlan plan = BeanParamExtractionPlan.compile(InnerBean.class,
+                parameter -> request -> parameter.getSourceName());
+
+        assertNotNull(plan);
+        assertEquals("inner", ((InnerBean) plan.apply(null)).inner);
+    }
+
+    @Test
+    public void testNotEligible() {
+        assertNull(BeanParamExtractionPlan.compile(ContextBean.class, parameter -> request -> null));
+        assertNull(BeanParamExtractionPlan.compile(ConstructorBean.class, parameter -> request -> null));
+        assertNull(BeanParamExtractionPlan.compile(SetterBean.class, parameter -> request -> null));
+        assertNull(BeanParamExtractionPlan.compile(InnerBean.class, parameter -> null));
+    }
+
+    @Test
+    public void testExtractionPlan() throws ExecutionException, InterruptedException {
+        initiateWebApplication(new ResourceConfig(BeanResource.class)
+                .property(ServerProperties.BEAN_PARAM_EXTRACTION_PLANS_ENABLED, true));
+
+        for (int i = 0; i < 3; i++) {
+            final ContainerResponse response = apply(RequestContextBuilder
+                    .from("/42?name=jersey&tag=a&tag=b&inner=value", "GET")
+                    .header("X-Base", "base")
+                    .build());
+
+            assertEquals(200, response.getStatus());
+            assertEquals("42,jersey,10,[a, b],value,base,default", response.getEntity());
+        }
+    }
+
+    @Test
+    public void testExtractionPlanDisabled() throws ExecutionException, InterruptedException {
+        initiateWebApplication(BeanResource.class);
+
+        final ContainerResponse response = apply(RequestContextBuilder
+                .from("/42?name=jersey&limit=5&inner=value", "GET")
+                .header("X-Base", "base")
+                .build());
+
+        assertEquals(200, response.getStatus());
+        assertEquals("42,jersey,5,[],value,base,default", response.getEntity());
+    }
+
+    @Test
+    public void testInvalidValue() throws ExecutionException, InterruptedException {
+        initiateWebApplication(new ResourceConfig(BeanResource.class)
+                .property(ServerProperties.BEAN_PARAM_EXTRACTION_PLANS_ENABLED, true));
+
+        assertEquals(404, getResponseContext("/42?limit=abc").getStatus());
+        assertEquals(404, getResponseContext("/abc").getStatus());
+    }
+
+    @Test
+    public void testFallbackToInjection() throws ExecutionException, InterruptedException {
+        initiateWebApplication(new ResourceConfig(BeanResource.class)
+                .property(ServerProperties.BEAN_PARAM_EXTRACTION_PLANS_ENABLED, true));
+
+        assertEquals("jersey,42/context", getResponseContext("/42/context?name=jersey").getEntity());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of {@link BucketedSlidingWindowTimeReservoir}.
+ */
+public class BucketedSlidingWindowTimeReservoirTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void testAggregationWithinWindow() {
+        final BucketedSlidingWindowTimeReservoir reservoir =
+                new BucketedSlidingWindowTimeReservoir(1, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+
+        reservoir.update(10L, 100, TimeUnit.MILLISECONDS);
+        reservoir.update(30L, 120, TimeUnit.MILLISECONDS);
+        reservoir.update(20L, 900, TimeUnit.MILLISECONDS);
+
+        final UniformTimeSnapshot snapshot = reservoir.getSnapshot(999, TimeUnit.MILLISECONDS);
+        assertEquals(3, snapshot.size());
+        assertEquals(10, snapshot.getMin());
+        assertEquals(30, snapshot.getMax());
+        assertEquals(20, snapshot.getMean(), DELTA);
+        assertEquals(3, reservoir.size(999, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testOldBucketsLeaveWindow() {
+        final BucketedSlidingWindowTimeReservoir reservoir =
+                new BucketedSlidingWindowTimeReservoir(1, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+
+        reservoir.update(10L, 0, TimeUnit.MILLISECONDS);
+        reservoir.update(50L, 1500, TimeUnit.MILLISECONDS);
+
+        final UniformTimeSnapshot snapshot = reservoir.getSnapshot(1500, TimeUnit.MILLISECONDS);
+        assertEquals(1, snapshot.size());
+        assertEquals(50, snapshot.getMin());
+        assertEquals(50, snapshot.getMax());
+    }
+
+    @Test
+    public void testBucketRollOver() {
+        final BucketedSlidingWindowTimeReservoir reservoir =
+                new BucketedSlidingWindowTimeReservoir(1, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+
+        reservoir.update(10L, 10, TimeUnit.MILLISECONDS);
+        // same bucket slot, next window
+        reservoir.update(40L, 1010, TimeUnit.MILLISECONDS);
+        // measurement older than the bucket slot is dropped
+        reservoir.update(90L, 20, TimeUnit.MILLISECONDS);
+
+        final UniformTimeSnapshot snapshot = reservoir.getSnapshot(1010, TimeUnit.MILLISECONDS);
+        assertEquals(1, snapshot.size());
+        assertEquals(40, snapshot.getMean(), DELTA);
+    }
+
+    @Test
+    public void testEmptySnapshot() {
+        final BucketedSlidingWindowTimeReservoir reservoir =
+                new BucketedSlidingWindowTimeReservoir(15, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+
+        final UniformTimeSnapshot snapshot = reservoir.getSnapshot(5000, TimeUnit.MILLISECONDS);
+        assertEquals(0, snapshot.size());
+        assertEquals(15, reservoir.interval(TimeUnit.SECONDS));
+    }
+}
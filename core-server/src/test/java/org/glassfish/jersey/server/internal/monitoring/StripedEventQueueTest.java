@@ -0,0 +1,118 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link StripedEventQueue}.
+ */
+public class StripedEventQueueTest {
+
+    @Test
+    public void testOfferAndPollSingleThread() {
+        final StripedEventQueue<Integer> queue = new StripedEventQueue<>(16);
+        assertTrue(queue.isEmpty());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertEquals(10, queue.size());
+        assertEquals(0, (int) queue.peek());
+
+        // ordering of a single producer is preserved
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, (int) queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testBounded() {
+        final StripedEventQueue<Integer> queue = new StripedEventQueue<>(1);
+
+        int offered = 0;
+        while (queue.offer(offered)) {
+            offered++;
+        }
+        assertTrue(offered > 0);
+        assertFalse(queue.offer(offered));
+
+        queue.poll();
+        assertTrue(queue.offer(offered));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final int threads = 8;
+        final int perThread = 1000;
+        // every stripe is able to hold all the elements even if all the producers share it
+        final StripedEventQueue<Integer> queue = new StripedEventQueue<>(threads * perThread * 64);
+        final CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * perThread;
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    queue.offer(offset + i);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+
+        final Set<Integer> polled = new HashSet<>();
+        Integer element;
+        while ((element = queue.poll()) != null) {
+            polled.add(element);
+        }
+        assertEquals(threads * perThread, polled.size());
+    }
+}
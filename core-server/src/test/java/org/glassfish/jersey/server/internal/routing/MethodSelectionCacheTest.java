@@ -0,0 +1,165 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the cached resource method selection yields the same results as the un-cached one.
+ */
+public class MethodSelectionCacheTest {
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        @Produces("text/plain")
+        public String getPlain() {
+            return "plain";
+        }
+
+        @GET
+        @Produces("text/html")
+        public String getHtml() {
+            return "html";
+        }
+
+        @GET
+        @Path("any")
+        public String getAny() {
+            return "any";
+        }
+
+        @POST
+        @Consumes("text/plain")
+        @Produces("text/plain")
+        public String postPlain(final String entity) {
+            return "plain:" + entity;
+        }
+
+        @POST
+        @Consumes("application/xml")
+        @Produces("text/plain")
+        public String postXml(final String entity) {
+            return "xml:" + entity;
+        }
+    }
+
+    private static ApplicationHandler createApplication(final int cacheSize) {
+        return new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.METHOD_SELECTION_CACHE_SIZE, cacheSize));
+    }
+
+    @Test
+    public void testCachedSelection() throws Exception {
+        final ApplicationHandler uncached = createApplication(0);
+        final ApplicationHandler cached = createApplication(2);
+
+        for (int i = 0; i < 3; i++) {
+            for (final String accept : new String[] {null, "text/plain", "text/html", "text/html;q=0.5, text/plain",
+                    "application/json", "*/*"}) {
+                assertSameResponse(uncached, cached, "GET", "/resource", accept, null);
+                assertSameResponse(uncached, cached, "GET", "/resource/any", accept, null);
+                assertSameResponse(uncached, cached, "HEAD", "/resource", accept, null);
+            }
+            for (final String contentType : new String[] {"text/plain", "application/xml", "application/json"}) {
+                assertSameResponse(uncached, cached, "POST", "/resource", "text/plain", contentType);
+                assertSameResponse(uncached, cached, "PUT", "/resource", "text/plain", contentType);
+            }
+        }
+    }
+
+    private static void assertSameResponse(final ApplicationHandler uncached,
+                                           final ApplicationHandler cached,
+                                           final String method,
+                                           final String path,
+                                           final String accept,
+                                           final String contentType) throws Exception {
+        final ContainerResponse expected = uncached.apply(request(method, path, accept, contentType)).get();
+        final ContainerResponse actual = cached.apply(request(method, path, accept, contentType)).get();
+
+        final String message = method + " " + path + " " + accept + " " + contentType;
+        assertEquals(message, expected.getStatus(), actual.getStatus());
+        assertEquals(message, expected.getEntity(), actual.getEntity());
+        assertEquals(message, expected.getMediaType(), actual.getMediaType());
+    }
+
+    private static ContainerRequest request(final String method,
+                                            final String path,
+                                            final String accept,
+                                            final String contentType) {
+        final RequestContextBuilder builder = RequestContextBuilder.from(path, method);
+        if (accept != null) {
+            builder.accept(accept);
+        }
+        if (contentType != null) {
+            builder.type(contentType).entity("entity");
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testMediaTypeOfCachedSelection() throws Exception {
+        final ApplicationHandler cached = createApplication(ServerProperties.METHOD_SELECTION_DEFAULT_CACHE_SIZE);
+
+        for (int i = 0; i < 3; i++) {
+            final ContainerResponse response = cached.apply(request("GET", "/resource", "text/html", null)).get();
+            assertEquals(200, response.getStatus());
+            assertEquals("html", response.getEntity());
+            assertEquals(MediaType.TEXT_HTML_TYPE, response.getMediaType());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.uri.PathPattern;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link PathMatchingTrie literal path segment trie} used by the path matching router.
+ */
+public class PathMatchingTrieTest {
+
+    @Path("a")
+    public static class AResource {
+
+        @GET
+        public String get() {
+            return "a";
+        }
+
+        @GET
+        @Path("b")
+        public String getB() {
+            return "a/b";
+        }
+
+        @GET
+        @Path("b{suffix}")
+        public String getBSuffix(@PathParam("suffix") final String suffix) {
+            return "a/b*" + suffix;
+        }
+
+        @GET
+        @Path("{id: \\d+}")
+        public String getNumber(@PathParam("id") final String id) {
+            return "a/n" + id;
+        }
+
+        @GET
+        @Path("{id}")
+        public String getId(@PathParam("id") final String id) {
+            return "a/" + id;
+        }
+    }
+
+    @Path("a/b/c")
+    public static class ABCResource {
+
+        @GET
+        public String get() {
+            return "a/b/c";
+        }
+    }
+
+    @Path("{any}")
+    public static class AnyResource {
+
+        @GET
+        public String get(@PathParam("any") final String any) {
+            return "any:" + any;
+        }
+
+        @GET
+        @Path("b")
+        public String getB(@PathParam("any") final String any) {
+            return "any:" + any + "/b";
+        }
+    }
+
+    @Path("x y")
+    public static class EncodedResource {
+
+        @GET
+        public String get() {
+            return "x y";
+        }
+    }
+
+    private static Route route(final String template) {
+        return Route.of(new PathPattern(template), Collections.<Router>emptyList());
+    }
+
+    private static List<String> templates(final List<Route> routes) {
+        final List<String> templates = new ArrayList<>();
+        for (final Route route : routes) {
+            templates.add(route.routingPattern().getTemplate().getTemplate());
+        }
+        return templates;
+    }
+
+    @Test
+    public void testCandidatesPreserveOrder() {
+        final PathMatchingTrie trie = new PathMatchingTrie(Arrays.asList(
+                route("/a/b/c"),
+                route("/a/{id}"),
+                route("/b"),
+                route("/{any}"),
+                route("/a"),
+                route("/a/b{suffix}")));
+
+        assertEquals(Arrays.asList("/a/b/c", "/a/{id}", "/{any}", "/a", "/a/b{suffix}"), templates(trie.candidates("/a/b/c")));
+        assertEquals(Arrays.asList("/a/{id}", "/{any}", "/a", "/a/b{suffix}"), templates(trie.candidates("/a/bx")));
+        assertEquals(Arrays.asList("/b", "/{any}"), templates(trie.candidates("/b")));
+        assertEquals(Arrays.asList("/{any}"), templates(trie.candidates("/c/d")));
+        assertEquals(Arrays.asList("/{any}"), templates(trie.candidates("")));
+        assertEquals(Arrays.asList("/a/{id}", "/{any}", "/a", "/a/b{suffix}"), templates(trie.candidates("/a/")));
+    }
+
+    @Test
+    public void testNonVerbatimLiteralIsNotIndexed() {
+        final PathMatchingTrie trie = new PathMatchingTrie(Arrays.asList(route("/x y"), route("/a%20b/c"), route("/d")));
+
+        assertEquals(Arrays.asList("/x y", "/a%20b/c"), templates(trie.candidates("/x%20y")));
+        assertEquals(Arrays.asList("/x y", "/a%20b/c", "/d"), templates(trie.candidates("/d")));
+    }
+
+    @Test
+    public void testSameMatchingWithAndWithoutTrie() throws Exception {
+        final ApplicationHandler linear = createApplication(false);
+        final ApplicationHandler trie = createApplication(true);
+
+        for (final String path : Arrays.asList("/a", "/a/", "/a/b", "/a/b/", "/a/bc", "/a/42", "/a/x", "/a/b/c", "/a/b/c/",
+                "/b", "/b/b", "/c/b", "/x%20y", "/a/b/c/d", "/", "/unknown/path")) {
+            final ContainerResponse expected = linear.apply(RequestContextBuilder.from(path, "GET").build()).get();
+            final ContainerResponse actual = trie.apply(RequestContextBuilder.from(path, "GET").build()).get();
+
+            assertEquals(path, expected.getStatus(), actual.getStatus());
+            assertEquals(path, expected.getEntity(), actual.getEntity());
+        }
+    }
+
+    private static ApplicationHandler createApplication(final boolean trieEnabled) {
+        return new ApplicationHandler(new ResourceConfig(AResource.class, ABCResource.class, AnyResource.class,
+                EncodedResource.class).property(ServerProperties.ROUTING_PATH_TRIE_ENABLED, trieEnabled));
+    }
+}
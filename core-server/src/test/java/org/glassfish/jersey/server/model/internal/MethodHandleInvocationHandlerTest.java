@@ -0,0 +1,228 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link MethodHandleInvocationHandler}.
+ */
+public class MethodHandleInvocationHandlerTest {
+
+    public static class Target {
+
+        public int sum(final int a, final long b) {
+            return (int) (a + b);
+        }
+
+        public void nothing() {
+        }
+
+        public String fail(final String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public String cast(final Object value) {
+            return (String) value;
+        }
+
+        public static String staticMethod() {
+            return "static";
+        }
+    }
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        public String get(@QueryParam("a") final int a, @QueryParam("b") final Integer b) {
+            return a + ":" + b;
+        }
+
+        @GET
+        @Path("void")
+        public void getVoid() {
+        }
+
+        @GET
+        @Path("response")
+        public Response getResponse() {
+            return Response.status(202).entity("accepted").build();
+        }
+
+        @GET
+        @Path("exception")
+        public String getException() {
+            throw new WebApplicationException(409);
+        }
+    }
+
+    private static Method method(final String name, final Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Target.class.getMethod(name, parameterTypes);
+    }
+
+    @Test
+    public void testInvokePrimitives() throws Throwable {
+        final Method method = method("sum", int.class, long.class);
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        assertNotNull(handler);
+        assertEquals(5, handler.invoke(new Target(), method, new Object[] {2, 3L}));
+    }
+
+    @Test
+    public void testInvokeVoid() throws Throwable {
+        final Method method = method("nothing");
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        assertNull(handler.invoke(new Target(), method, new Object[0]));
+        assertNull(handler.invoke(new Target(), method, null));
+    }
+
+    @Test
+    public void testTargetExceptionWrapped() throws Throwable {
+        final Method method = method("fail", String.class);
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        try {
+            handler.invoke(new Target(), method, new Object[] {"failed"});
+            fail("InvocationTargetException expected.");
+        } catch (final InvocationTargetException e) {
+            assertSame(IllegalStateException.class, e.getCause().getClass());
+            assertEquals("failed", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testTargetClassCastExceptionWrapped() throws Throwable {
+        final Method method = method("cast", Object.class);
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        try {
+            handler.invoke(new Target(), method, new Object[] {42});
+            fail("InvocationTargetException expected.");
+        } catch (final InvocationTargetException e) {
+            assertSame(ClassCastException.class, e.getCause().getClass());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPrimitiveArgument() throws Throwable {
+        final Method method = method("sum", int.class, long.class);
+        MethodHandleInvocationHandler.create(method).invoke(new Target(), method, new Object[] {1, null});
+    }
+
+    @Test
+    public void testPrimitiveArgumentWidening() throws Throwable {
+        final Method method = method("sum", int.class, long.class);
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(method);
+
+        assertEquals(5, handler.invoke(new Target(), method, new Object[] {(short) 2, 3}));
+        assertEquals(100, handler.invoke(new Target(), method, new Object[] {'a', (byte) 3}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrimitiveArgumentTypeMismatch() throws Throwable {
+        final Method method = method("sum", int.class, long.class);
+        MethodHandleInvocationHandler.create(method).invoke(new Target(), method, new Object[] {2L, 3L});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReferenceArgumentTypeMismatch() throws Throwable {
+        final Method method = method("fail", String.class);
+        MethodHandleInvocationHandler.create(method).invoke(new Target(), method, new Object[] {42});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongTarget() throws Throwable {
+        final Method method = method("nothing");
+        MethodHandleInvocationHandler.create(method).invoke(new Object(), method, new Object[0]);
+    }
+
+    @Test
+    public void testStaticMethodNotSupported() throws Exception {
+        assertNull(MethodHandleInvocationHandler.create(method("staticMethod")));
+    }
+
+    @Test
+    public void testResourceMethodInvocation() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.RESOURCE_METHOD_HANDLES_ENABLED, true));
+
+        ContainerResponse response = handler.apply(RequestContextBuilder.from("/resource?a=1&b=2", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+        assertEquals("1:2", response.getEntity());
+
+        response = handler.apply(RequestContextBuilder.from("/resource", "GET").build()).get();
+        assertEquals("0:null", response.getEntity());
+
+        response = handler.apply(RequestContextBuilder.from("/resource/void", "GET").build()).get();
+        assertEquals(204, response.getStatus());
+
+        response = handler.apply(RequestContextBuilder.from("/resource/response", "GET").build()).get();
+        assertEquals(202, response.getStatus());
+        assertEquals("accepted", response.getEntity());
+
+        response = handler.apply(RequestContextBuilder.from("/resource/exception", "GET").build()).get();
+        assertEquals(409, response.getStatus());
+    }
+}
@@ -166,6 +166,30 @@ public class PersonResourceTest extends JerseyTest {
         assertThat(entity.getRegion(), nullValue());
     }
 
+    /**
+     * Test that different filters applied to the same entity class in turns do not affect each other.
+     */
+    @Test
+    public void testAlternatingFilters() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            final Person names = target("people").path("1234")
+                    .queryParam("select", "familyName,givenName").request()
+                    .get(Person.class);
+
+            assertThat(names.getFamilyName(), notNullValue());
+            assertThat(names.getGivenName(), notNullValue());
+            assertThat(names.getRegion(), nullValue());
+
+            final Person region = target("people").path("1234")
+                    .queryParam("select", "region").request()
+                    .get(Person.class);
+
+            assertThat(region.getRegion(), notNullValue());
+            assertThat(region.getFamilyName(), nullValue());
+            assertThat(region.getGivenName(), nullValue());
+        }
+    }
+
     /**
      * Test 2nd and 3rd level filters.
      */
@@ -45,6 +45,10 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -53,8 +57,11 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.EndpointConfigBase;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.JaxRSFeature;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterInjector;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterModifier;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJaxbJsonProvider;
@@ -76,47 +83,67 @@ import com.fasterxml.jackson.databind.ser.PropertyFilter;
 
 /**
  * Entity Data Filtering provider based on Jackson JSON provider.
+ * <p>
+ * The filtering annotation introspector is installed into a copy of every object mapper used by the provider, so that
+ * the original (user) mapper is left untouched and the serializers of the copy are built (and cached) only once.
+ * Object writers combining the endpoint writer with the entity-filtering object resolved for the entity class and
+ * the entity-filtering scopes are cached as well.
+ * </p>
  *
  * @author Michal Gajdos
  */
 @Singleton
 public final class FilteringJacksonJaxbJsonProvider extends JacksonJaxbJsonProvider {
 
+    private static final int WRITER_CACHE_SIZE = 1000;
+
     @Inject
     private Provider<ObjectProvider<FilterProvider>> provider;
 
+    private final AnnotationIntrospector filteringIntrospector = new FilteringAnnotationIntrospector();
+
+    // Filtering copies of the object mappers - the copies do not reference the original mappers.
+    private final Map<ObjectMapper, ObjectMapper> filteringMappers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Cache<WriterKey, ObjectWriter> filteringWriters = CacheBuilder.newBuilder()
+            .maximumSize(WRITER_CACHE_SIZE).build();
+
     @Override
     protected JsonEndpointConfig _configForWriting(final ObjectMapper mapper, final Annotation[] annotations,
                                                    final Class<?> defaultView) {
-        final AnnotationIntrospector customIntrospector = mapper.getSerializationConfig().getAnnotationIntrospector();
-        // Set the custom (user) introspector to be the primary one.
-        final ObjectMapper filteringMapper = mapper.setAnnotationIntrospector(AnnotationIntrospector.pair(customIntrospector,
-                new JacksonAnnotationIntrospector() {
-                    @Override
-                    public Object findFilterId(final Annotated a) {
-                        final Object filterId = super.findFilterId(a);
-
-                        if (filterId != null) {
-                            return filterId;
-                        }
+        return super._configForWriting(getFilteringMapper(mapper), annotations, defaultView);
+    }
 
-                        if (a instanceof AnnotatedMethod) {
-                            final Method method = ((AnnotatedMethod) a).getAnnotated();
+    /**
+     * Get an object mapper that uses the filtering annotation introspector (together with the custom introspector of
+     * the given mapper).
+     *
+     * @param mapper object mapper to be used for writing.
+     * @return filtering object mapper.
+     */
+    private ObjectMapper getFilteringMapper(final ObjectMapper mapper) {
+        ObjectMapper filteringMapper = filteringMappers.get(mapper);
 
-                            // Interested only in getters - trying to obtain "field" name from them.
-                            if (ReflectionHelper.isGetter(method)) {
-                                return ReflectionHelper.getPropertyName(method);
-                            }
-                        }
-                        if (a instanceof AnnotatedField || a instanceof AnnotatedClass) {
-                            return a.getName();
-                        }
+        if (filteringMapper == null) {
+            final AnnotationIntrospector customIntrospector = mapper.getSerializationConfig().getAnnotationIntrospector();
 
-                        return null;
-                    }
-                }));
+            try {
+                filteringMapper = mapper.copy();
+            } catch (final IllegalStateException e) {
+                // Mapper subclass not overriding copy() - install the introspector into the mapper itself, but only once.
+                synchronized (mapper) {
+                    final AnnotationIntrospector introspector = mapper.getSerializationConfig().getAnnotationIntrospector();
+                    return introspector.allIntrospectors().contains(filteringIntrospector)
+                            ? mapper
+                            : mapper.setAnnotationIntrospector(AnnotationIntrospector.pair(introspector, filteringIntrospector));
+                }
+            }
 
-        return super._configForWriting(filteringMapper, annotations, defaultView);
+            // Set the custom (user) introspector to be the primary one.
+            filteringMapper.setAnnotationIntrospector(AnnotationIntrospector.pair(customIntrospector, filteringIntrospector));
+            filteringMappers.put(mapper, filteringMapper);
+        }
+        return filteringMapper;
     }
 
     @Override
@@ -129,20 +156,26 @@ public final class FilteringJacksonJaxbJsonProvider extends JacksonJaxbJsonProvi
                         final OutputStream entityStream) throws IOException {
         final FilterProvider filterProvider = provider.get().getFilteringObject(genericType, true, annotations);
         if (filterProvider != null) {
-            ObjectWriterInjector.set(new FilteringObjectWriterModifier(filterProvider, ObjectWriterInjector.getAndClear()));
+            ObjectWriterInjector.set(new FilteringObjectWriterModifier(filterProvider, ObjectWriterInjector.getAndClear(),
+                    type, genericType));
         }
 
         super.writeTo(value, type, genericType, annotations, mediaType, httpHeaders, entityStream);
     }
 
-    private static final class FilteringObjectWriterModifier extends ObjectWriterModifier {
+    private final class FilteringObjectWriterModifier extends ObjectWriterModifier {
 
         private final ObjectWriterModifier original;
         private final FilterProvider filterProvider;
+        private final Class<?> type;
+        private final Type genericType;
 
-        private FilteringObjectWriterModifier(final FilterProvider filterProvider, final ObjectWriterModifier original) {
+        private FilteringObjectWriterModifier(final FilterProvider filterProvider, final ObjectWriterModifier original,
+                                              final Class<?> type, final Type genericType) {
             this.original = original;
             this.filterProvider = filterProvider;
+            this.type = type;
+            this.genericType = genericType;
         }
 
         @Override
@@ -151,7 +184,25 @@ public final class FilteringJacksonJaxbJsonProvider extends JacksonJaxbJsonProvi
                                    final Object valueToWrite,
                                    final ObjectWriter w,
                                    final JsonGenerator g) throws IOException {
-            final ObjectWriter writer = original == null ? w : original.modify(endpoint, responseHeaders, valueToWrite, w, g);
+            if (original != null) {
+                // Writer modified by the custom modifier may be different for every request.
+                return withFilterProvider(original.modify(endpoint, responseHeaders, valueToWrite, w, g));
+            }
+            if (valueToWrite == null || !isEnabled(JaxRSFeature.CACHE_ENDPOINT_WRITERS)) {
+                return withFilterProvider(w);
+            }
+
+            // Given writer is the endpoint writer, possibly specialized for the (generic) type of the entity.
+            final WriterKey key = new WriterKey(endpoint.getWriter(), type, genericType, filterProvider);
+            ObjectWriter writer = filteringWriters.getIfPresent(key);
+            if (writer == null) {
+                writer = withFilterProvider(w);
+                filteringWriters.put(key, writer);
+            }
+            return writer;
+        }
+
+        private ObjectWriter withFilterProvider(final ObjectWriter writer) {
             final FilterProvider customFilterProvider = writer.getConfig().getFilterProvider();
 
             // Try the custom (user) filter provider first.
@@ -175,4 +226,77 @@ public final class FilteringJacksonJaxbJsonProvider extends JacksonJaxbJsonProvi
                     });
         }
     }
+
+    /**
+     * Annotation introspector providing filter ids for classes and properties of filtered entities.
+     */
+    private static final class FilteringAnnotationIntrospector extends JacksonAnnotationIntrospector {
+
+        @Override
+        public Object findFilterId(final Annotated a) {
+            final Object filterId = super.findFilterId(a);
+
+            if (filterId != null) {
+                return filterId;
+            }
+
+            if (a instanceof AnnotatedMethod) {
+                final Method method = ((AnnotatedMethod) a).getAnnotated();
+
+                // Interested only in getters - trying to obtain "field" name from them.
+                if (ReflectionHelper.isGetter(method)) {
+                    return ReflectionHelper.getPropertyName(method);
+                }
+            }
+            if (a instanceof AnnotatedField || a instanceof AnnotatedClass) {
+                return a.getName();
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Key of the cache of filtering object writers. The endpoint writer and the entity-filtering object (cached per
+     * entity class and entity-filtering scopes) are compared by identity.
+     */
+    private static final class WriterKey {
+
+        private final ObjectWriter writer;
+        private final Class<?> type;
+        private final Type genericType;
+        private final FilterProvider filterProvider;
+
+        private WriterKey(final ObjectWriter writer, final Class<?> type, final Type genericType,
+                          final FilterProvider filterProvider) {
+            this.writer = writer;
+            this.type = type;
+            this.genericType = genericType;
+            this.filterProvider = filterProvider;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WriterKey)) {
+                return false;
+            }
+
+            final WriterKey that = (WriterKey) o;
+
+            return writer == that.writer && filterProvider == that.filterProvider && type.equals(that.type)
+                    && Objects.equals(genericType, that.genericType);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(writer);
+            result = 47 * result + System.identityHashCode(filterProvider);
+            result = 47 * result + type.hashCode();
+            result = 47 * result + Objects.hashCode(genericType);
+            return result;
+        }
+    }
 }
@@ -137,7 +137,8 @@ final class JacksonObjectProvider extends AbstractObjectProvider<FilterProvider>
     private static class FilteringFilterProvider extends FilterProvider {
 
         private final FilteringPropertyFilter root;
-        private final Stack<FilteringPropertyFilter> stack = new Stack<>();
+        // The filter provider is cached and shared by concurrent requests, the stack has to be confined to a thread.
+        private final ThreadLocal<Stack<FilteringPropertyFilter>> stacks = ThreadLocal.withInitial(Stack::new);
 
         public FilteringFilterProvider(final FilteringPropertyFilter root) {
             this.root = root;
@@ -152,6 +153,7 @@ final class JacksonObjectProvider extends AbstractObjectProvider<FilterProvider>
         public PropertyFilter findPropertyFilter(final Object filterId, final Object valueToFilter) {
             if (filterId instanceof String) {
                 final String id = (String) filterId;
+                final Stack<FilteringPropertyFilter> stack = stacks.get();
 
                 // FilterId should represent a class only in case of root entity is marshalled.
                 if (id.equals(root.getEntityClass().getName())) {
@@ -42,8 +42,12 @@ package org.glassfish.jersey.media.multipart;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -69,7 +73,9 @@ public class BodyPartEntity implements Closeable {
     private static final Logger LOGGER = Logger.getLogger(BodyPartEntity.class.getName());
 
     private final MIMEPart mimePart;
+    private final boolean readOnce;
     private volatile File file;
+    private InputStream stream;
 
     /**
      * Constructs a new {@code BodyPartEntity} with a {@link MIMEPart}.
@@ -77,7 +83,25 @@ public class BodyPartEntity implements Closeable {
      * @param mimePart MIMEPart containing the input stream of this body part entity.
      */
     public BodyPartEntity(final MIMEPart mimePart) {
+        this(mimePart, false);
+    }
+
+    /**
+     * Constructs a new {@code BodyPartEntity} with a {@link MIMEPart}.
+     * <p>
+     * The content of a read-once entity is streamed straight from the multipart message and is not retained, i.e.
+     * it can be read only once and only until the message advances to the next body part. All the invocations of
+     * {@link #getInputStream()} return the same stream. Closing the stream has no effect, the unread content is skipped
+     * when the message advances to the next body part.
+     * </p>
+     *
+     * @param mimePart MIMEPart containing the input stream of this body part entity.
+     * @param readOnce {@code true} if the content should be streamed without being retained.
+     * @since 2.28
+     */
+    public BodyPartEntity(final MIMEPart mimePart, final boolean readOnce) {
         this.mimePart = mimePart;
+        this.readOnce = readOnce;
     }
 
     /**
@@ -86,7 +110,44 @@ public class BodyPartEntity implements Closeable {
      * @return the input stream of the body part entity.
      */
     public InputStream getInputStream() {
-        return mimePart.read();
+        if (!readOnce) {
+            return mimePart.read();
+        }
+        synchronized (this) {
+            if (stream == null) {
+                stream = new FilterInputStream(mimePart.readOnce()) {
+                    @Override
+                    public void close() {
+                        // content not read by the application is skipped by the multipart reader
+                    }
+                };
+            }
+            return stream;
+        }
+    }
+
+    /**
+     * Transfer the (remaining) raw bytes of this body part entity to the given file channel, starting at the current
+     * position of the channel.
+     * <p>
+     * The position of the channel is advanced by the number of transferred bytes. Together with a read-once entity
+     * (e.g. a body part of a {@link StreamingMultiPart}) the content is written to the channel as it is read from the
+     * message, without being buffered in memory or in a temporary file first.
+     * </p>
+     *
+     * @param channel file channel to write the content to.
+     * @return number of transferred bytes.
+     * @throws IOException if an I/O error occurs while reading the content or writing to the channel.
+     * @since 2.28
+     */
+    public long transferTo(final FileChannel channel) throws IOException {
+        final long position = channel.position();
+        final long transferred;
+        try (ReadableByteChannel source = Channels.newChannel(getInputStream())) {
+            transferred = channel.transferFrom(source, position, Long.MAX_VALUE);
+        }
+        channel.position(position + transferred);
+        return transferred;
     }
 
     /**
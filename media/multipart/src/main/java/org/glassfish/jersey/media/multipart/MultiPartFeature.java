@@ -48,6 +48,8 @@ import org.glassfish.jersey.media.multipart.internal.FormDataParamInjectionFeatu
 import org.glassfish.jersey.media.multipart.internal.MultiPartReaderClientSide;
 import org.glassfish.jersey.media.multipart.internal.MultiPartReaderServerSide;
 import org.glassfish.jersey.media.multipart.internal.MultiPartWriter;
+import org.glassfish.jersey.media.multipart.internal.StreamingMultiPartReaderClientSide;
+import org.glassfish.jersey.media.multipart.internal.StreamingMultiPartReaderServerSide;
 
 /**
  * Feature used to register Multipart providers.
@@ -63,8 +65,10 @@ public class MultiPartFeature implements Feature {
         if (RuntimeType.SERVER.equals(runtime)) {
             context.register(FormDataParamInjectionFeature.class);
             context.register(MultiPartReaderServerSide.class);
+            context.register(StreamingMultiPartReaderServerSide.class);
         } else {
             context.register(MultiPartReaderClientSide.class);
+            context.register(StreamingMultiPartReaderClientSide.class);
         }
 
         context.register(MultiPartWriter.class);
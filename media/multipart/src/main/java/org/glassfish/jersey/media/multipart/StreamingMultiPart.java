@@ -0,0 +1,165 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.internal.util.collection.ImmutableMultivaluedMap;
+
+/**
+ * Multipart message whose body parts are parsed lazily, one at a time, as the message is iterated.
+ * <p>
+ * Unlike {@link MultiPart} (and {@link FormDataMultiPart}), which are available only once all the body parts have been
+ * read and buffered (in memory or in temporary files), the body parts of a streaming multipart message are read straight
+ * from the entity stream. The content of a body part is a read-once {@link BodyPartEntity} that can be read only until
+ * the iterator advances to the next body part; the content that has not been read is skipped. A large body part can be
+ * written directly to its destination file using {@link BodyPartEntity#transferTo(java.nio.channels.FileChannel)}:
+ * </p>
+ * <pre>
+ * &#64;POST
+ * &#64;Consumes(MediaType.MULTIPART_FORM_DATA)
+ * public void upload(StreamingMultiPart multiPart) throws IOException {
+ *     while (multiPart.hasNext()) {
+ *         FormDataBodyPart part = (FormDataBodyPart) multiPart.next();
+ *         try (FileChannel file = FileChannel.open(target(part.getName()), CREATE, WRITE)) {
+ *             part.getEntityAs(BodyPartEntity.class).transferTo(file);
+ *         }
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The body parts of a {@code multipart/form-data} message are {@link FormDataBodyPart} instances. A streaming multipart
+ * message cannot be iterated more than once and has to be {@link #close() closed} once processed (on the server side it is
+ * closed automatically at the end of the request processing).
+ * </p>
+ *
+ * @since 2.28
+ */
+public class StreamingMultiPart implements Iterator<BodyPart>, Closeable {
+
+    private final MediaType mediaType;
+    private final MultivaluedMap<String, String> headers;
+    private final Iterator<? extends BodyPart> bodyParts;
+    private final Closeable message;
+
+    /**
+     * Create new streaming multipart message.
+     * <p>
+     * Instances are created by the multipart message body reader, applications receive them as entities.
+     * </p>
+     *
+     * @param mediaType media type of the multipart message.
+     * @param headers   headers of the multipart message.
+     * @param bodyParts lazily parsing iterator of the body parts.
+     * @param message   underlying multipart message, closed when this message is closed.
+     */
+    public StreamingMultiPart(final MediaType mediaType,
+                              final MultivaluedMap<String, String> headers,
+                              final Iterator<? extends BodyPart> bodyParts,
+                              final Closeable message) {
+        this.mediaType = mediaType;
+        this.headers = new ImmutableMultivaluedMap<>(headers);
+        this.bodyParts = bodyParts;
+        this.message = message;
+    }
+
+    /**
+     * Get the media type of this multipart message.
+     *
+     * @return media type.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Get the (immutable) headers of this multipart message.
+     *
+     * @return headers.
+     */
+    public MultivaluedMap<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Check whether there is another body part in the message.
+     * <p>
+     * Parses the message up to the headers of the next body part, skipping the unread content of the current body part.
+     * </p>
+     *
+     * @return {@code true} if there is another body part.
+     * @throws javax.ws.rs.BadRequestException if the message cannot be parsed.
+     * @throws javax.ws.rs.ProcessingException if an I/O error occurs while reading the message.
+     */
+    @Override
+    public boolean hasNext() {
+        return bodyParts.hasNext();
+    }
+
+    /**
+     * Get the next body part of the message.
+     *
+     * @return next body part, its entity is a read-once {@link BodyPartEntity}.
+     * @throws NoSuchElementException if there are no more body parts.
+     * @throws javax.ws.rs.BadRequestException if the message cannot be parsed.
+     * @throws javax.ws.rs.ProcessingException if an I/O error occurs while reading the message.
+     */
+    @Override
+    public BodyPart next() {
+        return bodyParts.next();
+    }
+
+    /**
+     * Close the message and release all the resources held by the body parts.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        message.close();
+    }
+}
@@ -222,33 +222,11 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
             multiPart.setMediaType(mediaType);
             fileNameFix = false;
         } else {
-            // see if the User-Agent header corresponds to some version of MS Internet Explorer
-            // if so, need to set fileNameFix to true to handle issue http://java.net/jira/browse/JERSEY-759
-            final String userAgent = headers.getFirst(HttpHeaders.USER_AGENT);
-            fileNameFix = userAgent != null && userAgent.contains(" MSIE ");
+            fileNameFix = isFileNameFix(headers);
         }
 
         for (final MIMEPart mimePart : getMimeParts(mimeMessage)) {
-            final BodyPart bodyPart = formData ? new FormDataBodyPart(fileNameFix) : new BodyPart();
-
-            // Configure providers.
-            bodyPart.setMessageBodyWorkers(workers);
-
-            // Copy headers.
-            for (final Header header : mimePart.getAllHeaders()) {
-                bodyPart.getHeaders().add(header.getName(), header.getValue());
-            }
-
-            try {
-                final String contentType = bodyPart.getHeaders().getFirst("Content-Type");
-                if (contentType != null) {
-                    bodyPart.setMediaType(MediaType.valueOf(contentType));
-                }
-
-                bodyPart.getContentDisposition();
-            } catch (final IllegalArgumentException ex) {
-                throw new BadRequestException(ex);
-            }
+            final BodyPart bodyPart = createBodyPart(mimePart, formData, fileNameFix, workers);
 
             // Copy data into a BodyPartEntity structure.
             bodyPart.setEntity(new BodyPartEntity(mimePart));
@@ -260,6 +238,57 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         return multiPart;
     }
 
+    /**
+     * Check whether the file names of form-data body parts have to be fixed for the client sending the message.
+     *
+     * @param headers headers of the multipart message.
+     * @return {@code true} if the User-Agent corresponds to some version of MS Internet Explorer.
+     */
+    static boolean isFileNameFix(final MultivaluedMap<String, String> headers) {
+        // see if the User-Agent header corresponds to some version of MS Internet Explorer
+        // if so, need to set fileNameFix to true to handle issue http://java.net/jira/browse/JERSEY-759
+        final String userAgent = headers.getFirst(HttpHeaders.USER_AGENT);
+        return userAgent != null && userAgent.contains(" MSIE ");
+    }
+
+    /**
+     * Create a body part, without an entity, for given mime part.
+     *
+     * @param mimePart    mime part to copy the headers from.
+     * @param formData    {@code true} if a {@link FormDataBodyPart} should be created.
+     * @param fileNameFix see {@link #isFileNameFix(MultivaluedMap)}.
+     * @param workers     message body workers used to read the body part entity.
+     * @return body part.
+     * @throws BadRequestException if the Content-Type or Content-Disposition header of the body part cannot be parsed.
+     */
+    static BodyPart createBodyPart(final MIMEPart mimePart,
+                                   final boolean formData,
+                                   final boolean fileNameFix,
+                                   final MessageBodyWorkers workers) {
+        final BodyPart bodyPart = formData ? new FormDataBodyPart(fileNameFix) : new BodyPart();
+
+        // Configure providers.
+        bodyPart.setMessageBodyWorkers(workers);
+
+        // Copy headers.
+        for (final Header header : mimePart.getAllHeaders()) {
+            bodyPart.getHeaders().add(header.getName(), header.getValue());
+        }
+
+        try {
+            final String contentType = bodyPart.getHeaders().getFirst("Content-Type");
+            if (contentType != null) {
+                bodyPart.setMediaType(MediaType.valueOf(contentType));
+            }
+
+            bodyPart.getContentDisposition();
+        } catch (final IllegalArgumentException ex) {
+            throw new BadRequestException(ex);
+        }
+
+        return bodyPart;
+    }
+
     /**
      * Get a list of mime part attachments from given mime message. If an exception occurs during parsing the message the parsed
      * mime parts are closed (any temporary files are deleted).
@@ -280,7 +309,7 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         }
     }
 
-    private static MediaType unquoteMediaTypeParameters(final MediaType mediaType, final String... parameters) {
+    static MediaType unquoteMediaTypeParameters(final MediaType mediaType, final String... parameters) {
         if (parameters == null || parameters.length == 0) {
             return mediaType;
         }
@@ -0,0 +1,189 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.media.multipart.BodyPart;
+import org.glassfish.jersey.media.multipart.BodyPartEntity;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.jvnet.mimepull.MIMEPart;
+
+/**
+ * Iterator over the body parts of a mime message parsing the message lazily, one body part at a time.
+ * <p>
+ * The body parts have read-once entities. Before advancing to the next body part, the unread content of the current
+ * body part is skipped and the body part is cleaned up, so that the content is never retained.
+ * </p>
+ */
+final class StreamingBodyPartIterator implements Iterator<BodyPart>, Closeable {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final MIMEMessage message;
+    private final boolean formData;
+    private final boolean fileNameFix;
+    private final MessageBodyWorkers workers;
+
+    private int index;
+    private BodyPart current;
+    private BodyPart next;
+    private boolean finished;
+
+    /**
+     * Create new iterator.
+     *
+     * @param message     mime message to be parsed.
+     * @param formData    {@code true} if the message is a {@code multipart/form-data} message.
+     * @param fileNameFix see {@link MultiPartReaderClientSide#isFileNameFix(javax.ws.rs.core.MultivaluedMap)}.
+     * @param workers     message body workers used to read the body part entities.
+     */
+    StreamingBodyPartIterator(final MIMEMessage message,
+                              final boolean formData,
+                              final boolean fileNameFix,
+                              final MessageBodyWorkers workers) {
+        this.message = message;
+        this.formData = formData;
+        this.fileNameFix = fileNameFix;
+        this.workers = workers;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = parseNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public BodyPart next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        current = next;
+        next = null;
+        return current;
+    }
+
+    private BodyPart parseNext() {
+        try {
+            skipCurrent();
+
+            final MIMEPart mimePart;
+            try {
+                mimePart = message.getPart(index);
+            } catch (final MIMEParsingException noMoreParts) {
+                // the whole message has been parsed already
+                finished = true;
+                return null;
+            }
+            try {
+                mimePart.getAllHeaders();
+            } catch (final IllegalStateException noMoreParts) {
+                // the end of the message has been reached while looking for the next part
+                finished = true;
+                return null;
+            }
+            index++;
+
+            final BodyPart bodyPart = MultiPartReaderClientSide.createBodyPart(mimePart, formData, fileNameFix, workers);
+            bodyPart.setEntity(new BodyPartEntity(mimePart, true));
+            return bodyPart;
+        } catch (final MIMEParsingException mpe) {
+            finished = true;
+            if (mpe.getCause() instanceof IOException) {
+                throw new ProcessingException(LocalizationMessages.ERROR_READING_BODY_PART(), mpe.getCause());
+            }
+            throw new BadRequestException(mpe);
+        }
+    }
+
+    /**
+     * Skip the unread content of the current body part and release its resources.
+     */
+    private void skipCurrent() {
+        if (current == null) {
+            return;
+        }
+
+        final BodyPart bodyPart = current;
+        current = null;
+        try {
+            final Object entity = bodyPart.getEntity();
+            if (entity instanceof BodyPartEntity) {
+                final InputStream content = ((BodyPartEntity) entity).getInputStream();
+                final byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+                //noinspection StatementWithEmptyBody
+                while (content.read(buffer) != -1) {
+                    // skip
+                }
+            }
+        } catch (final IOException e) {
+            finished = true;
+            throw new ProcessingException(LocalizationMessages.ERROR_READING_BODY_PART(), e);
+        } finally {
+            bodyPart.cleanup();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (current != null) {
+            current.cleanup();
+        }
+        if (next != null) {
+            next.cleanup();
+        }
+        finished = true;
+        message.close();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.ConstrainedTo;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.MediaTypes;
+
+import org.jvnet.mimepull.MIMEConfig;
+import org.jvnet.mimepull.MIMEMessage;
+
+/**
+ * {@link MessageBodyReader} implementation for {@link StreamingMultiPart} entities.
+ * <p>
+ * The reader does not parse the message, the body parts are parsed lazily as the returned multipart message is iterated.
+ * As the body part contents are streamed and never retained, the message is parsed in memory only, regardless of the
+ * configured {@link MultiPartProperties#getBufferThreshold() buffer threshold}.
+ * </p>
+ */
+@Consumes("multipart/*")
+@Singleton
+@ConstrainedTo(RuntimeType.CLIENT)
+public class StreamingMultiPartReaderClientSide implements MessageBodyReader<StreamingMultiPart> {
+
+    /**
+     * Injectable helper to look up appropriate {@link MessageBodyReader}s
+     * for our body parts.
+     */
+    @Inject
+    private Provider<MessageBodyWorkers> messageBodyWorkers;
+
+    @Override
+    public boolean isReadable(final Class<?> type,
+                              final Type genericType,
+                              final Annotation[] annotations,
+                              final MediaType mediaType) {
+        return StreamingMultiPart.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public StreamingMultiPart readFrom(final Class<StreamingMultiPart> type,
+                                       final Type genericType,
+                                       final Annotation[] annotations,
+                                       final MediaType mediaType,
+                                       final MultivaluedMap<String, String> headers,
+                                       final InputStream stream) throws IOException, WebApplicationException {
+        final MediaType unquotedMediaType = MultiPartReaderClientSide.unquoteMediaTypeParameters(mediaType, "boundary");
+
+        final MIMEConfig mimeConfig = new MIMEConfig();
+        mimeConfig.setMemoryThreshold(MultiPartProperties.BUFFER_THRESHOLD_MEMORY_ONLY);
+        final MIMEMessage mimeMessage = new MIMEMessage(stream, unquotedMediaType.getParameters().get("boundary"), mimeConfig);
+
+        final boolean formData = MediaTypes.typeEqual(unquotedMediaType, MediaType.MULTIPART_FORM_DATA_TYPE);
+        final StreamingBodyPartIterator bodyParts = new StreamingBodyPartIterator(mimeMessage,
+                formData,
+                formData && MultiPartReaderClientSide.isFileNameFix(headers),
+                messageBodyWorkers.get());
+
+        return new StreamingMultiPart(unquotedMediaType, headers, bodyParts, bodyParts);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.media.multipart.BodyPartEntity;
+import org.glassfish.jersey.media.multipart.FormDataBodyPart;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests {@link StreamingMultiPart} entities.
+ */
+public class StreamingMultiPartTest extends MultiPartJerseyTest {
+
+    private static final int FILE_SIZE = 256 * 1024;
+
+    @Override
+    protected Set<Class<?>> getResourceClasses() {
+        return Collections.singleton(StreamingResource.class);
+    }
+
+    private static byte[] content(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        return content;
+    }
+
+    @javax.ws.rs.Path("streaming")
+    public static class StreamingResource {
+
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String upload(final StreamingMultiPart multiPart) throws IOException {
+            final StringBuilder result = new StringBuilder();
+            while (multiPart.hasNext()) {
+                final FormDataBodyPart part = (FormDataBodyPart) multiPart.next();
+                result.append(part.getName()).append('=');
+
+                switch (part.getName()) {
+                    case "file":
+                        final Path file = Files.createTempFile("streaming", null);
+                        try {
+                            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                                result.append(part.getEntityAs(BodyPartEntity.class).transferTo(channel));
+                            }
+                            result.append(Arrays.equals(content(FILE_SIZE), Files.readAllBytes(file)) ? ":ok" : ":corrupted");
+                        } finally {
+                            Files.delete(file);
+                        }
+                        break;
+                    case "skipped":
+                        // content not read at all
+                        break;
+                    default:
+                        result.append(part.getValue());
+                }
+                result.append(';');
+            }
+            return result.toString();
+        }
+    }
+
+    @Test
+    public void testStreamingFormData() {
+        final FormDataMultiPart multiPart = new FormDataMultiPart();
+        multiPart.field("text", "hello");
+        multiPart.field("skipped", new String(content(100 * 1024)));
+        multiPart.bodyPart(new FormDataBodyPart("file", content(FILE_SIZE), MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        multiPart.field("last", "bye");
+
+        final String result = target("streaming").request(MediaType.TEXT_PLAIN)
+                .post(Entity.entity(multiPart, multiPart.getMediaType()), String.class);
+
+        assertEquals("text=hello;skipped=;file=" + FILE_SIZE + ":ok;last=bye;", result);
+    }
+}
@@ -55,6 +55,7 @@ import javax.ws.rs.sse.OutboundSseEvent;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.glassfish.jersey.media.sse.internal.SerializedOutboundEvent;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.message.MessageUtils;
 
@@ -105,6 +106,12 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
                         final OutputStream entityStream) throws IOException, WebApplicationException {
 
         final Charset charset = MessageUtils.getCharset(mediaType);
+        if (outboundEvent instanceof SerializedOutboundEvent && UTF8.equals(charset)) {
+            // pre-serialized by a broadcaster, shared by all the subscribers
+            entityStream.write(((SerializedOutboundEvent) outboundEvent).getFrame());
+            return;
+        }
+
         if (outboundEvent.getComment() != null) {
             for (final String comment : outboundEvent.getComment().split("\n")) {
                 entityStream.write(COMMENT_LEAD);
@@ -130,6 +130,79 @@ public class SseFeature implements Feature {
      */
     public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
 
+    /**
+     * Number of shards the subscribers of a {@link javax.ws.rs.sse.SseBroadcaster} created via
+     * {@link javax.ws.rs.sse.Sse#newBroadcaster()} are partitioned into.
+     * <p>
+     * If set to a positive value, the broadcaster serializes every event only once and fans the serialized frame out
+     * to the registered sinks in parallel, one task per shard. Each sink gets a bounded queue of pending events
+     * (see {@link #BROADCASTER_QUEUE_SIZE}); a sink that cannot keep up is treated according to
+     * {@link #BROADCASTER_SLOW_CONSUMER_POLICY}. This is intended for broadcasters with a large number of subscribers.
+     * </p>
+     * <p>
+     * The default value is {@code 0}, i.e. the default, non-sharded broadcaster is used.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    @Property
+    public static final String BROADCASTER_SHARDS = "jersey.config.server.media.sse.broadcaster.shards";
+
+    /**
+     * Maximum number of events that may be pending for a single sink registered to a sharded broadcaster
+     * (see {@link #BROADCASTER_SHARDS}).
+     * <p>
+     * The default value is {@code 256}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    @Property
+    public static final String BROADCASTER_QUEUE_SIZE = "jersey.config.server.media.sse.broadcaster.queueSize";
+
+    /**
+     * {@link SlowConsumerPolicy Policy} applied by a sharded broadcaster (see {@link #BROADCASTER_SHARDS}) when the queue
+     * of pending events of a sink is full.
+     * <p>
+     * The value is either a {@link SlowConsumerPolicy} instance or its name. The default value is
+     * {@link SlowConsumerPolicy#DROP DROP}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    @Property
+    public static final String BROADCASTER_SLOW_CONSUMER_POLICY =
+            "jersey.config.server.media.sse.broadcaster.slowConsumerPolicy";
+
+    /**
+     * Number of recently broadcast events kept by a {@link javax.ws.rs.sse.SseBroadcaster} created via
+     * {@link javax.ws.rs.sse.Sse#newBroadcaster()} in order to replay them to reconnecting clients.
+     * <p>
+     * When an event sink of a client reconnecting with the {@value #LAST_EVENT_ID_HEADER} header is registered to
+     * the broadcaster, the buffered events broadcast after the event with the given id are sent to the event sink
+     * before any new event. If the event with the given id is no longer in the buffer, nothing is replayed.
+     * </p>
+     * <p>
+     * The default value is {@code 0}, i.e. no events are kept and replayed.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.28
+     */
+    @Property
+    public static final String BROADCASTER_REPLAY_BUFFER_SIZE = "jersey.config.server.media.sse.broadcaster.replayBufferSize";
+
 
     @Override
     public boolean configure(final FeatureContext context) {
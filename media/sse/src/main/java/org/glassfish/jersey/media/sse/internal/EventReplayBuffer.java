@@ -0,0 +1,134 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.SseEventSink;
+
+/**
+ * Bounded ring buffer of the events recently broadcast by a broadcaster.
+ * <p>
+ * Used to replay the missed events to the event sinks of clients reconnecting with the
+ * {@value org.glassfish.jersey.media.sse.SseFeature#LAST_EVENT_ID_HEADER} header. Once the buffer is full, the oldest
+ * event is discarded for every new one.
+ * </p>
+ * <p>
+ * The buffer is not thread-safe, the broadcaster is expected to guard it, so that adding an event to the buffer and
+ * broadcasting the event is atomic with respect to computing the events missed by a new event sink and registering it.
+ * </p>
+ */
+final class EventReplayBuffer {
+
+    private final OutboundSseEvent[] events;
+    private int first;
+    private int size;
+
+    /**
+     * Create new replay buffer.
+     *
+     * @param capacity maximum number of events kept in the buffer.
+     */
+    EventReplayBuffer(final int capacity) {
+        this.events = new OutboundSseEvent[capacity];
+    }
+
+    /**
+     * Add a broadcast event to the buffer, discarding the oldest event if the buffer is full.
+     *
+     * @param event broadcast event.
+     */
+    void add(final OutboundSseEvent event) {
+        if (size < events.length) {
+            events[(first + size++) % events.length] = event;
+        } else {
+            events[first] = event;
+            first = (first + 1) % events.length;
+        }
+    }
+
+    /**
+     * Get the events broadcast after the event with given id, in the order they have been broadcast.
+     * <p>
+     * If there is no event with given id in the buffer (the event has already been discarded or it has never been broadcast),
+     * an empty list is returned, as it is not possible to tell which events the client has missed.
+     * </p>
+     *
+     * @param lastEventId id of the last event received by the client.
+     * @return events broadcast after the event with given id.
+     */
+    List<OutboundSseEvent> since(final String lastEventId) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (lastEventId.equals(get(i).getId())) {
+                final List<OutboundSseEvent> missed = new ArrayList<>(size - i - 1);
+                for (int j = i + 1; j < size; j++) {
+                    missed.add(get(j));
+                }
+                return missed;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the events missed by the client of given event sink.
+     *
+     * @param sink event sink being registered to the broadcaster.
+     * @return events broadcast after the last event received by the client, empty list if the client did not send
+     * the {@code Last-Event-ID} header.
+     */
+    List<OutboundSseEvent> missedBy(final SseEventSink sink) {
+        if (sink instanceof JerseyEventSink) {
+            final String lastEventId = ((JerseyEventSink) sink).getLastEventId();
+            if (lastEventId != null) {
+                return since(lastEventId);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private OutboundSseEvent get(final int index) {
+        return events[(first + index) % events.length];
+    }
+}
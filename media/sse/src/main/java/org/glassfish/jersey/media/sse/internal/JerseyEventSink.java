@@ -70,10 +70,26 @@ class JerseyEventSink extends ChunkedOutput<OutboundSseEvent>
 
     private static final Logger LOGGER = Logger.getLogger(JerseyEventSink.class.getName());
     private static final byte[] SSE_EVENT_DELIMITER = "\n".getBytes(Charset.forName("UTF-8"));
+    private final String lastEventId;
     private Flow.Subscription subscription = null;
 
     JerseyEventSink(Provider<AsyncContext> asyncContextProvider) {
+        this(asyncContextProvider, null);
+    }
+
+    JerseyEventSink(Provider<AsyncContext> asyncContextProvider, String lastEventId) {
         super(SSE_EVENT_DELIMITER, asyncContextProvider);
+        this.lastEventId = lastEventId;
+    }
+
+    /**
+     * Get the value of the {@value org.glassfish.jersey.media.sse.SseFeature#LAST_EVENT_ID_HEADER} header sent by the client
+     * when (re)connecting.
+     *
+     * @return id of the last event received by the client or {@code null} if not sent.
+     */
+    String getLastEventId() {
+        return lastEventId;
     }
 
     @Override
@@ -40,15 +40,25 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
 import javax.ws.rs.sse.SseBroadcaster;
 
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SlowConsumerPolicy;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
 
 /**
  * Implementation of server-side injectable Server-Sent Event "context".
@@ -60,6 +70,12 @@ class JerseySse implements Sse {
     @Context
     private ExecutorService executorService;
 
+    @Context
+    private Configuration configuration;
+
+    @Inject
+    private Provider<MessageBodyWorkers> workersProvider;
+
     @Override
     public OutboundSseEvent.Builder newEventBuilder() {
         return new OutboundEvent.Builder();
@@ -67,6 +83,20 @@ class JerseySse implements Sse {
 
     @Override
     public SseBroadcaster newBroadcaster() {
-        return new JerseySseBroadcaster(executorService);
+        final Map<String, Object> properties =
+                configuration == null ? Collections.emptyMap() : configuration.getProperties();
+
+        final int replayBufferSize =
+                PropertiesHelper.getValue(properties, SseFeature.BROADCASTER_REPLAY_BUFFER_SIZE, 0, Integer.class, null);
+
+        final int shards = PropertiesHelper.getValue(properties, SseFeature.BROADCASTER_SHARDS, 0, Integer.class, null);
+        if (shards > 0) {
+            return new ShardedSseBroadcaster(executorService, workersProvider, shards,
+                    PropertiesHelper.getValue(properties, SseFeature.BROADCASTER_QUEUE_SIZE, 256, Integer.class, null),
+                    PropertiesHelper.getValue(properties, SseFeature.BROADCASTER_SLOW_CONSUMER_POLICY,
+                            SlowConsumerPolicy.DROP, SlowConsumerPolicy.class, null),
+                    replayBufferSize);
+        }
+        return new JerseySseBroadcaster(executorService, replayBufferSize);
     }
 }
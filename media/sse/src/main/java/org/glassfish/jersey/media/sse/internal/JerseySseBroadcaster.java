@@ -40,6 +40,8 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
@@ -74,6 +76,11 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      */
     private final CopyOnWriteArrayList<BiConsumer<SseEventSink, Throwable>> onExceptionListeners;
 
+    /**
+     * Recently broadcast events replayed to reconnecting clients, {@code null} if disabled.
+     */
+    private final EventReplayBuffer replayBuffer;
+
     /**
      * Package-private constructor.
      * <p>
@@ -82,6 +89,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
     JerseySseBroadcaster() {
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        replayBuffer = null;
     }
 
     /**
@@ -93,14 +101,35 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      *                        supporting creation of at least one independent thread
      */
     JerseySseBroadcaster(final ExecutorService executorService) {
+        this(executorService, 0);
+    }
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executorService  {@code ExecutorService} the executor to use for async delivery,
+     *                         supporting creation of at least one independent thread
+     * @param replayBufferSize number of recently broadcast events replayed to reconnecting clients, {@code 0} disables
+     *                         the replay.
+     */
+    JerseySseBroadcaster(final ExecutorService executorService, final int replayBufferSize) {
         super(executorService);
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        replayBuffer = replayBufferSize > 0 ? new EventReplayBuffer(replayBufferSize) : null;
     }
 
     @Override
     public void register(SseEventSink sseEventSink) {
-        super.subscribe(new SseEventSinkWrapper(sseEventSink));
+        if (replayBuffer == null) {
+            super.subscribe(new SseEventSinkWrapper(sseEventSink, Collections.emptyList()));
+            return;
+        }
+        synchronized (replayBuffer) {
+            super.subscribe(new SseEventSinkWrapper(sseEventSink, replayBuffer.missedBy(sseEventSink)));
+        }
     }
 
     @Override
@@ -126,7 +155,14 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
         if (event == null) {
             throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
         }
-        publish(event);
+        if (replayBuffer == null) {
+            publish(event);
+        } else {
+            synchronized (replayBuffer) {
+                replayBuffer.add(event);
+                publish(event);
+            }
+        }
 
         // TODO JAX-RS 2.1
         return null;
@@ -148,13 +184,17 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
     private class SseEventSinkWrapper implements Flow.Subscriber<OutboundSseEvent> {
 
         private final SseEventSink sseEventSink;
+        private final List<OutboundSseEvent> missed;
 
-        SseEventSinkWrapper(SseEventSink sseEventSink) {
+        SseEventSinkWrapper(SseEventSink sseEventSink, List<OutboundSseEvent> missed) {
             this.sseEventSink = sseEventSink;
+            this.missed = missed;
         }
 
         @Override
         public void onSubscribe(final Flow.Subscription subscription) {
+            // replayed before any event broadcast after the registration is requested
+            missed.forEach(sseEventSink::send);
             // TODO JAX-RS 2.1
             subscription.request(Long.MAX_VALUE);
         }
@@ -0,0 +1,142 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.lang.reflect.Type;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+
+/**
+ * Outbound event carrying its already serialized, UTF-8 encoded wire representation.
+ * <p>
+ * Used by the broadcaster to serialize an event only once for all of its subscribers. The frame is shared and must not
+ * be modified. All the event properties are delegated to the original event so that the event can still be serialized
+ * the regular way, e.g. if the response uses a different charset.
+ * </p>
+ */
+public final class SerializedOutboundEvent implements OutboundSseEvent {
+
+    private final OutboundSseEvent event;
+    private final byte[] frame;
+
+    /**
+     * Create new serialized event.
+     *
+     * @param event original event.
+     * @param frame wire representation of the event, encoded in UTF-8.
+     */
+    SerializedOutboundEvent(final OutboundSseEvent event, final byte[] frame) {
+        this.event = event;
+        this.frame = frame;
+    }
+
+    /**
+     * Get the UTF-8 encoded wire representation of the event.
+     * <p>
+     * The returned array is shared by all the subscribers the event is broadcast to and must not be modified.
+     * </p>
+     *
+     * @return serialized event.
+     */
+    public byte[] getFrame() {
+        return frame;
+    }
+
+    /**
+     * Get the original event this event has been serialized from.
+     *
+     * @return original event.
+     */
+    public OutboundSseEvent getEvent() {
+        return event;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return event.getType();
+    }
+
+    @Override
+    public Type getGenericType() {
+        return event.getGenericType();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return event.getMediaType();
+    }
+
+    @Override
+    public Object getData() {
+        return event.getData();
+    }
+
+    @Override
+    public String getId() {
+        return event.getId();
+    }
+
+    @Override
+    public String getName() {
+        return event.getName();
+    }
+
+    @Override
+    public String getComment() {
+        return event.getComment();
+    }
+
+    @Override
+    public long getReconnectDelay() {
+        return event.getReconnectDelay();
+    }
+
+    @Override
+    public boolean isReconnectDelaySet() {
+        return event.isReconnectDelaySet();
+    }
+
+    @Override
+    public String toString() {
+        return event.toString();
+    }
+}
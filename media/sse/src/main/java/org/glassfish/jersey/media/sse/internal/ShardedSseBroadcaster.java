@@ -0,0 +1,521 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseBroadcaster;
+import javax.ws.rs.sse.SseEventSink;
+
+import javax.inject.Provider;
+
+import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.media.sse.SlowConsumerPolicy;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+
+/**
+ * {@link SseBroadcaster} implementation suited for a large number of registered event sinks.
+ * <p>
+ * Every broadcast event is serialized only once; the resulting frame is shared by all the event sinks. The event sinks
+ * are partitioned into shards, a broadcast event is fanned out to each shard by a separate task, so that the
+ * fan-out of a single event runs in parallel. Each event sink has a bounded queue of pending events drained by its own
+ * task, a sink that is not able to keep up does not hold back the others. When the queue of a sink is full,
+ * the configured {@link SlowConsumerPolicy} is applied.
+ * </p>
+ * <p>
+ * Events are delivered to each event sink in the order they have been broadcast.
+ * </p>
+ * <p>
+ * If enabled, the recently broadcast (serialized) events are kept in a bounded replay buffer. A client reconnecting with
+ * the {@value SseFeature#LAST_EVENT_ID_HEADER} header receives the events it has missed before any new event.
+ * </p>
+ */
+class ShardedSseBroadcaster implements SseBroadcaster {
+
+    private static final Logger LOGGER = Logger.getLogger(ShardedSseBroadcaster.class.getName());
+    private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
+
+    private final Executor executor;
+    private final Provider<MessageBodyWorkers> workersProvider;
+    private final int queueSize;
+    private final SlowConsumerPolicy policy;
+    private final Shard[] shards;
+    private final EventReplayBuffer replayBuffer;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    /**
+     * Callbacks notified when an event sink is closed.
+     */
+    private final CopyOnWriteArrayList<Consumer<SseEventSink>> onCloseListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Callbacks notified when error occurs.
+     */
+    private final CopyOnWriteArrayList<BiConsumer<SseEventSink, Throwable>> onExceptionListeners =
+            new CopyOnWriteArrayList<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executor         executor running the fan-out and the delivery tasks, {@link ForkJoinPool#commonPool()}
+     *                         is used if {@code null}.
+     * @param workersProvider  message body workers used to serialize the broadcast events. If {@code null}, events are
+     *                         not pre-serialized.
+     * @param shards           number of shards.
+     * @param queueSize        maximum number of events pending for a single event sink.
+     * @param policy           policy applied to the event sinks that are not able to keep up.
+     * @param replayBufferSize number of recently broadcast events replayed to reconnecting clients, {@code 0} disables
+     *                         the replay.
+     */
+    ShardedSseBroadcaster(final Executor executor,
+                          final Provider<MessageBodyWorkers> workersProvider,
+                          final int shards,
+                          final int queueSize,
+                          final SlowConsumerPolicy policy,
+                          final int replayBufferSize) {
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+        this.workersProvider = workersProvider;
+        this.queueSize = Math.max(1, queueSize);
+        this.policy = policy;
+        this.shards = new Shard[Math.max(1, shards)];
+        for (int i = 0; i < this.shards.length; i++) {
+            this.shards[i] = new Shard();
+        }
+        this.replayBuffer = replayBufferSize > 0 ? new EventReplayBuffer(replayBufferSize) : null;
+    }
+
+    @Override
+    public void register(final SseEventSink sseEventSink) {
+        if (sseEventSink == null) {
+            throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("sseEventSink"));
+        }
+        if (closed) {
+            throw new IllegalStateException(LocalizationMessages.BROADCASTER_CLOSED());
+        }
+
+        final Shard shard = shards[Math.floorMod(nextShard.getAndIncrement(), shards.length)];
+        final Subscriber subscriber = new Subscriber(sseEventSink, shard);
+        if (replayBuffer == null) {
+            shard.register(subscriber, null);
+            return;
+        }
+        synchronized (replayBuffer) {
+            shard.register(subscriber, replayBuffer.missedBy(sseEventSink));
+        }
+    }
+
+    @Override
+    public void onError(final BiConsumer<SseEventSink, Throwable> onError) {
+        if (onError == null) {
+            throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("onError"));
+        }
+
+        onExceptionListeners.add(onError);
+    }
+
+    @Override
+    public void onClose(final Consumer<SseEventSink> onClose) {
+        if (onClose == null) {
+            throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("onClose"));
+        }
+
+        onCloseListeners.add(onClose);
+    }
+
+    /**
+     * Broadcast an event to all the registered event sinks.
+     * <p>
+     * The returned completion stage completes once the event has been queued for all the event sinks registered at the
+     * time the event was broadcast. It completes exceptionally if the event cannot be serialized.
+     * </p>
+     *
+     * @param event event to be broadcast.
+     * @return completion stage of the broadcast.
+     */
+    @Override
+    public CompletionStage<?> broadcast(final OutboundSseEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
+        }
+        if (closed) {
+            throw new IllegalStateException(LocalizationMessages.BROADCASTER_CLOSED());
+        }
+
+        final OutboundSseEvent frame;
+        try {
+            frame = serialize(event);
+        } catch (final IOException | RuntimeException e) {
+            final CompletableFuture<?> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        if (replayBuffer == null) {
+            return fanOut(frame);
+        }
+        synchronized (replayBuffer) {
+            replayBuffer.add(frame);
+            return fanOut(frame);
+        }
+    }
+
+    private CompletableFuture<?> fanOut(final OutboundSseEvent frame) {
+        final CompletableFuture<?>[] fannedOut = new CompletableFuture<?>[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            fannedOut[i] = shards[i].broadcast(frame);
+        }
+        return CompletableFuture.allOf(fannedOut);
+    }
+
+    /**
+     * Close the broadcaster.
+     * <p>
+     * The registered event sinks are closed once the events broadcast before have been delivered to them.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        for (final Shard shard : shards) {
+            shard.close();
+        }
+    }
+
+    /**
+     * Serialize the event into its wire representation using the {@code text/event-stream} writer.
+     */
+    private OutboundSseEvent serialize(final OutboundSseEvent event) throws IOException {
+        final MessageBodyWorkers workers = workersProvider == null ? null : workersProvider.get();
+        if (workers == null) {
+            return event;
+        }
+        final MessageBodyWriter<OutboundSseEvent> writer = workers.getMessageBodyWriter(
+                OutboundSseEvent.class, OutboundSseEvent.class, EMPTY_ANNOTATIONS, SseFeature.SERVER_SENT_EVENTS_TYPE);
+        if (writer == null) {
+            return event;
+        }
+
+        final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        writer.writeTo(event, event.getClass(), OutboundSseEvent.class, EMPTY_ANNOTATIONS,
+                SseFeature.SERVER_SENT_EVENTS_TYPE, new MultivaluedHashMap<>(), frame);
+        return new SerializedOutboundEvent(event, frame.toByteArray());
+    }
+
+    private void notifyOnError(final SseEventSink sink, final Throwable throwable) {
+        onExceptionListeners.forEach(listener -> listener.accept(sink, throwable));
+    }
+
+    private void notifyOnClose(final SseEventSink sink) {
+        onCloseListeners.forEach(listener -> listener.accept(sink));
+    }
+
+    /**
+     * Group of event sinks the broadcast events are fanned out to by a single task.
+     * <p>
+     * Registrations, broadcasts and closing are processed by the shard task in the order they have been submitted.
+     * </p>
+     */
+    private final class Shard implements Runnable {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Queue<Action> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        CompletableFuture<?> broadcast(final OutboundSseEvent event) {
+            return submit(() -> subscribers.forEach(subscriber -> subscriber.offer(event)));
+        }
+
+        void register(final Subscriber subscriber, final List<OutboundSseEvent> missed) {
+            submit(() -> {
+                subscribers.add(subscriber);
+                if (missed != null && !missed.isEmpty()) {
+                    subscriber.replay(missed);
+                }
+                if (closed) {
+                    // raced with close(), which has not seen the new subscriber
+                    subscriber.close();
+                }
+            });
+        }
+
+        void close() {
+            submit(() -> subscribers.forEach(Subscriber::close));
+        }
+
+        private CompletableFuture<?> submit(final Runnable task) {
+            final Action action = new Action(task);
+            pending.add(action);
+            schedule();
+            return action.done;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (final RejectedExecutionException e) {
+                    scheduled.set(false);
+                    Action action;
+                    while ((action = pending.poll()) != null) {
+                        action.done.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Action action;
+            while ((action = pending.poll()) != null) {
+                try {
+                    action.task.run();
+                    action.done.complete(null);
+                } catch (final RuntimeException e) {
+                    action.done.completeExceptionally(e);
+                }
+            }
+            scheduled.set(false);
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private static final class Action {
+
+        private final Runnable task;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Action(final Runnable task) {
+            this.task = task;
+        }
+    }
+
+    /**
+     * Registered event sink with its queue of pending events.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final SseEventSink sink;
+        private final Shard shard;
+
+        // guarded by this
+        private final Deque<OutboundSseEvent> queue = new ArrayDeque<>();
+        private boolean writing;
+        private boolean closing;
+
+        private Subscriber(final SseEventSink sink, final Shard shard) {
+            this.sink = sink;
+            this.shard = shard;
+        }
+
+        void offer(final OutboundSseEvent event) {
+            if (sink.isClosed()) {
+                remove(null);
+                return;
+            }
+
+            boolean disconnect = false;
+            synchronized (this) {
+                if (closing) {
+                    return;
+                }
+                if (queue.size() >= queueSize) {
+                    switch (policy) {
+                        case COALESCE_LATEST:
+                            queue.clear();
+                            break;
+                        case DISCONNECT:
+                            disconnect = true;
+                            break;
+                        default:
+                            return;
+                    }
+                }
+                if (!disconnect) {
+                    queue.add(event);
+                    if (writing) {
+                        return;
+                    }
+                    writing = true;
+                }
+            }
+
+            if (disconnect) {
+                remove(new IllegalStateException(LocalizationMessages.BROADCASTER_SLOW_CONSUMER(queueSize)));
+            } else {
+                deliver();
+            }
+        }
+
+        /**
+         * Queue the events missed by a reconnecting client, regardless of the queue size limit.
+         */
+        void replay(final List<OutboundSseEvent> missed) {
+            synchronized (this) {
+                if (closing) {
+                    return;
+                }
+                queue.addAll(missed);
+                if (writing) {
+                    return;
+                }
+                writing = true;
+            }
+            deliver();
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closing) {
+                    return;
+                }
+                closing = true;
+                if (writing) {
+                    // the sink gets closed once the pending events are written
+                    return;
+                }
+                writing = true;
+            }
+            deliver();
+        }
+
+        private void deliver() {
+            try {
+                executor.execute(this);
+            } catch (final RejectedExecutionException e) {
+                remove(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final OutboundSseEvent event;
+                synchronized (this) {
+                    event = queue.poll();
+                    if (event == null) {
+                        writing = false;
+                        if (!closing) {
+                            return;
+                        }
+                    }
+                }
+                if (event == null) {
+                    remove(null);
+                    return;
+                }
+
+                try {
+                    // the write failures are reported by the returned stage, either as a failure or as the value
+                    sink.send(event).whenComplete((value, failure) -> {
+                        if (failure != null) {
+                            remove(failure instanceof CompletionException ? failure.getCause() : failure);
+                        } else if (value instanceof Throwable) {
+                            remove((Throwable) value);
+                        }
+                    });
+                } catch (final RuntimeException e) {
+                    remove(sink.isClosed() ? null : e);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Remove the subscriber from its shard, close the event sink and notify the listeners.
+         */
+        private void remove(final Throwable cause) {
+            synchronized (this) {
+                closing = true;
+                queue.clear();
+            }
+            if (!shard.subscribers.remove(this)) {
+                return;
+            }
+
+            if (cause != null) {
+                notifyOnError(sink, cause);
+            }
+            try {
+                sink.close();
+            } catch (final RuntimeException e) {
+                LOGGER.log(Level.FINE, LocalizationMessages.EVENT_SINK_CLOSE_FAILED(), e);
+            }
+            notifyOnClose(sink);
+        }
+    }
+}
@@ -48,6 +48,7 @@ import javax.ws.rs.sse.SseEventSink;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.glassfish.jersey.media.sse.SseFeature;
 import org.glassfish.jersey.server.AsyncContext;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.internal.inject.AbstractValueParamProvider;
@@ -99,7 +100,8 @@ public class SseEventSinkValueParamProvider extends AbstractValueParamProvider {
 
         @Override
         public SseEventSink apply(ContainerRequest containerRequest) {
-            return new JerseyEventSink(asyncContextSupplier);
+            return new JerseyEventSink(asyncContextSupplier,
+                    containerRequest.getHeaderString(SseFeature.LAST_EVENT_ID_HEADER));
         }
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+
+import org.glassfish.jersey.media.sse.OutboundEvent;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link EventReplayBuffer} test.
+ */
+public class EventReplayBufferTest {
+
+    @Test
+    public void testEventsSinceLastEventId() {
+        final EventReplayBuffer buffer = new EventReplayBuffer(10);
+        addEvents(buffer, 1, 5);
+
+        assertEquals("345", ids(buffer.since("2")));
+        assertTrue(buffer.since("5").isEmpty());
+    }
+
+    @Test
+    public void testOldestEventsDiscarded() {
+        final EventReplayBuffer buffer = new EventReplayBuffer(3);
+        addEvents(buffer, 1, 7);
+
+        assertEquals("67", ids(buffer.since("5")));
+        assertTrue(buffer.since("4").isEmpty());
+    }
+
+    @Test
+    public void testEventsWithoutIdReplayed() {
+        final EventReplayBuffer buffer = new EventReplayBuffer(10);
+        addEvents(buffer, 1, 2);
+        buffer.add(new OutboundEvent.Builder().comment("keep-alive").build());
+        addEvents(buffer, 3, 3);
+
+        assertEquals(3, buffer.since("1").size());
+    }
+
+    @Test
+    public void testUnknownLastEventId() {
+        final EventReplayBuffer buffer = new EventReplayBuffer(10);
+        addEvents(buffer, 1, 5);
+
+        assertTrue(buffer.since("unknown").isEmpty());
+    }
+
+    private static void addEvents(final EventReplayBuffer buffer, final int from, final int to) {
+        for (int i = from; i <= to; i++) {
+            buffer.add(new OutboundEvent.Builder().id(Integer.toString(i)).data("event " + i).build());
+        }
+    }
+
+    private static String ids(final List<OutboundSseEvent> events) {
+        return events.stream().map(OutboundSseEvent::getId).collect(Collectors.joining());
+    }
+}
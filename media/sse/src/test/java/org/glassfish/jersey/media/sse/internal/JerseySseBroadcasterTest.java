@@ -40,8 +40,10 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.Arrays;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.sse.OutboundSseEvent;
@@ -152,4 +154,27 @@ public class JerseySseBroadcasterTest {
         }
     }
 
+    @Test
+    public void testMissedEventsReplayed() throws InterruptedException {
+        try (JerseySseBroadcaster broadcaster = new JerseySseBroadcaster(ForkJoinPool.commonPool(), 10)) {
+            final JerseySse sse = new JerseySse();
+            for (int i = 1; i <= 5; i++) {
+                broadcaster.broadcast(sse.newEventBuilder().id(Integer.toString(i)).data(Integer.toString(i)).build());
+            }
+
+            final CountDownLatch latch = new CountDownLatch(4);
+            final ShardedSseBroadcasterTest.ReconnectingSink sink = new ShardedSseBroadcasterTest.ReconnectingSink("2") {
+                @Override
+                public CompletionStage<?> send(final OutboundSseEvent event) {
+                    latch.countDown();
+                    return super.send(event);
+                }
+            };
+            broadcaster.register(sink);
+            broadcaster.broadcast(sse.newEventBuilder().id("6").data("6").build());
+
+            Assert.assertTrue(latch.await(2000, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(Arrays.asList("3", "4", "5", "6"), sink.received);
+        }
+    }
 }
@@ -0,0 +1,326 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.SseEventSink;
+
+import org.glassfish.jersey.media.sse.SlowConsumerPolicy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ShardedSseBroadcaster} test.
+ */
+public class ShardedSseBroadcasterTest {
+
+    private final JerseySse sse = new JerseySse();
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEventsDeliveredInOrderToAllShards() throws Exception {
+        final ShardedSseBroadcaster broadcaster = new ShardedSseBroadcaster(executor, null, 4, 100, SlowConsumerPolicy.DROP, 0);
+        final List<RecordingSink> sinks = IntStream.range(0, 10).mapToObj(i -> new RecordingSink(null))
+                .collect(Collectors.toList());
+        sinks.forEach(broadcaster::register);
+
+        for (int i = 0; i < 20; i++) {
+            broadcaster.broadcast(sse.newEvent(Integer.toString(i))).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        }
+        final CountDownLatch closed = new CountDownLatch(sinks.size());
+        broadcaster.onClose(sink -> closed.countDown());
+        broadcaster.close();
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+
+        final List<String> expected = IntStream.range(0, 20).mapToObj(Integer::toString).collect(Collectors.toList());
+        for (final RecordingSink sink : sinks) {
+            assertEquals(expected, sink.received());
+            assertTrue(sink.isClosed());
+        }
+    }
+
+    @Test
+    public void testDropPolicy() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingSink slow = new RecordingSink(release);
+        final RecordingSink fast = new RecordingSink(null);
+        final ShardedSseBroadcaster broadcaster = new ShardedSseBroadcaster(executor, null, 1, 2, SlowConsumerPolicy.DROP, 0);
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        broadcastAll(broadcaster, slow, 6);
+        release.countDown();
+        closeAndWait(broadcaster, 2);
+
+        assertEquals(6, fast.received().size());
+        assertEquals(3, slow.received().size());
+        assertEquals("0", slow.received().get(0));
+        assertEquals("2", slow.received().get(2));
+    }
+
+    @Test
+    public void testCoalesceLatestPolicy() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingSink slow = new RecordingSink(release);
+        final ShardedSseBroadcaster broadcaster =
+                new ShardedSseBroadcaster(executor, null, 1, 2, SlowConsumerPolicy.COALESCE_LATEST, 0);
+        broadcaster.register(slow);
+
+        broadcastAll(broadcaster, slow, 6);
+        release.countDown();
+        closeAndWait(broadcaster, 1);
+
+        final List<String> received = slow.received();
+        assertEquals("0", received.get(0));
+        assertEquals("5", received.get(received.size() - 1));
+        assertTrue(received.size() < 6);
+    }
+
+    @Test
+    public void testDisconnectPolicy() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingSink slow = new RecordingSink(release);
+        final RecordingSink fast = new RecordingSink(null);
+        final ShardedSseBroadcaster broadcaster =
+                new ShardedSseBroadcaster(executor, null, 2, 2, SlowConsumerPolicy.DISCONNECT, 0);
+        final CountDownLatch error = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        broadcaster.onError((sink, throwable) -> {
+            if (sink == slow) {
+                error.countDown();
+            }
+        });
+        broadcaster.onClose(sink -> {
+            if (sink == slow) {
+                closed.countDown();
+            }
+        });
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        broadcastAll(broadcaster, slow, 6);
+        assertTrue(error.await(5, TimeUnit.SECONDS));
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertTrue(slow.isClosed());
+        release.countDown();
+
+        closeAndWait(broadcaster, 1);
+        assertEquals(6, fast.received().size());
+    }
+
+    @Test
+    public void testFailingSinkRemoved() throws Exception {
+        final ShardedSseBroadcaster broadcaster = new ShardedSseBroadcaster(executor, null, 1, 10, SlowConsumerPolicy.DROP, 0);
+        final CountDownLatch error = new CountDownLatch(1);
+        broadcaster.onError((sink, throwable) -> error.countDown());
+        final RecordingSink failing = new RecordingSink(null) {
+            @Override
+            public CompletionStage<?> send(final OutboundSseEvent event) {
+                throw new IllegalStateException("failed");
+            }
+        };
+        broadcaster.register(failing);
+
+        broadcaster.broadcast(sse.newEvent("ping"));
+        assertTrue(error.await(5, TimeUnit.SECONDS));
+        assertTrue(failing.isClosed());
+    }
+
+    @Test
+    public void testFailedSendRemoved() throws Exception {
+        final ShardedSseBroadcaster broadcaster = new ShardedSseBroadcaster(executor, null, 1, 10, SlowConsumerPolicy.DROP, 0);
+        final IOException failure = new IOException("broken connection");
+        final CompletableFuture<Throwable> error = new CompletableFuture<>();
+        broadcaster.onError((sink, throwable) -> error.complete(throwable));
+        final RecordingSink failing = new RecordingSink(null) {
+            @Override
+            public CompletionStage<?> send(final OutboundSseEvent event) {
+                final CompletableFuture<?> sent = new CompletableFuture<>();
+                sent.completeExceptionally(failure);
+                return sent;
+            }
+        };
+        broadcaster.register(failing);
+
+        broadcaster.broadcast(sse.newEvent("ping"));
+        assertSame(failure, error.get(5, TimeUnit.SECONDS));
+        assertTrue(failing.isClosed());
+    }
+
+    @Test
+    public void testMissedEventsReplayed() throws Exception {
+        final ShardedSseBroadcaster broadcaster = new ShardedSseBroadcaster(executor, null, 2, 10, SlowConsumerPolicy.DROP, 10);
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.broadcast(sse.newEventBuilder().id(Integer.toString(i)).data(Integer.toString(i)).build());
+        }
+
+        final ReconnectingSink sink = new ReconnectingSink("2");
+        broadcaster.register(sink);
+        broadcaster.broadcast(sse.newEventBuilder().id("6").data("6").build()).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        closeAndWait(broadcaster, 1);
+
+        assertEquals(Arrays.asList("3", "4", "5", "6"), sink.received);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBroadcastAfterClose() {
+        final ShardedSseBroadcaster broadcaster = new ShardedSseBroadcaster(executor, null, 1, 10, SlowConsumerPolicy.DROP, 0);
+        broadcaster.close();
+        broadcaster.broadcast(sse.newEvent("ping"));
+    }
+
+    private void broadcastAll(final ShardedSseBroadcaster broadcaster, final RecordingSink slow, final int count)
+            throws Exception {
+        // make sure the first event is being written to the slow sink while the others queue up
+        broadcaster.broadcast(sse.newEvent("0"));
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i < count; i++) {
+            broadcaster.broadcast(sse.newEvent(Integer.toString(i))).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void closeAndWait(final ShardedSseBroadcaster broadcaster, final int sinks) throws InterruptedException {
+        final CountDownLatch closed = new CountDownLatch(sinks);
+        broadcaster.onClose(sink -> closed.countDown());
+        broadcaster.close();
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static class RecordingSink implements SseEventSink {
+
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile boolean closed;
+
+        RecordingSink(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        List<String> received() {
+            return received;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public CompletionStage<?> send(final OutboundSseEvent event) {
+            assertFalse(closed);
+            received.add((String) event.getData());
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * Event sink of a client reconnecting with the {@code Last-Event-ID} header.
+     */
+    static class ReconnectingSink extends JerseyEventSink {
+
+        final List<String> received = new CopyOnWriteArrayList<>();
+        private volatile boolean closed;
+
+        ReconnectingSink(final String lastEventId) {
+            super(null, lastEventId);
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public CompletionStage<?> send(final OutboundSseEvent event) {
+            received.add((String) event.getData());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
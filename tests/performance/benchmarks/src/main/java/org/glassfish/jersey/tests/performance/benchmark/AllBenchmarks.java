@@ -43,6 +43,7 @@ package org.glassfish.jersey.tests.performance.benchmark;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -60,6 +61,8 @@ public class AllBenchmarks {
                 .include(JacksonBenchmark.class.getSimpleName())
                 .include(LocatorBenchmark.class.getSimpleName())
                 .include(JerseyUriBuilderBenchmark.class.getSimpleName())
+                .include(ServerPipelineBenchmark.class.getSimpleName())
+                .include(ResourceMethodInvocationBenchmark.class.getSimpleName())
                 // Measure throughput in seconds (ops/s).
                 .mode(Mode.Throughput)
                 .timeUnit(TimeUnit.SECONDS)
@@ -69,6 +72,8 @@ public class AllBenchmarks {
                 // Measurement setup.
                 .measurementIterations(16)
                 .measurementTime(TimeValue.milliseconds(2500))
+                // Report allocation rates (-prof gc).
+                .addProfiler(GCProfiler.class)
                 // Fork! (Invoke benchmarks in separate JVM)
                 .forks(1)
                 .build();
@@ -43,12 +43,15 @@ package org.glassfish.jersey.tests.performance.benchmark;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.core.Response;
 
+import org.glassfish.jersey.client.JerseyWebTarget;
+import org.glassfish.jersey.client.PreparedInvocation;
 import org.glassfish.jersey.test.util.client.LoopBackConnectorProvider;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -80,10 +83,12 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 public class ClientBenchmark {
 
     private volatile Client client;
+    private volatile PreparedInvocation preparedGet;
 
     @Setup
     public void start() throws Exception {
         client = ClientBuilder.newClient(LoopBackConnectorProvider.getClientConfig());
+        preparedGet = ((JerseyWebTarget) client.target("foo/{id}")).prepare(HttpMethod.GET);
     }
 
     @TearDown
@@ -96,6 +101,16 @@ public class ClientBenchmark {
         return client.target("foo").request().get();
     }
 
+    @Benchmark
+    public Response getTemplate() throws Exception {
+        return client.target("foo/{id}").resolveTemplate("id", 42).request().get();
+    }
+
+    @Benchmark
+    public Response getPrepared() throws Exception {
+        return preparedGet.invoke(42);
+    }
+
     @Benchmark
     public Response post() throws Exception {
         return client.target("foo").request().post(Entity.text("bar"));
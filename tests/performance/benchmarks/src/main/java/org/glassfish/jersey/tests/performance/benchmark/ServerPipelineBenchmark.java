@@ -0,0 +1,146 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.server.pipeline.PipelineApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the complete in-process server request pipeline by invoking {@link ApplicationHandler#apply(ContainerRequest)}
+ * directly (no network, no container). Each {@code path} targets one stage of the pipeline:
+ * <ul>
+ * <li>routing - {@code routing*} and {@code generated*} (a large routing table and deep sub-resource locators),</li>
+ * <li>parameter injection - {@code params*} ({@code @QueryParam} vs. {@code @BeanParam}),</li>
+ * <li>filter and interceptor chains - {@code filtered*},</li>
+ * <li>entity writing - {@code entity*} (common message body writers),</li>
+ * <li>exception mapping - {@code exception*}.</li>
+ * </ul>
+ * Every invocation builds and processes a new request, the cost of building the request is reported separately
+ * by {@link #buildRequest()}. The {@link #main(String[])} method runs the benchmark with the GC profiler so that allocation rates
+ * ({@code gc.alloc.rate.norm}) are reported along with the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServerPipelineBenchmark {
+
+    @Param(value = {
+            "routing",
+            "routing/locator/a/b/c/d/e/f/g/h",
+            "generated/0/1",
+            "generated/199/1",
+            "params/1/query?name=jersey&limit=20&offset=40",
+            "params/1/bean?name=jersey&limit=20&offset=40",
+            "filtered",
+            "filtered/unfiltered",
+            "entity/string",
+            "entity/bytes",
+            "entity/streaming",
+            "entity/json",
+            "exception/mapped",
+            "exception/web"})
+    private String path;
+
+    private volatile ApplicationHandler handler;
+
+    @Setup
+    public void start() throws Exception {
+        handler = new ApplicationHandler(new PipelineApplication());
+    }
+
+    /**
+     * Build a fresh request for every invocation, the routing state and the properties of a request must not be reused.
+     */
+    private ContainerRequest request() {
+        return ContainerRequestBuilder
+                .from(path, "GET")
+                .header("X-Trace", "benchmark")
+                .build();
+    }
+
+    @Benchmark
+    public ContainerResponse measure() throws Exception {
+        return handler.apply(request()).get();
+    }
+
+    /**
+     * Measures building the request alone, to be subtracted from the {@link #measure()} results.
+     */
+    @Benchmark
+    public ContainerRequest buildRequest() {
+        return request();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ServerPipelineBenchmark.class.getSimpleName())
+                // Report allocation rates.
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
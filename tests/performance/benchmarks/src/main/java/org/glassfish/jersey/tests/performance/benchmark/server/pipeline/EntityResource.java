@@ -0,0 +1,126 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server.pipeline;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Resource returning entities handled by the most common message body writers.
+ */
+@Path("entity")
+public class EntityResource {
+
+    private static final String TEXT;
+    private static final byte[] BYTES;
+    private static final List<Item> ITEMS;
+
+    static {
+        final char[] chars = new char[4096];
+        Arrays.fill(chars, 'a');
+        TEXT = new String(chars);
+        BYTES = TEXT.getBytes(StandardCharsets.US_ASCII);
+
+        final List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            items.add(new Item(i, "item-" + i));
+        }
+        ITEMS = items;
+    }
+
+    @GET
+    @Path("string")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String string() {
+        return TEXT;
+    }
+
+    @GET
+    @Path("bytes")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public byte[] bytes() {
+        return BYTES;
+    }
+
+    @GET
+    @Path("streaming")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public StreamingOutput streaming() {
+        return output -> output.write(BYTES);
+    }
+
+    @GET
+    @Path("json")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<Item> json() {
+        return ITEMS;
+    }
+
+    /**
+     * Simple bean serialized to JSON.
+     */
+    public static class Item {
+
+        private final int id;
+        private final String name;
+
+        Item(final int id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server.pipeline;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Resource;
+
+/**
+ * Application exercising the whole server request pipeline: routing, parameter injection, filters and interceptors,
+ * entity writing and exception mapping.
+ */
+public class PipelineApplication extends ResourceConfig {
+
+    /**
+     * Number of programmatic resources registered in addition to the annotated ones.
+     */
+    public static final int RESOURCE_COUNT = 200;
+
+    public PipelineApplication() {
+        register(RoutingResource.class);
+        register(ParamResource.class);
+        register(FilteredResource.class);
+        register(EntityResource.class);
+        register(ExceptionResource.class);
+
+        register(PipelineFilters.RequestFilter.class);
+        register(PipelineFilters.ResponseFilter.class);
+        register(PipelineFilters.HeaderWriterInterceptor.class);
+        register(PipelineExceptionMapper.class);
+        register(JacksonFeature.class);
+
+        // Fill the routing table so that matching has to go through a realistic number of candidates.
+        final Inflector<ContainerRequestContext, String> inflector = context -> "Hello World!";
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            final Resource.Builder builder = Resource.builder("generated/" + i + "/{id}");
+            builder.addMethod("GET").produces(MediaType.TEXT_PLAIN_TYPE).handledBy(inflector);
+            registerResources(builder.build());
+        }
+
+        // Turn off Monitoring to not affect benchmarks.
+        property(ServerProperties.MONITORING_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false);
+    }
+}